@@ -0,0 +1,480 @@
+package edu.colorado.objectgrind.codec;
+
+import edu.colorado.objectgrind.commands.Command;
+import edu.colorado.objectgrind.commands.CommandHistory;
+import edu.colorado.objectgrind.commands.MoveFleetCommand;
+import edu.colorado.objectgrind.commands.NoCommand;
+import edu.colorado.objectgrind.commands.PlaceShipCommand;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.WeaponType;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.captains_quarters.CaptainsQuarters;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.Weapon;
+import edu.colorado.objectgrind.weapons.arsenal.Arsenal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class defines a compact binary form of the state of a game, written to and read from a ByteBuffer.
+ * <p>
+ *     A game starts with the version of the format and its size, followed by each player. A player is their fleet,
+ *     grid, arsenal, and command history, in that order:
+ * </p>
+ * <pre>
+ *     game      byte version | byte size | player 1 | player 2
+ *     fleet     byte ships | per ship: byte health, byte placed flag (bit 7) and CQ health, short CQ cell
+ *               | byte ships sunk this turn
+ *     grid      byte size | byte layers | 6 bits per cell: ship id (0 for none, else index + 1), status
+ *     arsenal   byte live slots | per slot: byte weapon type, short uses left
+ *     commands  byte count | per command, oldest first: byte kind, then
+ *               PLACE: byte ship index, short head cell, short tail cell; MOVE: byte rows, byte columns
+ * </pre>
+ * <p>
+ *     Cells are written as their flat index in the grid, with 0xFFFF for none. A large game takes under 600 bytes
+ *     when nothing can be undone.
+ * </p>
+ * <p>
+ *     Decoding puts the state back on the objects of an existing game, of the same size, so nothing is created but
+ *     the commands of the history. The fleet is decoded before the grid, so that a grid which stores sunk ships apart
+ *     from the others finds them sunk. The grids of the game may store their cells in any form.
+ * </p>
+ *
+ * @see Game
+ * @see Player
+ */
+public class StateCodec {
+
+    /**
+     * The version of the format that is written.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The number of bits of the ship id of a cell.
+     */
+    private static final int SHIP_ID_BITS = 3;
+
+    /**
+     * The number of bits of the status of a cell.
+     */
+    private static final int STATUS_BITS = 3;
+
+    /**
+     * The number of bits of each cell of a grid.
+     */
+    private static final int CELL_BITS = SHIP_ID_BITS + STATUS_BITS;
+
+    /**
+     * The cell written for no cell.
+     */
+    private static final int NO_CELL = 0xFFFF;
+
+    /**
+     * The bit of a ship's captain's quarters health byte that marks it as placed.
+     */
+    private static final int PLACED_FLAG = 0x80;
+
+    /**
+     * The kind of command that places a ship.
+     */
+    private static final int PLACE_COMMAND = 0;
+
+    /**
+     * The kind of command that moves the fleet.
+     */
+    private static final int MOVE_COMMAND = 1;
+
+    /**
+     * The kind of command that does nothing.
+     */
+    private static final int NO_COMMAND = 2;
+
+    /**
+     * The statuses of a cell, by ordinal.
+     */
+    private static final LocationStatus[] STATUSES = LocationStatus.values();
+
+    /**
+     * The types of weapon, by ordinal.
+     */
+    private static final WeaponType[] WEAPON_TYPES = WeaponType.values();
+
+    /**
+     * This class is not meant to be created, since all of its functions are static.
+     */
+    private StateCodec() {
+    }
+
+    /**
+     * Returns the most bytes that the given game can take, with full command histories.
+     *
+     * @param game the game, whose players all have grids and fleets of the same dimensions
+     * @return the number of bytes to allow for the game
+     */
+    public static int getMaxLength(Game game) {
+        Grid grid = game.getPlayer_1().getGrid();
+        int num_cells = grid.getNumLayers() * grid.getSize() * grid.getSize();
+        int player = (2 + game.getPlayer_1().getSizeOfFleet() * 4)
+                + (2 + (num_cells * CELL_BITS + 7) / 8)
+                + (1 + Arsenal.NUM_SLOTS * 3)
+                + (1 + game.getPlayer_1().getCommands().getCapacity() * 6);
+        return 2 + 2 * player;
+    }
+
+    /**
+     * Writes the state of both players of a game.
+     *
+     * @param game the game to write
+     * @param buffer the buffer to write to, from its position
+     * @throws java.nio.BufferOverflowException if the buffer does not have room for the game
+     */
+    public static void encodeGame(Game game, ByteBuffer buffer) {
+        buffer.put((byte) VERSION);
+        buffer.put((byte) game.getSize().ordinal());
+        encodePlayer(game.getPlayer_1(), buffer);
+        encodePlayer(game.getPlayer_2(), buffer);
+    }
+
+    /**
+     * Reads the state of both players of a game, and puts it on the given game.
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param game the game to restore, of the size that was written
+     * @throws IllegalArgumentException if the version or size that was written does not fit the game
+     */
+    public static void decodeGame(ByteBuffer buffer, Game game) {
+        int version = buffer.get();
+        if ( version != VERSION ) {
+            throw new IllegalArgumentException("Version " + version + " of the game format is not supported");
+        }
+
+        Size size = Size.values()[buffer.get()];
+        if ( size != game.getSize() ) {
+            throw new IllegalArgumentException("A " + size + " game cannot be decoded into a " + game.getSize()
+                    + " game");
+        }
+
+        decodePlayer(buffer, game.getPlayer_1());
+        decodePlayer(buffer, game.getPlayer_2());
+    }
+
+    /**
+     * Writes the state of a player: their fleet, grid, arsenal, and command history.
+     *
+     * @param player the player to write
+     * @param buffer the buffer to write to, from its position
+     */
+    public static void encodePlayer(Player player, ByteBuffer buffer) {
+        encodeFleet(player.getFleet(), player.getGrid(), buffer);
+        encodeGrid(player.getGrid(), player.getFleet(), buffer);
+        encodeArsenal(player.getArsenal(), buffer);
+        encodeCommands(player.getCommands(), player.getFleet(), player.getGrid(), buffer);
+    }
+
+    /**
+     * Reads the state of a player, and puts it on the given player.
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param player the player to restore
+     */
+    public static void decodePlayer(ByteBuffer buffer, Player player) {
+        decodeFleet(buffer, player.getFleet(), player.getGrid());
+        decodeGrid(buffer, player.getGrid(), player.getFleet());
+        decodeArsenal(buffer, player.getArsenal());
+        decodeCommands(buffer, player.getCommands(), player.getFleet(), player.getGrid());
+    }
+
+    /**
+     * Writes the state of every ship of a fleet.
+     *
+     * @param fleet the fleet to write
+     * @param grid the grid of the fleet, to write the cells of the captain's quarters
+     * @param buffer the buffer to write to, from its position
+     */
+    public static void encodeFleet(Fleet fleet, Grid grid, ByteBuffer buffer) {
+        buffer.put((byte) fleet.getSize());
+        for (int i = 0; i < fleet.getSize(); i++) {
+            Ship ship = fleet.getShipByIndex(i);
+            buffer.put((byte) ship.getHealth());
+            buffer.put((byte) (ship.getCapQuartersHealth() | (ship.isShipPlaced() ? PLACED_FLAG : 0)));
+            buffer.putShort((short) toCell(grid, ship.getCaptainsQuartersCell()));
+        }
+        buffer.put((byte) fleet.getNumSunkThisTurn());
+    }
+
+    /**
+     * Reads the state of every ship of a fleet, and puts it on the given fleet.
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param fleet the fleet to restore
+     * @param grid the grid of the fleet, to read the cells of the captain's quarters
+     * @throws IllegalArgumentException if the number of ships that was written does not fit the fleet
+     * @see Ship#restoreState(int, int, boolean, int)
+     */
+    public static void decodeFleet(ByteBuffer buffer, Fleet fleet, Grid grid) {
+        int num_ships = buffer.get();
+        if ( num_ships != fleet.getSize() ) {
+            throw new IllegalArgumentException("A fleet of " + num_ships + " ships cannot be decoded into a fleet of "
+                    + fleet.getSize());
+        }
+
+        for (int i = 0; i < num_ships; i++) {
+            int health = buffer.get();
+            int cq = buffer.get() & 0xFF;
+            int cq_cell = fromCell(grid, buffer.getShort() & 0xFFFF);
+            fleet.getShipByIndex(i).restoreState(health, cq & ~PLACED_FLAG, (cq & PLACED_FLAG) != 0, cq_cell);
+        }
+        fleet.setNumSunkThisTurn(buffer.get());
+    }
+
+    /**
+     * Writes the ship and status of every cell of a grid, packed into 6 bits per cell.
+     *
+     * @param grid the grid to write
+     * @param fleet the fleet of the ships on the grid
+     * @param buffer the buffer to write to, from its position
+     * @throws IllegalArgumentException if the fleet has too many ships to be written
+     */
+    public static void encodeGrid(Grid grid, Fleet fleet, ByteBuffer buffer) {
+        if ( fleet.getSize() >= (1 << SHIP_ID_BITS) ) {
+            throw new IllegalArgumentException("A fleet of " + fleet.getSize() + " ships is too big to be encoded");
+        }
+
+        int size = grid.getSize();
+        buffer.put((byte) size);
+        buffer.put((byte) grid.getNumLayers());
+
+        // Shift each cell into the bits, and write them out a byte at a time
+        long bits = 0;
+        int num_bits = 0;
+        for (int layer = 0; layer < grid.getNumLayers(); layer++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int ship_id = 0;
+                    Ship ship = grid.getShipAt(layer, row, col);
+                    if ( ship != null ) {
+                        while (fleet.getShipByIndex(ship_id) != ship) ship_id++;
+                        ship_id++;
+                    }
+
+                    int status = grid.getStatusAt(layer, row, col).ordinal();
+                    bits = (bits << CELL_BITS) | (ship_id << STATUS_BITS) | status;
+                    num_bits += CELL_BITS;
+                    if ( num_bits >= 8 ) {
+                        num_bits -= 8;
+                        buffer.put((byte) (bits >>> num_bits));
+                    }
+                }
+            }
+        }
+
+        // Write the last bits, followed by zeros
+        if ( num_bits > 0 ) buffer.put((byte) (bits << (8 - num_bits)));
+    }
+
+    /**
+     * Reads the ship and status of every cell of a grid, and puts them on the given grid.
+     * <p>
+     *     The cells are read twice, so that every ship is back on the grid before any status is set.
+     * </p>
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param grid the grid to restore, whose ships must already be restored
+     * @param fleet the fleet of the ships on the grid
+     * @throws IllegalArgumentException if the dimensions that were written do not fit the grid
+     */
+    public static void decodeGrid(ByteBuffer buffer, Grid grid, Fleet fleet) {
+        int size = buffer.get();
+        int num_layers = buffer.get();
+        if ( size != grid.getSize() || num_layers != grid.getNumLayers() ) {
+            throw new IllegalArgumentException("A grid of " + num_layers + " layers of " + size + " by " + size
+                    + " cannot be decoded into a grid of " + grid.getNumLayers() + " layers of " + grid.getSize());
+        }
+
+        grid.reset();
+        int start = buffer.position();
+        for (int pass = 0; pass < 2; pass++) {
+            buffer.position(start);
+
+            long bits = 0;
+            int num_bits = 0;
+            for (int layer = 0; layer < num_layers; layer++) {
+                for (int row = 0; row < size; row++) {
+                    for (int col = 0; col < size; col++) {
+
+                        // Read bytes until the bits hold the whole cell
+                        if ( num_bits < CELL_BITS ) {
+                            bits = (bits << 8) | (buffer.get() & 0xFF);
+                            num_bits += 8;
+                        }
+                        num_bits -= CELL_BITS;
+                        int cell = (int) (bits >>> num_bits) & ((1 << CELL_BITS) - 1);
+
+                        int ship_id = cell >>> STATUS_BITS;
+                        LocationStatus status = STATUSES[cell & ((1 << STATUS_BITS) - 1)];
+                        if ( (pass == 0) & (ship_id != 0) ) {
+                            grid.setShipAt(layer, row, col, fleet.getShipByIndex(ship_id - 1));
+                        }
+                        else if ( (pass == 1) & (status != LocationStatus.HIDDEN) ) {
+                            grid.setStatusAt(layer, row, col, status);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes which weapons are in an arsenal, and the type and uses left of the weapon in each slot.
+     *
+     * @param arsenal the arsenal to write
+     * @param buffer the buffer to write to, from its position
+     */
+    public static void encodeArsenal(Arsenal arsenal, ByteBuffer buffer) {
+        buffer.put((byte) arsenal.getLiveSlots());
+        for (int id = 0; id < Arsenal.NUM_SLOTS; id++) {
+            Weapon weapon = arsenal.getWeaponById(id);
+            buffer.put((byte) weapon.getType().ordinal());
+            buffer.putShort((short) weapon.getNumUses());
+        }
+    }
+
+    /**
+     * Reads which weapons are in an arsenal, and the uses left of each, and puts them on the given arsenal.
+     * <p>
+     *     The type of the main weapon tells whether it has been upgraded.
+     * </p>
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param arsenal the arsenal to restore
+     * @throws IllegalArgumentException if a weapon that was written cannot be in its slot
+     * @see Arsenal#restoreSlots(boolean, int)
+     */
+    public static void decodeArsenal(ByteBuffer buffer, Arsenal arsenal) {
+        int live_slots = buffer.get();
+        for (int id = 0; id < Arsenal.NUM_SLOTS; id++) {
+            WeaponType type = WEAPON_TYPES[buffer.get()];
+            int num_uses = buffer.getShort() & 0xFFFF;
+
+            if ( id == Arsenal.MAIN_WEAPON_ID ) arsenal.restoreSlots(type == WeaponType.SPACE_LASER, live_slots);
+            Weapon weapon = arsenal.getWeaponById(id);
+            if ( weapon.getType() != type ) {
+                throw new IllegalArgumentException("A " + type.getName() + " cannot be decoded into slot " + id);
+            }
+            weapon.setNumUses(num_uses);
+        }
+    }
+
+    /**
+     * Writes every command of a history, from the oldest.
+     *
+     * @param history the history to write
+     * @param fleet the fleet of the player, to write the ships that are placed
+     * @param grid the grid of the player, to write the cells that ships are placed at
+     * @param buffer the buffer to write to, from its position
+     * @throws IllegalArgumentException if the history has a kind of command that cannot be written
+     */
+    public static void encodeCommands(CommandHistory history, Fleet fleet, Grid grid, ByteBuffer buffer) {
+        buffer.put((byte) history.size());
+        for (int i = 0; i < history.size(); i++) {
+            Command command = history.get(i);
+
+            if ( command instanceof PlaceShipCommand ) {
+                PlaceShipCommand placement = (PlaceShipCommand) command;
+                int ship_index = 0;
+                while (fleet.getShipByIndex(ship_index) != placement.getShip()) ship_index++;
+
+                buffer.put((byte) PLACE_COMMAND);
+                buffer.put((byte) ship_index);
+                buffer.putShort((short) toCell(grid, placement.getHead().toPacked()));
+                buffer.putShort((short) toCell(grid, placement.getTail().toPacked()));
+            }
+            else if ( command instanceof MoveFleetCommand ) {
+                MoveFleetCommand move = (MoveFleetCommand) command;
+                buffer.put((byte) MOVE_COMMAND);
+                buffer.put((byte) move.getRowOffset());
+                buffer.put((byte) move.getColumnOffset());
+            }
+            else if ( command instanceof NoCommand ) {
+                buffer.put((byte) NO_COMMAND);
+            }
+            else {
+                throw new IllegalArgumentException("A " + command.getClass().getSimpleName() + " cannot be encoded");
+            }
+        }
+    }
+
+    /**
+     * Reads every command of a history, and puts them on the given history in place of the ones it has.
+     * <p>
+     *     The commands are not executed, since their effects are already part of the grid.
+     * </p>
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param history the history to restore
+     * @param fleet the fleet of the player, whose ships the placements place
+     * @param grid the grid of the player, which the commands act on
+     * @throws IllegalArgumentException if a kind of command that was written is not known
+     */
+    public static void decodeCommands(ByteBuffer buffer, CommandHistory history, Fleet fleet, Grid grid) {
+        history.clear();
+
+        int num_commands = buffer.get() & 0xFF;
+        for (int i = 0; i < num_commands; i++) {
+            int kind = buffer.get();
+            switch (kind) {
+                case PLACE_COMMAND:
+                    Ship ship = fleet.getShipByIndex(buffer.get());
+                    Coordinate head = Coordinate.unpack(fromCell(grid, buffer.getShort() & 0xFFFF));
+                    Coordinate tail = Coordinate.unpack(fromCell(grid, buffer.getShort() & 0xFFFF));
+                    history.push(new PlaceShipCommand(ship, grid, head, tail));
+                    break;
+
+                case MOVE_COMMAND:
+                    int row_offset = buffer.get();
+                    int col_offset = buffer.get();
+                    history.push(new MoveFleetCommand(grid, row_offset, col_offset));
+                    break;
+
+                case NO_COMMAND:
+                    history.push(new NoCommand());
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Commands of kind " + kind + " cannot be decoded");
+            }
+        }
+    }
+
+    /**
+     * Returns the flat index in a grid of a packed coordinate.
+     *
+     * @param grid the grid of the coordinate
+     * @param packed the packed coordinate; CaptainsQuarters.NONE for none
+     * @return the index of the cell; NO_CELL for none
+     */
+    private static int toCell(Grid grid, int packed) {
+        if ( packed == CaptainsQuarters.NONE ) return NO_CELL;
+        int size = grid.getSize();
+        return (Coordinate.layerOf(packed) * size + Coordinate.rowOf(packed)) * size + Coordinate.columnOf(packed);
+    }
+
+    /**
+     * Returns the packed coordinate of a flat index in a grid.
+     *
+     * @param grid the grid of the cell
+     * @param cell the index of the cell; NO_CELL for none
+     * @return the packed coordinate; CaptainsQuarters.NONE for none
+     */
+    private static int fromCell(Grid grid, int cell) {
+        if ( cell == NO_CELL ) return CaptainsQuarters.NONE;
+        int size = grid.getSize();
+        return Coordinate.pack(cell / (size * size), (cell / size) % size, cell % size);
+    }
+}
@@ -0,0 +1,184 @@
+package edu.colorado.objectgrind.commands;
+
+/**
+ * This class defines the history of commands that a player can undo, kept in a ring buffer of fixed capacity.
+ * <p>
+ *     A move of the fleet that is pushed straight after another move of the same fleet is combined with it into one
+ *     MoveFleetCommand that moves the fleet by their net offset, and a pair of moves that cancel out (e.g. NORTH then
+ *     SOUTH) leaves no command at all. However many times a player moves their fleet, the moves since their last other
+ *     command take a single entry, and are undone together as one move of the grid.
+ * </p>
+ * <p>
+ *     When the history is full, pushing a command drops the oldest one, which can then no longer be undone. A history
+ *     is not synchronized, since it belongs to one player.
+ * </p>
+ *
+ * @see Command
+ * @see MoveFleetCommand#followedBy(MoveFleetCommand)
+ */
+public class CommandHistory {
+
+    /**
+     * The default number of commands that a history keeps.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The commands of this history, in a ring starting at the oldest.
+     */
+    private final Command[] commands;
+
+    /**
+     * The index in commands of the oldest command.
+     */
+    private int oldest;
+
+    /**
+     * The number of commands in this history.
+     */
+    private int size;
+
+    /**
+     * Class constructor specifying the number of commands that the history keeps.
+     *
+     * @param capacity the number of commands that can be undone
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public CommandHistory(int capacity) {
+        if ( capacity <= 0 ) throw new IllegalArgumentException("A command history needs a capacity of at least 1");
+        this.commands = new Command[capacity];
+        this.oldest = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Class constructor for a history that keeps up to 64 commands.
+     */
+    public CommandHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Adds a command that has been executed to the top of this history, combining it with the top command if both
+     * move the same fleet.
+     *
+     * @param command the command that was executed
+     * @see MoveFleetCommand#canCombineWith(MoveFleetCommand)
+     */
+    public void push(Command command) {
+
+        // Combine a move of the fleet with the move before it
+        if ( (this.size > 0) & (command instanceof MoveFleetCommand) ) {
+            int top = indexOf(this.size - 1);
+            if ( this.commands[top] instanceof MoveFleetCommand ) {
+                MoveFleetCommand previous = (MoveFleetCommand) this.commands[top];
+                MoveFleetCommand next = (MoveFleetCommand) command;
+
+                if ( previous.canCombineWith(next) ) {
+                    MoveFleetCommand combined = previous.followedBy(next);
+
+                    // Moves that cancel out leave nothing to undo
+                    if ( combined.movesNothing() ) pop();
+                    else this.commands[top] = combined;
+                    return;
+                }
+            }
+        }
+
+        // Drop the oldest command if this history is full
+        if ( this.size == this.commands.length ) {
+            this.commands[this.oldest] = null;
+            this.oldest = indexOf(1);
+            this.size--;
+        }
+
+        this.commands[indexOf(this.size)] = command;
+        this.size++;
+    }
+
+    /**
+     * Removes the command at the top of this history.
+     *
+     * @return the most recent command; <code>null</code> if this history is empty
+     */
+    public Command pop() {
+        if ( this.size == 0 ) return null;
+
+        int top = indexOf(this.size - 1);
+        Command command = this.commands[top];
+        this.commands[top] = null;
+        this.size--;
+        return command;
+    }
+
+    /**
+     * Gets the command at the top of this history, without removing it.
+     *
+     * @return the most recent command; <code>null</code> if this history is empty
+     */
+    public Command peek() {
+        return this.size == 0 ? null : this.commands[indexOf(this.size - 1)];
+    }
+
+    /**
+     * Gets the command at the given position in this history, without removing it.
+     *
+     * @param position the position of the command, 0 for the oldest and size() - 1 for the most recent
+     * @return the command at the position
+     * @throws IndexOutOfBoundsException if there is no command at the position
+     */
+    public Command get(int position) {
+        if ( position < 0 || position >= this.size ) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds for " + this.size
+                    + " commands");
+        }
+        return this.commands[indexOf(position)];
+    }
+
+    /**
+     * Removes every command from this history.
+     */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) this.commands[indexOf(i)] = null;
+        this.oldest = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of commands in this history.
+     *
+     * @return the current value of size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this history has no commands.
+     *
+     * @return <code>true</code> if there is nothing to undo; <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the number of commands that this history keeps.
+     *
+     * @return the length of commands
+     */
+    public int getCapacity() {
+        return this.commands.length;
+    }
+
+    /**
+     * Returns the index in commands of the command at the given position from the oldest.
+     *
+     * @param position the position of the command, 0 for the oldest
+     * @return the index of the command in the ring
+     */
+    private int indexOf(int position) {
+        int index = this.oldest + position;
+        return index >= this.commands.length ? index - this.commands.length : index;
+    }
+}
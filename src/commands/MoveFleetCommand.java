@@ -4,9 +4,16 @@ import edu.colorado.objectgrind.enums.Direction;
 import edu.colorado.objectgrind.grid.Grid;
 
 /**
- * This class defines the command for moving a fleet on a grid, given a specific direction.
+ * This class defines the command for moving a fleet on a grid, given a specific direction, or a number of rows and
+ * columns.
+ * <p>
+ *     A series of moves of the same fleet can be combined into one command that moves the fleet by their net offset,
+ *     so that it executes and undoes as a single move of the grid.
+ * </p>
  *
  * @see Command
+ * @see CommandHistory
+ * @see Grid#moveFleet(int, int)
  */
 public class MoveFleetCommand implements Command {
 
@@ -16,14 +23,24 @@ public class MoveFleetCommand implements Command {
     private final Grid grid;
 
     /**
-     * The direction that is used when calling execute().
+     * The number of rows that the fleet is moved down when calling execute(); negative to move it up.
      */
-    private final Direction dir_execute;
+    private final int row_offset;
 
     /**
-     * The direction that is used when calling undo(). It is opposite of dir_execute.
+     * The number of columns that the fleet is moved right when calling execute(); negative to move it left.
      */
-    private final Direction dir_undo;
+    private final int col_offset;
+
+    /**
+     * The number of rows that the fleet is moved down when calling undo(); negative to move it up.
+     */
+    private final int undo_row_offset;
+
+    /**
+     * The number of columns that the fleet is moved right when calling undo(); negative to move it left.
+     */
+    private final int undo_col_offset;
 
     /**
      * Class constructor specifying the grid, and the two directions for execute and undo.
@@ -33,25 +50,107 @@ public class MoveFleetCommand implements Command {
      * @param dir_undo The direction that this Command will use when calling undo().
      */
     public MoveFleetCommand(Grid grid, Direction dir_execute, Direction dir_undo) {
+        this(grid, grid.getRowOffset(dir_execute), grid.getColumnOffset(dir_execute),
+                grid.getRowOffset(dir_undo), grid.getColumnOffset(dir_undo));
+    }
+
+    /**
+     * Class constructor specifying the grid, and the offsets that the fleet is moved by, which undo() moves it back by.
+     *
+     * @param grid The grid that this Command will execute and undo fleet movement on.
+     * @param row_offset The number of rows that execute() moves the fleet down; negative to move it up.
+     * @param col_offset The number of columns that execute() moves the fleet right; negative to move it left.
+     */
+    public MoveFleetCommand(Grid grid, int row_offset, int col_offset) {
+        this(grid, row_offset, col_offset, -row_offset, -col_offset);
+    }
+
+    /**
+     * Class constructor specifying the grid, and the offsets for execute and undo.
+     *
+     * @param grid The grid that this Command will execute and undo fleet movement on.
+     * @param row_offset The number of rows that execute() moves the fleet down.
+     * @param col_offset The number of columns that execute() moves the fleet right.
+     * @param undo_row_offset The number of rows that undo() moves the fleet down.
+     * @param undo_col_offset The number of columns that undo() moves the fleet right.
+     */
+    private MoveFleetCommand(Grid grid, int row_offset, int col_offset, int undo_row_offset, int undo_col_offset) {
         this.grid = grid;
-        this.dir_execute = dir_execute;
-        this.dir_undo = dir_undo;
+        this.row_offset = row_offset;
+        this.col_offset = col_offset;
+        this.undo_row_offset = undo_row_offset;
+        this.undo_col_offset = undo_col_offset;
     }
 
     /**
-     * Executes the movement of this grid's fleet in the direction of dir_execute.
+     * Executes the movement of this grid's fleet by the execute offsets.
+     *
+     * @see Grid#moveFleet(int, int)
      */
     public void execute() {
-        this.grid.moveFleet(this.dir_execute);
+        this.grid.moveFleet(this.row_offset, this.col_offset);
     }
 
     /**
-     * Un-executes/undoes the movement of this grid's fleet in the direction of dir_execute.
+     * Un-executes/undoes the movement of this grid's fleet.
      * <p>
-     *     In other words, it moves this grid's fleet in the direction of dir_undo.
+     *     In other words, it moves this grid's fleet by the undo offsets, in one move however many moves this command
+     *     was combined from.
      * </p>
+     *
+     * @see Grid#moveFleet(int, int)
      */
     public void undo() {
-        this.grid.moveFleet(this.dir_undo);
+        this.grid.moveFleet(this.undo_row_offset, this.undo_col_offset);
+    }
+
+    /**
+     * Checks whether the given command moves the same fleet as this one, so that the two can be combined.
+     *
+     * @param next a command that is executed after this one
+     * @return <code>true</code> if both commands move the fleet of the same grid; <code>false</code> otherwise
+     */
+    public boolean canCombineWith(MoveFleetCommand next) {
+        return this.grid == next.grid;
+    }
+
+    /**
+     * Combines this command with one that is executed after it, into one that moves the fleet by their net offset.
+     *
+     * @param next a command that moves the same fleet, executed after this one
+     * @return a command that executes both moves, and undoes both, as one move
+     * @see #canCombineWith(MoveFleetCommand)
+     */
+    public MoveFleetCommand followedBy(MoveFleetCommand next) {
+        return new MoveFleetCommand(this.grid, this.row_offset + next.row_offset, this.col_offset + next.col_offset,
+                this.undo_row_offset + next.undo_row_offset, this.undo_col_offset + next.undo_col_offset);
+    }
+
+    /**
+     * Checks whether this command leaves the fleet where it is, e.g. after a move NORTH is combined with one SOUTH.
+     *
+     * @return <code>true</code> if neither execute() nor undo() move the fleet; <code>false</code> otherwise
+     */
+    public boolean movesNothing() {
+        return (this.row_offset == 0) & (this.col_offset == 0)
+                & (this.undo_row_offset == 0) & (this.undo_col_offset == 0);
+    }
+
+    /**
+     * Gets the number of rows that execute() moves the fleet down.
+     *
+     * @return the current value of row_offset
+     */
+    public int getRowOffset() {
+        return this.row_offset;
+    }
+
+    /**
+     * Gets the number of columns that execute() moves the fleet right.
+     *
+     * @return the current value of col_offset
+     */
+    public int getColumnOffset() {
+        return this.col_offset;
     }
 }
@@ -14,14 +14,12 @@ public class NoCommand implements Command {
      * Does nothing.
      */
     public void execute() {
-        System.out.println("This command does nothing");
     }
 
     /**
      * Does nothing.
      */
     public void undo() {
-        System.out.println("This command does nothing");
     }
 }
 
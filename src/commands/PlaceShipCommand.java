@@ -62,4 +62,31 @@ public class PlaceShipCommand implements Command{
     public void undo() {
         this.grid.removeShip(ship);
     }
+
+    /**
+     * Gets the ship that this Command places.
+     *
+     * @return the current value of ship
+     */
+    public Ship getShip() {
+        return this.ship;
+    }
+
+    /**
+     * Gets the coordinate that this Command starts placing the ship at.
+     *
+     * @return the current value of head
+     */
+    public Coordinate getHead() {
+        return this.head;
+    }
+
+    /**
+     * Gets the coordinate that this Command stops placing the ship at.
+     *
+     * @return the current value of tail
+     */
+    public Coordinate getTail() {
+        return this.tail;
+    }
 }
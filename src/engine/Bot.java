@@ -0,0 +1,60 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.List;
+
+/**
+ * This interface defines a player that is played by the computer, for games driven by a GameEngine.
+ * <p>
+ *     A bot places its fleet at the start of every game, then chooses a weapon and a shot on each of its turns from
+ *     its player's view of the game, which hides where the opponent's ships are. The weapon is always chosen before
+ *     the shot on the same turn, so a bot that chooses both together can do so in chooseWeapon.
+ * </p>
+ *
+ * @see GameEngine
+ * @see BotView
+ * @see GameRunner
+ * @see BotLeague
+ * @see RandomBot
+ * @see ScriptedBot
+ * @see HuntTargetBot
+ * @see ProbabilityBot
+ */
+public interface Bot {
+
+    /**
+     * Places every ship of the given player's fleet, at the start of a game.
+     *
+     * @param player the player whose fleet will be placed
+     */
+    void placeFleet(Player player);
+
+    /**
+     * Chooses the weapon to use on the current turn.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return an index into the arsenal of this bot's player
+     */
+    int chooseWeapon(BotView view);
+
+    /**
+     * Chooses the coordinate to attack on the current turn.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the packed coordinate to attack
+     */
+    int chooseShot(BotView view);
+
+    /**
+     * Tells this bot the results of the attack that it chose on its last turn.
+     * <p>
+     *     By default this does nothing, for bots that do not learn from their attacks.
+     * </p>
+     *
+     * @param results the results of the attack; empty if the turn was not taken
+     */
+    default void observeResults(List<AttackResult> results) {
+    }
+}
@@ -0,0 +1,188 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+/**
+ * This class plays a round-robin league between bots, on every size of game, and reports how strong and how fast
+ * each bot is.
+ * <p>
+ *     Every pair of bots plays the same number of games on each size, taking turns at being player 1. The bots of a
+ *     pairing are created from their factories with seeds drawn from the league's seed, so a league with the same
+ *     seed plays the same games. Each move is timed from when a bot is asked for its weapon until it has chosen its
+ *     shot, so the report catches a bot that got slower as well as one that got weaker, e.g. after the rules in
+ *     Arsenal.adjustArsenal or the weapon factories change.
+ * </p>
+ * <p>
+ *     It can be run on its own, with the number of games per pairing, a seed, and the grid storage as optional
+ *     arguments, e.g. <code>BotLeague 200 42 BITBOARDS</code>, to play a RandomBot, a HuntTargetBot, and a
+ *     ProbabilityBot against each other. The ProbabilityBot has no time budget for its moves unless one is given as
+ *     a fourth argument in microseconds, since a budget makes its moves, and so the games, depend on how busy the
+ *     machine is; how long its moves take is reported either way.
+ * </p>
+ *
+ * @see Bot
+ * @see LeagueReport
+ * @see GameRunner
+ */
+public class BotLeague {
+
+    /**
+     * The way that the grids of the games store their cells.
+     */
+    private final GridStorage grid_storage;
+
+    /**
+     * The number of games that every pair of bots plays on each size.
+     */
+    private final int games_per_pairing;
+
+    /**
+     * The number of attempted turns after which a game is stopped as a draw.
+     */
+    private final int max_turns;
+
+    /**
+     * The sizes of the games that are played.
+     */
+    private final Size[] sizes;
+
+    /**
+     * The names of the bots, by index.
+     */
+    private final List<String> names;
+
+    /**
+     * The factories that create each bot from a seed, by index.
+     */
+    private final List<LongFunction<Bot>> factories;
+
+    /**
+     * Class constructor specifying the games that every pair of bots plays, on every size.
+     *
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param games_per_pairing the number of games that every pair of bots plays on each size
+     * @param max_turns the number of attempted turns after which a game is a draw
+     */
+    public BotLeague(GridStorage grid_storage, int games_per_pairing, int max_turns) {
+        this(grid_storage, games_per_pairing, max_turns, Size.values());
+    }
+
+    /**
+     * Class constructor specifying the games that every pair of bots plays, and the sizes they are played on.
+     *
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param games_per_pairing the number of games that every pair of bots plays on each size
+     * @param max_turns the number of attempted turns after which a game is a draw
+     * @param sizes the sizes of the games that are played
+     */
+    public BotLeague(GridStorage grid_storage, int games_per_pairing, int max_turns, Size... sizes) {
+        this.grid_storage = grid_storage;
+        this.games_per_pairing = games_per_pairing;
+        this.max_turns = max_turns;
+        this.sizes = sizes.clone();
+        this.names = new ArrayList<>();
+        this.factories = new ArrayList<>();
+    }
+
+    /**
+     * Adds a bot to the league.
+     *
+     * @param name the name of the bot in the report
+     * @param factory creates the bot from a seed, for each pairing that it plays in
+     * @return the index of the bot in the report
+     */
+    public int addBot(String name, LongFunction<Bot> factory) {
+        this.names.add(name);
+        this.factories.add(factory);
+        return this.names.size() - 1;
+    }
+
+    /**
+     * Plays every pairing of bots on every size.
+     *
+     * @param seed the seed that the seeds of every bot are drawn from
+     * @return the results of the league
+     */
+    public LeagueReport run(long seed) {
+
+        LeagueReport report = new LeagueReport(this.names, this.sizes);
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        for (int s = 0; s < this.sizes.length; s++) {
+            GameRunner runner = new GameRunner(this.sizes[s], this.grid_storage, this.max_turns);
+
+            for (int a = 0; a < this.names.size(); a++) {
+                for (int b = a + 1; b < this.names.size(); b++) {
+                    Bot bot_a = this.factories.get(a).apply(seeds.nextLong());
+                    Bot bot_b = this.factories.get(b).apply(seeds.nextLong());
+
+                    // Take turns at being player 1
+                    for (int game = 0; game < this.games_per_pairing; game++) {
+                        if ( (game & 1) == 0 ) playGame(report, s, runner, a, bot_a, b, bot_b);
+                        else playGame(report, s, runner, b, bot_b, a, bot_a);
+                    }
+                }
+            }
+        }
+
+        return report;
+    }
+
+    /**
+     * Plays one game between two bots, timing every move, and records it in the report.
+     *
+     * @param report the report of the league
+     * @param size_index the index of the size of the game
+     * @param runner the runner that sets up games of that size
+     * @param index_1 the index of the bot that plays player 1
+     * @param bot_1 the bot that plays player 1
+     * @param index_2 the index of the bot that plays player 2
+     * @param bot_2 the bot that plays player 2
+     */
+    private void playGame(LeagueReport report, int size_index, GameRunner runner,
+                          int index_1, Bot bot_1, int index_2, Bot bot_2) {
+
+        GameEngine engine = runner.setUpGame(bot_1, bot_2);
+
+        for (int attempt = 0; attempt < this.max_turns && !engine.isOver(); attempt++) {
+            boolean first = engine.getCurrentPlayerIndex() == 0;
+            Bot bot = first ? bot_1 : bot_2;
+            BotView view = engine.getCurrentView();
+
+            long start = System.nanoTime();
+            int weapon_index = bot.chooseWeapon(view);
+            int shot = bot.chooseShot(view);
+            report.recordMove(size_index, first ? index_1 : index_2, System.nanoTime() - start);
+
+            bot.observeResults(engine.step(weapon_index, shot));
+        }
+
+        report.recordGame(size_index, index_1, index_2, engine);
+        runner.finishGame(engine);
+    }
+
+    /**
+     * Plays a league between a RandomBot, a HuntTargetBot, and a ProbabilityBot, and prints the report.
+     *
+     * @param args the number of games per pairing, seed, grid storage, and time budget of the ProbabilityBot's moves
+     *             in microseconds, each optional
+     */
+    public static void main(String[] args) {
+        int games_per_pairing = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        GridStorage grid_storage = args.length > 2 ? GridStorage.valueOf(args[2]) : GridStorage.LOCATIONS;
+        long move_budget_nanos = args.length > 3 ? Long.parseLong(args[3]) * 1000 : Long.MAX_VALUE;
+
+        BotLeague league = new BotLeague(grid_storage, games_per_pairing, 10000);
+        league.addBot("random", RandomBot::new);
+        league.addBot("hunt-target", HuntTargetBot::new);
+        league.addBot("probability", bot_seed -> new ProbabilityBot(bot_seed, move_budget_nanos));
+        System.out.println(league.run(seed));
+    }
+}
@@ -0,0 +1,165 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+/**
+ * This class defines what one player of a game driven by a GameEngine is allowed to see, for a Bot to choose its
+ * moves from.
+ * <p>
+ *     A player sees their own fleet and arsenal in full. Of the opponent, they see the dimensions of the grid, the
+ *     kinds of ships in the fleet, and the cells of the ships that have sunk, which are shown to both players;
+ *     everything else has to be learned from the results of their attacks. Every engine has one view for each player,
+ *     which lasts for the whole game, so a bot can tell that a new game has started when it is handed a different view.
+ * </p>
+ *
+ * @see Bot
+ * @see GameEngine#getView(int)
+ */
+public class BotView {
+
+    /**
+     * An empty array of coordinates, for ships whose cells cannot be seen.
+     */
+    private static final Coordinate[] NO_COORDINATES = new Coordinate[0];
+
+    /**
+     * The engine of the game.
+     */
+    private final GameEngine engine;
+
+    /**
+     * The index of the player that this view belongs to.
+     */
+    private final int player_index;
+
+    /**
+     * Class constructor specifying the engine of the game and the player that the view belongs to.
+     *
+     * @param engine the engine of the game
+     * @param player_index 0 for player 1, or 1 for player 2
+     */
+    BotView(GameEngine engine, int player_index) {
+        this.engine = engine;
+        this.player_index = player_index;
+    }
+
+    /**
+     * Gets the player that this view belongs to, whose fleet and arsenal can be seen in full.
+     *
+     * @return the player of this view
+     */
+    public Player getPlayer() {
+        return this.engine.getPlayer(this.player_index);
+    }
+
+    /**
+     * Gets the index of the player that this view belongs to.
+     *
+     * @return the current value of player_index
+     */
+    public int getPlayerIndex() {
+        return this.player_index;
+    }
+
+    /**
+     * Determines if it is the turn of the player that this view belongs to.
+     *
+     * @return <code>true</code> if the player attacks on the next step; <code>false</code> otherwise
+     */
+    public boolean isMyTurn() {
+        return this.engine.getCurrentPlayerIndex() == this.player_index;
+    }
+
+    /**
+     * Gets the number of turns that have been taken by both players.
+     *
+     * @return the number of turns taken so far
+     * @see GameEngine#getNumTurns()
+     */
+    public int getNumTurns() {
+        return this.engine.getNumTurns();
+    }
+
+    /**
+     * Gets the number of rows and columns of the opponent's grid.
+     *
+     * @return the size of the opponent's grid
+     */
+    public int getGridSize() {
+        return opponentGrid().getSize();
+    }
+
+    /**
+     * Gets the number of layers of the opponent's grid.
+     *
+     * @return the number of layers of the opponent's grid
+     */
+    public int getNumLayers() {
+        return opponentGrid().getNumLayers();
+    }
+
+    /**
+     * Gets the number of ships in the opponent's fleet.
+     *
+     * @return the size of the opponent's fleet
+     */
+    public int getOpponentFleetSize() {
+        return opponent().getSizeOfFleet();
+    }
+
+    /**
+     * Gets the ship at the given index of the opponent's fleet.
+     * <p>
+     *     Only the kind of ship and whether or not it has sunk are meant to be read from it; where it is can only be
+     *     learned through getSunkShipCoordinates once it has sunk.
+     * </p>
+     *
+     * @param index the index of the ship in the opponent's fleet
+     * @return the ship at that index
+     */
+    public Ship getOpponentShip(int index) {
+        return opponent().getShipAtIndex(index);
+    }
+
+    /**
+     * Gets the number of ships of the opponent that have sunk.
+     *
+     * @return the number of sunk ships in the opponent's fleet
+     */
+    public int getOpponentNumShipsSunk() {
+        return opponent().getNumShipsSunk();
+    }
+
+    /**
+     * Gets the cells of one of the opponent's ships, if it has sunk.
+     *
+     * @param ship a ship of the opponent's fleet
+     * @return the coordinates of the ship if it has sunk; an empty array otherwise
+     * @see Grid#getShipCoordinates(Ship)
+     */
+    public Coordinate[] getSunkShipCoordinates(Ship ship) {
+        if ( !ship.hasSunk() ) return NO_COORDINATES;
+        return opponentGrid().getShipCoordinates(ship);
+    }
+
+    /**
+     * Gets the opponent of the player that this view belongs to.
+     *
+     * @return the other player of the game
+     */
+    private Player opponent() {
+        return this.engine.getPlayer(1 - this.player_index);
+    }
+
+    /**
+     * Gets the grid of the opponent.
+     *
+     * @return the grid that the player of this view attacks
+     */
+    private Grid opponentGrid() {
+        return opponent().getGrid();
+    }
+}
@@ -0,0 +1,245 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class drives a Game turn by turn, without any user interface.
+ * <p>
+ *     The players of the game alternate turns, starting with player 1 (index 0). Each call to step is one turn of the
+ *     player whose turn it is, given as a weapon index and a packed coordinate, and the turn only passes to the other
+ *     player if the attack was actually made. The game is over as soon as a player surrenders.
+ * </p>
+ * <p>
+ *     A player whose arsenal has run out of weapons cannot attack, so their turns are skipped. If both players run
+ *     out, the game is over with no winner.
+ * </p>
+ *
+ * @see Game
+ * @see Player#takeTurn(Player, int, int)
+ * @see GameRunner
+ */
+public class GameEngine {
+
+    /**
+     * The value of the winner while the game is not over.
+     */
+    public static final int NO_WINNER = -1;
+
+    /**
+     * The game that this engine drives.
+     */
+    private final Game game;
+
+    /**
+     * The two players of the game, by index.
+     */
+    private final Player[] players;
+
+    /**
+     * The view of the game of each player, by index.
+     */
+    private final BotView[] views;
+
+    /**
+     * The index of the player whose turn it is.
+     */
+    private int current_player;
+
+    /**
+     * The number of turns that have been taken.
+     */
+    private int num_turns;
+
+    /**
+     * The index of the player who won the game; <code>NO_WINNER</code> if the game is not over.
+     */
+    private int winner;
+
+    /**
+     * Whether or not the game ended because neither player has a weapon left.
+     */
+    private boolean stalemate;
+
+    /**
+     * Class constructor specifying the game that this engine will drive.
+     *
+     * @param game the game to drive, whose ships may or may not be placed yet
+     */
+    public GameEngine(Game game) {
+        this.game = game;
+        this.players = new Player[] {game.getPlayer_1(), game.getPlayer_2()};
+        this.views = new BotView[] {new BotView(this, 0), new BotView(this, 1)};
+        this.current_player = 0;
+        this.num_turns = 0;
+        this.winner = NO_WINNER;
+        this.stalemate = false;
+    }
+
+    /**
+     * Gets the game that this engine drives.
+     *
+     * @return the current value of game
+     */
+    public Game getGame() {
+        return this.game;
+    }
+
+    /**
+     * Gets the player at the given index.
+     *
+     * @param index 0 for player 1, or 1 for player 2
+     * @return the player at that index
+     */
+    public Player getPlayer(int index) {
+        return this.players[index];
+    }
+
+    /**
+     * Gets the view of the game of the player at the given index, which is the same object for the whole game.
+     *
+     * @param index 0 for player 1, or 1 for player 2
+     * @return the view of that player
+     */
+    public BotView getView(int index) {
+        return this.views[index];
+    }
+
+    /**
+     * Gets the view of the game of the player whose turn it is.
+     *
+     * @return the view of the player who will attack on the next step
+     */
+    public BotView getCurrentView() {
+        return this.views[this.current_player];
+    }
+
+    /**
+     * Gets the index of the player whose turn it is.
+     *
+     * @return the current value of current_player
+     */
+    public int getCurrentPlayerIndex() {
+        return this.current_player;
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return the player who will attack on the next step
+     */
+    public Player getCurrentPlayer() {
+        return this.players[this.current_player];
+    }
+
+    /**
+     * Gets the opponent of the player whose turn it is.
+     *
+     * @return the player who will be attacked on the next step
+     */
+    public Player getOpponent() {
+        return this.players[1 - this.current_player];
+    }
+
+    /**
+     * Gets the number of turns that have been taken.
+     *
+     * @return the current value of num_turns
+     */
+    public int getNumTurns() {
+        return this.num_turns;
+    }
+
+    /**
+     * Gets the index of the player who won the game.
+     *
+     * @return the current value of winner; <code>NO_WINNER</code> if the game is not over
+     */
+    public int getWinner() {
+        return this.winner;
+    }
+
+    /**
+     * Determines if the game is over, i.e. a player has surrendered or neither player has a weapon left.
+     *
+     * @return <code>true</code> if no more turns can be taken; <code>false</code> otherwise
+     */
+    public boolean isOver() {
+        return (this.winner != NO_WINNER) | this.stalemate;
+    }
+
+    /**
+     * Determines if both players have placed all of their ships, so that turns can be taken.
+     *
+     * @return <code>true</code> if both fleets are placed; <code>false</code> otherwise
+     * @see Player#allShipsPlaced()
+     */
+    public boolean isReady() {
+        return this.players[0].allShipsPlaced() & this.players[1].allShipsPlaced();
+    }
+
+    /**
+     * Takes one turn for the player whose turn it is, by using the weapon at the given index on the given coordinate.
+     * <p>
+     *     If the attack cannot be made, e.g. the weapon index or coordinate is out of bounds, then nothing happens and
+     *     it is still the same player's turn.
+     * </p>
+     *
+     * @param weapon_index the index of the weapon in the current player's arsenal
+     * @param coord_of_attack the packed coordinate to attack
+     * @return the results of the attack; empty if the turn was not taken
+     * @see Player#takeTurn(Player, int, int)
+     * @see Player#skipTurn()
+     */
+    public List<AttackResult> step(int weapon_index, int coord_of_attack) {
+
+        // No more turns can be taken once the game is over or before the fleets are placed
+        if ( isOver() || !isReady() ) return Collections.emptyList();
+
+        // A player without weapons cannot attack, so skip their turn, unless the opponent has none either
+        Player attacker = getCurrentPlayer();
+        Player opponent = getOpponent();
+        if ( attacker.getSizeOfArsenal() == 0 ) {
+            attacker.skipTurn();
+            if ( opponent.getSizeOfArsenal() == 0 ) this.stalemate = true;
+            else this.current_player = 1 - this.current_player;
+            this.num_turns++;
+            return Collections.emptyList();
+        }
+
+        // Attack the opponent, and only move on if the attack was made
+        List<AttackResult> results = attacker.takeTurn(opponent, weapon_index, coord_of_attack);
+        if ( results.isEmpty() ) return results;
+
+        // End the game if the opponent surrendered, otherwise pass the turn to them
+        this.num_turns++;
+        if ( opponent.surrender() ) this.winner = this.current_player;
+        else this.current_player = 1 - this.current_player;
+
+        return results;
+    }
+
+    /**
+     * Takes one turn for the player whose turn it is, first moving their fleet in the given direction.
+     * <p>
+     *     The fleet is only moved if it can be, and the move can be undone until the attack is made. A player without
+     *     weapons has their turn skipped, so their fleet is not moved at all.
+     * </p>
+     *
+     * @param direction the direction to move the current player's fleet
+     * @param weapon_index the index of the weapon in the current player's arsenal
+     * @param coord_of_attack the packed coordinate to attack
+     * @return the results of the attack; empty if the turn was not taken
+     * @see Player#playerMoveFleet(Direction)
+     * @see #step(int, int)
+     */
+    public List<AttackResult> step(Direction direction, int weapon_index, int coord_of_attack) {
+        if ( !isOver() && (getCurrentPlayer().getSizeOfArsenal() > 0) ) getCurrentPlayer().playerMoveFleet(direction);
+        return step(weapon_index, coord_of_attack);
+    }
+}
@@ -0,0 +1,185 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.GamePool;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+
+/**
+ * This class plays complete games between two bots, with no user interface, and reports how fast they were played.
+ * <p>
+ *     Games are taken from a GamePool and given back once they have been played, so that a runner playing many
+ *     games only creates the parts of the first few.
+ * </p>
+ * <p>
+ *     It can be run on its own, with the size of the games, the number of games, a seed, and the grid storage as
+ *     optional arguments, e.g. <code>GameRunner MEDIUM 100000 42 BITBOARDS</code>. The two players are RandomBots
+ *     seeded from the given seed.
+ * </p>
+ *
+ * @see GameEngine
+ * @see Bot
+ * @see RunReport
+ * @see GamePool
+ */
+public class GameRunner {
+
+    /**
+     * The pool that every game is taken from and given back to.
+     */
+    private final GamePool pool;
+
+    /**
+     * The size of the games that are played.
+     */
+    private final Size size;
+
+    /**
+     * The number of attempted turns after which a game is stopped as a draw.
+     */
+    private final int max_turns;
+
+    /**
+     * The listener that is told about the attacks of both players in every game.
+     */
+    private AttackListener attack_listener;
+
+    /**
+     * Class constructor specifying the size and grid storage of the games, and the turn limit of each game.
+     *
+     * @param size the size of the games that are played
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param max_turns the number of attempted turns after which a game is a draw
+     */
+    public GameRunner(Size size, GridStorage grid_storage, int max_turns) {
+        this(size, new GamePool(grid_storage), max_turns);
+    }
+
+    /**
+     * Class constructor specifying the size of the games, the pool they are taken from, and the turn limit of each
+     * game.
+     *
+     * @param size the size of the games that are played
+     * @param pool the pool that the games are taken from, which may be shared with other runners
+     * @param max_turns the number of attempted turns after which a game is a draw
+     */
+    public GameRunner(Size size, GamePool pool, int max_turns) {
+        this.pool = pool;
+        this.size = size;
+        this.max_turns = max_turns;
+        this.attack_listener = AttackListener.NONE;
+    }
+
+    /**
+     * Class constructor specifying the size and grid storage of the games, with a turn limit of 10,000.
+     *
+     * @param size the size of the games that are played
+     * @param grid_storage the way that the grids of the games store their cells
+     */
+    public GameRunner(Size size, GridStorage grid_storage) {
+        this(size, grid_storage, 10000);
+    }
+
+    /**
+     * Sets the listener that is told about the attacks of both players in every game from now on.
+     *
+     * @param listener the new listener; <code>AttackListener.NONE</code> to not be told about attacks
+     * @see edu.colorado.objectgrind.game.Game#setAttackListener(AttackListener)
+     */
+    public void setAttackListener(AttackListener listener) {
+        this.attack_listener = listener;
+    }
+
+    /**
+     * Takes a game from the pool and creates an engine for it, and has each bot place its player's fleet.
+     *
+     * @param bot_1 the bot that plays player 1
+     * @param bot_2 the bot that plays player 2
+     * @return the engine of the new game, ready for the first turn
+     * @see #finishGame(GameEngine)
+     */
+    public GameEngine setUpGame(Bot bot_1, Bot bot_2) {
+        Game game = this.pool.acquire(this.size);
+        game.setAttackListener(this.attack_listener);
+        GameEngine engine = new GameEngine(game);
+        bot_1.placeFleet(engine.getPlayer(0));
+        bot_2.placeFleet(engine.getPlayer(1));
+        return engine;
+    }
+
+    /**
+     * Plays a game until a player wins or the turn limit is reached.
+     *
+     * @param engine the engine of the game, with both fleets placed
+     * @param bot_1 the bot that plays player 1
+     * @param bot_2 the bot that plays player 2
+     * @return the index of the winner; <code>GameEngine.NO_WINNER</code> if the game is a draw
+     * @see GameEngine#step(int, int)
+     * @see Bot#observeResults(java.util.List)
+     */
+    public int playGame(GameEngine engine, Bot bot_1, Bot bot_2) {
+        for (int attempt = 0; attempt < this.max_turns && !engine.isOver(); attempt++) {
+            Bot bot = engine.getCurrentPlayerIndex() == 0 ? bot_1 : bot_2;
+            BotView view = engine.getCurrentView();
+            bot.observeResults(engine.step(bot.chooseWeapon(view), bot.chooseShot(view)));
+        }
+        return engine.getWinner();
+    }
+
+    /**
+     * Gives the game of the given engine back to the pool, once nothing more is needed from it.
+     * <p>
+     *     Neither the engine nor its game may be used afterwards. A game that is never finished is simply not reused.
+     * </p>
+     *
+     * @param engine the engine of a game set up by this runner
+     * @see GamePool#release(Game)
+     */
+    public void finishGame(GameEngine engine) {
+        this.pool.release(engine.getGame());
+    }
+
+    /**
+     * Plays the given number of complete games between the two bots, and reports the totals.
+     *
+     * @param num_games the number of games to play
+     * @param bot_1 the bot that plays player 1
+     * @param bot_2 the bot that plays player 2
+     * @return the totals of the games
+     */
+    public RunReport run(int num_games, Bot bot_1, Bot bot_2) {
+
+        int[] wins = new int[2];
+        int num_draws = 0;
+        long total_turns = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < num_games; i++) {
+            GameEngine engine = setUpGame(bot_1, bot_2);
+            int winner = playGame(engine, bot_1, bot_2);
+            if ( winner == GameEngine.NO_WINNER ) num_draws++;
+            else wins[winner]++;
+            total_turns += engine.getNumTurns();
+            finishGame(engine);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new RunReport(num_games, wins, num_draws, total_turns, elapsed);
+    }
+
+    /**
+     * Plays games between two RandomBots and prints the report.
+     *
+     * @param args the size, number of games, seed, and grid storage, each optional
+     */
+    public static void main(String[] args) {
+        Size size = args.length > 0 ? Size.valueOf(args[0]) : Size.MEDIUM;
+        int num_games = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        GridStorage grid_storage = args.length > 3 ? GridStorage.valueOf(args[3]) : GridStorage.LOCATIONS;
+
+        GameRunner runner = new GameRunner(size, grid_storage);
+        System.out.println(runner.run(num_games, new RandomBot(seed), new RandomBot(seed + 1)));
+    }
+}
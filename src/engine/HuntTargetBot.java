@@ -0,0 +1,371 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.placement.RandomFleetPlacer;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * This class defines a bot that hunts on a checkerboard and then targets the cells around every hit.
+ * <p>
+ *     While it has nothing to follow up on, the bot fires at the cells of one color of a checkerboard, in a random
+ *     order, since every ship is at least two cells long and so covers a cell of each color. Once it hits a ship, it
+ *     fires at the cells next to the hit until the ship sinks. The captain's quarters of a ship shows up as a MISS the
+ *     first time that it is hit, so a MISS next to a hit is fired at a second time before it is ruled out.
+ * </p>
+ * <p>
+ *     The bot always uses the first weapon of its arsenal, and only looks at the row and column of each result, so
+ *     a hit on any layer is followed up the same way.
+ * </p>
+ *
+ * @see Bot
+ * @see ProbabilityBot
+ */
+public class HuntTargetBot implements Bot {
+
+    /**
+     * The state of a cell that has not been fired at.
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * The state of a cell that was a MISS once, which may be the captain's quarters of a ship.
+     */
+    private static final byte MISSED = 1;
+
+    /**
+     * The state of a cell that is known to be empty, or was a MISS twice.
+     */
+    private static final byte CLEARED = 2;
+
+    /**
+     * The state of a cell with a ship that has not sunk.
+     */
+    private static final byte HIT = 3;
+
+    /**
+     * The state of a cell of a sunk ship.
+     */
+    private static final byte SUNK = 4;
+
+    /**
+     * The random number generator that places this bot's fleet and orders the hunt.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The placer of the last fleet that this bot placed, which is reused for fleets of the same kinds of ships.
+     */
+    private RandomFleetPlacer placer;
+
+    /**
+     * The view of the game that the cell states are for; <code>null</code> until the first move of a game.
+     */
+    private BotView view;
+
+    /**
+     * The number of rows and columns of the opponent's grid.
+     */
+    private int size;
+
+    /**
+     * The layer that shots are fired at.
+     */
+    private int layer;
+
+    /**
+     * The state of every cell of the opponent's grid, by row and column.
+     */
+    private byte[] states;
+
+    /**
+     * The number of the observeResults call that last changed each cell on a MISS, so that a weapon that attacks
+     * more than one layer only counts as one MISS.
+     */
+    private int[] missed_on;
+
+    /**
+     * The number of calls to observeResults in the current game.
+     */
+    private int num_observed;
+
+    /**
+     * The cells to fire at before hunting again, as a stack. Only the first num_targets are used.
+     */
+    private int[] targets;
+
+    /**
+     * The number of cells on the target stack.
+     */
+    private int num_targets;
+
+    /**
+     * Every cell in the order that it is hunted: the cells of one color of the checkerboard, then the rest.
+     */
+    private int[] hunt;
+
+    /**
+     * The index of the next cell to hunt.
+     */
+    private int next_hunt;
+
+    /**
+     * Class constructor specifying the seed of this bot's random number generator.
+     *
+     * @param seed the seed for every random choice this bot makes
+     */
+    public HuntTargetBot(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Places every ship of the given player's fleet at a random legal position.
+     *
+     * @param player the player whose fleet will be placed
+     * @throws IllegalStateException if the fleet cannot be placed
+     * @see RandomFleetPlacer#nextPlacements()
+     */
+    @Override
+    public void placeFleet(Player player) {
+
+        Grid grid = player.getGrid();
+        Ship[] ships = new Ship[player.getSizeOfFleet()];
+        for (int i = 0; i < ships.length; i++) ships[i] = player.getShipAtIndex(i);
+
+        SplittableRandom placement_random = new SplittableRandom(this.random.nextLong());
+        if ( (this.placer == null) || !this.placer.canPlace(ships, grid) ) {
+            this.placer = new RandomFleetPlacer(ships, grid.getSize(), grid.getNumLayers(), placement_random);
+        }
+        else {
+            this.placer.setRandom(placement_random);
+        }
+
+        int[] placements = this.placer.nextPlacements();
+        for (int i = 0; i < placements.length; i++) {
+            int head = PlacementEnumerator.headOf(placements[i]);
+            player.playerPlaceShip(i, head, this.placer.getEnumerator(i).tailOf(placements[i]));
+        }
+
+        // Start over on the first move of the new game
+        this.view = null;
+    }
+
+    /**
+     * Returns the first weapon of the arsenal, which is the only one that this bot uses.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return 0
+     */
+    @Override
+    public int chooseWeapon(BotView view) {
+        return 0;
+    }
+
+    /**
+     * Fires at the next cell on the target stack that is still worth firing at, or else hunts.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the packed coordinate to attack
+     */
+    @Override
+    public int chooseShot(BotView view) {
+
+        if ( view != this.view ) startGame(view);
+
+        // Follow up on the hits first
+        while ( this.num_targets > 0 ) {
+            int cell = this.targets[--this.num_targets];
+            if ( isWorthTargeting(cell) ) return toCoordinate(cell);
+        }
+
+        // Then hunt the cells that have not been fired at
+        while ( this.next_hunt < this.hunt.length ) {
+            int cell = this.hunt[this.next_hunt++];
+            if ( this.states[cell] == UNKNOWN ) return toCoordinate(cell);
+        }
+
+        // Then fire at every MISS a second time, in case it was the captain's quarters of a ship
+        for (int cell = 0; cell < this.states.length; cell++) {
+            if ( this.states[cell] == MISSED ) return toCoordinate(cell);
+        }
+
+        return toCoordinate(this.random.nextInt(this.states.length));
+    }
+
+    /**
+     * Updates the cell states with the results of this bot's last attack.
+     *
+     * @param results the results of the attack
+     */
+    @Override
+    public void observeResults(List<AttackResult> results) {
+        if ( this.view == null ) return;
+        this.num_observed++;
+
+        for ( AttackResult result : results ) {
+            int cell = result.getRow() * this.size + result.getColumn();
+
+            switch ( result.getOutcome() ) {
+                case HIT:
+                case OCCUPIED:
+                case CAPTAINS_QUARTERS_DESTROYED:
+                    markHit(cell);
+                    break;
+
+                // The attacker cannot tell a hit on the captain's quarters from a MISS
+                case MISS:
+                case CAPTAINS_QUARTERS_HIT:
+                    markMiss(cell);
+                    break;
+
+                case FREE:
+                    if ( this.states[cell] < HIT ) this.states[cell] = CLEARED;
+                    break;
+
+                case SUNK:
+                    for ( Coordinate coord : this.view.getSunkShipCoordinates(result.getShip()) ) {
+                        this.states[coord.getRow() * this.size + coord.getColumn()] = SUNK;
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Starts keeping track of the cells of a new game, and shuffles the hunting order.
+     *
+     * @param view this bot's view of the new game
+     */
+    private void startGame(BotView view) {
+
+        this.view = view;
+        this.size = view.getGridSize();
+        this.layer = view.getNumLayers() - 1;
+
+        int num_cells = this.size * this.size;
+        if ( (this.states == null) || (this.states.length != num_cells) ) {
+            this.states = new byte[num_cells];
+            this.missed_on = new int[num_cells];
+            this.targets = new int[8 * num_cells];
+            this.hunt = new int[num_cells];
+        }
+        else {
+            Arrays.fill(this.states, UNKNOWN);
+            Arrays.fill(this.missed_on, 0);
+        }
+        this.num_observed = 0;
+        this.num_targets = 0;
+        this.next_hunt = 0;
+
+        // One color of the checkerboard first, then the other, each shuffled
+        int parity = this.random.nextInt(2);
+        int num_first = 0;
+        int num_second = num_cells;
+        for (int cell = 0; cell < num_cells; cell++) {
+            if ( ((cell / this.size + cell % this.size) & 1) == parity ) this.hunt[num_first++] = cell;
+            else this.hunt[--num_second] = cell;
+        }
+        shuffle(0, num_first);
+        shuffle(num_first, num_cells);
+    }
+
+    /**
+     * Shuffles the hunting order between the given indices.
+     *
+     * @param from the first index to shuffle
+     * @param to the index after the last one to shuffle
+     */
+    private void shuffle(int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + this.random.nextInt(i - from + 1);
+            int cell = this.hunt[i];
+            this.hunt[i] = this.hunt[j];
+            this.hunt[j] = cell;
+        }
+    }
+
+    /**
+     * Records a cell with a ship that has not sunk, and pushes its neighbours onto the target stack.
+     *
+     * @param cell the index of the cell
+     */
+    private void markHit(int cell) {
+        if ( this.states[cell] >= HIT ) return;
+        this.states[cell] = HIT;
+
+        int row = cell / this.size;
+        int col = cell % this.size;
+        if ( row > 0 ) pushTarget(cell - this.size);
+        if ( row < this.size - 1 ) pushTarget(cell + this.size);
+        if ( col > 0 ) pushTarget(cell - 1);
+        if ( col < this.size - 1 ) pushTarget(cell + 1);
+    }
+
+    /**
+     * Records a MISS at a cell, and pushes it back onto the target stack if it is next to a hit.
+     *
+     * @param cell the index of the cell
+     */
+    private void markMiss(int cell) {
+        if ( (this.states[cell] >= HIT) | (this.missed_on[cell] == this.num_observed) ) return;
+        this.missed_on[cell] = this.num_observed;
+
+        if ( this.states[cell] == UNKNOWN ) {
+            this.states[cell] = MISSED;
+            pushTarget(cell);
+        }
+        else {
+            this.states[cell] = CLEARED;
+        }
+    }
+
+    /**
+     * Pushes a cell onto the target stack if it could still be worth firing at.
+     *
+     * @param cell the index of the cell
+     */
+    private void pushTarget(int cell) {
+        if ( (this.states[cell] <= MISSED) & (this.num_targets < this.targets.length) ) {
+            this.targets[this.num_targets++] = cell;
+        }
+    }
+
+    /**
+     * Determines if a cell on the target stack is still worth firing at: either it has not been fired at, or it was
+     * a MISS once and is next to a ship that has not sunk.
+     *
+     * @param cell the index of the cell
+     * @return <code>true</code> if the cell should be fired at; <code>false</code> otherwise
+     */
+    private boolean isWorthTargeting(int cell) {
+        if ( this.states[cell] == UNKNOWN ) return true;
+        if ( this.states[cell] != MISSED ) return false;
+
+        int row = cell / this.size;
+        int col = cell % this.size;
+        return ( (row > 0) && (this.states[cell - this.size] == HIT) )
+                || ( (row < this.size - 1) && (this.states[cell + this.size] == HIT) )
+                || ( (col > 0) && (this.states[cell - 1] == HIT) )
+                || ( (col < this.size - 1) && (this.states[cell + 1] == HIT) );
+    }
+
+    /**
+     * Turns the index of a cell into the packed coordinate that is fired at.
+     *
+     * @param cell the index of the cell
+     * @return the packed coordinate of the cell, on the layer that shots are fired at
+     */
+    private int toCoordinate(int cell) {
+        return Coordinate.pack(this.layer, cell / this.size, cell % this.size);
+    }
+}
@@ -0,0 +1,136 @@
+package edu.colorado.objectgrind.engine;
+
+/**
+ * This class counts latencies in nanoseconds, so that their percentiles can be read back without keeping every one.
+ * <p>
+ *     Latencies below 64 ns each have a bucket of their own. Above that, every power of two is split into 32 buckets,
+ *     so a percentile is off by at most about 3% of its value, whatever the range of the latencies. Recording is a few
+ *     shifts and an increment, and the histogram takes the same memory however many latencies are recorded.
+ * </p>
+ *
+ * @see LeagueReport
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of a latency, after its highest one, that pick its bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets that every power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets, which is enough for any non-negative long.
+     */
+    private static final int NUM_BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    /**
+     * The number of latencies in each bucket.
+     */
+    private final long[] counts;
+
+    /**
+     * The number of latencies recorded.
+     */
+    private long count;
+
+    /**
+     * The largest latency recorded.
+     */
+    private long max;
+
+    /**
+     * Class constructor for an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[NUM_BUCKETS];
+        this.count = 0;
+        this.max = 0;
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        this.counts[bucketOf(value)]++;
+        this.count++;
+        if ( value > this.max ) this.max = value;
+    }
+
+    /**
+     * Adds the latencies of another histogram to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void merge(LatencyHistogram other) {
+        for (int b = 0; b < NUM_BUCKETS; b++) this.counts[b] += other.counts[b];
+        this.count += other.count;
+        this.max = Math.max(this.max, other.max);
+    }
+
+    /**
+     * Gets the number of latencies recorded.
+     *
+     * @return the current value of count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the largest latency recorded.
+     *
+     * @return the current value of max, in nanoseconds
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Gets the latency that the given percentage of the recorded latencies are at or below.
+     *
+     * @param percentile the percentage, from 0 to 100
+     * @return the smallest value of the bucket that holds the percentile, in nanoseconds; 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if ( this.count == 0 ) return 0;
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * this.count));
+        long seen = 0;
+        for (int b = 0; b < NUM_BUCKETS; b++) {
+            seen += this.counts[b];
+            if ( seen >= rank ) return Math.min(lowestValueOf(b), this.max);
+        }
+        return this.max;
+    }
+
+    /**
+     * Returns the bucket of the given latency.
+     *
+     * @param value the latency, which is not negative
+     * @return the index of its bucket
+     */
+    private static int bucketOf(long value) {
+        if ( value < 2 * SUB_BUCKETS ) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the smallest latency that goes in the given bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the smallest latency of the bucket
+     */
+    private static long lowestValueOf(int bucket) {
+        if ( bucket < 2 * SUB_BUCKETS ) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+}
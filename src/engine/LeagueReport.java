@@ -0,0 +1,255 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.Size;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class defines the results of a round-robin league played by a BotLeague, for every bot on every size of game.
+ * <p>
+ *     For each size, it has every bot's wins, losses, and draws against each of the others, the mean number of turns
+ *     of the games that each bot won, and a histogram of how long each bot took to choose its moves.
+ * </p>
+ *
+ * @see BotLeague#run(long)
+ * @see LatencyHistogram
+ */
+public class LeagueReport {
+
+    /**
+     * The names of the bots, by index.
+     */
+    private final String[] names;
+
+    /**
+     * The sizes of the games played, by index.
+     */
+    private final Size[] sizes;
+
+    /**
+     * The number of games won by each bot against each other bot, by size, winner, and loser.
+     */
+    private final int[][][] wins;
+
+    /**
+     * The number of games drawn between each pair of bots, by size and both bots.
+     */
+    private final int[][][] draws;
+
+    /**
+     * The number of turns of the games won by each bot, by size and bot.
+     */
+    private final long[][] turns_to_win;
+
+    /**
+     * The time each bot took to choose each of its moves, by size and bot.
+     */
+    private final LatencyHistogram[][] latencies;
+
+    /**
+     * Class constructor for an empty report of a league between the given bots on the given sizes.
+     *
+     * @param names the names of the bots, by index
+     * @param sizes the sizes of the games played, by index
+     */
+    LeagueReport(List<String> names, Size[] sizes) {
+        this.names = names.toArray(new String[0]);
+        this.sizes = sizes.clone();
+
+        int num_bots = this.names.length;
+        this.wins = new int[sizes.length][num_bots][num_bots];
+        this.draws = new int[sizes.length][num_bots][num_bots];
+        this.turns_to_win = new long[sizes.length][num_bots];
+        this.latencies = new LatencyHistogram[sizes.length][num_bots];
+        for ( LatencyHistogram[] row : this.latencies ) {
+            for (int b = 0; b < num_bots; b++) row[b] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records the result of one game between two bots.
+     *
+     * @param size_index the index of the size of the game
+     * @param bot_1 the index of the bot that played player 1
+     * @param bot_2 the index of the bot that played player 2
+     * @param engine the engine of the finished game
+     */
+    void recordGame(int size_index, int bot_1, int bot_2, GameEngine engine) {
+        int winner = engine.getWinner();
+        if ( winner == GameEngine.NO_WINNER ) {
+            this.draws[size_index][bot_1][bot_2]++;
+            this.draws[size_index][bot_2][bot_1]++;
+            return;
+        }
+
+        int winning_bot = winner == 0 ? bot_1 : bot_2;
+        int losing_bot = winner == 0 ? bot_2 : bot_1;
+        this.wins[size_index][winning_bot][losing_bot]++;
+        this.turns_to_win[size_index][winning_bot] += engine.getNumTurns();
+    }
+
+    /**
+     * Records how long a bot took to choose one move.
+     *
+     * @param size_index the index of the size of the game
+     * @param bot the index of the bot
+     * @param nanos the time taken to choose the weapon and the shot, in nanoseconds
+     */
+    void recordMove(int size_index, int bot, long nanos) {
+        this.latencies[size_index][bot].record(nanos);
+    }
+
+    /**
+     * Gets the number of bots in the league.
+     *
+     * @return the number of bots
+     */
+    public int getNumBots() {
+        return this.names.length;
+    }
+
+    /**
+     * Gets the name of the bot at the given index.
+     *
+     * @param bot the index of the bot
+     * @return the name of the bot
+     */
+    public String getName(int bot) {
+        return this.names[bot];
+    }
+
+    /**
+     * Gets the sizes of the games played.
+     *
+     * @return a copy of sizes
+     */
+    public Size[] getSizes() {
+        return this.sizes.clone();
+    }
+
+    /**
+     * Gets the number of games that one bot won against another on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the winning bot
+     * @param against the index of the losing bot
+     * @return the number of games won
+     */
+    public int getWins(Size size, int bot, int against) {
+        return this.wins[indexOf(size)][bot][against];
+    }
+
+    /**
+     * Gets the number of games that a bot won against every other bot on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the number of games won
+     */
+    public int getWins(Size size, int bot) {
+        return Arrays.stream(this.wins[indexOf(size)][bot]).sum();
+    }
+
+    /**
+     * Gets the number of games that a bot lost against every other bot on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the number of games lost
+     */
+    public int getLosses(Size size, int bot) {
+        int[][] size_wins = this.wins[indexOf(size)];
+        int losses = 0;
+        for ( int[] row : size_wins ) losses += row[bot];
+        return losses;
+    }
+
+    /**
+     * Gets the number of games that a bot drew against every other bot on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the number of games drawn
+     */
+    public int getDraws(Size size, int bot) {
+        return Arrays.stream(this.draws[indexOf(size)][bot]).sum();
+    }
+
+    /**
+     * Gets the number of games that a bot played on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the number of games played
+     */
+    public int getNumGames(Size size, int bot) {
+        return getWins(size, bot) + getLosses(size, bot) + getDraws(size, bot);
+    }
+
+    /**
+     * Returns the fraction of its games that a bot won on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the win rate, from 0 to 1; 0 if the bot played no games
+     */
+    public double getWinRate(Size size, int bot) {
+        int num_games = getNumGames(size, bot);
+        return num_games == 0 ? 0 : (double) getWins(size, bot) / num_games;
+    }
+
+    /**
+     * Returns the mean number of turns, of both players, of the games that a bot won on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the mean turns to win; 0 if the bot won no games
+     */
+    public double getMeanTurnsToWin(Size size, int bot) {
+        int num_won = getWins(size, bot);
+        return num_won == 0 ? 0 : (double) this.turns_to_win[indexOf(size)][bot] / num_won;
+    }
+
+    /**
+     * Gets the histogram of how long a bot took to choose its moves on the given size.
+     *
+     * @param size the size of the games
+     * @param bot the index of the bot
+     * @return the latencies of the bot's moves
+     */
+    public LatencyHistogram getLatencies(Size size, int bot) {
+        return this.latencies[indexOf(size)][bot];
+    }
+
+    /**
+     * Returns the index of the given size in this report.
+     *
+     * @param size the size of the games
+     * @return the index of the size
+     * @throws IllegalArgumentException if no games of that size were played
+     */
+    private int indexOf(Size size) {
+        for (int s = 0; s < this.sizes.length; s++) {
+            if ( this.sizes[s] == size ) return s;
+        }
+        throw new IllegalArgumentException("No games of size " + size + " were played");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for ( Size size : this.sizes ) {
+            out.append(size).append('\n');
+            out.append(String.format("  %-16s %7s %7s %7s %9s %10s %11s %11s%n",
+                    "bot", "wins", "losses", "draws", "win rate", "turns/win", "p50 ns", "p99 ns"));
+            for (int b = 0; b < this.names.length; b++) {
+                LatencyHistogram moves = getLatencies(size, b);
+                out.append(String.format("  %-16s %7d %7d %7d %9.3f %10.1f %11d %11d%n",
+                        this.names[b], getWins(size, b), getLosses(size, b), getDraws(size, b), getWinRate(size, b),
+                        getMeanTurnsToWin(size, b), moves.getPercentile(50), moves.getPercentile(99)));
+            }
+        }
+        return out.toString();
+    }
+}
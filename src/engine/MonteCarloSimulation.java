@@ -0,0 +1,203 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.GamePool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class plays a large number of games between RandomBots in parallel, and merges their statistics.
+ * <p>
+ *     The games are split into batches on a ForkJoinPool. Each batch is played by its own worker, which has its own
+ *     GameRunner, bots, and statistics, and reuses them for every game of the batch. The games themselves come from
+ *     a GamePool that every worker shares, so a simulation only creates about as many games as it has threads. The
+ *     bots of every game are seeded from the master seed and the index of the game, so the merged statistics are the
+ *     same whatever the number of threads or the order that batches run in.
+ * </p>
+ *
+ * @see SimulationStats
+ * @see GameRunner
+ * @see RandomBot
+ * @see GamePool
+ */
+public class MonteCarloSimulation {
+
+    /**
+     * The largest number of games that one worker plays without splitting its batch.
+     */
+    private static final int GAMES_PER_BATCH = 256;
+
+    /**
+     * The size of the games that are played.
+     */
+    private final Size size;
+
+    /**
+     * The pool that the games are played on.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The pool that every worker takes its games from and gives them back to.
+     */
+    private final GamePool game_pool;
+
+    /**
+     * Class constructor specifying the size and grid storage of the games, and the number of threads to play on.
+     *
+     * @param size the size of the games that are played
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param parallelism the number of threads to play games on
+     */
+    public MonteCarloSimulation(Size size, GridStorage grid_storage, int parallelism) {
+        this.size = size;
+        this.pool = new ForkJoinPool(parallelism);
+        this.game_pool = new GamePool(grid_storage, Math.max(parallelism, GamePool.DEFAULT_MAX_IDLE));
+    }
+
+    /**
+     * Class constructor specifying the size and grid storage of the games, playing on one thread per processor.
+     *
+     * @param size the size of the games that are played
+     * @param grid_storage the way that the grids of the games store their cells
+     */
+    public MonteCarloSimulation(Size size, GridStorage grid_storage) {
+        this(size, grid_storage, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays the given number of games, and returns their merged statistics.
+     *
+     * @param num_games the number of games to play
+     * @param master_seed the seed that every game's seeds are made from
+     * @return the statistics of all of the games
+     */
+    public SimulationStats run(int num_games, long master_seed) {
+        return this.pool.invoke(new Batch(0, num_games, master_seed));
+    }
+
+    /**
+     * Stops the threads of this simulation once the games that are running have finished.
+     */
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Returns the seed of one player of one game, from the master seed.
+     * <p>
+     *     This mixes the bits of the master seed, the game index, and the player index, the same way as a SplitMix64
+     *     generator, so that neighbouring games get unrelated seeds.
+     * </p>
+     *
+     * @param master_seed the master seed of the simulation
+     * @param game_index the index of the game
+     * @param player_index the index of the player
+     * @return the seed for that player's bot in that game
+     */
+    static long seedFor(long master_seed, long game_index, int player_index) {
+        long z = master_seed + (2 * game_index + player_index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * This class defines a range of games, which is split in half until it is small enough for one worker.
+     */
+    private class Batch extends RecursiveTask<SimulationStats> {
+
+        /**
+         * The version of this class, since tasks are Serializable; batches are never serialized.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first game of this batch.
+         */
+        private final int first_game;
+
+        /**
+         * The index after the last game of this batch.
+         */
+        private final int end_game;
+
+        /**
+         * The master seed of the simulation.
+         */
+        private final long master_seed;
+
+        /**
+         * Class constructor specifying the range of games of this batch.
+         *
+         * @param first_game the index of the first game
+         * @param end_game the index after the last game
+         * @param master_seed the master seed of the simulation
+         */
+        Batch(int first_game, int end_game, long master_seed) {
+            this.first_game = first_game;
+            this.end_game = end_game;
+            this.master_seed = master_seed;
+        }
+
+        /**
+         * Plays the games of this batch, or splits it in half and merges the statistics of each half.
+         *
+         * @return the statistics of the games of this batch
+         */
+        @Override
+        protected SimulationStats compute() {
+
+            // Split large batches in half, and play one half while the other is available to be stolen
+            if ( this.end_game - this.first_game > GAMES_PER_BATCH ) {
+                int middle = (this.first_game + this.end_game) >>> 1;
+                Batch second_half = new Batch(middle, this.end_game, this.master_seed);
+                second_half.fork();
+                SimulationStats stats = new Batch(this.first_game, middle, this.master_seed).compute();
+                stats.merge(second_half.join());
+                return stats;
+            }
+
+            // Otherwise, set up this worker's runner, bots, and statistics, and reuse them for every game
+            SimulationStats stats = new SimulationStats();
+            GameRunner runner = new GameRunner(size, game_pool, 10000);
+            runner.setAttackListener(stats);
+            RandomBot bot_1 = new RandomBot(0);
+            RandomBot bot_2 = new RandomBot(0);
+
+            for (int game = this.first_game; game < this.end_game; game++) {
+                bot_1.setSeed(seedFor(this.master_seed, game, 0));
+                bot_2.setSeed(seedFor(this.master_seed, game, 1));
+                GameEngine engine = runner.setUpGame(bot_1, bot_2);
+                runner.playGame(engine, bot_1, bot_2);
+                stats.recordGame(engine);
+                runner.finishGame(engine);
+            }
+
+            return stats;
+        }
+    }
+
+    /**
+     * Plays games in parallel and prints their statistics and how fast they were played.
+     *
+     * @param args the size, number of games, master seed, and number of threads, each optional
+     */
+    public static void main(String[] args) {
+        Size size = args.length > 0 ? Size.valueOf(args[0]) : Size.MEDIUM;
+        int num_games = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        long master_seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        int parallelism = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        MonteCarloSimulation simulation = new MonteCarloSimulation(size, GridStorage.LOCATIONS, parallelism);
+        long start = System.nanoTime();
+        SimulationStats stats = simulation.run(num_games, master_seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        simulation.shutdown();
+
+        System.out.println(stats);
+        System.out.printf("%.3f s on %d threads (%.0f games/s)%n", seconds, parallelism, num_games / seconds);
+    }
+}
@@ -0,0 +1,518 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.placement.RandomFleetPlacer;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.Weapon;
+import edu.colorado.objectgrind.weapons.attack_patterns.PatternStamp;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+import edu.colorado.objectgrind.weapons.utility_weapons.UtilityWeapon;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * This class defines a bot that fires where the opponent's remaining ships are most likely to be.
+ * <p>
+ *     The bot keeps a heatmap of the opponent's grid: for every cell, the number of legal placements of the
+ *     opponent's unsunk ships that cover it. Every candidate placement has a weight, which is 1 to start with. A MISS
+ *     only makes the placements through a cell less likely, since the captain's quarters of a ship shows up as a
+ *     MISS the first time that it is hit, while FREE from a sonar pulse and the cells of a sunk ship rule them out.
+ *     HIT and OCCUPIED cells of ships that have not sunk boost the placements that cover them when a shot is chosen.
+ * </p>
+ * <p>
+ *     The heatmap is updated as results come in, by going through only the placements that cover the cells in the
+ *     results, so a move costs the same at the end of a game as at the start. Each move, every weapon in the arsenal
+ *     is scored at every target by the sum of the heatmap over the cells that it would attack, or, for a utility
+ *     weapon, over the hidden cells that it would reveal. The best weapon and target is chosen. Weapons after the first
+ *     are skipped once the move's time budget is used up.
+ * </p>
+ * <p>
+ *     The bot only learns where the opponent's ships are from the results of its attacks and the cells of sunk ships,
+ *     through its view of the game. It assumes that the opponent's fleet does not move.
+ * </p>
+ *
+ * @see Bot
+ * @see BotView
+ * @see PlacementEnumerator
+ */
+public class ProbabilityBot implements Bot {
+
+    /**
+     * The default time budget for choosing a move, in nanoseconds.
+     */
+    public static final long DEFAULT_MOVE_BUDGET_NANOS = 1_000_000L;
+
+    /**
+     * The factor that the weight of a placement is multiplied by for each MISS that it covers.
+     */
+    private static final double MISS_FACTOR = 0.1;
+
+    /**
+     * The factor that the weight of a placement is multiplied by, for each HIT or OCCUPIED cell that it covers, when
+     * choosing a shot.
+     */
+    private static final double HIT_BOOST = 50.0;
+
+    /**
+     * The share of the heatmap of a hidden cell that revealing it with a utility weapon is worth.
+     */
+    private static final double REVEAL_FACTOR = 0.5;
+
+    /**
+     * The random number generator that places this bot's fleet and breaks ties between targets.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The time budget for choosing a move, in nanoseconds.
+     */
+    private final long move_budget_nanos;
+
+    /**
+     * The placer of the last fleet that this bot placed, which is reused for fleets of the same kinds of ships.
+     */
+    private RandomFleetPlacer placer;
+
+    /**
+     * The view of the game that the heatmap is for; <code>null</code> until the first move of a game.
+     */
+    private BotView view;
+
+    /**
+     * The number of rows and columns of the opponent's grid.
+     */
+    private int size;
+
+    /**
+     * The number of layers of the opponent's grid.
+     */
+    private int num_layers;
+
+    /**
+     * The enumerator of each kind of ship in the opponent's fleet.
+     */
+    private PlacementEnumerator[] kinds;
+
+    /**
+     * The number of ships of each kind that have not sunk.
+     */
+    private int[] remaining;
+
+    /**
+     * The weight of every candidate placement of each kind of ship.
+     */
+    private double[][] weights;
+
+    /**
+     * The heatmap: for every cell, the sum of the weights of the placements that cover it, for every unsunk ship.
+     */
+    private double[] heat;
+
+    /**
+     * The value of attacking every cell on the current move.
+     */
+    private double[] score;
+
+    /**
+     * What this bot has seen at every cell of the opponent's grid.
+     */
+    private LocationStatus[] known;
+
+    /**
+     * Whether or not every cell of the opponent's grid is part of a sunk ship.
+     */
+    private boolean[] sunk_cells;
+
+    /**
+     * The HIT and OCCUPIED cells of ships that have not sunk. Only the first num_open_hits are used.
+     */
+    private int[] open_hits;
+
+    /**
+     * The number of HIT and OCCUPIED cells of ships that have not sunk.
+     */
+    private int num_open_hits;
+
+    /**
+     * The index of the weapon chosen for the current move.
+     */
+    private int chosen_weapon;
+
+    /**
+     * The packed coordinate chosen for the current move.
+     */
+    private int chosen_shot;
+
+    /**
+     * Whether or not a move has been chosen by chooseWeapon, and not yet taken by chooseShot.
+     */
+    private boolean has_choice;
+
+    /**
+     * Class constructor specifying the seed, with the default time budget for each move.
+     *
+     * @param seed the seed for every random choice this bot makes
+     */
+    public ProbabilityBot(long seed) {
+        this(seed, DEFAULT_MOVE_BUDGET_NANOS);
+    }
+
+    /**
+     * Class constructor specifying the seed and the time budget for each move.
+     *
+     * @param seed the seed for every random choice this bot makes
+     * @param move_budget_nanos the time that choosing a move should take at most, in nanoseconds
+     */
+    public ProbabilityBot(long seed, long move_budget_nanos) {
+        this.random = new SplittableRandom(seed);
+        this.move_budget_nanos = move_budget_nanos;
+        this.placer = null;
+        this.view = null;
+    }
+
+    /**
+     * Places every ship of the given player's fleet at a random legal position, and forgets the last game.
+     *
+     * @param player the player whose fleet will be placed
+     * @see RandomFleetPlacer#nextPlacements()
+     */
+    @Override
+    public void placeFleet(Player player) {
+
+        Grid grid = player.getGrid();
+        Ship[] ships = new Ship[player.getSizeOfFleet()];
+        for (int i = 0; i < ships.length; i++) ships[i] = player.getShipAtIndex(i);
+
+        // Reuse the placer if the fleet is of the same kind
+        if ( (this.placer == null) || !this.placer.canPlace(ships, grid) ) {
+            this.placer = new RandomFleetPlacer(ships, grid.getSize(), grid.getNumLayers(), this.random.split());
+        }
+
+        int[] placements = this.placer.nextPlacements();
+        for (int i = 0; i < placements.length; i++) {
+            int head = PlacementEnumerator.headOf(placements[i]);
+            player.playerPlaceShip(i, head, this.placer.getEnumerator(i).tailOf(placements[i]));
+        }
+
+        // Start a new heatmap on the first move of the new game
+        this.view = null;
+        this.has_choice = false;
+    }
+
+    /**
+     * Chooses the weapon and target with the highest expected value, and returns the weapon.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the index of the chosen weapon in the current player's arsenal
+     */
+    @Override
+    public int chooseWeapon(BotView view) {
+        chooseMove(view);
+        this.has_choice = true;
+        return this.chosen_weapon;
+    }
+
+    /**
+     * Returns the target chosen along with the weapon, choosing a move first if chooseWeapon was not called.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the packed coordinate to attack
+     */
+    @Override
+    public int chooseShot(BotView view) {
+        if ( !this.has_choice ) chooseMove(view);
+        this.has_choice = false;
+        return this.chosen_shot;
+    }
+
+    /**
+     * Updates the heatmap with the results of this bot's last attack.
+     *
+     * @param results the results of the attack
+     */
+    @Override
+    public void observeResults(List<AttackResult> results) {
+        if ( this.view == null ) return;
+
+        for ( AttackResult result : results ) {
+            int bit = this.kinds[0].bitOf(result.getCoordinate());
+
+            switch ( result.getOutcome() ) {
+                case HIT:
+                case CAPTAINS_QUARTERS_DESTROYED:
+                    if ( !this.sunk_cells[bit] ) markOpenHit(bit, LocationStatus.HIT);
+                    break;
+
+                case OCCUPIED:
+                    if ( !this.sunk_cells[bit] && this.known[bit] != LocationStatus.HIT ) markOpenHit(bit, LocationStatus.OCCUPIED);
+                    break;
+
+                // The attacker cannot tell a hit on the captain's quarters from a MISS
+                case MISS:
+                case CAPTAINS_QUARTERS_HIT:
+                    if ( this.known[bit] != LocationStatus.HIT ) this.known[bit] = LocationStatus.MISS;
+                    scaleCell(bit, MISS_FACTOR);
+                    break;
+
+                case FREE:
+                    this.known[bit] = LocationStatus.FREE;
+                    scaleCell(bit, 0.0);
+                    break;
+
+                case SUNK:
+                    sinkShip(result.getShip());
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the heatmap value of the cell with the given occupancy bit.
+     *
+     * @param bit the occupancy bit of the cell
+     * @return the sum of the weights of the placements that cover the cell, for every unsunk ship
+     */
+    double getHeat(int bit) {
+        return this.heat[bit];
+    }
+
+    /**
+     * Works out the heatmap from scratch, from the current weights, for checking the incremental updates.
+     *
+     * @return a new heatmap
+     */
+    double[] recomputeHeat() {
+        double[] fresh = new double[this.heat.length];
+        for (int k = 0; k < this.kinds.length; k++) addKind(fresh, k, this.remaining[k]);
+        return fresh;
+    }
+
+    /**
+     * Chooses the move for the current turn, starting a new heatmap if the view is not the one it is for.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     */
+    private void chooseMove(BotView view) {
+
+        if ( view != this.view ) startHeatmap(view);
+        computeScores();
+
+        Player player = view.getPlayer();
+        int num_cells = this.size * this.size;
+        int offset = this.random.nextInt(num_cells);
+        long start = System.nanoTime();
+
+        double best_value = -1.0;
+        this.chosen_weapon = 0;
+        this.chosen_shot = Coordinate.pack(this.num_layers - 1, 0, 0);
+
+        for (int w = 0; w < player.getSizeOfArsenal(); w++) {
+
+            // Always score the first weapon, and the rest while there is time
+            if ( (w > 0) && (System.nanoTime() - start > this.move_budget_nanos) ) break;
+
+            Weapon weapon = player.getWeaponAtIndex(w);
+            boolean reveals = weapon instanceof UtilityWeapon;
+            PatternStamp stamp = weapon.getStamp(this.size);
+
+            // Go through the targets from a random offset, so that ties are broken at random
+            for (int t = 0; t < num_cells; t++) {
+                int target = (t + offset) % num_cells;
+                int row = target / this.size;
+                int col = target % this.size;
+
+                double value = 0.0;
+                for (int layer = 0; layer < this.num_layers; layer++) {
+                    if ( !weapon.attacksLayer(layer) ) continue;
+
+                    int layer_start = layer * num_cells;
+                    for (int i = 0; i < stamp.getNumCells(row, col); i++) {
+                        int cell = stamp.getCell(row, col, i);
+                        int bit = layer_start + Coordinate.rowOf(cell) * this.size + Coordinate.columnOf(cell);
+                        if ( !reveals ) value += this.score[bit];
+                        else if ( this.known[bit] == LocationStatus.HIDDEN ) value += REVEAL_FACTOR * this.score[bit];
+                    }
+                }
+
+                if ( value > best_value ) {
+                    best_value = value;
+                    this.chosen_weapon = w;
+                    this.chosen_shot = Coordinate.pack(this.num_layers - 1, row, col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a new heatmap for the game of the given view, with every candidate placement of the opponent's ships
+     * equally likely.
+     *
+     * @param view this bot's view of the game
+     */
+    private void startHeatmap(BotView view) {
+
+        this.view = view;
+        this.size = view.getGridSize();
+        this.num_layers = view.getNumLayers();
+
+        // Group the opponent's ships by kind
+        PlacementEnumerator[] kinds = new PlacementEnumerator[view.getOpponentFleetSize()];
+        int[] remaining = new int[kinds.length];
+        int num_kinds = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            PlacementEnumerator kind = PlacementEnumerator.forShip(view.getOpponentShip(i), this.size, this.num_layers);
+            int k = 0;
+            while ( (k < num_kinds) && (kinds[k] != kind) ) k++;
+            if ( k == num_kinds ) kinds[num_kinds++] = kind;
+            remaining[k]++;
+        }
+        this.kinds = Arrays.copyOf(kinds, num_kinds);
+        this.remaining = Arrays.copyOf(remaining, num_kinds);
+
+        this.weights = new double[num_kinds][];
+        for (int k = 0; k < num_kinds; k++) {
+            this.weights[k] = new double[this.kinds[k].getNumCandidates()];
+            Arrays.fill(this.weights[k], 1.0);
+        }
+
+        int num_bits = this.num_layers * this.size * this.size;
+        this.heat = new double[num_bits];
+        for (int k = 0; k < num_kinds; k++) addKind(this.heat, k, this.remaining[k]);
+
+        this.score = new double[num_bits];
+        this.known = new LocationStatus[num_bits];
+        Arrays.fill(this.known, LocationStatus.HIDDEN);
+        this.sunk_cells = new boolean[num_bits];
+        this.open_hits = new int[num_bits];
+        this.num_open_hits = 0;
+    }
+
+    /**
+     * Adds the weights of every placement of the given kind of ship to the given heatmap, some number of times.
+     *
+     * @param map the heatmap to add to
+     * @param k the index of the kind of ship
+     * @param times the number of times to add each weight; negative to take them away
+     */
+    private void addKind(double[] map, int k, int times) {
+        PlacementEnumerator kind = this.kinds[k];
+        double[] kind_weights = this.weights[k];
+        for (int c = 0; c < kind_weights.length; c++) {
+            double w = kind_weights[c] * times;
+            if ( w == 0.0 ) continue;
+            for (int j = 0; j < kind.getCellsPerPlacement(); j++) map[kind.getCellBit(c, j)] += w;
+        }
+    }
+
+    /**
+     * Multiplies the weight of every placement that covers the given cell by the given factor, and updates the
+     * heatmap by the change.
+     *
+     * @param bit the occupancy bit of the cell
+     * @param factor the factor to multiply by; 0 to rule the placements out
+     */
+    private void scaleCell(int bit, double factor) {
+        for (int k = 0; k < this.kinds.length; k++) {
+            PlacementEnumerator kind = this.kinds[k];
+            double[] kind_weights = this.weights[k];
+
+            for (int i = 0; i < kind.getNumCovering(bit); i++) {
+                int c = kind.getCovering(bit, i);
+                double w = kind_weights[c];
+                if ( w == 0.0 ) continue;
+
+                kind_weights[c] = w * factor;
+                double change = (w * factor - w) * this.remaining[k];
+                if ( change == 0.0 ) continue;
+                for (int j = 0; j < kind.getCellsPerPlacement(); j++) this.heat[kind.getCellBit(c, j)] += change;
+            }
+        }
+    }
+
+    /**
+     * Records a HIT or OCCUPIED cell of a ship that has not sunk.
+     *
+     * @param bit the occupancy bit of the cell
+     * @param status what was seen at the cell
+     */
+    private void markOpenHit(int bit, LocationStatus status) {
+        if ( (this.known[bit] != LocationStatus.HIT) & (this.known[bit] != LocationStatus.OCCUPIED) ) {
+            this.open_hits[this.num_open_hits++] = bit;
+        }
+        this.known[bit] = status;
+    }
+
+    /**
+     * Takes the given sunk ship out of the heatmap, and rules out every placement through the cells it was at.
+     *
+     * @param ship the ship that sunk
+     * @see BotView#getSunkShipCoordinates(Ship)
+     */
+    private void sinkShip(Ship ship) {
+
+        // Take one ship of its kind away
+        PlacementEnumerator kind = PlacementEnumerator.forShip(ship, this.size, this.num_layers);
+        for (int k = 0; k < this.kinds.length; k++) {
+            if ( (this.kinds[k] == kind) && (this.remaining[k] > 0) ) {
+                addKind(this.heat, k, -1);
+                this.remaining[k]--;
+                break;
+            }
+        }
+
+        // The cells of a sunk ship are shown to both players, and no other ship can be at them
+        for ( Coordinate coord : this.view.getSunkShipCoordinates(ship) ) {
+            int bit = kind.bitOf(coord.toPacked());
+            this.sunk_cells[bit] = true;
+            this.known[bit] = LocationStatus.HIT;
+            scaleCell(bit, 0.0);
+        }
+
+        // The cells of the ship are no longer open hits
+        int kept = 0;
+        for (int i = 0; i < this.num_open_hits; i++) {
+            if ( !this.sunk_cells[this.open_hits[i]] ) this.open_hits[kept++] = this.open_hits[i];
+        }
+        this.num_open_hits = kept;
+    }
+
+    /**
+     * Works out the value of attacking every cell on the current move: the heatmap, plus the placements that cover
+     * open hits, with nothing for cells that an attack cannot learn anything new at.
+     */
+    private void computeScores() {
+
+        System.arraycopy(this.heat, 0, this.score, 0, this.heat.length);
+
+        // Boost the placements that would explain the open hits
+        for (int h = 0; h < this.num_open_hits; h++) {
+            int hit_bit = this.open_hits[h];
+            for (int k = 0; k < this.kinds.length; k++) {
+                if ( this.remaining[k] == 0 ) continue;
+                PlacementEnumerator kind = this.kinds[k];
+
+                for (int i = 0; i < kind.getNumCovering(hit_bit); i++) {
+                    int c = kind.getCovering(hit_bit, i);
+                    double boost = HIT_BOOST * this.weights[k][c] * this.remaining[k];
+                    if ( boost == 0.0 ) continue;
+                    for (int j = 0; j < kind.getCellsPerPlacement(); j++) this.score[kind.getCellBit(c, j)] += boost;
+                }
+            }
+        }
+
+        // Cells that are already HIT, or known to be empty, are not worth attacking
+        for (int bit = 0; bit < this.score.length; bit++) {
+            LocationStatus status = this.known[bit];
+            if ( (status == LocationStatus.HIT) | (status == LocationStatus.FREE) ) this.score[bit] = 0.0;
+        }
+    }
+}
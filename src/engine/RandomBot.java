@@ -0,0 +1,141 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.placement.RandomFleetPlacer;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * This class defines a bot that places its ships and fires at random.
+ * <p>
+ *     The fleet is placed by a RandomFleetPlacer, which picks from the legal placements of each ship.
+ * </p>
+ * <p>
+ *     Shots go through every row and column of the opponent's grid in a random order, and then start over in a new
+ *     random order, so no cell is attacked twice before every cell has been attacked once. The weapon is picked at
+ *     random from the bot's arsenal on every turn. The same seed always gives the same game.
+ * </p>
+ *
+ * @see Bot
+ * @see RandomFleetPlacer
+ */
+public class RandomBot implements Bot {
+
+    /**
+     * The random number generator that this bot uses for every choice.
+     */
+    private final Random random;
+
+    /**
+     * The placer of the last fleet that this bot placed, which is reused for fleets of the same kinds of ships.
+     */
+    private RandomFleetPlacer placer;
+
+    /**
+     * The cells left to fire at in the current round, as packed coordinates. Only the first num_shots_left are used.
+     */
+    private int[] shots;
+
+    /**
+     * The number of cells left to fire at in the current round.
+     */
+    private int num_shots_left;
+
+    /**
+     * Class constructor specifying the seed of this bot's random number generator.
+     *
+     * @param seed the seed for every random choice this bot makes
+     */
+    public RandomBot(long seed) {
+        this.random = new Random(seed);
+        this.shots = new int[0];
+        this.num_shots_left = 0;
+        this.placer = null;
+    }
+
+    /**
+     * Sets the seed of this bot's random number generator, so that a bot can be reused for another seeded game.
+     *
+     * @param seed the seed for every random choice this bot makes from now on
+     */
+    public void setSeed(long seed) {
+        this.random.setSeed(seed);
+        this.num_shots_left = 0;
+    }
+
+    /**
+     * Places every ship of the given player's fleet at a random legal position, and starts a new round of shots.
+     *
+     * @param player the player whose fleet will be placed
+     * @throws IllegalStateException if the fleet cannot be placed
+     * @see RandomFleetPlacer#nextPlacements()
+     * @see Player#playerPlaceShip(int, int, int)
+     */
+    @Override
+    public void placeFleet(Player player) {
+
+        Grid grid = player.getGrid();
+        Ship[] ships = new Ship[player.getSizeOfFleet()];
+        for (int i = 0; i < ships.length; i++) ships[i] = player.getShipAtIndex(i);
+
+        // Pick the placements from this bot's seeded choices, reusing the placer if the fleet is of the same kind
+        SplittableRandom placement_random = new SplittableRandom(this.random.nextLong());
+        if ( (this.placer == null) || !this.placer.canPlace(ships, grid) ) {
+            this.placer = new RandomFleetPlacer(ships, grid.getSize(), grid.getNumLayers(), placement_random);
+        }
+        else {
+            this.placer.setRandom(placement_random);
+        }
+
+        int[] placements = this.placer.nextPlacements();
+        for (int i = 0; i < placements.length; i++) {
+            int head = PlacementEnumerator.headOf(placements[i]);
+            player.playerPlaceShip(i, head, this.placer.getEnumerator(i).tailOf(placements[i]));
+        }
+
+        // Start firing from the beginning for the new game
+        this.num_shots_left = 0;
+    }
+
+    /**
+     * Picks a random weapon from the current player's arsenal.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return a random index into the current player's arsenal; 0 if the arsenal is empty
+     */
+    @Override
+    public int chooseWeapon(BotView view) {
+        int num_weapons = view.getPlayer().getSizeOfArsenal();
+        return num_weapons == 0 ? 0 : this.random.nextInt(num_weapons);
+    }
+
+    /**
+     * Picks the next cell of the current round of shots, starting a new round if the last one is finished.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the packed coordinate to attack
+     */
+    @Override
+    public int chooseShot(BotView view) {
+
+        // Start a new round if every cell has been fired at
+        if ( this.num_shots_left == 0 ) {
+            int size = view.getGridSize();
+            if ( this.shots.length != size * size ) this.shots = new int[size * size];
+            for (int i = 0; i < this.shots.length; i++) this.shots[i] = Coordinate.pack(1, i / size, i % size);
+            this.num_shots_left = this.shots.length;
+        }
+
+        // Take a random cell out of the ones that are left
+        int pick = this.random.nextInt(this.num_shots_left);
+        int shot = this.shots[pick];
+        this.shots[pick] = this.shots[--this.num_shots_left];
+        this.shots[this.num_shots_left] = shot;
+        return shot;
+    }
+}
@@ -0,0 +1,122 @@
+package edu.colorado.objectgrind.engine;
+
+/**
+ * This class defines the totals of a batch of games played by a GameRunner.
+ *
+ * @see GameRunner#run(int, Bot, Bot)
+ */
+public class RunReport {
+
+    /**
+     * The number of games played.
+     */
+    private final int num_games;
+
+    /**
+     * The number of games won by each player, by index.
+     */
+    private final int[] wins;
+
+    /**
+     * The number of games that hit the turn limit without a winner.
+     */
+    private final int num_draws;
+
+    /**
+     * The number of turns taken over all of the games.
+     */
+    private final long total_turns;
+
+    /**
+     * The time it took to play all of the games, in nanoseconds.
+     */
+    private final long elapsed_nanos;
+
+    /**
+     * Class constructor specifying values for all of this report's attributes.
+     *
+     * @param num_games the number of games played
+     * @param wins the number of games won by each player
+     * @param num_draws the number of games without a winner
+     * @param total_turns the number of turns taken over all of the games
+     * @param elapsed_nanos the time it took to play all of the games, in nanoseconds
+     */
+    public RunReport(int num_games, int[] wins, int num_draws, long total_turns, long elapsed_nanos) {
+        this.num_games = num_games;
+        this.wins = wins.clone();
+        this.num_draws = num_draws;
+        this.total_turns = total_turns;
+        this.elapsed_nanos = elapsed_nanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the current value of num_games
+     */
+    public int getNumGames() {
+        return this.num_games;
+    }
+
+    /**
+     * Gets the number of games won by the player at the given index.
+     *
+     * @param player_index 0 for player 1, or 1 for player 2
+     * @return the number of games that player won
+     */
+    public int getWins(int player_index) {
+        return this.wins[player_index];
+    }
+
+    /**
+     * Gets the number of games that hit the turn limit without a winner.
+     *
+     * @return the current value of num_draws
+     */
+    public int getNumDraws() {
+        return this.num_draws;
+    }
+
+    /**
+     * Gets the number of turns taken over all of the games.
+     *
+     * @return the current value of total_turns
+     */
+    public long getTotalTurns() {
+        return this.total_turns;
+    }
+
+    /**
+     * Gets the time it took to play all of the games.
+     *
+     * @return the current value of elapsed_nanos
+     */
+    public long getElapsedNanos() {
+        return this.elapsed_nanos;
+    }
+
+    /**
+     * Returns the mean number of turns of a game.
+     *
+     * @return the total turns divided by the number of games; 0 if no games were played
+     */
+    public double getMeanTurns() {
+        return this.num_games == 0 ? 0 : (double) this.total_turns / this.num_games;
+    }
+
+    /**
+     * Returns the number of games played per second.
+     *
+     * @return the number of games divided by the elapsed time in seconds
+     */
+    public double getGamesPerSecond() {
+        return this.elapsed_nanos == 0 ? 0 : this.num_games * 1e9 / this.elapsed_nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games in %.3f s (%.0f games/s): player 1 won %d, player 2 won %d, %d draws, %.1f turns/game",
+                this.num_games, this.elapsed_nanos / 1e9, getGamesPerSecond(), this.wins[0], this.wins[1],
+                this.num_draws, getMeanTurns());
+    }
+}
@@ -0,0 +1,122 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+
+/**
+ * This class defines a bot that places its ships and fires according to a script.
+ * <p>
+ *     The placement script has a head and tail coordinate for every ship of the fleet, in order, and the shot script
+ *     has the coordinates to fire at, in order. Once every shot has been fired, the script starts over. Scripts are
+ *     written in the same string format as the rest of the game, e.g. "11A 11D, 13A 13C".
+ * </p>
+ *
+ * @see Bot
+ * @see CoordinateParser#parseAll(CharSequence, int[])
+ */
+public class ScriptedBot implements Bot {
+
+    /**
+     * The packed head and tail coordinates of every ship, one after the other.
+     */
+    private final int[] placements;
+
+    /**
+     * The packed coordinates to fire at.
+     */
+    private final int[] shots;
+
+    /**
+     * The weapon index used for every shot.
+     */
+    private final int weapon_index;
+
+    /**
+     * The index of the next shot in shots.
+     */
+    private int next_shot;
+
+    /**
+     * Class constructor specifying the placements and shots of this bot as packed coordinates.
+     *
+     * @param placements the head and tail of every ship, one after the other
+     * @param shots the coordinates to fire at, in order
+     * @param weapon_index the index of the weapon to use for every shot
+     * @throws IllegalArgumentException if there are no shots
+     */
+    public ScriptedBot(int[] placements, int[] shots, int weapon_index) {
+        if ( shots.length == 0 ) throw new IllegalArgumentException("A scripted bot needs at least one shot");
+        this.placements = placements;
+        this.shots = shots;
+        this.weapon_index = weapon_index;
+        this.next_shot = 0;
+    }
+
+    /**
+     * Class constructor specifying the placements and shots of this bot in string format.
+     *
+     * @param placements the head and tail of every ship, separated by whitespace, commas, or semicolons
+     * @param shots the coordinates to fire at, separated the same way
+     * @param weapon_index the index of the weapon to use for every shot
+     * @throws IllegalArgumentException if there are no shots
+     * @see #parse(CharSequence)
+     */
+    public ScriptedBot(CharSequence placements, CharSequence shots, int weapon_index) {
+        this(parse(placements), parse(shots), weapon_index);
+    }
+
+    /**
+     * Parses every coordinate in the given text.
+     *
+     * @param text the coordinates in string format
+     * @return the packed coordinates, with <code>CoordinateParser.INVALID</code> for any that are not valid
+     */
+    private static int[] parse(CharSequence text) {
+        int[] coords = new int[text.length()];
+        int count = CoordinateParser.parseAll(text, coords);
+        int[] parsed = new int[count];
+        System.arraycopy(coords, 0, parsed, 0, count);
+        return parsed;
+    }
+
+    /**
+     * Places the ships of the given player's fleet according to the script, and starts the shots over.
+     * <p>
+     *     A ship whose placement is missing or invalid is not placed.
+     * </p>
+     *
+     * @param player the player whose fleet will be placed
+     * @see Player#playerPlaceShip(int, int, int)
+     */
+    @Override
+    public void placeFleet(Player player) {
+        for (int i = 0; i < player.getSizeOfFleet() && 2 * i + 1 < this.placements.length; i++) {
+            player.playerPlaceShip(i, this.placements[2 * i], this.placements[2 * i + 1]);
+        }
+        this.next_shot = 0;
+    }
+
+    /**
+     * Returns the weapon index of this script.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the current value of weapon_index
+     */
+    @Override
+    public int chooseWeapon(BotView view) {
+        return this.weapon_index;
+    }
+
+    /**
+     * Returns the next shot of the script.
+     *
+     * @param view this bot's view of the game, in which it is this bot's turn
+     * @return the packed coordinate to attack
+     */
+    @Override
+    public int chooseShot(BotView view) {
+        int shot = this.shots[this.next_shot];
+        this.next_shot = (this.next_shot + 1) % this.shots.length;
+        return shot;
+    }
+}
@@ -0,0 +1,233 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.weapons.Weapon;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class defines the statistics of a batch of simulated games.
+ * <p>
+ *     The statistics listen to the attacks of every game they are attached to, and count the games themselves
+ *     through recordGame. Every worker of a MonteCarloSimulation keeps its own, and they are merged at the end. Every
+ *     value is a count, so the merged statistics do not depend on the order that games were played in.
+ * </p>
+ *
+ * @see MonteCarloSimulation
+ * @see AttackListener
+ */
+public class SimulationStats implements AttackListener {
+
+    /**
+     * The number of games played.
+     */
+    private long num_games;
+
+    /**
+     * The number of games won by each player, by index.
+     */
+    private final long[] wins;
+
+    /**
+     * The number of games without a winner.
+     */
+    private long num_draws;
+
+    /**
+     * The number of turns taken over all of the games that had a winner.
+     */
+    private long turns_to_win;
+
+    /**
+     * The fewest turns that a game with a winner took.
+     */
+    private int min_turns_to_win;
+
+    /**
+     * The most turns that a game with a winner took.
+     */
+    private int max_turns_to_win;
+
+    /**
+     * The number of times each weapon was used, by name.
+     */
+    private final Map<String, Long> weapon_uses;
+
+    /**
+     * The number of cells attacked by damage weapons.
+     */
+    private long cells_attacked;
+
+    /**
+     * The number of cells attacked by damage weapons that had a ship at them.
+     */
+    private long cells_hit;
+
+    /**
+     * Class constructor that starts out with no games.
+     */
+    public SimulationStats() {
+        this.wins = new long[2];
+        this.weapon_uses = new TreeMap<>();
+        this.min_turns_to_win = Integer.MAX_VALUE;
+        this.max_turns_to_win = 0;
+    }
+
+    /**
+     * Counts a use of the given weapon.
+     *
+     * @param weapon the weapon that is being used
+     * @param coord_of_attack the packed coordinate where the weapon is being used
+     */
+    @Override
+    public void onWeaponUsed(Weapon weapon, int coord_of_attack) {
+        this.weapon_uses.merge(weapon.getName(), 1L, Long::sum);
+    }
+
+    /**
+     * Counts a cell attacked by a damage weapon, and whether there was a ship at it.
+     *
+     * @param result the result of the attack
+     */
+    @Override
+    public void onAttackResult(AttackResult result) {
+        switch (result.getOutcome()) {
+            case HIT:
+            case CAPTAINS_QUARTERS_HIT:
+            case CAPTAINS_QUARTERS_DESTROYED:
+                this.cells_hit++;
+                this.cells_attacked++;
+                break;
+            case MISS:
+                this.cells_attacked++;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Counts a finished game.
+     *
+     * @param engine the engine of the game, which is over or hit the turn limit
+     */
+    public void recordGame(GameEngine engine) {
+        this.num_games++;
+        int winner = engine.getWinner();
+        if ( winner == GameEngine.NO_WINNER ) {
+            this.num_draws++;
+            return;
+        }
+
+        int turns = engine.getNumTurns();
+        this.wins[winner]++;
+        this.turns_to_win += turns;
+        this.min_turns_to_win = Math.min(this.min_turns_to_win, turns);
+        this.max_turns_to_win = Math.max(this.max_turns_to_win, turns);
+    }
+
+    /**
+     * Adds the counts of the given statistics to these statistics.
+     *
+     * @param other the statistics to add
+     */
+    public void merge(SimulationStats other) {
+        this.num_games += other.num_games;
+        this.wins[0] += other.wins[0];
+        this.wins[1] += other.wins[1];
+        this.num_draws += other.num_draws;
+        this.turns_to_win += other.turns_to_win;
+        this.min_turns_to_win = Math.min(this.min_turns_to_win, other.min_turns_to_win);
+        this.max_turns_to_win = Math.max(this.max_turns_to_win, other.max_turns_to_win);
+        for ( Map.Entry<String, Long> entry : other.weapon_uses.entrySet() ) {
+            this.weapon_uses.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        this.cells_attacked += other.cells_attacked;
+        this.cells_hit += other.cells_hit;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the current value of num_games
+     */
+    public long getNumGames() {
+        return this.num_games;
+    }
+
+    /**
+     * Gets the number of games won by the player at the given index.
+     *
+     * @param player_index 0 for player 1, or 1 for player 2
+     * @return the number of games that player won
+     */
+    public long getWins(int player_index) {
+        return this.wins[player_index];
+    }
+
+    /**
+     * Gets the number of games without a winner.
+     *
+     * @return the current value of num_draws
+     */
+    public long getNumDraws() {
+        return this.num_draws;
+    }
+
+    /**
+     * Returns the mean number of turns of a game that had a winner.
+     *
+     * @return the mean turns to win; 0 if no game had a winner
+     */
+    public double getMeanTurnsToWin() {
+        long num_won = this.wins[0] + this.wins[1];
+        return num_won == 0 ? 0 : (double) this.turns_to_win / num_won;
+    }
+
+    /**
+     * Gets the fewest turns that a game with a winner took.
+     *
+     * @return the current value of min_turns_to_win; 0 if no game had a winner
+     */
+    public int getMinTurnsToWin() {
+        return this.min_turns_to_win == Integer.MAX_VALUE ? 0 : this.min_turns_to_win;
+    }
+
+    /**
+     * Gets the most turns that a game with a winner took.
+     *
+     * @return the current value of max_turns_to_win
+     */
+    public int getMaxTurnsToWin() {
+        return this.max_turns_to_win;
+    }
+
+    /**
+     * Gets the number of times the weapon with the given name was used.
+     *
+     * @param weapon_name the name of the weapon
+     * @return the number of uses; 0 if it was never used
+     * @see Weapon#getName()
+     */
+    public long getWeaponUses(String weapon_name) {
+        return this.weapon_uses.getOrDefault(weapon_name, 0L);
+    }
+
+    /**
+     * Returns the fraction of cells attacked by damage weapons that had a ship at them.
+     *
+     * @return the hit rate, from 0 to 1
+     */
+    public double getHitRate() {
+        return this.cells_attacked == 0 ? 0 : (double) this.cells_hit / this.cells_attacked;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games: player 1 won %d, player 2 won %d, %d draws; %.1f turns to win (%d to %d); "
+                        + "hit rate %.3f; weapon uses %s", this.num_games, this.wins[0], this.wins[1], this.num_draws,
+                getMeanTurnsToWin(), getMinTurnsToWin(), this.max_turns_to_win, getHitRate(), this.weapon_uses);
+    }
+}
@@ -0,0 +1,293 @@
+package edu.colorado.objectgrind.engine;
+
+import java.util.Arrays;
+
+/**
+ * This class remembers values worked out for positions, keyed by their hash, so that a search or an analysis that
+ * comes across a position again can reuse its value instead of working it out again.
+ * <p>
+ *     The table has a fixed number of entries, in buckets of two, and a position can only be in the bucket its hash
+ *     picks. When a new position comes to a full bucket, one of the two is replaced: an entry stored before the
+ *     current generation goes first, and otherwise the one with the lower depth, i.e. the one that took less work
+ *     to find. A search calls nextGeneration when it starts, so entries of earlier searches make way for its own
+ *     without the table being cleared.
+ * </p>
+ * <p>
+ *     Keys are expected to be Zobrist hashes, such as those of Grid, whose bits are spread evenly; two positions
+ *     with the same key are taken to be the same. A table is not safe to share between threads.
+ * </p>
+ *
+ * @param <V> the type of the values stored for positions
+ * @see edu.colorado.objectgrind.grid.Grid#getHash()
+ */
+public class TranspositionTable<V> {
+
+    /**
+     * The number of entries in every bucket.
+     */
+    private static final int BUCKET_SIZE = 2;
+
+    /**
+     * The hash of the position of each entry.
+     */
+    private final long[] keys;
+
+    /**
+     * The value of each entry; <code>null</code> if the entry is empty.
+     */
+    private final Object[] values;
+
+    /**
+     * The depth that each entry was stored with.
+     */
+    private final int[] depths;
+
+    /**
+     * The generation that each entry was stored in.
+     */
+    private final int[] generations;
+
+    /**
+     * The number of buckets minus one, which masks a key down to its bucket.
+     */
+    private final int bucket_mask;
+
+    /**
+     * The current generation.
+     */
+    private int generation;
+
+    /**
+     * The number of entries that are not empty.
+     */
+    private int size;
+
+    /**
+     * The number of lookups that found a value.
+     */
+    private long num_hits;
+
+    /**
+     * The number of lookups that did not find a value.
+     */
+    private long num_misses;
+
+    /**
+     * The number of entries that were replaced by an entry for another position.
+     */
+    private long num_replacements;
+
+    /**
+     * Class constructor specifying the number of entries the table should hold.
+     *
+     * @param capacity the least number of entries; rounded up to a power of two, and to at least one bucket
+     * @throws IllegalArgumentException if the capacity is not positive, or is too big for an array
+     */
+    public TranspositionTable(int capacity) {
+        if ( (capacity <= 0) | (capacity > (1 << 30)) ) {
+            throw new IllegalArgumentException("A transposition table cannot hold " + capacity + " entries");
+        }
+
+        int num_entries = Math.max(BUCKET_SIZE, Integer.highestOneBit(capacity - 1) << 1);
+        this.keys = new long[num_entries];
+        this.values = new Object[num_entries];
+        this.depths = new int[num_entries];
+        this.generations = new int[num_entries];
+        this.bucket_mask = num_entries / BUCKET_SIZE - 1;
+        this.generation = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the value stored for the given position.
+     *
+     * @param key the hash of the position
+     * @return the value of the position; <code>null</code> if it is not in the table
+     */
+    public V get(long key) {
+        return get(key, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the value stored for the given position, if it was stored with at least the given depth.
+     * <p>
+     *     A search uses the depth to only reuse values that were worked out at least as far as it needs.
+     * </p>
+     *
+     * @param key the hash of the position
+     * @param min_depth the least depth that the value must have been stored with
+     * @return the value of the position; <code>null</code> if it is not in the table, or was stored with less depth
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key, int min_depth) {
+        int entry = find(key);
+        if ( (entry < 0) || (this.depths[entry] < min_depth) ) {
+            this.num_misses++;
+            return null;
+        }
+
+        this.num_hits++;
+        return (V) this.values[entry];
+    }
+
+    /**
+     * Returns the depth that the value of the given position was stored with.
+     *
+     * @param key the hash of the position
+     * @return the depth of the entry; -1 if the position is not in the table
+     */
+    public int getDepth(long key) {
+        int entry = find(key);
+        return (entry < 0) ? -1 : this.depths[entry];
+    }
+
+    /**
+     * Stores a value for the given position, with a depth of 0.
+     *
+     * @param key the hash of the position
+     * @param value the value of the position
+     * @see #put(long, Object, int)
+     */
+    public void put(long key, V value) {
+        put(key, value, 0);
+    }
+
+    /**
+     * Stores a value for the given position, replacing the value it had, or another entry of its bucket if the
+     * bucket is full.
+     *
+     * @param key the hash of the position
+     * @param value the value of the position
+     * @param depth how much work it took to find the value; entries with more depth are kept over those with less
+     * @throws IllegalArgumentException if the value is <code>null</code>
+     */
+    public void put(long key, V value, int depth) {
+        if ( value == null ) throw new IllegalArgumentException("A position cannot be stored without a value");
+
+        // Pick the entry of the bucket to store in: the same position, an empty entry, or the one to replace
+        int first = bucketOf(key);
+        int victim = -1;
+        for (int entry = first; entry < first + BUCKET_SIZE; entry++) {
+            if ( (this.values[entry] != null) && (this.keys[entry] == key) ) {
+                victim = entry;
+                break;
+            }
+            if ( (victim < 0) || isBetterVictim(entry, victim) ) victim = entry;
+        }
+
+        if ( this.values[victim] == null ) this.size++;
+        else if ( this.keys[victim] != key ) this.num_replacements++;
+
+        this.keys[victim] = key;
+        this.values[victim] = value;
+        this.depths[victim] = depth;
+        this.generations[victim] = this.generation;
+    }
+
+    /**
+     * Starts a new generation, so that entries stored before it are the first to be replaced.
+     */
+    public void nextGeneration() {
+        this.generation++;
+    }
+
+    /**
+     * Empties the table, and resets its counts of hits, misses and replacements.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.num_hits = 0;
+        this.num_misses = 0;
+        this.num_replacements = 0;
+    }
+
+    /**
+     * Returns the entry that holds the given position.
+     *
+     * @param key the hash of the position
+     * @return the index of the entry; -1 if the position is not in the table
+     */
+    private int find(long key) {
+        int first = bucketOf(key);
+        for (int entry = first; entry < first + BUCKET_SIZE; entry++) {
+            if ( (this.values[entry] != null) && (this.keys[entry] == key) ) return entry;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether or not the given entry should be replaced before the entry chosen so far.
+     * <p>
+     *     Empty entries are used first, then entries of earlier generations, then the entry with the least depth.
+     * </p>
+     *
+     * @param entry the entry to weigh
+     * @param victim the entry chosen so far
+     * @return <code>true</code> if the entry should be replaced instead of the victim; <code>false</code> otherwise
+     */
+    private boolean isBetterVictim(int entry, int victim) {
+        if ( this.values[victim] == null ) return false;
+        if ( this.values[entry] == null ) return true;
+
+        boolean entry_is_old = this.generations[entry] != this.generation;
+        boolean victim_is_old = this.generations[victim] != this.generation;
+        if ( entry_is_old != victim_is_old ) return entry_is_old;
+        return this.depths[entry] < this.depths[victim];
+    }
+
+    /**
+     * Returns the first entry of the bucket that the given position is in.
+     *
+     * @param key the hash of the position
+     * @return the index of the first entry of the bucket
+     */
+    private int bucketOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & this.bucket_mask) * BUCKET_SIZE;
+    }
+
+    /**
+     * Gets the number of entries the table holds at most.
+     *
+     * @return the length of values
+     */
+    public int getCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * Gets the number of positions in the table.
+     *
+     * @return the current value of size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of lookups that found a value.
+     *
+     * @return the current value of num_hits
+     */
+    public long getNumHits() {
+        return this.num_hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find a value.
+     *
+     * @return the current value of num_misses
+     */
+    public long getNumMisses() {
+        return this.num_misses;
+    }
+
+    /**
+     * Gets the number of entries that were replaced by an entry for another position.
+     *
+     * @return the current value of num_replacements
+     */
+    public long getNumReplacements() {
+        return this.num_replacements;
+    }
+}
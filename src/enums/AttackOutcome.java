@@ -0,0 +1,20 @@
+package edu.colorado.objectgrind.enums;
+
+/**
+ * Represents the different outcomes that an attack with a weapon can have.
+ * <p>
+ *     HIT, MISS, CAPTAINS_QUARTERS_HIT, CAPTAINS_QUARTERS_DESTROYED, FREE, and OCCUPIED are the outcome of a single
+ *     cell. SUNK follows the cell that sunk a ship, and SURRENDERED is the last outcome of an attack that sinks the
+ *     last ship of a fleet.
+ * </p>
+ */
+public enum AttackOutcome {
+    HIT,
+    MISS,
+    CAPTAINS_QUARTERS_HIT,
+    CAPTAINS_QUARTERS_DESTROYED,
+    FREE,
+    OCCUPIED,
+    SUNK,
+    SURRENDERED
+}
@@ -0,0 +1,19 @@
+package edu.colorado.objectgrind.enums;
+
+/**
+ * Represents the kinds of event that are written to the log of a game.
+ * <p>
+ *     GAME_STARTED is the first event of every game and GAME_ENDED its last, if it finished. SHIP_PLACED,
+ *     FLEET_MOVED, UNDONE, TURN_TAKEN, and TURN_SKIPPED are the actions of a player, in the order they happened.
+ *     The ordinal of each kind is written to the log, so new kinds are only ever added at the end.
+ * </p>
+ */
+public enum GameEventType {
+    GAME_STARTED,
+    SHIP_PLACED,
+    FLEET_MOVED,
+    UNDONE,
+    TURN_TAKEN,
+    GAME_ENDED,
+    TURN_SKIPPED
+}
@@ -0,0 +1,10 @@
+package edu.colorado.objectgrind.enums;
+
+/**
+ * Represents the different ways that a Grid can store its cells.
+ */
+public enum GridStorage {
+    LOCATIONS,
+    BITBOARDS,
+    FLEET_OFFSETS
+}
@@ -0,0 +1,81 @@
+package edu.colorado.objectgrind.enums;
+
+import edu.colorado.objectgrind.ships.ship_types.Battleship;
+import edu.colorado.objectgrind.ships.ship_types.Destroyer;
+import edu.colorado.objectgrind.ships.ship_types.Minesweeper;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.ships.ship_types.Submarine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Represents the types of ship that can be in a fleet, and how each one is created.
+ *
+ * @see Ship
+ */
+public enum ShipType {
+    BATTLESHIP("Battleship", Battleship::new),
+    DESTROYER("Destroyer", Destroyer::new),
+    MINESWEEPER("Minesweeper", Minesweeper::new),
+    SUBMARINE("Submarine", Submarine::new);
+
+    /**
+     * The types of ship, by their names.
+     */
+    private static final Map<String, ShipType> BY_NAME = new HashMap<>();
+
+    static {
+        for ( ShipType type : values() ) BY_NAME.put(type.name, type);
+    }
+
+    /**
+     * The name of this type of ship, as given to ShipFactory.createShip(String).
+     */
+    private final String name;
+
+    /**
+     * Creates a ship of this type.
+     */
+    private final Supplier<Ship> constructor;
+
+    /**
+     * Enum constructor specifying the name of this type of ship, and how to create it.
+     *
+     * @param name the name of this type of ship
+     * @param constructor creates a ship of this type
+     */
+    ShipType(String name, Supplier<Ship> constructor) {
+        this.name = name;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates a new ship of this type.
+     *
+     * @return a new ship at full health that is not placed
+     */
+    public Ship create() {
+        return this.constructor.get();
+    }
+
+    /**
+     * Gets the name of this type of ship.
+     *
+     * @return the current value of name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the type of ship with the given name.
+     *
+     * @param name the name of the type, e.g. "Battleship"
+     * @return the type with that name; <code>null</code> if there is none
+     */
+    public static ShipType fromName(String name) {
+        return BY_NAME.get(name);
+    }
+}
@@ -4,7 +4,30 @@ package edu.colorado.objectgrind.enums;
  * Represents the three game sizes that can be played.
  */
 public enum Size {
-    SMALL,
-    MEDIUM,
-    LARGE
+    SMALL(7),
+    MEDIUM(10),
+    LARGE(13);
+
+    /**
+     * The number of rows and columns of the grids of a game of this size.
+     */
+    private final int grid_size;
+
+    /**
+     * Enum constructor specifying the dimensions of the grids of a game of this size.
+     *
+     * @param grid_size the number of rows and columns of the grids
+     */
+    Size(int grid_size) {
+        this.grid_size = grid_size;
+    }
+
+    /**
+     * Gets the number of rows and columns of the grids of a game of this size.
+     *
+     * @return the current value of grid_size
+     */
+    public int getGridSize() {
+        return this.grid_size;
+    }
 }
@@ -0,0 +1,144 @@
+package edu.colorado.objectgrind.enums;
+
+import edu.colorado.objectgrind.weapons.Weapon;
+import edu.colorado.objectgrind.weapons.damage_weapons.Bomb;
+import edu.colorado.objectgrind.weapons.damage_weapons.HorizontalAirStrike;
+import edu.colorado.objectgrind.weapons.damage_weapons.SpaceLaser;
+import edu.colorado.objectgrind.weapons.damage_weapons.VerticalAirStrike;
+import edu.colorado.objectgrind.weapons.utility_weapons.SonarPulse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents the types of weapon that can be in an arsenal, and how each one is created for each size of game.
+ * <p>
+ *     Bombs and Space Lasers get a use for every cell of the grid; Sonar Pulses get one use per step of size, and
+ *     Air Strikes reach one more cell to either side per step of size. The number of sinks needed to unlock each type
+ *     is read once from a weapon of each size when this enum is loaded, so that an arsenal can check it without
+ *     creating a weapon.
+ * </p>
+ *
+ * @see Weapon
+ * @see Size
+ */
+public enum WeaponType {
+    BOMB("Bomb", WeaponType::numCells, Bomb::new),
+    SPACE_LASER("SpaceLaser", WeaponType::numCells, SpaceLaser::new),
+    SONAR_PULSE("SonarPulse", WeaponType::sizeStep, SonarPulse::new),
+    HORIZONTAL_AIR_STRIKE("HorizontalAirStrike", WeaponType::sizeStep, HorizontalAirStrike::new),
+    VERTICAL_AIR_STRIKE("VerticalAirStrike", WeaponType::sizeStep, VerticalAirStrike::new);
+
+    /**
+     * The types of weapon, by their names.
+     */
+    private static final Map<String, WeaponType> BY_NAME = new HashMap<>();
+
+    static {
+        for ( WeaponType type : values() ) {
+            BY_NAME.put(type.name, type);
+
+            // Read the number of sinks needed from a weapon of each size
+            for ( Size size : Size.values() ) {
+                type.sinks_needed[size.ordinal()] = type.create(size).getSinksNeeded();
+            }
+        }
+    }
+
+    /**
+     * The name of this type of weapon, as given to WeaponFactory.createWeapon(String).
+     */
+    private final String name;
+
+    /**
+     * The value given to the constructor of this type of weapon for each size: its uses, or the offset of its pattern.
+     */
+    private final int[] arguments;
+
+    /**
+     * Creates a weapon of this type from its argument.
+     */
+    private final IntFunction<Weapon> constructor;
+
+    /**
+     * The number of ships a player must sink to use this type of weapon, by size.
+     */
+    private final int[] sinks_needed;
+
+    /**
+     * Enum constructor specifying the name of this type of weapon, and how to create it for each size.
+     *
+     * @param name the name of this type of weapon
+     * @param argument_for_size gives the value passed to the weapon's constructor for a game of a size
+     * @param constructor creates a weapon of this type from that value
+     */
+    WeaponType(String name, ToIntFunction<Size> argument_for_size, IntFunction<Weapon> constructor) {
+        this.name = name;
+        this.constructor = constructor;
+        this.arguments = new int[Size.values().length];
+        for ( Size size : Size.values() ) this.arguments[size.ordinal()] = argument_for_size.applyAsInt(size);
+        this.sinks_needed = new int[Size.values().length];
+    }
+
+    /**
+     * Returns the number of cells of a layer of a grid of the given size.
+     *
+     * @param size the size of the game
+     * @return the number of rows times the number of columns
+     */
+    private static int numCells(Size size) {
+        return size.getGridSize() * size.getGridSize();
+    }
+
+    /**
+     * Returns how many steps up from the smallest size the given size is.
+     *
+     * @param size the size of the game
+     * @return 1 for a small game, 2 for a medium one, and 3 for a large one
+     */
+    private static int sizeStep(Size size) {
+        return size.ordinal() + 1;
+    }
+
+    /**
+     * Creates a new weapon of this type for a game of the given size.
+     *
+     * @param size the size of the game
+     * @return a new weapon with all of its uses
+     */
+    public Weapon create(Size size) {
+        return this.constructor.apply(this.arguments[size.ordinal()]);
+    }
+
+    /**
+     * Gets the number of ships a player must sink to use this type of weapon in a game of the given size.
+     *
+     * @param size the size of the game
+     * @return the sinks needed, without creating a weapon
+     * @see Weapon#getSinksNeeded()
+     */
+    public int getSinksNeeded(Size size) {
+        return this.sinks_needed[size.ordinal()];
+    }
+
+    /**
+     * Gets the name of this type of weapon.
+     *
+     * @return the current value of name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the type of weapon with the given name.
+     *
+     * @param name the name of the type, e.g. "SpaceLaser"
+     * @return the type with that name; <code>null</code> if there is none
+     */
+    public static WeaponType fromName(String name) {
+        return BY_NAME.get(name);
+    }
+}
@@ -1,6 +1,11 @@
 package edu.colorado.objectgrind.game;
 
+import edu.colorado.objectgrind.enums.Size;
 import edu.colorado.objectgrind.game.factories.GamePartsFactory;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.List;
 
 /**
  * This class defines the highest level of the battleship game.
@@ -23,6 +28,11 @@ public class Game {
      */
     private final Player player_2;
 
+    /**
+     * The size of this game.
+     */
+    private final Size size;
+
     /**
      * Class constructor specifying the GamePartsFactory that will be used to create the parts for this game.
      *
@@ -35,6 +45,27 @@ public class Game {
         // Create the two players, passing the game parts factory
         this.player_1 = new Player(factory_parts);
         this.player_2 = new Player(factory_parts);
+        this.size = factory_parts.getSize();
+    }
+
+    /**
+     * Returns the size of this game.
+     *
+     * @return the current value of size
+     */
+    public Size getSize() {
+        return this.size;
+    }
+
+    /**
+     * Brings this game back to how it started, in place, so that it can be played again without creating its parts.
+     *
+     * @see Player#reset()
+     * @see GamePool
+     */
+    public void reset() {
+        this.player_1.reset();
+        this.player_2.reset();
     }
 
     /**
@@ -55,16 +86,27 @@ public class Game {
         return player_2;
     }
 
+    /**
+     * Sets the listener that is told about the attacks of both players.
+     *
+     * @param listener the new listener; <code>AttackListener.NONE</code> to not be told about attacks
+     * @see Player#setAttackListener(AttackListener)
+     */
+    public void setAttackListener(AttackListener listener) {
+        this.player_1.setAttackListener(listener);
+        this.player_2.setAttackListener(listener);
+    }
+
     /**
      *  Player 1 takes a turn attacking player 2.
      *
      * @param idx_of_weapon index of the weapon that the player will use
      * @param coordinate coordinate where the player will attack, in string format
-     * @throws Exception if the Method used in takeTurn is invalid
+     * @return the results of the attack; empty if the turn was not taken
      * @see Player#takeTurn(Player, int, String)
      */
-    public void player1TakeTurn(int idx_of_weapon, String coordinate) throws Exception {
-        this.player_1.takeTurn( this.player_2, idx_of_weapon, coordinate);
+    public List<AttackResult> player1TakeTurn(int idx_of_weapon, String coordinate) {
+        return this.player_1.takeTurn( this.player_2, idx_of_weapon, coordinate);
     }
 
     /**
@@ -72,10 +114,10 @@ public class Game {
      *
      * @param idx_of_weapon index of the weapon that the player will use
      * @param coordinate coordinate where the player will attack, in string format
-     * @throws Exception if the Method used in takeTurn is invalid
+     * @return the results of the attack; empty if the turn was not taken
      * @see Player#takeTurn(Player, int, String)
      */
-    public void player2TakeTurn(int idx_of_weapon, String coordinate) throws Exception {
-        this.player_2.takeTurn( this.player_1, idx_of_weapon, coordinate);
+    public List<AttackResult> player2TakeTurn(int idx_of_weapon, String coordinate) {
+        return this.player_2.takeTurn( this.player_1, idx_of_weapon, coordinate);
     }
 }
@@ -0,0 +1,142 @@
+package edu.colorado.objectgrind.game;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * This class hands out games of each size, and takes them back to be reset and handed out again.
+ * <p>
+ *     Setting up a game creates two of everything: grids (with a Location for every cell), fleets, ships, and
+ *     arsenals. A pool keeps the games that are released, and resets one in place when a game of its size is asked
+ *     for, so that only the first games of each size are ever created. At most a fixed number of idle games are kept
+ *     for each size; any more that are released are left for the garbage collector.
+ * </p>
+ * <p>
+ *     A pool can be shared between threads. A game must not be used after it has been released.
+ * </p>
+ *
+ * @see Game#reset()
+ * @see GameFactory
+ */
+public class GamePool {
+
+    /**
+     * The default number of idle games that are kept for each size.
+     */
+    public static final int DEFAULT_MAX_IDLE = 16;
+
+    /**
+     * The factory that creates every game of this pool.
+     */
+    private final GameFactory factory_game;
+
+    /**
+     * The way that the grids of the games of this pool store their cells.
+     */
+    private final GridStorage grid_storage;
+
+    /**
+     * The number of idle games that are kept for each size.
+     */
+    private final int max_idle;
+
+    /**
+     * The idle games of each size, which have been released but not reset yet.
+     */
+    private final Map<Size, ArrayDeque<Game>> idle_games;
+
+    /**
+     * The number of games that this pool has created.
+     */
+    private long num_created;
+
+    /**
+     * Class constructor specifying the grid storage of the games, and the number of idle games kept for each size.
+     *
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param max_idle the number of idle games that are kept for each size
+     */
+    public GamePool(GridStorage grid_storage, int max_idle) {
+        this.factory_game = new GameFactory();
+        this.grid_storage = grid_storage;
+        this.max_idle = max_idle;
+        this.idle_games = new EnumMap<>(Size.class);
+        for ( Size size : Size.values() ) this.idle_games.put(size, new ArrayDeque<>());
+        this.num_created = 0;
+    }
+
+    /**
+     * Class constructor specifying the grid storage of the games, keeping up to 16 idle games for each size.
+     *
+     * @param grid_storage the way that the grids of the games store their cells
+     */
+    public GamePool(GridStorage grid_storage) {
+        this(grid_storage, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Hands out a game of the given size in its starting state, reusing a released one if there is any.
+     *
+     * @param size the size of the game
+     * @return a game whose ships are not placed yet
+     * @see Game#reset()
+     */
+    public Game acquire(Size size) {
+        Game game;
+        synchronized (this) {
+            game = this.idle_games.get(size).pollFirst();
+            if ( game == null ) this.num_created++;
+        }
+
+        // Reset or create the game outside of the lock, since it does not touch the pool
+        if ( game == null ) return this.factory_game.createGame(size, this.grid_storage);
+        game.reset();
+        return game;
+    }
+
+    /**
+     * Takes back a game that is no longer being played, to be handed out again.
+     * <p>
+     *     The game is reset when it is next handed out, rather than now, so that releasing a game is cheap.
+     * </p>
+     *
+     * @param game a game that was handed out by this pool
+     */
+    public synchronized void release(Game game) {
+        ArrayDeque<Game> idle = this.idle_games.get(game.getSize());
+        if ( idle.size() < this.max_idle ) idle.addFirst(game);
+    }
+
+    /**
+     * Gets the way that the grids of the games of this pool store their cells.
+     *
+     * @return the current value of grid_storage
+     */
+    public GridStorage getGridStorage() {
+        return this.grid_storage;
+    }
+
+    /**
+     * Gets the number of idle games of the given size.
+     *
+     * @param size the size of the games
+     * @return the number of games of that size that can be handed out without creating one
+     */
+    public synchronized int getNumIdle(Size size) {
+        return this.idle_games.get(size).size();
+    }
+
+    /**
+     * Gets the number of games that this pool has created.
+     *
+     * @return the current value of num_created
+     */
+    public synchronized long getNumCreated() {
+        return this.num_created;
+    }
+}
@@ -9,8 +9,11 @@ import edu.colorado.objectgrind.ships.fleet.Fleet;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 import edu.colorado.objectgrind.weapons.Weapon;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
 
-import java.util.Stack;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This class defines a player of the battleship game and the components and functions of the game they need.
@@ -20,6 +23,7 @@ import java.util.Stack;
  * @see Command
  * @see Fleet
  * @see GamePartsFactory
+ * @see PlayerListener
  */
 public class Player {
 
@@ -34,15 +38,25 @@ public class Player {
     private final Arsenal arsenal;
 
     /**
-     * The stack of commands that this player calls throughout a game.
+     * The history of commands that this player can undo, since the start of their current turn.
      */
-    private Stack<Command> player_commands;
+    private final CommandHistory player_commands;
 
     /**
      * The fleet of ships that this player has and will use throughout the game.
      */
     private final Fleet fleet;
 
+    /**
+     * The listener that is told about every attack this player makes.
+     */
+    private AttackListener attack_listener;
+
+    /**
+     * The listener that is told about every action of this player that changes the game.
+     */
+    private PlayerListener player_listener;
+
     /**
      * Class constructor specifying the GamePartsFactory that will be used to create the parts for this player.
      *
@@ -54,8 +68,27 @@ public class Player {
     public Player(GamePartsFactory factory_parts) {
         this.grid = factory_parts.createGrid();
         this.arsenal = factory_parts.createArsenal();
-        this.player_commands= new Stack<>();
+        this.player_commands = new CommandHistory();
         this.fleet = factory_parts.createFleet();
+        this.attack_listener = AttackListener.NONE;
+        this.player_listener = PlayerListener.NONE;
+    }
+
+    /**
+     * Brings this player back to how they started, in place: an empty grid, a fleet that is not placed, a starting
+     * arsenal, no commands, and no listeners.
+     *
+     * @see Grid#reset()
+     * @see Fleet#reset()
+     * @see Arsenal#reset()
+     */
+    public void reset() {
+        this.grid.reset();
+        this.fleet.reset();
+        this.arsenal.reset();
+        this.player_commands.clear();
+        this.attack_listener = AttackListener.NONE;
+        this.player_listener = PlayerListener.NONE;
     }
 
     /**
@@ -68,11 +101,66 @@ public class Player {
     }
 
     /**
-     * A getter for this player's stack of commands.
+     * Sets the listener that is told about every attack this player makes.
+     *
+     * @param listener the new listener; <code>AttackListener.NONE</code> to not be told about attacks
+     * @see Weapon#useWeapon(Player, int, AttackListener)
+     */
+    public void setAttackListener(AttackListener listener) {
+        this.attack_listener = listener;
+    }
+
+    /**
+     * A getter for the listener that is told about every attack this player makes.
+     *
+     * @return this player's <code>AttackListener</code>
+     */
+    public AttackListener getAttackListener() {
+        return this.attack_listener;
+    }
+
+    /**
+     * Sets the listener that is told about every action of this player that changes the game.
+     *
+     * @param listener the new listener; <code>PlayerListener.NONE</code> to not be told about actions
+     */
+    public void setPlayerListener(PlayerListener listener) {
+        this.player_listener = listener;
+    }
+
+    /**
+     * A getter for the listener that is told about every action of this player that changes the game.
+     *
+     * @return this player's <code>PlayerListener</code>
+     */
+    public PlayerListener getPlayerListener() {
+        return this.player_listener;
+    }
+
+    /**
+     * A getter for this player's fleet.
+     *
+     * @return this player's <code>Fleet</code>
+     */
+    public Fleet getFleet() {
+        return this.fleet;
+    }
+
+    /**
+     * A getter for this player's arsenal.
      *
-     * @return this player's <code>Stack<Command></code>
+     * @return this player's <code>Arsenal</code>
      */
-    public Stack<Command> getCommands() {
+    public Arsenal getArsenal() {
+        return this.arsenal;
+    }
+
+    /**
+     * A getter for this player's history of commands.
+     *
+     * @return this player's <code>CommandHistory</code>
+     */
+    public CommandHistory getCommands() {
         return this.player_commands;
     }
 
@@ -81,7 +169,7 @@ public class Player {
      * <p>
      *     If the index of the ship is valid, the coordinates are valid, and the ship can actually be 
      *     placed between head and tail on this player's grid, then a new PlaceShipCommand is created, 
-     *     executed, and pushed onto this player's command stack.
+     *     executed, and pushed onto this player's command history.
      *     If any of the above conditions are not met, then the function does nothing.
      * </p>
      *
@@ -90,12 +178,29 @@ public class Player {
      * @param tail coordinate of where the tail of the ship will be placed
      * @see Fleet#getSize()
      * @see Fleet#getShipByIndex(int)
-     * @see Grid#shipCanBePlaced(Ship, String, String)
+     * @see Grid#shipCanBePlaced(Ship, int, int)
      * @see Ship#isShipPlaced()
-     * @see Grid#stringCoordToIntCoord(String)
-     * @see PlaceShipCommand
+     * @see Grid#stringCoordToPackedCoord(CharSequence)
+     * @see #playerPlaceShip(int, int, int)
      */
     public void playerPlaceShip(int ship_index, String head, String tail) {
+        playerPlaceShip(ship_index, this.grid.stringCoordToPackedCoord(head), this.grid.stringCoordToPackedCoord(tail));
+    }
+
+    /**
+     * Executes a command for placing the ship at the given index on this player's grid, given packed coordinates.
+     * <p>
+     *     This does the same checks as the string version, and does nothing if any of them are not met.
+     * </p>
+     *
+     * @param ship_index index of the ship in this player's fleet that will be placed
+     * @param head packed coordinate of where the head of the ship will be placed
+     * @param tail packed coordinate of where the tail of the ship will be placed
+     * @see #playerPlaceShip(int, String, String)
+     * @see Grid#shipCanBePlaced(Ship, int, int)
+     * @see PlaceShipCommand
+     */
+    public void playerPlaceShip(int ship_index, int head, int tail) {
 
         // Check that the ship index is valid
         if ( (ship_index >= 0) & (ship_index < this.fleet.getSize()) ) {
@@ -104,12 +209,11 @@ public class Player {
             Ship to_place = this.fleet.getShipByIndex(ship_index);
             if ( this.grid.shipCanBePlaced(to_place, head, tail) & !to_place.isShipPlaced() ) {
 
-                // if so, create a command, execute it, and push it onto the stack
-                Coordinate coord_head = this.grid.stringCoordToIntCoord(head);
-                Coordinate coord_tail = this.grid.stringCoordToIntCoord(tail);
-                Command new_command = new PlaceShipCommand(to_place, this.grid, coord_head, coord_tail);
+                // if so, create a command, execute it, and push it onto the history
+                Command new_command = new PlaceShipCommand(to_place, this.grid, Coordinate.unpack(head), Coordinate.unpack(tail));
 
-                // Execute the command and push it onto the stack
+                // Execute the command and push it onto the history
+                this.player_listener.onShipPlaced(ship_index, head, tail);
                 new_command.execute();
                 this.player_commands.push(new_command);
             }
@@ -122,7 +226,8 @@ public class Player {
      *     IF all of the player's ships have been placed, and the fleet can actually
      *     move in the given direction on this player's grid, then a new MoveFleetCommand 
      *     corresponding to the given direction is created, executed, and pushed onto this player's
-     *     command stack. If any of the conditions are not met, then the function does nothing.
+     *     command history, where it is combined with any move of the fleet just before it. If any of the conditions
+     *     are not met, then the function does nothing.
      * </p>
      * 
      * @param direction the direction which the fleet will be moved
@@ -140,7 +245,7 @@ public class Player {
             // Check that the player can move the fleet in the given direction
             if (this.grid.canMoveFleet(direction)) {
 
-                // if so, create a command execute it and push it onto the stack
+                // if so, create a command execute it and push it onto the history
                 Command new_command = new NoCommand();
 
                 switch (direction) {
@@ -162,7 +267,8 @@ public class Player {
 
                 }
 
-                // Execute the command and push it onto the stack
+                // Execute the command and push it onto the history, where it is combined with any move before it
+                this.player_listener.onFleetMoved(direction);
                 new_command.execute();
                 this.player_commands.push(new_command);
             }
@@ -172,18 +278,20 @@ public class Player {
     /**
      * Undoes the most recent command that the player executed.
      * <p>
-     *     If there is a command on this player's command stack, then it is popped of and the undo()
-     *     operation is called for that command. If the command stack is empty, then it does nothing.
+     *     If there is a command in this player's command history, then it is popped off and the undo()
+     *     operation is called for that command. If the command history is empty, then it does nothing.
      * </p>
      * 
      * @see Command
+     * @see CommandHistory#pop()
      */
     public void playerUndo() {
 
-        // If the stack is not empty
-        if( !this.player_commands.empty() ) {
+        // If the history is not empty
+        if( !this.player_commands.isEmpty() ) {
 
-            // Pop the most recent command off the stack
+            // Pop the most recent command off the history
+            this.player_listener.onUndo();
             Command cmd_to_undo = this.player_commands.pop();
 
             // Undo the command
@@ -197,28 +305,28 @@ public class Player {
      * 
      * @param opponent the opposing Player who will be attacked
      * @param index_of_weapon index of the weapon from this player's arsenal that will be used
-     * @param coord the coordinate where the weapon will be used
-     * @throws Exception if the Method used in useWeapon is invalid
-     * @see #getNumShipsSunk() 
+     * @param coord the packed coordinate where the weapon will be used
+     * @return the results of the attack
+     * @see Fleet#startTurn()
+     * @see Fleet#getNumSunkThisTurn()
      * @see Arsenal#getWeaponAtIndex(int) 
-     * @see Weapon#useWeapon(Player, Coordinate) 
+     * @see Weapon#useWeapon(Player, int, AttackListener)
      * @see Arsenal#adjustArsenal(int, int) 
      */
-    private void useWeapon(Player opponent, int index_of_weapon, Coordinate coord) throws Exception {
+    private List<AttackResult> useWeapon(Player opponent, int index_of_weapon, int coord) {
 
-        // Get the number of the opponent's ships that are sunk before the attack
-        int pre_num_sunk = opponent.getNumShipsSunk();
+        // Only count the opponent's ships that sink from here on
+        opponent.fleet.startTurn();
 
         // Use the weapon on the opponent
         Weapon weapon_of_choice = this.arsenal.getWeaponAtIndex(index_of_weapon);
-        weapon_of_choice.useWeapon(opponent, coord);
-
-        // Get the number of ships sunk after the attack
-        int post_num_sunk = opponent.getNumShipsSunk();
+        this.player_listener.onTurnTaken(index_of_weapon, weapon_of_choice, coord);
+        List<AttackResult> results = weapon_of_choice.useWeapon(opponent, coord, this.attack_listener);
 
         // Adjust this player's weapons
-        int num_sunk_this_turn = post_num_sunk - pre_num_sunk;
-        this.arsenal.adjustArsenal(post_num_sunk, num_sunk_this_turn);
+        this.arsenal.adjustArsenal(opponent.getNumShipsSunk(), opponent.fleet.getNumSunkThisTurn());
+
+        return results;
     }
 
     /**
@@ -232,26 +340,60 @@ public class Player {
      * @param opponent the opponent of this player
      * @param index_of_weapon the index of the weapon from this player's arsenal to be used
      * @param coordinate the coordinate that this player will use their weapon on
-     * @throws Exception if the attack method is invalid
+     * @return the results of the attack; empty if the turn was not taken
+     * @see #takeTurn(Player, int, int)
      */
-    public void takeTurn(Player opponent, int index_of_weapon, String coordinate) throws Exception {
+    public List<AttackResult> takeTurn(Player opponent, int index_of_weapon, String coordinate) {
+
+        // Convert the coordinate to a packed coordinate, which also checks that it is properly formatted
+        return takeTurn(opponent, index_of_weapon, this.grid.stringCoordToPackedCoord(coordinate));
+    }
 
-        // If the coordinate is properly formatted, adn the weapon index is in bounds
-        if ( this.grid.isValidCoordinateFormat(coordinate) & (index_of_weapon >= 0) & (index_of_weapon < this.arsenal.getNumberOfWeapons())) {
+    /**
+     * Takes a turn for this player by using a weapon from their arsenal at the given index, given a packed coordinate.
+     * <p>
+     *     This does the same checks as the string version, and does nothing if any of them are not met.
+     * </p>
+     *
+     * @param opponent the opponent of this player
+     * @param index_of_weapon the index of the weapon from this player's arsenal to be used
+     * @param new_coord the packed coordinate that this player will use their weapon on
+     * @return the results of the attack; empty if the turn was not taken
+     * @see #takeTurn(Player, int, String)
+     */
+    public List<AttackResult> takeTurn(Player opponent, int index_of_weapon, int new_coord) {
 
-            // Convert the coordinate to a Coordinate object
-            Coordinate new_coord = this.grid.stringCoordToIntCoord(coordinate);
+        // If the weapon index is in bounds
+        if ( (index_of_weapon >= 0) & (index_of_weapon < this.arsenal.getNumberOfWeapons()) ) {
 
-            // If the coordinate is within the bounds of the grid
-            if ( this.grid.isCoordinateInBounds(new_coord) ) {
+            // If the coordinate is properly formatted and within the bounds of the grid
+            if ( this.grid.isPackedCoordinateInBounds(new_coord) ) {
 
                 // Use the weapon at the index
-                this.useWeapon(opponent, index_of_weapon, new_coord);
+                List<AttackResult> results = this.useWeapon(opponent, index_of_weapon, new_coord);
+
+                // Clear this player's Command history, because they cannot undo moves from a previous turn
+                this.player_commands.clear();
 
-                // Reset this player's Command stack, because they cannot undo moves from a previous turn
-                this.player_commands = new Stack<>();
+                return results;
             }
         }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Ends this player's turn without an attack, because they have no weapons left to attack with.
+     * <p>
+     *     As at the end of any other turn, this player's Command history is cleared, so that moves from this turn
+     *     cannot be undone in a later one.
+     * </p>
+     *
+     * @see #takeTurn(Player, int, int)
+     */
+    public void skipTurn() {
+        this.player_listener.onTurnSkipped();
+        this.player_commands.clear();
     }
 
     /**
@@ -285,6 +427,16 @@ public class Player {
         return this.fleet.allShipsSunk();
     }
 
+    /**
+     * Determines if every ship in this player's fleet has been placed.
+     *
+     * @return <code>true</code> if all of the ships in this player's fleet have been placed; <code>false</code> otherwise
+     * @see Fleet#allShipsPlaced()
+     */
+    public boolean allShipsPlaced() {
+        return this.fleet.allShipsPlaced();
+    }
+
     /**
      * Returns the number of weapons in this player's arsenal.
      *
@@ -315,4 +467,26 @@ public class Player {
     public Weapon getWeaponAtIndex(int index) {
         return this.arsenal.getWeaponAtIndex(index);
     }
+
+    /**
+     * Returns the id of the weapon in this player's arsenal at the given index.
+     *
+     * @param index index of the weapon
+     * @return the id of the weapon, which does not change when other weapons run out
+     * @see Arsenal#getWeaponIdAtIndex(int)
+     */
+    public int getWeaponIdAtIndex(int index) {
+        return this.arsenal.getWeaponIdAtIndex(index);
+    }
+
+    /**
+     * Returns the index of the weapon in this player's arsenal with the given id.
+     *
+     * @param id id of the weapon
+     * @return the index of the weapon, to take a turn with; -1 if it is not in this player's arsenal
+     * @see Arsenal#getIndexOfWeaponId(int)
+     */
+    public int getIndexOfWeaponId(int id) {
+        return this.arsenal.getIndexOfWeaponId(id);
+    }
 }
@@ -0,0 +1,70 @@
+package edu.colorado.objectgrind.game;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.weapons.Weapon;
+
+/**
+ * This interface defines something that is told about every action of a player that changes the game.
+ * <p>
+ *     A Player calls its listener once an action has been checked and is being carried out, so actions that do
+ *     nothing (e.g. placing a ship where it does not fit) are never heard. Calling the same actions on a player with
+ *     the same arguments, in the same order, rebuilds the same game. By default nothing listens.
+ * </p>
+ *
+ * @see Player#setPlayerListener(PlayerListener)
+ * @see edu.colorado.objectgrind.log.GameLogWriter
+ */
+public interface PlayerListener {
+
+    /**
+     * A listener that ignores everything.
+     */
+    PlayerListener NONE = new PlayerListener() {};
+
+    /**
+     * Called when a ship of the player's fleet is placed.
+     *
+     * @param ship_index the index of the ship in the player's fleet
+     * @param head the packed coordinate of the head of the ship
+     * @param tail the packed coordinate of the tail of the ship
+     * @see Player#playerPlaceShip(int, int, int)
+     */
+    default void onShipPlaced(int ship_index, int head, int tail) {
+    }
+
+    /**
+     * Called when the player's fleet is moved.
+     *
+     * @param direction the direction that the fleet was moved
+     * @see Player#playerMoveFleet(Direction)
+     */
+    default void onFleetMoved(Direction direction) {
+    }
+
+    /**
+     * Called when the player's most recent command is undone.
+     *
+     * @see Player#playerUndo()
+     */
+    default void onUndo() {
+    }
+
+    /**
+     * Called when the player takes a turn, just before their weapon is used.
+     *
+     * @param weapon_index the index of the weapon in the player's arsenal
+     * @param weapon the weapon at that index
+     * @param coord_of_attack the packed coordinate that the weapon is used on
+     * @see Player#takeTurn(Player, int, int)
+     */
+    default void onTurnTaken(int weapon_index, Weapon weapon, int coord_of_attack) {
+    }
+
+    /**
+     * Called when the player's turn is skipped, because they have no weapons left.
+     *
+     * @see Player#skipTurn()
+     */
+    default void onTurnSkipped() {
+    }
+}
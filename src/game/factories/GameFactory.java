@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.game.factories;
 
+import edu.colorado.objectgrind.enums.GridStorage;
 import edu.colorado.objectgrind.enums.Size;
 import edu.colorado.objectgrind.game.Game;
 
@@ -22,20 +23,34 @@ public class GameFactory {
      * @see LargeGamePartsFactory
      */
     public Game createGame(Size size) {
+        return createGame(size, GridStorage.LOCATIONS);
+    }
+
+    /**
+     * Creates a Game object with a GamePartsFactory corresponding to the given size, whose grids store their cells
+     * in the given way.
+     *
+     * @param size The size of the game that is to be created.
+     * @param grid_storage The way that the grids of the game will store their cells.
+     * @return A <code>Game</code> with a corresponding <code>GamePartsFactory</code> depending on the size given.
+     * @see #createGame(Size)
+     * @see GridStorage
+     */
+    public Game createGame(Size size, GridStorage grid_storage) {
 
         GamePartsFactory factory_parts = null;
 
         switch (size) {
             case SMALL:
-                factory_parts = new SmallGamePartsFactory();
+                factory_parts = new SmallGamePartsFactory(grid_storage);
                 break;
 
             case MEDIUM:
-                factory_parts = new MediumGamePartsFactory();
+                factory_parts = new MediumGamePartsFactory(grid_storage);
                 break;
 
             case LARGE:
-                factory_parts = new LargeGamePartsFactory();
+                factory_parts = new LargeGamePartsFactory(grid_storage);
                 break;
         }
 
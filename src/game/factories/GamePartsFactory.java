@@ -3,6 +3,7 @@ package edu.colorado.objectgrind.game.factories;
 import edu.colorado.objectgrind.weapons.arsenal.Arsenal;
 import edu.colorado.objectgrind.ships.fleet.Fleet;
 import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.enums.Size;
 
 /**
  * This interface defines the functions for creating the components of a game of battleship.
@@ -33,4 +34,11 @@ public interface GamePartsFactory {
      * @return <code>Grid</code>
      */
     Grid createGrid();
+
+    /**
+     * Gets the size of the games that this factory creates the components of.
+     *
+     * @return <code>Size</code>
+     */
+    Size getSize();
 }
@@ -4,6 +4,10 @@ import edu.colorado.objectgrind.weapons.arsenal.Arsenal;
 import edu.colorado.objectgrind.weapons.arsenal.LargeArsenal;
 import edu.colorado.objectgrind.ships.fleet.Fleet;
 import edu.colorado.objectgrind.ships.fleet.LargeFleet;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.grid.BitboardGrid;
+import edu.colorado.objectgrind.grid.FleetOffsetGrid;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.grid.LargeGrid;
 
@@ -14,9 +18,32 @@ import edu.colorado.objectgrind.grid.LargeGrid;
  * @see LargeFleet
  * @see LargeArsenal
  * @see LargeGrid
+ * @see BitboardGrid
+ * @see FleetOffsetGrid
  */
 public class LargeGamePartsFactory implements GamePartsFactory {
 
+    /**
+     * The way that the grids created by this factory store their cells.
+     */
+    private final GridStorage grid_storage;
+
+    /**
+     * Class constructor for a factory whose grids are made up of Locations.
+     */
+    public LargeGamePartsFactory() {
+        this(GridStorage.LOCATIONS);
+    }
+
+    /**
+     * Class constructor specifying the way that the grids created by this factory store their cells.
+     *
+     * @param grid_storage the way that the created grids will store their cells
+     */
+    public LargeGamePartsFactory(GridStorage grid_storage) {
+        this.grid_storage = grid_storage;
+    }
+
     /**
      * Creates a LargeFleet object.
      *
@@ -36,11 +63,40 @@ public class LargeGamePartsFactory implements GamePartsFactory {
     }
 
     /**
-     * Creates a LargeGrid object with two layers.
+     * Creates a LargeGrid object with two layers, or a grid of the same size that stores its cells the way this
+     * factory was told to.
      *
-     * @return <code>LargeGrid(2)</code>
+     * @return <code>LargeGrid(2)</code>; <code>BitboardGrid(13, 2)</code> if grid_storage is BITBOARDS;
+     *         <code>FleetOffsetGrid(13, 2)</code> if grid_storage is FLEET_OFFSETS
+     * @see #grid_storage
      */
     public Grid createGrid() {
-        return new LargeGrid(2);
+
+        Grid grid = null;
+
+        switch (this.grid_storage) {
+            case LOCATIONS:
+                grid = new LargeGrid(2);
+                break;
+
+            case BITBOARDS:
+                grid = new BitboardGrid(13, 2);
+                break;
+
+            case FLEET_OFFSETS:
+                grid = new FleetOffsetGrid(13, 2);
+                break;
+        }
+
+        return grid;
+    }
+
+    /**
+     * Gets the size of the games that this factory creates the components of.
+     *
+     * @return <code>Size.LARGE</code>
+     */
+    public Size getSize() {
+        return Size.LARGE;
     }
 }
@@ -4,6 +4,10 @@ import edu.colorado.objectgrind.weapons.arsenal.Arsenal;
 import edu.colorado.objectgrind.weapons.arsenal.SmallArsenal;
 import edu.colorado.objectgrind.ships.fleet.Fleet;
 import edu.colorado.objectgrind.ships.fleet.SmallFleet;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.grid.BitboardGrid;
+import edu.colorado.objectgrind.grid.FleetOffsetGrid;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.grid.SmallGrid;
 
@@ -14,9 +18,32 @@ import edu.colorado.objectgrind.grid.SmallGrid;
  * @see SmallFleet
  * @see SmallArsenal
  * @see SmallGrid
+ * @see BitboardGrid
+ * @see FleetOffsetGrid
  */
 public class SmallGamePartsFactory implements GamePartsFactory {
 
+    /**
+     * The way that the grids created by this factory store their cells.
+     */
+    private final GridStorage grid_storage;
+
+    /**
+     * Class constructor for a factory whose grids are made up of Locations.
+     */
+    public SmallGamePartsFactory() {
+        this(GridStorage.LOCATIONS);
+    }
+
+    /**
+     * Class constructor specifying the way that the grids created by this factory store their cells.
+     *
+     * @param grid_storage the way that the created grids will store their cells
+     */
+    public SmallGamePartsFactory(GridStorage grid_storage) {
+        this.grid_storage = grid_storage;
+    }
+
     /**
      * Creates a SmallFleet object.
      *
@@ -36,11 +63,40 @@ public class SmallGamePartsFactory implements GamePartsFactory {
     }
 
     /**
-     * Creates a SmallGrid object with two layers.
+     * Creates a SmallGrid object with two layers, or a grid of the same size that stores its cells the way this
+     * factory was told to.
      *
-     * @return <code>SmallGrid(2)</code>
+     * @return <code>SmallGrid(2)</code>; <code>BitboardGrid(7, 2)</code> if grid_storage is BITBOARDS;
+     *         <code>FleetOffsetGrid(7, 2)</code> if grid_storage is FLEET_OFFSETS
+     * @see #grid_storage
      */
     public Grid createGrid() {
-        return new SmallGrid(2);
+
+        Grid grid = null;
+
+        switch (this.grid_storage) {
+            case LOCATIONS:
+                grid = new SmallGrid(2);
+                break;
+
+            case BITBOARDS:
+                grid = new BitboardGrid(7, 2);
+                break;
+
+            case FLEET_OFFSETS:
+                grid = new FleetOffsetGrid(7, 2);
+                break;
+        }
+
+        return grid;
+    }
+
+    /**
+     * Gets the size of the games that this factory creates the components of.
+     *
+     * @return <code>Size.SMALL</code>
+     */
+    public Size getSize() {
+        return Size.SMALL;
     }
 }
@@ -0,0 +1,711 @@
+package edu.colorado.objectgrind.grid;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+import java.util.Arrays;
+
+/**
+ * This class defines a grid that stores its cells as bitboards instead of Location objects.
+ * <p>
+ *     Every layer is a run of <code>long</code> words with one bit per cell, at index <code>row * size + col</code>.
+ *     There is one bitboard for cells that have a ship, one for each of the HIT, MISS, FREE and OCCUPIED statuses (a
+ *     cell in none of them is HIDDEN), and one for every ship that has been put on the grid. Moving the fleet,
+ *     removing a ship, and marking a sunk ship are done a word at a time rather than a cell at a time.
+ * </p>
+ * <p>
+ *     Locations are still handed out by getLocationByIndex and getGrid, but they are created only when asked for and
+ *     read from and write to the bitboards.
+ * </p>
+ *
+ * @see Grid
+ * @see GridLocation
+ */
+public class BitboardGrid extends Grid {
+
+    /**
+     * The number of words that one layer takes up in each bitboard.
+     */
+    private final int words_per_layer;
+
+    /**
+     * The cells that have a ship.
+     */
+    private final long[] ship_bits;
+
+    /**
+     * The cells whose status is HIT.
+     */
+    private final long[] hit_bits;
+
+    /**
+     * The cells whose status is MISS.
+     */
+    private final long[] miss_bits;
+
+    /**
+     * The cells whose status is FREE.
+     */
+    private final long[] free_bits;
+
+    /**
+     * The cells whose status is OCCUPIED.
+     */
+    private final long[] occupied_bits;
+
+    /**
+     * The cells of a layer that are inside the grid.
+     */
+    private final long[] board_mask;
+
+    /**
+     * The cells of a layer that are in the first row.
+     */
+    private final long[] first_row_mask;
+
+    /**
+     * The cells of a layer that are in the last row.
+     */
+    private final long[] last_row_mask;
+
+    /**
+     * The cells of a layer that are in the first column.
+     */
+    private final long[] first_col_mask;
+
+    /**
+     * The cells of a layer that are in the last column.
+     */
+    private final long[] last_col_mask;
+
+    /**
+     * Words of a single layer used while shifting a bitboard.
+     */
+    private final long[] scratch;
+
+    /**
+     * Words of a single layer that hold the HIT cells of the ships being moved.
+     */
+    private final long[] moving_hits;
+
+    /**
+     * Words of a single layer that hold the cells a move of the fleet or a removal changes, to update the hash with.
+     */
+    private final long[] moved_cells;
+
+    /**
+     * The ships that have been put on this grid, indexed by the id this grid gave them.
+     */
+    private Ship[] ships;
+
+    /**
+     * The cells of each ship, indexed by the id this grid gave the ship.
+     */
+    private long[][] ship_masks;
+
+    /**
+     * The number of ships that have been given an id.
+     */
+    private int num_ships;
+
+    /**
+     * Class constructor specifying the dimensions of the grid: number of layers, rows, and columns.
+     *
+     * @param size the number of rows and columns that the grid will have
+     * @param num_layers the number of layers that the grid will have
+     */
+    public BitboardGrid(int size, int num_layers) {
+        super(size, num_layers, false);
+
+        this.words_per_layer = (size * size + 63) >>> 6;
+        int total_words = num_layers * this.words_per_layer;
+
+        this.ship_bits = new long[total_words];
+        this.hit_bits = new long[total_words];
+        this.miss_bits = new long[total_words];
+        this.free_bits = new long[total_words];
+        this.occupied_bits = new long[total_words];
+
+        this.board_mask = new long[this.words_per_layer];
+        this.first_row_mask = new long[this.words_per_layer];
+        this.last_row_mask = new long[this.words_per_layer];
+        this.first_col_mask = new long[this.words_per_layer];
+        this.last_col_mask = new long[this.words_per_layer];
+        this.scratch = new long[this.words_per_layer];
+        this.moving_hits = new long[this.words_per_layer];
+        this.moved_cells = new long[this.words_per_layer];
+
+        // Set up the masks for the board and its edges
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int bit = row * size + col;
+                setBit(this.board_mask, 0, bit);
+                if (row == 0) setBit(this.first_row_mask, 0, bit);
+                if (row == size - 1) setBit(this.last_row_mask, 0, bit);
+                if (col == 0) setBit(this.first_col_mask, 0, bit);
+                if (col == size - 1) setBit(this.last_col_mask, 0, bit);
+            }
+        }
+
+        this.ships = new Ship[8];
+        this.ship_masks = new long[8][];
+        this.num_ships = 0;
+    }
+
+    /**
+     * Brings this grid back to how it was created, with no ships and every cell HIDDEN.
+     * <p>
+     *     Ships keep their ids, with empty masks, so that placing the same ships again does not create new masks.
+     * </p>
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(this.ship_bits, 0L);
+        Arrays.fill(this.hit_bits, 0L);
+        Arrays.fill(this.miss_bits, 0L);
+        Arrays.fill(this.free_bits, 0L);
+        Arrays.fill(this.occupied_bits, 0L);
+        for (int id = 0; id < this.num_ships; id++) Arrays.fill(this.ship_masks[id], 0L);
+    }
+
+    /**
+     * Returns whether or not there is a ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return <code>true</code> if the cell has a ship; <code>false</code> otherwise
+     */
+    @Override
+    public boolean hasShipAt(int layer, int row, int col) {
+        return getBit(this.ship_bits, layerOffset(layer), row * getSize() + col);
+    }
+
+    /**
+     * Returns the ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>Ship</code> at the cell; <code>null</code> if there is none
+     */
+    @Override
+    public Ship getShipAt(int layer, int row, int col) {
+        int id = shipIdAt(layerOffset(layer), row * getSize() + col);
+        return (id < 0) ? null : this.ships[id];
+    }
+
+    /**
+     * Puts the given ship at the given cell of this grid, replacing any ship that was already there.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param ship the ship to put at the cell
+     */
+    @Override
+    public void setShipAt(int layer, int row, int col, Ship ship) {
+        int offset = layerOffset(layer);
+        int bit = row * getSize() + col;
+        hashCell(layer, row, col);
+
+        // Take the cell away from the ship that was there, if any
+        clearShipAt(offset, bit);
+
+        setBit(this.ship_masks[shipId(ship)], offset, bit);
+        setBit(this.ship_bits, offset, bit);
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Removes the ship, if any, from the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    @Override
+    public void removeShipAt(int layer, int row, int col) {
+        hashCell(layer, row, col);
+        clearShipAt(layerOffset(layer), row * getSize() + col);
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Takes the given bit of a layer away from the ship that is there, if any, without updating the hash.
+     *
+     * @param offset the index of the first word of the layer
+     * @param bit the bit of the cell within the layer
+     */
+    private void clearShipAt(int offset, int bit) {
+        int id = shipIdAt(offset, bit);
+        if (id >= 0) clearBit(this.ship_masks[id], offset, bit);
+        clearBit(this.ship_bits, offset, bit);
+    }
+
+    /**
+     * Returns the status of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>LocationStatus</code> of the cell
+     */
+    @Override
+    public LocationStatus getStatusAt(int layer, int row, int col) {
+        int offset = layerOffset(layer);
+        int bit = row * getSize() + col;
+
+        if (getBit(this.hit_bits, offset, bit)) return LocationStatus.HIT;
+        if (getBit(this.miss_bits, offset, bit)) return LocationStatus.MISS;
+        if (getBit(this.free_bits, offset, bit)) return LocationStatus.FREE;
+        if (getBit(this.occupied_bits, offset, bit)) return LocationStatus.OCCUPIED;
+        return LocationStatus.HIDDEN;
+    }
+
+    /**
+     * Sets the status of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param status the status to give to the cell
+     */
+    @Override
+    public void setStatusAt(int layer, int row, int col, LocationStatus status) {
+        int offset = layerOffset(layer);
+        int bit = row * getSize() + col;
+        hashCell(layer, row, col);
+
+        clearBit(this.hit_bits, offset, bit);
+        clearBit(this.miss_bits, offset, bit);
+        clearBit(this.free_bits, offset, bit);
+        clearBit(this.occupied_bits, offset, bit);
+
+        long[] status_bits = statusBits(status);
+        if (status_bits != null) setBit(status_bits, offset, bit);
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Sets the status of every cell of this grid that holds the given ship, a word at a time.
+     *
+     * @param ship the ship whose cells will be updated
+     * @param status the status to give to every cell of the ship
+     */
+    @Override
+    public void setShipStatus(Ship ship, LocationStatus status) {
+        int id = findShipId(ship);
+        if (id < 0) return;
+
+        long[] mask = this.ship_masks[id];
+        long[] status_bits = statusBits(status);
+        hashMask(mask);
+        for (int i = 0; i < mask.length; i++) {
+            this.hit_bits[i] &= ~mask[i];
+            this.miss_bits[i] &= ~mask[i];
+            this.free_bits[i] &= ~mask[i];
+            this.occupied_bits[i] &= ~mask[i];
+            if (status_bits != null) status_bits[i] |= mask[i];
+        }
+        hashMask(mask);
+    }
+
+    /**
+     * Removes the given ship from this grid, a word at a time.
+     *
+     * @param ship_to_remove the ship to be removed
+     * @see Ship#setShipNotPlaced()
+     */
+    @Override
+    public void removeShip(Ship ship_to_remove) {
+        int id = findShipId(ship_to_remove);
+        if (id >= 0) {
+            long[] mask = this.ship_masks[id];
+            for (int layer = 0; layer < getNumLayers(); layer++) {
+                int offset = layerOffset(layer);
+
+                // Hash the cells of the layer before and after, keeping them aside as the mask is cleared
+                hashCells(layer, mask, offset);
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    this.moved_cells[i] = mask[offset + i];
+                    this.ship_bits[offset + i] &= ~mask[offset + i];
+                    mask[offset + i] = 0L;
+                }
+                hashCells(layer, this.moved_cells, 0);
+            }
+        }
+
+        // Set the ship's is_placed boolean to false
+        ship_to_remove.setShipNotPlaced();
+    }
+
+    /**
+     * Returns the coordinates of every cell of this grid that holds the given ship, read from the ship's mask.
+     *
+     * @param ship the ship to find
+     * @return the <code>Coordinate</code>s of the cells that the ship is at
+     */
+    @Override
+    public Coordinate[] getShipCoordinates(Ship ship) {
+        int id = findShipId(ship);
+        if (id < 0) return new Coordinate[0];
+
+        long[] mask = this.ship_masks[id];
+        int count = 0;
+        for (long word : mask) count += Long.bitCount(word);
+
+        // Walk the set bits of each word of the mask
+        Coordinate[] coords = new Coordinate[count];
+        int found = 0;
+        for (int i = 0; i < mask.length; i++) {
+            long word = mask[i];
+            while (word != 0L) {
+                int layer = i / this.words_per_layer;
+                int bit = ((i % this.words_per_layer) << 6) + Long.numberOfTrailingZeros(word);
+                coords[found++] = new Coordinate(layer, bit / getSize(), bit % getSize());
+                word &= word - 1;
+            }
+        }
+
+        return coords;
+    }
+
+    /**
+     * Determines if the fleet of ships on this grid can be moved in the given direction.
+     * <p>
+     *     For every ship that has not sunk, its bitboard must not touch the edge of the grid that it is moving
+     *     towards, and once shifted it must not overlap the cells of any other ship.
+     * </p>
+     *
+     * @param direction the direction that the fleet will try to move
+     * @return <code>true</code> if the fleet can move in the given direction; <code>false</code> otherwise
+     */
+    @Override
+    public boolean canMoveFleet(Direction direction) {
+
+        long[] edge = edgeMask(direction);
+        int shift = shiftAmount(direction);
+
+        for (int id = 0; id < this.num_ships; id++) {
+
+            // Sunk ships do not move
+            if (this.ships[id].hasSunk()) continue;
+
+            long[] mask = this.ship_masks[id];
+            for (int layer = 0; layer < getNumLayers(); layer++) {
+                int offset = layerOffset(layer);
+
+                // If the ship would go out of bounds
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    if ((mask[offset + i] & edge[i]) != 0L) return false;
+                }
+
+                // If the ship would run into a different ship
+                shiftLayer(mask, offset, shift, this.scratch);
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    long others = this.ship_bits[offset + i] & ~mask[offset + i];
+                    if ((this.scratch[i] & others) != 0L) return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves the fleet of ships on this grid by the given offsets.
+     * <p>
+     *     This function assumes that the fleet can be moved there. The bitboard of every ship that has not sunk is
+     *     shifted by the whole offset at once, and any HIT cells of those ships move along with them, leaving HIDDEN
+     *     behind. Only the cells that those ships are on before or after the move are hashed again.
+     * </p>
+     *
+     * @param row_offset the number of rows to move the fleet down; negative to move it up
+     * @param col_offset the number of columns to move the fleet right; negative to move it left
+     * @see Ship#moveCaptainsQuarters(int, int)
+     */
+    @Override
+    public void moveFleet(int row_offset, int col_offset) {
+        if ( (row_offset == 0) & (col_offset == 0) ) return;
+
+        int shift = row_offset * getSize() + col_offset;
+        long[] moving_hits = this.moving_hits;
+
+        // Move the captain's quarters of every ship that has not sunk
+        for (int id = 0; id < this.num_ships; id++) {
+            if (!this.ships[id].hasSunk()) this.ships[id].moveCaptainsQuarters(row_offset, col_offset);
+        }
+
+        for (int layer = 0; layer < getNumLayers(); layer++) {
+            int offset = layerOffset(layer);
+
+            // Take the cells that the moving ships are on, and will be on, out of the hash
+            Arrays.fill(this.moved_cells, 0L);
+            for (int id = 0; id < this.num_ships; id++) {
+                if (this.ships[id].hasSunk()) continue;
+
+                long[] mask = this.ship_masks[id];
+                shiftLayer(mask, offset, shift, this.scratch);
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    this.moved_cells[i] |= mask[offset + i] | this.scratch[i];
+                }
+            }
+            hashCells(layer, this.moved_cells, 0);
+
+            // Shift every ship that has not sunk, keeping track of its HIT cells
+            Arrays.fill(moving_hits, 0L);
+            for (int id = 0; id < this.num_ships; id++) {
+                if (this.ships[id].hasSunk()) continue;
+
+                long[] mask = this.ship_masks[id];
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    moving_hits[i] |= this.hit_bits[offset + i] & mask[offset + i];
+                    this.ship_bits[offset + i] &= ~mask[offset + i];
+                }
+
+                shiftLayer(mask, offset, shift, this.scratch);
+                System.arraycopy(this.scratch, 0, mask, offset, this.words_per_layer);
+            }
+
+            // Put the moved ships back on the layer
+            for (int id = 0; id < this.num_ships; id++) {
+                long[] mask = this.ship_masks[id];
+                for (int i = 0; i < this.words_per_layer; i++) {
+                    this.ship_bits[offset + i] |= mask[offset + i];
+                }
+            }
+
+            // Move the HIT statuses along with the ships, leaving HIDDEN behind
+            shiftLayer(moving_hits, 0, shift, this.scratch);
+            for (int i = 0; i < this.words_per_layer; i++) {
+                long moved = this.scratch[i];
+                this.hit_bits[offset + i] = (this.hit_bits[offset + i] & ~moving_hits[i]) | moved;
+                this.miss_bits[offset + i] &= ~moved;
+                this.free_bits[offset + i] &= ~moved;
+                this.occupied_bits[offset + i] &= ~moved;
+            }
+
+            // Put the changed cells back in the hash
+            hashCells(layer, this.moved_cells, 0);
+        }
+    }
+
+    /**
+     * Adds the keys of every cell of the given bitboard to the hash of this grid, or takes them out.
+     *
+     * @param bits the bitboard, with every layer
+     * @see Grid#hashCell(int, int, int)
+     */
+    private void hashMask(long[] bits) {
+        for (int layer = 0; layer < getNumLayers(); layer++) hashCells(layer, bits, layerOffset(layer));
+    }
+
+    /**
+     * Adds the keys of every cell of one layer of the given bitboard to the hash of this grid, or takes them out.
+     *
+     * @param layer the layer of the cells
+     * @param bits the bitboard
+     * @param offset the index of the first word of the layer in bits
+     * @see Grid#hashCell(int, int, int)
+     */
+    private void hashCells(int layer, long[] bits, int offset) {
+        for (int i = 0; i < this.words_per_layer; i++) {
+            long word = bits[offset + i];
+            while (word != 0L) {
+                int bit = (i << 6) + Long.numberOfTrailingZeros(word);
+                hashCell(layer, bit / getSize(), bit % getSize());
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first word of the given layer in each bitboard.
+     *
+     * @param layer the layer
+     * @return the index of the layer's first word
+     */
+    private int layerOffset(int layer) {
+        return layer * this.words_per_layer;
+    }
+
+    /**
+     * Returns the bitboard that holds the given status.
+     *
+     * @param status the status
+     * @return the bitboard for the status; <code>null</code> for HIDDEN
+     */
+    private long[] statusBits(LocationStatus status) {
+        switch (status) {
+            case HIT:
+                return this.hit_bits;
+
+            case MISS:
+                return this.miss_bits;
+
+            case FREE:
+                return this.free_bits;
+
+            case OCCUPIED:
+                return this.occupied_bits;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the mask of the edge that a ship must not be on in order to move in the given direction.
+     *
+     * @param direction the direction of movement
+     * @return the mask of the edge in the given direction
+     */
+    private long[] edgeMask(Direction direction) {
+        switch (direction) {
+            case NORTH:
+                return this.first_row_mask;
+
+            case EAST:
+                return this.last_col_mask;
+
+            case SOUTH:
+                return this.last_row_mask;
+
+            default:
+                return this.first_col_mask;
+        }
+    }
+
+    /**
+     * Returns the number of bits that a cell moves by when the fleet moves in the given direction.
+     *
+     * @param direction the direction of movement
+     * @return the number of bits to shift by; negative towards lower bits
+     */
+    private int shiftAmount(Direction direction) {
+        return getRowOffset(direction) * getSize() + getColumnOffset(direction);
+    }
+
+    /**
+     * Shifts one layer of a bitboard by the given number of bits, and writes the result masked to the board.
+     *
+     * @param source the bitboard to shift
+     * @param offset the index of the first word of the layer in source
+     * @param shift the number of bits to shift by; negative towards lower bits
+     * @param target the words that the shifted layer is written to
+     */
+    private void shiftLayer(long[] source, int offset, int shift, long[] target) {
+
+        int words = this.words_per_layer;
+        int word_shift = Math.abs(shift) >>> 6;
+        int bit_shift = Math.abs(shift) & 63;
+
+        if (shift >= 0) {
+            for (int i = words - 1; i >= 0; i--) {
+                int j = i - word_shift;
+                long value = 0L;
+                if (j >= 0) {
+                    value = source[offset + j] << bit_shift;
+                    if ((bit_shift != 0) & (j > 0)) value |= source[offset + j - 1] >>> (64 - bit_shift);
+                }
+                target[i] = value & this.board_mask[i];
+            }
+        }
+        else {
+            for (int i = 0; i < words; i++) {
+                int j = i + word_shift;
+                long value = 0L;
+                if (j < words) {
+                    value = source[offset + j] >>> bit_shift;
+                    if ((bit_shift != 0) & (j < words - 1)) value |= source[offset + j + 1] << (64 - bit_shift);
+                }
+                target[i] = value & this.board_mask[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the ship at the given bit of a layer.
+     *
+     * @param offset the index of the first word of the layer
+     * @param bit the bit of the cell within the layer
+     * @return the id of the ship at the cell; -1 if there is none
+     */
+    private int shipIdAt(int offset, int bit) {
+        if (!getBit(this.ship_bits, offset, bit)) return -1;
+        for (int id = 0; id < this.num_ships; id++) {
+            if (getBit(this.ship_masks[id], offset, bit)) return id;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the id that this grid gave the given ship.
+     *
+     * @param ship the ship
+     * @return the id of the ship; -1 if it has never been put on this grid
+     */
+    private int findShipId(Ship ship) {
+        for (int id = 0; id < this.num_ships; id++) {
+            if (this.ships[id] == ship) return id;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the id that this grid gave the given ship, giving it a new one if it does not have one yet.
+     *
+     * @param ship the ship
+     * @return the id of the ship
+     */
+    private int shipId(Ship ship) {
+        int id = findShipId(ship);
+        if (id >= 0) return id;
+
+        // Grow the ship table if it is full
+        if (this.num_ships == this.ships.length) {
+            this.ships = Arrays.copyOf(this.ships, this.num_ships * 2);
+            this.ship_masks = Arrays.copyOf(this.ship_masks, this.num_ships * 2);
+        }
+
+        id = this.num_ships++;
+        this.ships[id] = ship;
+        this.ship_masks[id] = new long[this.ship_bits.length];
+        return id;
+    }
+
+    /**
+     * Returns whether the given bit of a layer is set.
+     *
+     * @param bits the bitboard
+     * @param offset the index of the first word of the layer
+     * @param bit the bit within the layer
+     * @return <code>true</code> if the bit is set; <code>false</code> otherwise
+     */
+    private static boolean getBit(long[] bits, int offset, int bit) {
+        return (bits[offset + (bit >>> 6)] & (1L << bit)) != 0L;
+    }
+
+    /**
+     * Sets the given bit of a layer.
+     *
+     * @param bits the bitboard
+     * @param offset the index of the first word of the layer
+     * @param bit the bit within the layer
+     */
+    private static void setBit(long[] bits, int offset, int bit) {
+        bits[offset + (bit >>> 6)] |= 1L << bit;
+    }
+
+    /**
+     * Clears the given bit of a layer.
+     *
+     * @param bits the bitboard
+     * @param offset the index of the first word of the layer
+     * @param bit the bit within the layer
+     */
+    private static void clearBit(long[] bits, int offset, int bit) {
+        bits[offset + (bit >>> 6)] &= ~(1L << bit);
+    }
+}
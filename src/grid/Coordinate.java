@@ -2,9 +2,25 @@ package edu.colorado.objectgrind.grid;
 
 /**
  * This class defines a 3D coordinate: (row, column, layer)
+ * <p>
+ *     A coordinate can also be packed into a single <code>int</code>, with the layer in the top 8 bits, the row in the
+ *     next 12 bits, and the column in the bottom 12 bits. Code that runs once per cell works with packed coordinates
+ *     so that it does not create a Coordinate for every cell; Coordinate objects are used where coordinates come in
+ *     from, or go out to, the rest of the game.
+ * </p>
  */
 public class Coordinate {
 
+    /**
+     * The number of bits that the row and the column each take up in a packed coordinate.
+     */
+    private static final int INDEX_BITS = 12;
+
+    /**
+     * The mask for the row or the column of a packed coordinate, once shifted down.
+     */
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
     /**
      * The row value for this coordinate.
      */
@@ -59,4 +75,69 @@ public class Coordinate {
     public int getLayer() {
         return this.layer;
     }
+
+    /**
+     * Returns this coordinate as a packed coordinate.
+     *
+     * @return the packed form of this coordinate
+     * @see #pack(int, int, int)
+     */
+    public int toPacked() {
+        return pack(this.layer, this.row, this.col);
+    }
+
+    /**
+     * Packs the given layer, row, and column into a single <code>int</code>.
+     * <p>
+     *     The layer must be from 0 to 255, and the row and column from 0 to 4095.
+     * </p>
+     *
+     * @param layer the layer of the coordinate
+     * @param row the row of the coordinate
+     * @param col the column of the coordinate
+     * @return the packed coordinate
+     */
+    public static int pack(int layer, int row, int col) {
+        return (layer << (2 * INDEX_BITS)) | (row << INDEX_BITS) | col;
+    }
+
+    /**
+     * Returns the layer of a packed coordinate.
+     *
+     * @param packed the packed coordinate
+     * @return the layer of the coordinate
+     */
+    public static int layerOf(int packed) {
+        return packed >>> (2 * INDEX_BITS);
+    }
+
+    /**
+     * Returns the row of a packed coordinate.
+     *
+     * @param packed the packed coordinate
+     * @return the row of the coordinate
+     */
+    public static int rowOf(int packed) {
+        return (packed >>> INDEX_BITS) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the column of a packed coordinate.
+     *
+     * @param packed the packed coordinate
+     * @return the column of the coordinate
+     */
+    public static int columnOf(int packed) {
+        return packed & INDEX_MASK;
+    }
+
+    /**
+     * Creates a Coordinate object from a packed coordinate.
+     *
+     * @param packed the packed coordinate
+     * @return the <code>Coordinate</code> with the same layer, row, and column
+     */
+    public static Coordinate unpack(int packed) {
+        return new Coordinate(layerOf(packed), rowOf(packed), columnOf(packed));
+    }
 }
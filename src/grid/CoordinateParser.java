@@ -0,0 +1,182 @@
+package edu.colorado.objectgrind.grid;
+
+/**
+ * This class parses coordinates in string format - '[layer][row][column]' - into packed coordinates.
+ * <p>
+ *     The layer is a single digit, the row is one or more digits starting from 1, and the column is one or more
+ *     capital letters: A to Z, then AA to AZ, BA to BZ, and so on for grids wider than 26 columns. For example, "012C"
+ *     is layer 0, row index 11, column index 2, and "11AB" is layer 1, row index 0, column index 27.
+ * </p>
+ * <p>
+ *     Parsing is done in a single pass over the characters, and does not create any objects, so it can be used on
+ *     every input of a game and on long scripts of coordinates.
+ * </p>
+ *
+ * @see Coordinate#pack(int, int, int)
+ */
+public final class CoordinateParser {
+
+    /**
+     * The value returned in place of a packed coordinate when the text is not a valid coordinate.
+     * <p>
+     *     No valid packed coordinate is negative, so this can never be mistaken for one.
+     * </p>
+     */
+    public static final int INVALID = -1;
+
+    /**
+     * The largest row or column index that can be held in a packed coordinate.
+     */
+    private static final int MAX_INDEX = 4095;
+
+    /**
+     * The number of letters that can be used in a column.
+     */
+    private static final int NUM_LETTERS = 26;
+
+    /**
+     * Class constructor that is private, since this class only has static functions.
+     */
+    private CoordinateParser() {
+    }
+
+    /**
+     * Parses an entire string coordinate into a packed coordinate.
+     *
+     * @param text the coordinate in string format
+     * @return the packed coordinate; <code>INVALID</code> if the text is not a valid coordinate
+     * @see #parse(CharSequence, int, int)
+     */
+    public static int parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the characters of the given text from start up to (but not including) end into a packed coordinate.
+     * <p>
+     *     Only the format is checked here; whether or not the coordinate is in bounds of a grid is up to the grid.
+     * </p>
+     *
+     * @param text the text that holds the coordinate
+     * @param start the index of the first character of the coordinate
+     * @param end the index after the last character of the coordinate
+     * @return the packed coordinate; <code>INVALID</code> if the characters are not a valid coordinate
+     */
+    public static int parse(CharSequence text, int start, int end) {
+
+        // There must be at least a layer, a row, and a column
+        if ( end - start < 3 ) return INVALID;
+
+        // The layer is the first digit
+        int pos = start;
+        char c = text.charAt(pos++);
+        if ( !isDigit(c) ) return INVALID;
+        int layer = c - '0';
+
+        // The row is every digit after the layer
+        int row = 0;
+        int row_start = pos;
+        while ( pos < end && isDigit(c = text.charAt(pos)) ) {
+            row = row * 10 + (c - '0');
+            if ( row > MAX_INDEX + 1 ) return INVALID;
+            pos++;
+        }
+        if ( (pos == row_start) | (row == 0) ) return INVALID;
+
+        // The column is every letter after the row
+        int col = 0;
+        int col_start = pos;
+        while ( pos < end && isLetter(c = text.charAt(pos)) ) {
+            col = col * NUM_LETTERS + (c - 'A' + 1);
+            if ( col > MAX_INDEX + 1 ) return INVALID;
+            pos++;
+        }
+        if ( (pos == col_start) | (pos != end) ) return INVALID;
+
+        return Coordinate.pack(layer, row - 1, col - 1);
+    }
+
+    /**
+     * Parses every coordinate in the given text into the given array of packed coordinates.
+     * <p>
+     *     Coordinates are separated by whitespace, commas, or semicolons. A coordinate that is not valid is stored as
+     *     <code>INVALID</code>, so that the position of every coordinate in the text is kept. Parsing stops once the
+     *     array is full.
+     * </p>
+     *
+     * @param text the text that holds the coordinates
+     * @param coords the array that the packed coordinates are stored in
+     * @return the number of coordinates stored in the array
+     * @see #parse(CharSequence, int, int)
+     */
+    public static int parseAll(CharSequence text, int[] coords) {
+
+        int count = 0;
+        int pos = 0;
+        int length = text.length();
+
+        while ( (pos < length) & (count < coords.length) ) {
+
+            // Skip over any separators
+            while ( pos < length && isSeparator(text.charAt(pos)) ) pos++;
+            if ( pos == length ) break;
+
+            // Find the end of the coordinate, and parse it
+            int start = pos;
+            while ( pos < length && !isSeparator(text.charAt(pos)) ) pos++;
+            coords[count++] = parse(text, start, pos);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the string format of a packed coordinate.
+     * <p>
+     *     This is the reverse of parse, and is meant for output rather than for anything that runs once per cell.
+     * </p>
+     *
+     * @param packed the packed coordinate
+     * @return the coordinate in string format
+     */
+    public static String format(int packed) {
+
+        // Build the column letters from the last one to the first
+        StringBuilder letters = new StringBuilder();
+        for ( int col = Coordinate.columnOf(packed) + 1; col > 0; col = (col - 1) / NUM_LETTERS ) {
+            letters.append( (char) ('A' + (col - 1) % NUM_LETTERS) );
+        }
+
+        return "" + Coordinate.layerOf(packed) + (Coordinate.rowOf(packed) + 1) + letters.reverse();
+    }
+
+    /**
+     * Returns whether or not the character is a digit from 0 to 9.
+     *
+     * @param c the character to check
+     * @return <code>true</code> if the character is a digit; <code>false</code> otherwise
+     */
+    private static boolean isDigit(char c) {
+        return (c >= '0') & (c <= '9');
+    }
+
+    /**
+     * Returns whether or not the character is a capital letter from A to Z.
+     *
+     * @param c the character to check
+     * @return <code>true</code> if the character is a capital letter; <code>false</code> otherwise
+     */
+    private static boolean isLetter(char c) {
+        return (c >= 'A') & (c <= 'Z');
+    }
+
+    /**
+     * Returns whether or not the character separates two coordinates.
+     *
+     * @param c the character to check
+     * @return <code>true</code> if the character is whitespace, a comma, or a semicolon; <code>false</code> otherwise
+     */
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) | (c == ',') | (c == ';');
+    }
+}
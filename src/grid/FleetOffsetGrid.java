@@ -0,0 +1,615 @@
+package edu.colorado.objectgrind.grid;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * This class defines a grid that stores the ships that can still move relative to a movable origin on each layer.
+ * <p>
+ *     A ship that has not sunk is stored at its cell minus the origin of its layer, so moving the fleet only moves the
+ *     origins, no matter how big the grid is. HIT cells of those ships move along with them. Sunk ships and every other
+ *     status (MISS, FREE, OCCUPIED, and HIT cells that no moving ship is at) are stored at the cell they are on, and
+ *     stay there when the fleet moves.
+ * </p>
+ * <p>
+ *     Cells relative to an origin wrap around the edges of the grid. Since the fleet is never moved past an edge, no
+ *     two cells of the grid ever share a relative cell.
+ * </p>
+ *
+ * @see Grid
+ * @see GridLocation
+ */
+public class FleetOffsetGrid extends Grid {
+
+    /**
+     * The row of the origin of each layer.
+     */
+    private final int[] origin_rows;
+
+    /**
+     * The column of the origin of each layer.
+     */
+    private final int[] origin_cols;
+
+    /**
+     * The ships that have not sunk, stored relative to the origin of their layer.
+     */
+    private final Ship[][][] moving_ships;
+
+    /**
+     * Whether or not each relative cell of a ship that has not sunk has been HIT.
+     */
+    private final boolean[][][] moving_hits;
+
+    /**
+     * The ships that have sunk, stored at the cell they are on.
+     */
+    private final Ship[][][] pinned_ships;
+
+    /**
+     * The status of each cell of the grid, aside from the HIT cells of ships that have not sunk.
+     */
+    private final LocationStatus[][][] statuses;
+
+    /**
+     * The relative cells of each ship that has not sunk.
+     */
+    private final Map<Ship, ShipCells> moving_cells;
+
+    /**
+     * The cells of each ship that has sunk.
+     */
+    private final Map<Ship, ShipCells> pinned_cells;
+
+    /**
+     * Class constructor specifying the dimensions of the grid: number of layers, rows, and columns.
+     *
+     * @param size the number of rows and columns that the grid will have
+     * @param num_layers the number of layers that the grid will have
+     */
+    public FleetOffsetGrid(int size, int num_layers) {
+        super(size, num_layers, false);
+
+        this.origin_rows = new int[num_layers];
+        this.origin_cols = new int[num_layers];
+
+        this.moving_ships = new Ship[num_layers][size][size];
+        this.moving_hits = new boolean[num_layers][size][size];
+        this.pinned_ships = new Ship[num_layers][size][size];
+        this.statuses = new LocationStatus[num_layers][size][size];
+
+        // Every cell starts out HIDDEN
+        for (int layer = 0; layer < num_layers; layer++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    this.statuses[layer][row][col] = LocationStatus.HIDDEN;
+                }
+            }
+        }
+
+        this.moving_cells = new IdentityHashMap<>();
+        this.pinned_cells = new IdentityHashMap<>();
+    }
+
+    /**
+     * Brings this grid back to how it was created, with no ships, every cell HIDDEN, and the fleet back at the origin.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(this.origin_rows, 0);
+        Arrays.fill(this.origin_cols, 0);
+
+        for (int layer = 0; layer < getNumLayers(); layer++) {
+            for (int row = 0; row < getSize(); row++) {
+                Arrays.fill(this.moving_ships[layer][row], null);
+                Arrays.fill(this.moving_hits[layer][row], false);
+                Arrays.fill(this.pinned_ships[layer][row], null);
+                Arrays.fill(this.statuses[layer][row], LocationStatus.HIDDEN);
+            }
+        }
+
+        this.moving_cells.clear();
+        this.pinned_cells.clear();
+    }
+
+    /**
+     * Returns the row of the origin of the given layer.
+     *
+     * @param layer the layer of the origin
+     * @return how many rows the fleet on the layer has moved south, overall
+     */
+    public int getOriginRow(int layer) {
+        return this.origin_rows[layer];
+    }
+
+    /**
+     * Returns the column of the origin of the given layer.
+     *
+     * @param layer the layer of the origin
+     * @return how many columns the fleet on the layer has moved east, overall
+     */
+    public int getOriginColumn(int layer) {
+        return this.origin_cols[layer];
+    }
+
+    /**
+     * Returns whether or not there is a ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return <code>true</code> if the cell has a ship; <code>false</code> otherwise
+     */
+    @Override
+    public boolean hasShipAt(int layer, int row, int col) {
+        return getShipAt(layer, row, col) != null;
+    }
+
+    /**
+     * Returns the ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>Ship</code> at the cell; <code>null</code> if there is none
+     */
+    @Override
+    public Ship getShipAt(int layer, int row, int col) {
+        Ship ship = this.moving_ships[layer][relativeRow(layer, row)][relativeColumn(layer, col)];
+        return (ship != null) ? ship : this.pinned_ships[layer][row][col];
+    }
+
+    /**
+     * Puts the given ship at the given cell of this grid, replacing any ship that was already there.
+     * <p>
+     *     A ship that has not sunk is put relative to the origin of the layer; a ship that has sunk is put at the cell.
+     * </p>
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param ship the ship to put at the cell
+     */
+    @Override
+    public void setShipAt(int layer, int row, int col, Ship ship) {
+        hashCell(layer, row, col);
+
+        // Take the cell away from the ship that was there, if any
+        clearShipAt(layer, row, col);
+
+        if (ship.hasSunk()) {
+            this.pinned_ships[layer][row][col] = ship;
+            this.pinned_cells.computeIfAbsent(ship, key -> new ShipCells()).add(cellIndex(layer, row, col));
+        }
+        else {
+            int rel_row = relativeRow(layer, row);
+            int rel_col = relativeColumn(layer, col);
+            this.moving_ships[layer][rel_row][rel_col] = ship;
+            this.moving_cells.computeIfAbsent(ship, key -> new ShipCells()).add(cellIndex(layer, rel_row, rel_col));
+        }
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Removes the ship, if any, from the given cell of this grid.
+     * <p>
+     *     If the cell was HIT, then it stays HIT after the ship is gone.
+     * </p>
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    @Override
+    public void removeShipAt(int layer, int row, int col) {
+        hashCell(layer, row, col);
+        clearShipAt(layer, row, col);
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Removes the ship, if any, from the given cell of this grid, without updating the hash.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    private void clearShipAt(int layer, int row, int col) {
+        int rel_row = relativeRow(layer, row);
+        int rel_col = relativeColumn(layer, col);
+
+        Ship moving_ship = this.moving_ships[layer][rel_row][rel_col];
+        if (moving_ship != null) {
+
+            // Leave the HIT behind at the cell
+            if (this.moving_hits[layer][rel_row][rel_col]) this.statuses[layer][row][col] = LocationStatus.HIT;
+            this.moving_hits[layer][rel_row][rel_col] = false;
+
+            this.moving_ships[layer][rel_row][rel_col] = null;
+            forgetCell(this.moving_cells, moving_ship, cellIndex(layer, rel_row, rel_col));
+        }
+
+        Ship pinned_ship = this.pinned_ships[layer][row][col];
+        if (pinned_ship != null) {
+            this.pinned_ships[layer][row][col] = null;
+            forgetCell(this.pinned_cells, pinned_ship, cellIndex(layer, row, col));
+        }
+    }
+
+    /**
+     * Returns the status of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>LocationStatus</code> of the cell
+     */
+    @Override
+    public LocationStatus getStatusAt(int layer, int row, int col) {
+        int rel_row = relativeRow(layer, row);
+        int rel_col = relativeColumn(layer, col);
+
+        if (this.moving_ships[layer][rel_row][rel_col] != null && this.moving_hits[layer][rel_row][rel_col]) {
+            return LocationStatus.HIT;
+        }
+        return this.statuses[layer][row][col];
+    }
+
+    /**
+     * Sets the status of the given cell of this grid.
+     * <p>
+     *     A HIT on a ship that has not sunk is kept with the ship, so that it moves along with the fleet, and the cell
+     *     itself is left HIDDEN. Any other status is kept at the cell.
+     * </p>
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param status the status to give to the cell
+     */
+    @Override
+    public void setStatusAt(int layer, int row, int col, LocationStatus status) {
+        int rel_row = relativeRow(layer, row);
+        int rel_col = relativeColumn(layer, col);
+        hashCell(layer, row, col);
+
+        if (this.moving_ships[layer][rel_row][rel_col] != null) {
+            boolean is_hit = (status == LocationStatus.HIT);
+            this.moving_hits[layer][rel_row][rel_col] = is_hit;
+            this.statuses[layer][row][col] = is_hit ? LocationStatus.HIDDEN : status;
+        }
+        else {
+            this.statuses[layer][row][col] = status;
+        }
+        hashCell(layer, row, col);
+    }
+
+    /**
+     * Sets the status of every cell of this grid that holds the given ship.
+     * <p>
+     *     If the ship has sunk, then it is first pinned to the cells it is on.
+     * </p>
+     *
+     * @param ship the ship whose cells will be updated
+     * @param status the status to give to every cell of the ship
+     */
+    @Override
+    public void setShipStatus(Ship ship, LocationStatus status) {
+        if (ship.hasSunk()) pinShip(ship);
+
+        ShipCells cells = this.moving_cells.get(ship);
+        if (cells != null) {
+            for (int i = 0; i < cells.size(); i++) {
+                int cell = cells.get(i);
+                int layer = cellLayer(cell);
+                setStatusAt(layer, absoluteRow(layer, cellRow(cell)), absoluteColumn(layer, cellColumn(cell)), status);
+            }
+        }
+
+        cells = this.pinned_cells.get(ship);
+        if (cells != null) {
+            for (int i = 0; i < cells.size(); i++) {
+                int cell = cells.get(i);
+                int layer = cellLayer(cell);
+                int row = cellRow(cell);
+                int col = cellColumn(cell);
+                hashCell(layer, row, col);
+                this.statuses[layer][row][col] = status;
+                hashCell(layer, row, col);
+            }
+        }
+    }
+
+    /**
+     * Returns the coordinates of every cell of this grid that holds the given ship.
+     *
+     * @param ship the ship to find
+     * @return the <code>Coordinate</code>s of the cells that the ship is at
+     */
+    @Override
+    public Coordinate[] getShipCoordinates(Ship ship) {
+        ShipCells moving = this.moving_cells.get(ship);
+        ShipCells pinned = this.pinned_cells.get(ship);
+        int num_moving = (moving == null) ? 0 : moving.size();
+        int num_pinned = (pinned == null) ? 0 : pinned.size();
+
+        Coordinate[] coords = new Coordinate[num_moving + num_pinned];
+        for (int i = 0; i < num_moving; i++) {
+            int cell = moving.get(i);
+            int layer = cellLayer(cell);
+            coords[i] = new Coordinate(layer, absoluteRow(layer, cellRow(cell)), absoluteColumn(layer, cellColumn(cell)));
+        }
+        for (int i = 0; i < num_pinned; i++) {
+            int cell = pinned.get(i);
+            coords[num_moving + i] = new Coordinate(cellLayer(cell), cellRow(cell), cellColumn(cell));
+        }
+
+        return coords;
+    }
+
+    /**
+     * Removes the given ship from this grid.
+     *
+     * @param ship_to_remove the ship to be removed
+     * @see Ship#setShipNotPlaced()
+     */
+    @Override
+    public void removeShip(Ship ship_to_remove) {
+
+        // Remove the ship from every cell that it is at, starting from the last one in each index
+        ShipCells cells = this.moving_cells.get(ship_to_remove);
+        while (cells != null && cells.size() > 0) {
+            int cell = cells.get(cells.size() - 1);
+            int layer = cellLayer(cell);
+            removeShipAt(layer, absoluteRow(layer, cellRow(cell)), absoluteColumn(layer, cellColumn(cell)));
+        }
+        cells = this.pinned_cells.get(ship_to_remove);
+        while (cells != null && cells.size() > 0) {
+            int cell = cells.get(cells.size() - 1);
+            removeShipAt(cellLayer(cell), cellRow(cell), cellColumn(cell));
+        }
+        this.moving_cells.remove(ship_to_remove);
+        this.pinned_cells.remove(ship_to_remove);
+
+        // Set the ship's is_placed boolean to false
+        ship_to_remove.setShipNotPlaced();
+    }
+
+    /**
+     * Determines if the fleet of ships on this grid can be moved in the given direction.
+     * <p>
+     *     Only the cells of the ships that have not sunk are checked, so the cost does not depend on the size of the
+     *     grid. As with Grid, a ship cannot go out of bounds or onto a cell that holds a different ship, whether that
+     *     ship has sunk or would move along with it.
+     * </p>
+     *
+     * @param direction the direction that the fleet will try to move
+     * @return <code>true</code> if the fleet can move in the given direction; <code>false</code> otherwise
+     * @see #getRowOffset(Direction)
+     * @see #getColumnOffset(Direction)
+     */
+    @Override
+    public boolean canMoveFleet(Direction direction) {
+        pinSunkShips();
+
+        int row_offset = getRowOffset(direction);
+        int col_offset = getColumnOffset(direction);
+
+        for (Map.Entry<Ship, ShipCells> entry : this.moving_cells.entrySet()) {
+            Ship ship = entry.getKey();
+            ShipCells cells = entry.getValue();
+            for (int i = 0; i < cells.size(); i++) {
+                int cell = cells.get(i);
+                int layer = cellLayer(cell);
+                int new_row = absoluteRow(layer, cellRow(cell)) + row_offset;
+                int new_col = absoluteColumn(layer, cellColumn(cell)) + col_offset;
+
+                // If the ship would go out of bounds or run into a sunk ship
+                if ( (new_row < 0) | (new_row >= getSize()) | (new_col < 0) | (new_col >= getSize()) ) return false;
+                if (this.pinned_ships[layer][new_row][new_col] != null) return false;
+
+                // If the ship would run into a different ship that has not sunk
+                Ship other = this.moving_ships[layer][relativeRow(layer, new_row)][relativeColumn(layer, new_col)];
+                if ( (other != null) && (other != ship) ) return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves the fleet of ships on this grid by the given offsets, by moving the origin of every layer.
+     * <p>
+     *     This function assumes that the fleet can be moved there. Ships that have sunk since the last move are
+     *     pinned to their cells first, so that they stay where they are. As with Grid, a HIT that moves onto a cell
+     *     replaces its status, so a MISS under it is gone once the ship moves on. Only the cells that the moving
+     *     ships are on before or after the move are hashed again.
+     * </p>
+     *
+     * @param row_offset the number of rows to move the fleet down; negative to move it up
+     * @param col_offset the number of columns to move the fleet right; negative to move it left
+     * @see Ship#moveCaptainsQuarters(int, int)
+     */
+    @Override
+    public void moveFleet(int row_offset, int col_offset) {
+        pinSunkShips();
+        hashMovingCells(row_offset, col_offset);
+
+        for (int layer = 0; layer < getNumLayers(); layer++) {
+            this.origin_rows[layer] += row_offset;
+            this.origin_cols[layer] += col_offset;
+        }
+
+        // Move the captain's quarters of every ship that is still moving
+        for (Map.Entry<Ship, ShipCells> entry : this.moving_cells.entrySet()) {
+            entry.getKey().moveCaptainsQuarters(row_offset, col_offset);
+            clearUnderHits(entry.getValue());
+        }
+
+        hashMovingCells(-row_offset, -col_offset);
+    }
+
+    /**
+     * Adds the keys of the cells that the moving ships are on, and of the cells that they are on once moved by the
+     * given offsets, to the hash of this grid, or takes them out.
+     * <p>
+     *     A cell that is in both is hashed once. Called before a move with its offsets, and after it with the
+     *     opposite offsets, this hashes the same cells both times.
+     * </p>
+     *
+     * @param row_offset the number of rows down of the other cells
+     * @param col_offset the number of columns right of the other cells
+     * @see Grid#hashCell(int, int, int)
+     */
+    private void hashMovingCells(int row_offset, int col_offset) {
+        for (ShipCells cells : this.moving_cells.values()) {
+            for (int i = 0; i < cells.size(); i++) {
+                int cell = cells.get(i);
+                int layer = cellLayer(cell);
+                int row = absoluteRow(layer, cellRow(cell));
+                int col = absoluteColumn(layer, cellColumn(cell));
+                hashCell(layer, row, col);
+
+                // The other cell has been hashed already if a moving ship is on it
+                int other_row = row + row_offset;
+                int other_col = col + col_offset;
+                if (this.moving_ships[layer][relativeRow(layer, other_row)][relativeColumn(layer, other_col)] == null) {
+                    hashCell(layer, other_row, other_col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the status under every HIT of the given relative cells, as a HIT that is moved onto a cell replaces
+     * its status, so that the cell is HIDDEN once the ship moves off it again.
+     *
+     * @param cells the relative cells of a ship that has not sunk
+     */
+    private void clearUnderHits(ShipCells cells) {
+        for (int i = 0; i < cells.size(); i++) {
+            int cell = cells.get(i);
+            int layer = cellLayer(cell);
+            int rel_row = cellRow(cell);
+            int rel_col = cellColumn(cell);
+            if (this.moving_hits[layer][rel_row][rel_col]) {
+                int row = absoluteRow(layer, rel_row);
+                int col = absoluteColumn(layer, rel_col);
+                this.statuses[layer][row][col] = LocationStatus.HIDDEN;
+            }
+        }
+    }
+
+    /**
+     * Pins every ship that has sunk, but is still stored relative to an origin, to the cells that it is on.
+     */
+    private void pinSunkShips() {
+        Iterator<Map.Entry<Ship, ShipCells>> entries = this.moving_cells.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Ship, ShipCells> entry = entries.next();
+            if (entry.getKey().hasSunk()) {
+                pinCells(entry.getKey(), entry.getValue());
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Pins the given ship to the cells that it is on, if it is stored relative to an origin.
+     *
+     * @param ship the ship to pin
+     */
+    private void pinShip(Ship ship) {
+        ShipCells cells = this.moving_cells.remove(ship);
+        if (cells != null) pinCells(ship, cells);
+    }
+
+    /**
+     * Moves the given relative cells of a ship to the cells that they are currently on, along with their HITs.
+     *
+     * @param ship the ship being pinned
+     * @param cells the relative cells of the ship
+     */
+    private void pinCells(Ship ship, ShipCells cells) {
+        ShipCells pinned = this.pinned_cells.computeIfAbsent(ship, key -> new ShipCells());
+
+        for (int i = 0; i < cells.size(); i++) {
+            int cell = cells.get(i);
+            int layer = cellLayer(cell);
+            int rel_row = cellRow(cell);
+            int rel_col = cellColumn(cell);
+            int row = absoluteRow(layer, rel_row);
+            int col = absoluteColumn(layer, rel_col);
+
+            if (this.moving_hits[layer][rel_row][rel_col]) this.statuses[layer][row][col] = LocationStatus.HIT;
+            this.moving_hits[layer][rel_row][rel_col] = false;
+            this.moving_ships[layer][rel_row][rel_col] = null;
+
+            this.pinned_ships[layer][row][col] = ship;
+            pinned.add(cellIndex(layer, row, col));
+        }
+    }
+
+    /**
+     * Takes a cell out of the index of the given ship.
+     *
+     * @param index the index that the ship is in
+     * @param ship the ship that is no longer at the cell
+     * @param cell the flat index of the cell
+     */
+    private static void forgetCell(Map<Ship, ShipCells> index, Ship ship, int cell) {
+        ShipCells cells = index.get(ship);
+        if (cells != null) cells.remove(cell);
+    }
+
+    /**
+     * Returns the row, relative to the origin of the given layer, of a row of the grid.
+     *
+     * @param layer the layer of the row
+     * @param row the row of the grid
+     * @return the relative row
+     */
+    private int relativeRow(int layer, int row) {
+        return Math.floorMod(row - this.origin_rows[layer], getSize());
+    }
+
+    /**
+     * Returns the column, relative to the origin of the given layer, of a column of the grid.
+     *
+     * @param layer the layer of the column
+     * @param col the column of the grid
+     * @return the relative column
+     */
+    private int relativeColumn(int layer, int col) {
+        return Math.floorMod(col - this.origin_cols[layer], getSize());
+    }
+
+    /**
+     * Returns the row of the grid of a row relative to the origin of the given layer.
+     *
+     * @param layer the layer of the row
+     * @param rel_row the relative row
+     * @return the row of the grid
+     */
+    private int absoluteRow(int layer, int rel_row) {
+        return Math.floorMod(rel_row + this.origin_rows[layer], getSize());
+    }
+
+    /**
+     * Returns the column of the grid of a column relative to the origin of the given layer.
+     *
+     * @param layer the layer of the column
+     * @param rel_col the relative column
+     * @return the column of the grid
+     */
+    private int absoluteColumn(int layer, int rel_col) {
+        return Math.floorMod(rel_col + this.origin_cols[layer], getSize());
+    }
+}
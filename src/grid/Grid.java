@@ -3,8 +3,8 @@ import edu.colorado.objectgrind.enums.Direction;
 import edu.colorado.objectgrind.enums.LocationStatus;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * This class defines the grid that a player will have throughout a game of battleship.
@@ -16,9 +16,47 @@ public class Grid {
 
     /**
      * The 3D array of Locations that represents the structure of the grid.
+     * <p>
+     *     Grids that keep their cells in another form, such as <code>BitboardGrid</code>, fill this with views of
+     *     their cells as they are asked for.
+     * </p>
      */
     private final Location[][][] grid;
 
+    /**
+     * Indicates whether or not the Locations of this grid hold its cells, rather than being views of them.
+     */
+    private final boolean holds_locations;
+
+    /**
+     * The number of rows and columns in this grid.
+     */
+    private final int size;
+
+    /**
+     * The number of layers in this grid.
+     */
+    private final int num_layers;
+
+    /**
+     * The cells that each ship on this grid is at, so that a ship can be found without searching the entire grid.
+     * <p>
+     *     It is kept up to date by setShipAt and removeShipAt, which every placement and move goes through.
+     * </p>
+     */
+    private final Map<Ship, ShipCells> ship_cells;
+
+    /**
+     * The Zobrist hash of the ships and statuses of the cells of this grid.
+     * <p>
+     *     Every cell that has a ship, or a status other than HIDDEN, adds a pseudo-random key for what is there to the
+     *     hash by XOR, so that it is updated in constant time as cells change. It is kept up to date by setShipAt,
+     *     removeShipAt, and setStatusAt, like ship_cells; subclasses that change cells in bulk update it through
+     *     hashCell.
+     * </p>
+     */
+    private long hash;
+
     /**
      * Class constructor specifying the dimensions of the grid: number of layers, rows, and columns.
      * 
@@ -27,9 +65,32 @@ public class Grid {
      * @see Location
      */
     public Grid(int size, int num_layers) {
+        this(size, num_layers, true);
+    }
+
+    /**
+     * Class constructor specifying the dimensions of the grid, and whether or not it will be made up of Locations.
+     * <p>
+     *     Subclasses that store their cells in another form pass <code>false</code>, and must override every
+     *     cell-level function (hasShipAt, getShipAt, setShipAt, removeShipAt, getStatusAt, setStatusAt) along with
+     *     removeShip, setShipStatus, and getShipCoordinates, keeping the hash up to date through hashCell. Their
+     *     Locations are then created only when asked for, and read from and write to those functions.
+     * </p>
+     *
+     * @param size the number of rows and columns that the grid will have
+     * @param num_layers the number of layers that the grid will have
+     * @param create_locations whether or not a Location is created for every cell of the grid
+     */
+    protected Grid(int size, int num_layers, boolean create_locations) {
+
+        this.size = size;
+        this.num_layers = num_layers;
+        this.ship_cells = new IdentityHashMap<>();
+        this.holds_locations = create_locations;
 
         // Create the grid
         this.grid = new Location[num_layers][size][size];
+        if ( !create_locations ) return;
 
         // Initialize each location in the grid
         for(int layer = 0; layer < num_layers; layer++) {
@@ -41,15 +102,73 @@ public class Grid {
         }
     }
 
+    /**
+     * Brings this grid back to how it was created, with no ships and every cell HIDDEN, without creating any objects.
+     * <p>
+     *     The cell index of every ship is emptied rather than dropped, so that a grid which is reset and used again
+     *     with the same ships does not have to create them again. Subclasses that store their cells in another form
+     *     must override this to clear them as well.
+     * </p>
+     */
+    public void reset() {
+
+        if ( this.holds_locations ) {
+            for (int layer = 0; layer < this.num_layers; layer++) {
+                for (int row = 0; row < this.size; row++) {
+                    for (int col = 0; col < this.size; col++) {
+                        Location location = this.grid[layer][row][col];
+                        location.removeShip();
+                        location.setLocationStatus(LocationStatus.HIDDEN);
+                    }
+                }
+            }
+        }
+
+        for ( ShipCells cells : this.ship_cells.values() ) cells.clear();
+        this.hash = 0L;
+    }
+
     /**
      * Returns the entire 3D grid.
      * 
      * @return the 3D array of locations from this grid
      */
     public Location[][][] getGrid() {
+
+        // Make sure that every cell has a view, if this grid does not hold Locations
+        if ( !this.holds_locations ) {
+            for (int layer = 0; layer < this.num_layers; layer++) {
+                for (int row = 0; row < this.size; row++) {
+                    for (int col = 0; col < this.size; col++) {
+                        getLocationByIndex(layer, row, col);
+                    }
+                }
+            }
+        }
+
         return this.grid;
     }
 
+    /**
+     * Returns the number of rows (and columns) in this grid.
+     *
+     * @return the current value of size
+     * @see #size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of layers in this grid.
+     *
+     * @return the current value of num_layers
+     * @see #num_layers
+     */
+    public int getNumLayers() {
+        return this.num_layers;
+    }
+
     /**
      * Returns a Location in this grid, given a row, column, and layer.
      * 
@@ -57,9 +176,289 @@ public class Grid {
      * @param row the row of the Location to be returned
      * @param col the column of the location to be returned
      * @return the <code>Location</code> at the given coordinate
+     * @see GridLocation
      */
     public Location getLocationByIndex(int layer, int row, int col) {
-        return grid[layer][row][col];
+
+        // Create a view of the cell the first time it is asked for, if this grid does not hold Locations
+        Location location = grid[layer][row][col];
+        if (location == null) {
+            location = new GridLocation(this, layer, row, col);
+            grid[layer][row][col] = location;
+        }
+
+        return location;
+    }
+
+    /**
+     * Returns whether or not there is a ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return <code>true</code> if the cell has a ship; <code>false</code> otherwise
+     * @see Location#hasShip()
+     */
+    public boolean hasShipAt(int layer, int row, int col) {
+        return grid[layer][row][col].hasShip();
+    }
+
+    /**
+     * Returns the ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>Ship</code> at the cell; <code>null</code> if there is none
+     * @see Location#getShip()
+     */
+    public Ship getShipAt(int layer, int row, int col) {
+        return grid[layer][row][col].getShip();
+    }
+
+    /**
+     * Puts the given ship at the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param ship the ship to put at the cell
+     * @see Location#setShip(Ship)
+     */
+    public void setShipAt(int layer, int row, int col, Ship ship) {
+
+        // Keep the index of the ship that was here, if any, and of the new ship up to date
+        Ship old_ship = grid[layer][row][col].getShip();
+        if (old_ship != ship) {
+            int cell = cellIndex(layer, row, col);
+            if (old_ship != null) forgetShipCell(old_ship, cell);
+            this.ship_cells.computeIfAbsent(ship, key -> new ShipCells()).add(cell);
+            this.hash ^= shipKey(cell, old_ship) ^ shipKey(cell, ship);
+        }
+
+        grid[layer][row][col].setShip(ship);
+    }
+
+    /**
+     * Removes the ship, if any, from the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @see Location#removeShip()
+     */
+    public void removeShipAt(int layer, int row, int col) {
+
+        // Take the cell out of the index of the ship that was here, if any
+        Ship old_ship = grid[layer][row][col].getShip();
+        if (old_ship != null) {
+            int cell = cellIndex(layer, row, col);
+            forgetShipCell(old_ship, cell);
+            this.hash ^= shipKey(cell, old_ship);
+        }
+
+        grid[layer][row][col].removeShip();
+    }
+
+    /**
+     * Returns the status of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the <code>LocationStatus</code> of the cell
+     * @see Location#getLocationStatus()
+     */
+    public LocationStatus getStatusAt(int layer, int row, int col) {
+        return grid[layer][row][col].getLocationStatus();
+    }
+
+    /**
+     * Sets the status of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param status the status to give to the cell
+     * @see Location#setLocationStatus(LocationStatus)
+     */
+    public void setStatusAt(int layer, int row, int col, LocationStatus status) {
+        int cell = cellIndex(layer, row, col);
+        this.hash ^= statusKey(cell, grid[layer][row][col].getLocationStatus()) ^ statusKey(cell, status);
+        grid[layer][row][col].setLocationStatus(status);
+    }
+
+    /**
+     * Sets the status of every cell of this grid that holds the given ship.
+     * <p>
+     *     This is used to mark an entire ship as HIT when it is sunk.
+     * </p>
+     *
+     * @param ship the ship whose cells will be updated
+     * @param status the status to give to every cell of the ship
+     * @see #setStatusAt(int, int, int, LocationStatus)
+     */
+    public void setShipStatus(Ship ship, LocationStatus status) {
+
+        ShipCells cells = this.ship_cells.get(ship);
+        if (cells == null) return;
+
+        // Update the status of every cell that the ship is at
+        for (int i = 0; i < cells.size(); i++) {
+            int cell = cells.get(i);
+            setStatusAt(cellLayer(cell), cellRow(cell), cellColumn(cell), status);
+        }
+    }
+
+    /**
+     * Returns the coordinates of every cell of this grid that holds the given ship.
+     * <p>
+     *     The coordinates are in no particular order. If the ship is not on this grid, then the array is empty.
+     * </p>
+     *
+     * @param ship the ship to find
+     * @return the <code>Coordinate</code>s of the cells that the ship is at
+     */
+    public Coordinate[] getShipCoordinates(Ship ship) {
+
+        ShipCells cells = this.ship_cells.get(ship);
+        if (cells == null) return new Coordinate[0];
+
+        Coordinate[] coords = new Coordinate[cells.size()];
+        for (int i = 0; i < coords.length; i++) {
+            int cell = cells.get(i);
+            coords[i] = new Coordinate(cellLayer(cell), cellRow(cell), cellColumn(cell));
+        }
+
+        return coords;
+    }
+
+    /**
+     * Returns the Zobrist hash of the ships and statuses of the cells of this grid.
+     * <p>
+     *     Two grids of the same size with the same kind of ship and the same status at every cell have the same hash,
+     *     however they store their cells, so the hash can be used to find positions that have been seen before.
+     *     Ships are told apart by their class only, as two ships of the same kind that trade places leave the
+     *     position as it was. A grid with no ships and every cell HIDDEN has a hash of 0.
+     * </p>
+     *
+     * @return the current value of hash
+     * @see #hash
+     */
+    public long getHash() {
+        return this.hash;
+    }
+
+    /**
+     * Adds the key of what is at the given cell to the hash of this grid, or takes it out if it was already in.
+     * <p>
+     *     Subclasses that change cells without going through setShipAt, removeShipAt, and setStatusAt call this for
+     *     every cell that may change, once before the change and once after.
+     * </p>
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    protected final void hashCell(int layer, int row, int col) {
+        int cell = cellIndex(layer, row, col);
+        this.hash ^= shipKey(cell, getShipAt(layer, row, col)) ^ statusKey(cell, getStatusAt(layer, row, col));
+    }
+
+    /**
+     * Returns the key of the given ship being at the given cell.
+     *
+     * @param cell the flat index of the cell
+     * @param ship the ship at the cell; <code>null</code> if there is none
+     * @return the key of the ship at the cell; 0 if there is no ship
+     */
+    private static long shipKey(int cell, Ship ship) {
+        return (ship == null) ? 0L : zobristKey(ship.getClass().getName().hashCode(), cell);
+    }
+
+    /**
+     * Returns the key of the given status being at the given cell.
+     *
+     * @param cell the flat index of the cell
+     * @param status the status of the cell
+     * @return the key of the status at the cell; 0 if it is HIDDEN
+     */
+    private static long statusKey(int cell, LocationStatus status) {
+        return (status == LocationStatus.HIDDEN) ? 0L : zobristKey(status.ordinal(), cell);
+    }
+
+    /**
+     * Returns the pseudo-random key of a feature at a cell, which is always the same for the same feature and cell.
+     * <p>
+     *     The key is mixed from the feature and cell as SplitMix64 does, which gives the same spread as a table of
+     *     random numbers without keeping one for every size of grid.
+     * </p>
+     *
+     * @param feature what is at the cell
+     * @param cell the flat index of the cell
+     * @return the key of the feature at the cell
+     */
+    private static long zobristKey(int feature, int cell) {
+        long z = (((long) feature << 32) | cell) * 0x9E3779B97F4A7C15L + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Takes a cell out of the index of the given ship.
+     *
+     * @param ship the ship that is no longer at the cell
+     * @param cell the flat index of the cell
+     */
+    private void forgetShipCell(Ship ship, int cell) {
+        ShipCells cells = this.ship_cells.get(ship);
+        if (cells != null) cells.remove(cell);
+    }
+
+    /**
+     * Returns the flat index of the given cell of this grid.
+     *
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the index of the cell when the layers, rows, and columns are laid out one after another
+     */
+    protected int cellIndex(int layer, int row, int col) {
+        return (layer * this.size + row) * this.size + col;
+    }
+
+    /**
+     * Returns the layer of a flat cell index.
+     *
+     * @param cell the flat index of the cell
+     * @return the layer of the cell
+     * @see #cellIndex(int, int, int)
+     */
+    protected int cellLayer(int cell) {
+        return cell / (this.size * this.size);
+    }
+
+    /**
+     * Returns the row of a flat cell index.
+     *
+     * @param cell the flat index of the cell
+     * @return the row of the cell
+     * @see #cellIndex(int, int, int)
+     */
+    protected int cellRow(int cell) {
+        return (cell / this.size) % this.size;
+    }
+
+    /**
+     * Returns the column of a flat cell index.
+     *
+     * @param cell the flat index of the cell
+     * @return the column of the cell
+     * @see #cellIndex(int, int, int)
+     */
+    protected int cellColumn(int cell) {
+        return cell % this.size;
     }
 
     /**
@@ -72,33 +471,47 @@ public class Grid {
      * @param coord_str the coordinate in string format
      * @return the <code>Coordinate</code> converted from the input string
      * @see Coordinate
+     * @see #stringCoordToPackedCoord(CharSequence)
      */
     public Coordinate stringCoordToIntCoord(String coord_str) {
+        return Coordinate.unpack( stringCoordToPackedCoord(coord_str) );
+    }
 
-        // Extract the layer, row and column from the coordinate
-        int new_coord_layer = Integer.parseInt( coord_str.substring(0, 1) );
-        int new_coord_row = Integer.parseInt( coord_str.substring(1, coord_str.length()-1) ) - 1;
-        int new_coord_col = coord_str.charAt(coord_str.length()-1) - 'A';
-
-        return new Coordinate(new_coord_layer, new_coord_row, new_coord_col);
+    /**
+     * Converts an input coordinate as a string to a packed coordinate, without creating any objects.
+     *
+     * @param coord_str the coordinate in string format
+     * @return the packed coordinate; <code>CoordinateParser.INVALID</code> if the input is not a valid format
+     * @see CoordinateParser#parse(CharSequence)
+     */
+    public int stringCoordToPackedCoord(CharSequence coord_str) {
+        return CoordinateParser.parse(coord_str);
     }
 
     /**
      * Determines if the entered string coordinate is a valid format - '[layer][row][column]'.
+     * <p>
+     *     The row starts from 1, and the column may be more than one letter for grids wider than 26 columns.
+     * </p>
      * 
      * @param coordinate the coordinate in string format
      * @return <code>true</code> if the input is a valid format; <code>false</code> otherwise
-     * 
-     * @see Pattern
-     * @see Matcher
+     * @see CoordinateParser#parse(CharSequence)
      */
     public boolean isValidCoordinateFormat(String coordinate) {
+        return CoordinateParser.parse(coordinate) != CoordinateParser.INVALID;
+    }
 
-        // Set up regex to determine if the coordinate has the proper format
-        Pattern coord_pattern = Pattern.compile("^[0-9]{2,}[A-Z]$");
-        Matcher coord_matcher = coord_pattern.matcher(coordinate);
-
-        return coord_matcher.find();
+    /**
+     * Determines if the given packed coordinate is in bounds.
+     *
+     * @param coord the packed coordinate to be bounds checked
+     * @return <code>true</code> if the coordinate is in bounds; <code>false</code> otherwise
+     * @see #isCoordinateInBounds(int, int, int)
+     */
+    public boolean isPackedCoordinateInBounds(int coord) {
+        if ( coord == CoordinateParser.INVALID ) return false;
+        return isCoordinateInBounds(Coordinate.layerOf(coord), Coordinate.rowOf(coord), Coordinate.columnOf(coord));
     }
 
     /**
@@ -112,18 +525,26 @@ public class Grid {
      * @return <code>true</code> if the coordinate is in bounds; <code>false</code> otherwise
      */
     public boolean isCoordinateInBounds(Coordinate coord) {
+        return isCoordinateInBounds(coord.getLayer(), coord.getRow(), coord.getColumn());
+    }
 
-        // Get the row, layer, and column of the coordinate
-        int row = coord.getRow();
-        int layer = coord.getLayer();
-        int col = coord.getColumn();
+    /**
+     * Determines if the given layer, row, and column are in bounds.
+     *
+     * @param layer the layer to be bounds checked
+     * @param row the row to be bounds checked
+     * @param col the column to be bounds checked
+     * @return <code>true</code> if the cell is in bounds; <code>false</code> otherwise
+     * @see #isCoordinateInBounds(Coordinate)
+     */
+    public boolean isCoordinateInBounds(int layer, int row, int col) {
 
         // If the layer is in bounds
-        if ( (0 <= layer) & (layer < this.grid.length) ) {
+        if ( (0 <= layer) & (layer < this.num_layers) ) {
             
             // If the row and column are BOTH within bounds, then return true
-            boolean valid_row = (0 <= row) & (row < this.grid[layer].length);
-            boolean valid_col = (0 <= col) & (col < this.grid[layer].length);
+            boolean valid_row = (0 <= row) & (row < this.size);
+            boolean valid_col = (0 <= col) & (col < this.size);
             return valid_row & valid_col;
         }
 
@@ -144,30 +565,45 @@ public class Grid {
      * @param head the head coordinate where the ship will be placed
      * @param tail the tail coordinate where the ship will be placed
      * @return <code>true</code> if the ship can be placed between the given head and tail; <code>false</code> otherwise
-     * @see #isValidCoordinateFormat(String) 
-     * @see #stringCoordToIntCoord(String) 
-     * @see Ship#performIsValidPlacement(Coordinate, Coordinate) 
-     * @see Ship#performCanPlaceShip(Grid, Coordinate, Coordinate) 
+     * @see #stringCoordToPackedCoord(CharSequence)
+     * @see #shipCanBePlaced(Ship, int, int)
      */
     public boolean shipCanBePlaced(Ship ship_to_place, String head, String tail) {
 
+        // Convert the input coordinates to packed coordinates, which also checks that they are a valid format
+        int coord_head = stringCoordToPackedCoord(head);
+        int coord_tail = stringCoordToPackedCoord(tail);
+
         // If both coordinates are a valid format
-        if ( isValidCoordinateFormat(head) & isValidCoordinateFormat(tail) ) {
+        if ( (coord_head != CoordinateParser.INVALID) & (coord_tail != CoordinateParser.INVALID) ) {
+            return shipCanBePlaced(ship_to_place, coord_head, coord_tail);
+        }
 
-            // Convert the input coordinates to a Coordinate object
-            Coordinate coord_head = stringCoordToIntCoord(head);
-            Coordinate coord_tail = stringCoordToIntCoord(tail);
+        return false;
+    }
 
-            // If both coordinates are in bounds
-            if ( isCoordinateInBounds(coord_head) & isCoordinateInBounds(coord_tail) ) {
+    /**
+     * Checks that the given ship can be placed between the given packed head and tail coordinates.
+     * <p>
+     *     This does the same checks as the string version, other than the format, without creating any Coordinates.
+     * </p>
+     *
+     * @param ship_to_place the ship that is going to be placed
+     * @param head the packed head coordinate where the ship will be placed
+     * @param tail the packed tail coordinate where the ship will be placed
+     * @return <code>true</code> if the ship can be placed between the given head and tail; <code>false</code> otherwise
+     * @see Coordinate#pack(int, int, int)
+     * @see Ship#performIsValidLayer(int)
+     * @see Ship#performIsValidPlacement(int, int)
+     * @see Ship#performCanPlaceShip(Grid, int, int)
+     */
+    public boolean shipCanBePlaced(Ship ship_to_place, int head, int tail) {
 
-                // If the placement of the ship is valid, i.e. not diagonal, tail to the right of or below head
-                if ( ship_to_place.performIsValidPlacement(coord_head, coord_tail) ) {
+        // If both coordinates are in bounds, and on a layer that the ship can be placed on
+        if ( isPackedCoordinateInBounds(head) & isPackedCoordinateInBounds(tail) && ship_to_place.performIsValidLayer(head) ) {
 
-                    // If the ship can be placed at the given position, i.e. no ship occupies any of the positions that it will cover
-                    return ship_to_place.performCanPlaceShip(this, coord_head, coord_tail);
-                }
-            }
+            // If the placement of the ship is valid, and no ship occupies any of the positions that it will cover
+            if ( ship_to_place.performIsValidPlacement(head, tail) ) return ship_to_place.performCanPlaceShip(this, head, tail);
         }
 
         return false;
@@ -190,26 +626,38 @@ public class Grid {
         ship_to_place.performPlacement(this, head, tail);
     }
 
+    /**
+     * Places a ship on this grid between the packed head and tail coordinates.
+     * <p>
+     *     This function assumes that the ship can in fact be placed.
+     * </p>
+     *
+     * @param ship_to_place the ship to be placed
+     * @param head the packed head coordinate of where the ship will be placed
+     * @param tail the packed tail coordinate of where the ship will be placed
+     * @see Ship#performPlacement(Grid, int, int)
+     */
+    public void placeShip(Ship ship_to_place, int head, int tail) {
+        ship_to_place.performPlacement(this, head, tail);
+    }
+
     /**
      * Removes the given ship from this grid.
      *
      * @param ship_to_remove the ship to be removed
-     * @see Location#removeShip()
+     * @see #removeShipAt(int, int, int)
      * @see Ship#setShipNotPlaced()
      */
     public void removeShip(Ship ship_to_remove) {
 
-        // Find all location where the current ship is and remove it
-        for (Location[][] locations : this.grid) {
-
-            for (int row = 0; row < this.grid[0].length; row++) {
-
-                for (int col = 0; col < this.grid[0][0].length; col++) {
-
-                    Location curr_location = locations[row][col];
-                    if (curr_location.getShip() == ship_to_remove) curr_location.removeShip();
-                }
+        // Remove the ship from every cell that it is at, starting from the last one in its index
+        ShipCells cells = this.ship_cells.get(ship_to_remove);
+        if (cells != null) {
+            while (cells.size() > 0) {
+                int cell = cells.get(cells.size() - 1);
+                removeShipAt(cellLayer(cell), cellRow(cell), cellColumn(cell));
             }
+            this.ship_cells.remove(ship_to_remove);
         }
 
         // Set the ship's is_placed boolean to false
@@ -224,35 +672,55 @@ public class Grid {
      * @see Direction
      */
     public int[] getOffset(Direction direction) {
+        return new int[] {getRowOffset(direction), getColumnOffset(direction)};
+    }
 
-        // Initialize the offsets
-        int row_offset = 0;
-        int col_offset = 0;
+    /**
+     * Gets the row offset for moving a fleet in the given direction.
+     *
+     * @param direction the direction that will determine the value returned
+     * @return -1 for NORTH, 1 for SOUTH, and 0 otherwise
+     * @see Direction
+     */
+    public int getRowOffset(Direction direction) {
 
         switch(direction) {
 
             // Move the fleet up one row
             case NORTH:
-                row_offset = -1;
-                break;
-
-            // Move the fleet right one column
-            case EAST:
-                col_offset = 1;
-                break;
+                return -1;
 
             // Move the fleet down one row
             case SOUTH:
-                row_offset = 1;
-                break;
+                return 1;
+
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Gets the column offset for moving a fleet in the given direction.
+     *
+     * @param direction the direction that will determine the value returned
+     * @return 1 for EAST, -1 for WEST, and 0 otherwise
+     * @see Direction
+     */
+    public int getColumnOffset(Direction direction) {
+
+        switch(direction) {
+
+            // Move the fleet right one column
+            case EAST:
+                return 1;
 
             // Move the fleet left one column
             case WEST:
-                col_offset = -1;
-                break;
-        }
+                return -1;
 
-        return new int[] {row_offset, col_offset};
+            default:
+                return 0;
+        }
     }
 
     /**
@@ -264,49 +732,36 @@ public class Grid {
      *
      * @param direction the direction that the fleet will try to move
      * @return <code>true</code> if the fleet can move in the given direction; <code>false</code> otherwise
-     * @see #getOffset(Direction)
-     * @see #isCoordinateInBounds(Coordinate)
-     * @see Location#hasShip()
-     * @see Location#getShip()
+     * @see #getRowOffset(Direction)
+     * @see #getColumnOffset(Direction)
+     * @see #isCoordinateInBounds(int, int, int)
+     * @see #hasShipAt(int, int, int)
+     * @see #getShipAt(int, int, int)
      */
     public boolean canMoveFleet(Direction direction) {
 
         // Set the offsets for where we want to move the fleet
-        int[] offset = getOffset(direction);
-        int row_offset = offset[0];
-        int col_offset = offset[1];
+        int row_offset = getRowOffset(direction);
+        int col_offset = getColumnOffset(direction);
 
         // If there is any ship that is not sunk that would run into another ship or go out of bounds, then we do NOT move the fleet
-        for (int layer = 0; layer < this.grid.length; layer++) {
-            for (int row = 0; row < this.grid[0].length; row++) {
-                for (int col = 0; col < this.grid[0][0].length; col++) {
-
-                    // If the current coordinate is in bounds
-                    if ( isCoordinateInBounds(new Coordinate(layer,row,col)) ) {
+        for (int layer = 0; layer < this.num_layers; layer++) {
+            for (int row = 0; row < this.size; row++) {
+                for (int col = 0; col < this.size; col++) {
 
-                        // Get the current location
-                        Location curr_location = grid[layer][row][col];
+                    // if the current location has a ship
+                    if ( hasShipAt(layer, row, col) ) {
 
-                        // if the current location has a ship
-                        if ( curr_location.hasShip() ) {
+                        // If the ship has not sunk
+                        Ship curr_ship = getShipAt(layer, row, col);
+                        if ( !curr_ship.hasSunk() ) {
 
-                            // If the ship has not sunk
-                            if ( !curr_location.getShip().hasSunk() ) {
+                            // If where the ship will move is out of bounds
+                            if (!isCoordinateInBounds(layer, row+row_offset, col+col_offset)) return false;
 
-                                // If where the ship will move is out of bounds
-                                if (!isCoordinateInBounds(new Coordinate(layer,row+row_offset,col+col_offset))) return false;
-                                else {
-
-                                    // Get the new location
-                                    Location new_location = grid[layer][row+row_offset][col+col_offset];
-
-                                    // if the new location has a ship
-                                    if ( new_location.hasShip()) {
-
-                                        // if the ships are different, then return false
-                                        if (curr_location.getShip() != new_location.getShip() ) return false;
-                                    }
-                                }
+                            // if the new location has a different ship, then return false
+                            if ( hasShipAt(layer, row+row_offset, col+col_offset) ) {
+                                if (curr_ship != getShipAt(layer, row+row_offset, col+col_offset) ) return false;
                             }
                         }
                     }
@@ -335,45 +790,53 @@ public class Grid {
      * @param row_offset the row offset corresponding to the direction the ship will move
      * @param col_offset the column offset corresponding to the direction the ship will move
      * @see #isCoordinateInBounds(Coordinate)
-     * @see Location
+     * @see #setShipAt(int, int, int, Ship)
      * @see Ship#hasSunk()
+     * @see Ship#moveCaptainsQuarters(int, int)
      */
     public void moveShip(Coordinate curr_coord, int row_offset, int col_offset) {
+        moveShip(curr_coord.getLayer(), curr_coord.getRow(), curr_coord.getColumn(), row_offset, col_offset);
+    }
 
-        // Get the layer, row, column of the current coordinate
-        int layer = curr_coord.getLayer();
-        int row = curr_coord.getRow();
-        int col = curr_coord.getColumn();
+    /**
+     * Moves a ship at the given cell according to the given offsets, if the cell has a ship.
+     *
+     * @param layer the layer of the cell that will have its ship moved
+     * @param row the row of the cell that will have its ship moved
+     * @param col the column of the cell that will have its ship moved
+     * @param row_offset the row offset corresponding to the direction the ship will move
+     * @param col_offset the column offset corresponding to the direction the ship will move
+     * @see #moveShip(Coordinate, int, int)
+     */
+    public void moveShip(int layer, int row, int col, int row_offset, int col_offset) {
 
         // If both locations are in bounds
-        if ( isCoordinateInBounds(curr_coord) & isCoordinateInBounds( new Coordinate(layer, row+row_offset, col+col_offset) ) ) {
-
-            // Get the current location
-            Location curr_location = this.grid[layer][row][col];
+        if ( isCoordinateInBounds(layer, row, col) & isCoordinateInBounds(layer, row+row_offset, col+col_offset) ) {
 
             // if the current location has a ship
-            if (curr_location.hasShip()) {
+            if (hasShipAt(layer, row, col)) {
 
                 // If the ship has not sunk
-                if (!curr_location.getShip().hasSunk()) {
+                Ship curr_ship = getShipAt(layer, row, col);
+                if (!curr_ship.hasSunk()) {
 
-                    // Get the new location that the current location's ship is moving to
-                    Location new_location = grid[layer][row + row_offset][col + col_offset];
+                    // Move the captain's quarters along with the cell that it is at
+                    if ( curr_ship.checkCaptainsQuarter(this, layer, row, col) ) curr_ship.moveCaptainsQuarters(row_offset, col_offset);
 
                     // Set the ship of the new location equal to the the ship at the current location
-                    new_location.setShip(curr_location.getShip());
+                    setShipAt(layer, row + row_offset, col + col_offset, curr_ship);
 
                     // Remove the ship from the current location
-                    grid[layer][row][col].removeShip();
+                    removeShipAt(layer, row, col);
 
                     // If the location of the current status is HIT
-                    if (curr_location.getLocationStatus() == LocationStatus.HIT) {
+                    if (getStatusAt(layer, row, col) == LocationStatus.HIT) {
 
                         // make the new location HIT
-                        new_location.setLocationStatus(LocationStatus.HIT);
+                        setStatusAt(layer, row + row_offset, col + col_offset, LocationStatus.HIT);
 
                         // make the old location HIDDEN
-                        grid[layer][row][col].setLocationStatus(LocationStatus.HIDDEN);
+                        setStatusAt(layer, row, col, LocationStatus.HIDDEN);
                     }
 
                     // otherwise keep the location status the same
@@ -389,39 +852,42 @@ public class Grid {
      * </p>
      *
      * @param direction the direction to move the fleet
-     * @see #moveShip(Coordinate, int, int)
+     * @see #moveFleet(int, int)
      */
     public void moveFleet(Direction direction) {
+        moveFleet(getRowOffset(direction), getColumnOffset(direction));
+    }
 
-        // Get the offsets for where we want to move the fleet
-        int[] offset = getOffset(direction);
-        int row_offset = offset[0];
-        int col_offset = offset[1];
-
-        // Loop over the entire grid and move all of the ships that have not sunk
-        for (int layer = 0; layer < this.grid.length; layer++) {
-
-            if ( (col_offset == -1) | (row_offset == -1) ) { // NORTH or WEST
-
-                for (int row = 0; row < this.grid[0].length; row++) {
-                    for (int col = 0; col < this.grid[0][0].length; col++) {
+    /**
+     * Moves the fleet of ships on this grid by the given offsets, in one pass.
+     * <p>
+     *     This function assumes that the fleet can be moved there, i.e. that it is where a series of moves that
+     *     could each be made would take it. The cells are visited starting from the side that the fleet moves towards,
+     *     so that every cell a ship moves to has already been moved out of.
+     * </p>
+     *
+     * @param row_offset the number of rows to move the fleet down; negative to move it up
+     * @param col_offset the number of columns to move the fleet right; negative to move it left
+     * @see #moveShip(int, int, int, int, int)
+     */
+    public void moveFleet(int row_offset, int col_offset) {
+        if ( (row_offset == 0) & (col_offset == 0) ) return;
 
-                        // If there is a ship at the current location, try to move it
-                        moveShip(new Coordinate(layer, row, col), row_offset, col_offset);
-                    }
-                }
-            }
-            else { // EAST or SOUTH
+        // Go through the rows and columns towards the opposite side from where the fleet is moving
+        int first_row = row_offset <= 0 ? 0 : this.size - 1;
+        int row_step = row_offset <= 0 ? 1 : -1;
+        int first_col = col_offset <= 0 ? 0 : this.size - 1;
+        int col_step = col_offset <= 0 ? 1 : -1;
 
-                for (int row = this.grid[0].length-1; row >= 0; row--) {
-                    for (int col = this.grid[0][0].length-1; col >= 0; col--) {
+        // Loop over the entire grid and move all of the ships that have not sunk
+        for (int layer = 0; layer < this.num_layers; layer++) {
+            for (int row = first_row; (row >= 0) & (row < this.size); row += row_step) {
+                for (int col = first_col; (col >= 0) & (col < this.size); col += col_step) {
 
-                        // If there is a ship at the current location, try to move it
-                        moveShip(new Coordinate(layer, row, col), row_offset, col_offset);
-                    }
+                    // If there is a ship at the current location, try to move it
+                    moveShip(layer, row, col, row_offset, col_offset);
                 }
             }
         }
     }
 }
-
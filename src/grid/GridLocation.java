@@ -0,0 +1,118 @@
+package edu.colorado.objectgrind.grid;
+
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+/**
+ * This class defines a Location that does not hold any state of its own, but instead reads from and writes to one
+ * cell of a grid.
+ * <p>
+ *     It is handed out by grids that do not store their cells as Location objects, so that code which works with
+ *     Locations keeps working against them.
+ * </p>
+ *
+ * @see Location
+ * @see BitboardGrid
+ */
+class GridLocation extends Location {
+
+    /**
+     * The grid that this location reads from and writes to.
+     */
+    private final Grid grid;
+
+    /**
+     * The layer of the cell that this location represents.
+     */
+    private final int layer;
+
+    /**
+     * The row of the cell that this location represents.
+     */
+    private final int row;
+
+    /**
+     * The column of the cell that this location represents.
+     */
+    private final int col;
+
+    /**
+     * Class constructor specifying the grid and the cell that this location represents.
+     *
+     * @param grid the grid that holds the cell
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    GridLocation(Grid grid, int layer, int row, int col) {
+        this.grid = grid;
+        this.layer = layer;
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Returns whether or not the cell has a ship.
+     *
+     * @return <code>true</code> if the cell has a ship; <code>false</code> otherwise
+     * @see Grid#hasShipAt(int, int, int)
+     */
+    @Override
+    public boolean hasShip() {
+        return this.grid.hasShipAt(this.layer, this.row, this.col);
+    }
+
+    /**
+     * Returns the status of the cell.
+     *
+     * @return the status of the cell
+     * @see Grid#getStatusAt(int, int, int)
+     */
+    @Override
+    public LocationStatus getLocationStatus() {
+        return this.grid.getStatusAt(this.layer, this.row, this.col);
+    }
+
+    /**
+     * Sets the status of the cell.
+     *
+     * @param status the status to give to the cell
+     * @see Grid#setStatusAt(int, int, int, LocationStatus)
+     */
+    @Override
+    public void setLocationStatus(LocationStatus status) {
+        this.grid.setStatusAt(this.layer, this.row, this.col, status);
+    }
+
+    /**
+     * Returns the ship of the cell.
+     *
+     * @return the ship at the cell; <code>null</code> if there is none
+     * @see Grid#getShipAt(int, int, int)
+     */
+    @Override
+    public Ship getShip() {
+        return this.grid.getShipAt(this.layer, this.row, this.col);
+    }
+
+    /**
+     * Sets the ship of the cell.
+     *
+     * @param ship the ship to put at the cell
+     * @see Grid#setShipAt(int, int, int, Ship)
+     */
+    @Override
+    public void setShip(Ship ship) {
+        this.grid.setShipAt(this.layer, this.row, this.col, ship);
+    }
+
+    /**
+     * Removes the ship from the cell.
+     *
+     * @see Grid#removeShipAt(int, int, int)
+     */
+    @Override
+    public void removeShip() {
+        this.grid.removeShipAt(this.layer, this.row, this.col);
+    }
+}
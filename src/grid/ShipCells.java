@@ -0,0 +1,86 @@
+package edu.colorado.objectgrind.grid;
+
+import java.util.Arrays;
+
+/**
+ * This class defines the list of cells of a grid that one ship is at.
+ * <p>
+ *     A Grid keeps one of these for every ship that is on it, so that finding, removing, or sinking a ship only
+ *     touches that ship's cells instead of the entire grid. Cells are stored as the flat cell index used by the grid.
+ * </p>
+ *
+ * @see Grid
+ */
+class ShipCells {
+
+    /**
+     * The cells that the ship is at. Only the first num_cells entries are used.
+     */
+    private int[] cells;
+
+    /**
+     * The number of cells that the ship is at.
+     */
+    private int num_cells;
+
+    /**
+     * Class constructor that starts out with no cells.
+     */
+    ShipCells() {
+        this.cells = new int[5];
+        this.num_cells = 0;
+    }
+
+    /**
+     * Returns the number of cells that the ship is at.
+     *
+     * @return the current value of num_cells
+     */
+    int size() {
+        return this.num_cells;
+    }
+
+    /**
+     * Returns the cell at the given index of this list.
+     *
+     * @param index the index of the cell in this list
+     * @return the flat cell index at that position
+     */
+    int get(int index) {
+        return this.cells[index];
+    }
+
+    /**
+     * Adds a cell to this list.
+     *
+     * @param cell the flat cell index to add
+     */
+    void add(int cell) {
+        if (this.num_cells == this.cells.length) this.cells = Arrays.copyOf(this.cells, this.num_cells * 2);
+        this.cells[this.num_cells++] = cell;
+    }
+
+    /**
+     * Removes a cell from this list, if it is in it.
+     * <p>
+     *     The last cell is moved into the place of the removed one, so the order of the cells is not kept.
+     * </p>
+     *
+     * @param cell the flat cell index to remove
+     */
+    void remove(int cell) {
+        for (int i = 0; i < this.num_cells; i++) {
+            if (this.cells[i] == cell) {
+                this.cells[i] = this.cells[--this.num_cells];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes every cell from this list.
+     */
+    void clear() {
+        this.num_cells = 0;
+    }
+}
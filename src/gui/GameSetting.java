@@ -12,6 +12,7 @@ import edu.colorado.objectgrind.game.Player;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 import edu.colorado.objectgrind.enums.Size;
 import edu.colorado.objectgrind.weapons.utility_weapons.SonarPulse;
+import edu.colorado.objectgrind.weapons.results.ConsoleAttackListener;
 
 import javax.swing.*;
 import java.awt.*;
@@ -140,6 +141,7 @@ public class GameSetting {
         assert size != null;
         GameFactory factory_game = new GameFactory();
         this.game = factory_game.createGame(size);
+        this.game.setAttackListener(new ConsoleAttackListener());
     }
 
     /**
@@ -436,9 +438,9 @@ public class GameSetting {
      *
      * @param player_index player index
      * @param opponent_index opponent index
-     * @param weapon weapon index
+     * @param weapon weapon id, as printed by printArsenal
      * @param coordinate attack coordinate
-     * @throws Exception invalid weapon index/attack coordinate
+     * @throws Exception invalid weapon id/attack coordinate
      * @see #playerAttackOpponent(int, int, String)
      * @see #setSonarPulseOnGrid(int, int)
      * @see #getPlayer(int)
@@ -454,11 +456,15 @@ public class GameSetting {
      * @see Grid#stringCoordToIntCoord(String)
      * @see Location#getLocationStatus()
      * @see Location#hasShip()
+     * @see Player#getIndexOfWeaponId(int)
      * @see Player#getWeaponAtIndex(int)
      * @see HorizontalAirStrike
      */
     public void setPlayerAttackOnGrid(int player_index, int opponent_index, String weapon, String coordinate) throws Exception {
-        int weapon_index = Integer.parseInt(weapon);
+        int weapon_index = getPlayer(player_index).getIndexOfWeaponId(Integer.parseInt(weapon));
+        if(weapon_index < 0){
+            throw new Exception("There is no weapon " + weapon + " in the arsenal");
+        }
         Weapon weapon1 = getPlayer(player_index).getWeaponAtIndex(weapon_index);
         playerAttackOpponent(player_index, weapon_index, coordinate);
 
@@ -617,10 +623,11 @@ public class GameSetting {
     }
 
     /**
-     * Print the player's arsenal in terminal.
+     * Print the player's arsenal in terminal, with the id of each weapon.
      *
      * @param player_index player index
      * @see #getPlayer(int)
+     * @see Player#getWeaponIdAtIndex(int)
      * @see Player#getWeaponAtIndex(int)
      * @see Weapon#printWeapon()
      */
@@ -628,7 +635,7 @@ public class GameSetting {
         Player player = getPlayer(player_index);
         System.out.println("Arsenal");
         for(int i = 0; i<player.getSizeOfArsenal(); i++){
-            System.out.print(i + ": ");
+            System.out.print(player.getWeaponIdAtIndex(i) + ": ");
             player.getWeaponAtIndex(i).printWeapon();
             System.out.print("\n");
         }
@@ -0,0 +1,372 @@
+package edu.colorado.objectgrind.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * This class defines an append-only log of the events of many games, kept in a directory of memory-mapped segment
+ * files.
+ * <p>
+ *     Every game has its own GameLogWriter, which appends a compact record for each placement, fleet move, undo, and
+ *     turn of its players. Records from any number of games and threads go into the same segment, each reserving its
+ *     space with one atomic add, and are written by copying them into the mapped file, so appending makes no system
+ *     call. When a segment is full, the next one is created and mapped.
+ * </p>
+ * <p>
+ *     Records are only certain to be on disk once they are synced. Syncing forces every segment written since the
+ *     last sync in one batch; a log can sync itself at a fixed interval, and always syncs when it is closed. A log
+ *     opened on a directory that already has segments starts a new segment after them.
+ * </p>
+ * <p>
+ *     The first time that a sync fails, the failure is kept and thrown by every later append, sync, and close, so a
+ *     failed sync in the background is never lost.
+ * </p>
+ *
+ * @see GameLogWriter
+ * @see GameEvent
+ */
+public class EventLog implements Closeable {
+
+    /**
+     * The default number of bytes of each segment, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The default number of milliseconds between syncs.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL = 100;
+
+    /**
+     * The start of the name of every segment file.
+     */
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    /**
+     * The end of the name of every segment file.
+     */
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * The directory of the segment files.
+     */
+    private final Path directory;
+
+    /**
+     * The number of bytes of each segment.
+     */
+    private final int segment_size;
+
+    /**
+     * The segment that records are appended to.
+     */
+    private volatile LogSegment current;
+
+    /**
+     * The segments that were filled since the last sync, which are closed by the next one.
+     */
+    private final List<LogSegment> filled;
+
+    /**
+     * Syncs the log at a fixed interval; <code>null</code> if it is only synced when asked.
+     */
+    private final ScheduledExecutorService syncer;
+
+    /**
+     * Whether or not this log has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The first failure of a sync; <code>null</code> if every sync has succeeded.
+     */
+    private volatile IOException sync_failure;
+
+    /**
+     * Class constructor specifying the directory of the log, the size of its segments, and how often it syncs.
+     *
+     * @param directory the directory of the segment files, which is created if it does not exist
+     * @param segment_size the number of bytes of each segment
+     * @param sync_interval the number of milliseconds between syncs; 0 to only sync when asked
+     * @throws IOException if the directory or the first segment cannot be created
+     * @throws IllegalArgumentException if a segment cannot hold a record
+     */
+    public EventLog(Path directory, int segment_size, long sync_interval) throws IOException {
+        if ( segment_size < GameEvent.MAX_LENGTH ) {
+            throw new IllegalArgumentException("A segment of " + segment_size + " bytes cannot hold an event");
+        }
+
+        this.directory = Files.createDirectories(directory);
+        this.segment_size = segment_size;
+        this.filled = new ArrayList<>();
+        this.current = createSegment(findSegments(directory).size());
+        this.closed = false;
+
+        if ( sync_interval > 0 ) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "event-log-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.syncer.scheduleWithFixedDelay(this::syncSegments, sync_interval, sync_interval, TimeUnit.MILLISECONDS);
+        }
+        else {
+            this.syncer = null;
+        }
+    }
+
+    /**
+     * Class constructor specifying the directory of the log, with 64 MiB segments that are synced every 100 ms.
+     *
+     * @param directory the directory of the segment files, which is created if it does not exist
+     * @throws IOException if the directory or the first segment cannot be created
+     */
+    public EventLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens a writer for the events of one game.
+     *
+     * @param game_id the id of the game, which its events are tagged with
+     * @return a new writer, which must only be used by the thread that plays the game
+     * @see GameLogWriter#attach(edu.colorado.objectgrind.game.Game)
+     */
+    public GameLogWriter openGame(long game_id) {
+        return new GameLogWriter(this, game_id);
+    }
+
+    /**
+     * Appends a record to the current segment, moving on to a new segment when it is full.
+     *
+     * @param record the bytes of the record, starting with a 2 byte length that is filled in by the segment
+     * @param length the number of bytes of the record
+     * @throws IllegalStateException if this log is closed
+     * @throws UncheckedIOException if a sync has failed, or a new segment cannot be created
+     */
+    void append(byte[] record, int length) {
+        IOException failure = this.sync_failure;
+        if ( failure != null ) throw new UncheckedIOException("A sync of the event log failed", failure);
+
+        while (true) {
+            if ( this.closed ) throw new IllegalStateException("The event log is closed");
+
+            LogSegment segment = this.current;
+            if ( segment.append(record, length) ) return;
+            roll(segment);
+        }
+    }
+
+    /**
+     * Replaces the given full segment with a new one, unless another thread already has.
+     *
+     * @param full the segment that a record did not fit in
+     * @throws UncheckedIOException if the new segment cannot be created
+     */
+    private synchronized void roll(LogSegment full) {
+        if ( this.current != full || this.closed ) return;
+
+        try {
+            this.current = createSegment(full.getIndex() + 1);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.filled.add(full);
+    }
+
+    /**
+     * Creates and maps the segment file with the given index.
+     *
+     * @param index the index of the segment
+     * @return the new segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    private LogSegment createSegment(int index) throws IOException {
+        Path file = this.directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        return new LogSegment(file, index, this.segment_size);
+    }
+
+    /**
+     * Writes every record appended so far to disk.
+     * <p>
+     *     The segments that were filled since the last sync are closed once the appends still writing to them are
+     *     done, which forces them, and then the current one is forced.
+     * </p>
+     *
+     * @throws IOException if this or an earlier sync failed
+     */
+    public void sync() throws IOException {
+        syncSegments();
+        throwSyncFailure();
+    }
+
+    /**
+     * Closes the segments that were filled since the last sync and forces the current one, keeping the first failure
+     * rather than throwing it, so that one segment that fails does not stop the others from being synced.
+     */
+    private void syncSegments() {
+        List<LogSegment> to_close;
+        LogSegment segment;
+        synchronized (this) {
+            to_close = new ArrayList<>(this.filled);
+            this.filled.clear();
+            segment = this.current;
+        }
+
+        for ( LogSegment full : to_close ) {
+            try {
+                full.close();
+            }
+            catch (IOException | RuntimeException e) {
+                recordSyncFailure(e);
+            }
+        }
+        try {
+            segment.force();
+        }
+        catch (RuntimeException e) {
+            recordSyncFailure(e);
+        }
+    }
+
+    /**
+     * Keeps the given failure of a sync, unless an earlier one was already kept.
+     *
+     * @param failure the failure, which is wrapped in an IOException if it is not one
+     */
+    private synchronized void recordSyncFailure(Exception failure) {
+        if ( this.sync_failure != null ) return;
+
+        if ( failure instanceof IOException ) {
+            this.sync_failure = (IOException) failure;
+        }
+        else if ( failure instanceof UncheckedIOException ) {
+            this.sync_failure = ((UncheckedIOException) failure).getCause();
+        }
+        else {
+            this.sync_failure = new IOException("Could not sync the event log", failure);
+        }
+    }
+
+    /**
+     * Throws the first failure of a sync, if there was one.
+     *
+     * @throws IOException if a sync failed
+     */
+    private void throwSyncFailure() throws IOException {
+        IOException failure = this.sync_failure;
+        if ( failure != null ) throw failure;
+    }
+
+    /**
+     * Stops syncing at an interval, syncs every record, and closes every segment.
+     * <p>
+     *     Nothing can be appended once the log is closed. Every segment is closed even if a sync has failed.
+     * </p>
+     *
+     * @throws IOException if a segment cannot be closed, or a sync failed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if ( this.closed ) return;
+            this.closed = true;
+        }
+
+        if ( this.syncer != null ) this.syncer.shutdownNow();
+        syncSegments();
+        try {
+            this.current.close();
+        }
+        catch (IOException | RuntimeException e) {
+            recordSyncFailure(e);
+        }
+        throwSyncFailure();
+    }
+
+    /**
+     * Reads every event in the log in the given directory, in the order of its segments.
+     * <p>
+     *     Within a segment, events are in the order their space was reserved, so the events of each game are in order.
+     *     A record that was torn by a crash is skipped by its length, so the records of other games after it are still
+     *     read. If its length was never written either, the reader moves on a byte at a time until a record matches
+     *     its checksum again, which is also how it passes over the unused end of the segment.
+     * </p>
+     *
+     * @param directory the directory of the segment files
+     * @param consumer is given every event
+     * @throws IOException if a segment cannot be read
+     */
+    public static void read(Path directory, Consumer<GameEvent> consumer) throws IOException {
+        CRC32C crc = new CRC32C();
+        for ( Path file : findSegments(directory) ) {
+            try ( FileChannel channel = FileChannel.open(file, StandardOpenOption.READ) ) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                int position = 0;
+                while (position + GameEvent.HEADER_LENGTH <= buffer.capacity()) {
+                    int length = GameEvent.lengthOf(buffer, position, crc);
+                    if ( length > 0 ) {
+                        consumer.accept(GameEvent.decode(buffer, position));
+                        position += length;
+                        continue;
+                    }
+
+                    // The record is torn, so skip it by its length if the record after it is whole
+                    int reserved = buffer.getShort(position);
+                    boolean skippable = (reserved >= GameEvent.HEADER_LENGTH) & (reserved <= GameEvent.MAX_LENGTH);
+                    position += (skippable && GameEvent.lengthOf(buffer, position + reserved, crc) > 0) ? reserved : 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the events of one game from the log in the given directory.
+     *
+     * @param directory the directory of the segment files
+     * @param game_id the id of the game
+     * @return the events of the game, in order
+     * @throws IOException if a segment cannot be read
+     */
+    public static List<GameEvent> readGame(Path directory, long game_id) throws IOException {
+        List<GameEvent> events = new ArrayList<>();
+        read(directory, event -> {
+            if ( event.getGameId() == game_id ) events.add(event);
+        });
+        return events;
+    }
+
+    /**
+     * Returns the segment files in the given directory, in order.
+     *
+     * @param directory the directory of the segment files
+     * @return the paths of the segment files, sorted by index
+     * @throws IOException if the directory cannot be listed
+     */
+    private static List<Path> findSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if ( !Files.isDirectory(directory) ) return segments;
+
+        try ( DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX) ) {
+            for ( Path file : files ) segments.add(file);
+        }
+        segments.sort(null);
+        return segments;
+    }
+}
@@ -0,0 +1,352 @@
+package edu.colorado.objectgrind.log;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GameEventType;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.WeaponType;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * This class defines one event of a game, as it is read back from an EventLog.
+ * <p>
+ *     In the log, every event is a record of a 20 byte header followed by a payload of at most 9 bytes:
+ * </p>
+ * <pre>
+ *     short length | int checksum | long game id | int sequence | byte type | byte player | payload
+ *
+ *     GAME_STARTED  byte size
+ *     SHIP_PLACED   byte ship index, int head, int tail
+ *     FLEET_MOVED   byte direction
+ *     UNDONE        (nothing)
+ *     TURN_TAKEN    byte weapon index, byte weapon type, int coordinate
+ *     TURN_SKIPPED  (nothing)
+ *     GAME_ENDED    byte winner
+ * </pre>
+ * <p>
+ *     The checksum is the CRC32C of the length and of every byte after the checksum. A record is written length
+ *     first and checksum last, so the checksum commits it: a record that was torn by a crash does not match its
+ *     checksum, and readers skip it by its length, or look for the next record that matches if its length was never
+ *     written either. Events of the game itself, rather than of one of its players, have a player of -1.
+ * </p>
+ *
+ * @see EventLog
+ * @see GameLogWriter
+ * @see GameEventType
+ */
+public class GameEvent {
+
+    /**
+     * The number of bytes of the header of every record.
+     */
+    static final int HEADER_LENGTH = 20;
+
+    /**
+     * The number of bytes of the longest record.
+     */
+    static final int MAX_LENGTH = HEADER_LENGTH + 9;
+
+    /**
+     * The player of an event of the game itself.
+     */
+    public static final int NO_PLAYER = -1;
+
+    /**
+     * The kind of event.
+     */
+    private final GameEventType type;
+
+    /**
+     * The id of the game that the event happened in.
+     */
+    private final long game_id;
+
+    /**
+     * The number of the event within its game, counting from 0.
+     */
+    private final int sequence;
+
+    /**
+     * The index of the player whose action the event is; NO_PLAYER for events of the game itself.
+     */
+    private final int player;
+
+    /**
+     * The first value of the payload: the size, ship index, direction, weapon index, or winner.
+     */
+    private final int first;
+
+    /**
+     * The second value of the payload: the head of a ship, or the type of a weapon.
+     */
+    private final int second;
+
+    /**
+     * The third value of the payload: the tail of a ship, or the coordinate of an attack.
+     */
+    private final int third;
+
+    /**
+     * Class constructor specifying every field of the event.
+     *
+     * @param type the kind of event
+     * @param game_id the id of the game
+     * @param sequence the number of the event within its game
+     * @param player the index of the player; NO_PLAYER for events of the game itself
+     * @param first the first value of the payload
+     * @param second the second value of the payload
+     * @param third the third value of the payload
+     */
+    GameEvent(GameEventType type, long game_id, int sequence, int player, int first, int second, int third) {
+        this.type = type;
+        this.game_id = game_id;
+        this.sequence = sequence;
+        this.player = player;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * Writes a record to the start of the given buffer, with its length and checksum.
+     *
+     * @param buffer the buffer, of at least MAX_LENGTH bytes
+     * @param crc the checksum to compute the checksum of the record with
+     * @param type the kind of event
+     * @param game_id the id of the game
+     * @param sequence the number of the event within its game
+     * @param player the index of the player; NO_PLAYER for events of the game itself
+     * @param first the first value of the payload
+     * @param second the second value of the payload
+     * @param third the third value of the payload
+     * @return the length of the record
+     */
+    static int encode(ByteBuffer buffer, CRC32C crc, GameEventType type, long game_id, int sequence, int player,
+                      int first, int second, int third) {
+        buffer.putLong(6, game_id);
+        buffer.putInt(14, sequence);
+        buffer.put(18, (byte) type.ordinal());
+        buffer.put(19, (byte) player);
+
+        int length;
+        switch (type) {
+            case SHIP_PLACED:
+                buffer.put(20, (byte) first);
+                buffer.putInt(21, second);
+                buffer.putInt(25, third);
+                length = HEADER_LENGTH + 9;
+                break;
+
+            case TURN_TAKEN:
+                buffer.put(20, (byte) first);
+                buffer.put(21, (byte) second);
+                buffer.putInt(22, third);
+                length = HEADER_LENGTH + 6;
+                break;
+
+            case UNDONE:
+            case TURN_SKIPPED:
+                length = HEADER_LENGTH;
+                break;
+
+            default:
+                buffer.put(20, (byte) first);
+                length = HEADER_LENGTH + 1;
+                break;
+        }
+
+        buffer.putShort(0, (short) length);
+        buffer.putInt(2, checksum(buffer, 0, length, crc));
+        return length;
+    }
+
+    /**
+     * Computes the checksum of the record at the given position of a buffer: the CRC32C of its length and of every
+     * byte after its checksum.
+     *
+     * @param buffer the buffer that holds the record
+     * @param position the index of the first byte of the record
+     * @param length the number of bytes of the record
+     * @param crc the checksum to compute it with, which is reset first
+     * @return the checksum of the record
+     */
+    private static int checksum(ByteBuffer buffer, int position, int length, CRC32C crc) {
+        crc.reset();
+        crc.update(buffer.get(position));
+        crc.update(buffer.get(position + 1));
+        for (int i = 6; i < length; i++) crc.update(buffer.get(position + i));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Finds the length of the record at the given position of a buffer, if it was written whole.
+     *
+     * @param buffer the buffer that holds the record
+     * @param position the index of the first byte of the record
+     * @param crc the checksum to check the record with
+     * @return the length of the record; 0 if there is no whole record there
+     */
+    static int lengthOf(ByteBuffer buffer, int position, CRC32C crc) {
+        if ( position + HEADER_LENGTH > buffer.capacity() ) return 0;
+
+        int length = buffer.getShort(position);
+        if ( (length < HEADER_LENGTH) | (length > MAX_LENGTH) || position + length > buffer.capacity() ) return 0;
+        if ( (buffer.get(position + 18) & 0xFF) >= GameEventType.values().length ) return 0;
+        return (buffer.getInt(position + 2) == checksum(buffer, position, length, crc)) ? length : 0;
+    }
+
+    /**
+     * Reads the record at the given position of a buffer, which must have been written whole.
+     *
+     * @param buffer the buffer that holds the record
+     * @param position the index of the first byte of the record
+     * @return the event of the record
+     */
+    static GameEvent decode(ByteBuffer buffer, int position) {
+        GameEventType type = GameEventType.values()[buffer.get(position + 18)];
+        long game_id = buffer.getLong(position + 6);
+        int sequence = buffer.getInt(position + 14);
+        int player = buffer.get(position + 19);
+
+        switch (type) {
+            case SHIP_PLACED:
+                return new GameEvent(type, game_id, sequence, player, buffer.get(position + 20),
+                        buffer.getInt(position + 21), buffer.getInt(position + 25));
+
+            case TURN_TAKEN:
+                return new GameEvent(type, game_id, sequence, player, buffer.get(position + 20),
+                        buffer.get(position + 21), buffer.getInt(position + 22));
+
+            case UNDONE:
+            case TURN_SKIPPED:
+                return new GameEvent(type, game_id, sequence, player, 0, 0, 0);
+
+            default:
+                return new GameEvent(type, game_id, sequence, player, buffer.get(position + 20), 0, 0);
+        }
+    }
+
+    /**
+     * Gets the kind of this event.
+     *
+     * @return the current value of type
+     */
+    public GameEventType getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the id of the game that this event happened in.
+     *
+     * @return the current value of game_id
+     */
+    public long getGameId() {
+        return this.game_id;
+    }
+
+    /**
+     * Gets the number of this event within its game.
+     *
+     * @return the current value of sequence
+     */
+    public int getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Gets the index of the player whose action this event is.
+     *
+     * @return 0 or 1; NO_PLAYER for events of the game itself
+     */
+    public int getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Gets the size of the game, of a GAME_STARTED event.
+     *
+     * @return the size of the game
+     */
+    public Size getSize() {
+        return Size.values()[this.first];
+    }
+
+    /**
+     * Gets the index of the ship in its fleet, of a SHIP_PLACED event.
+     *
+     * @return the index of the ship
+     */
+    public int getShipIndex() {
+        return this.first;
+    }
+
+    /**
+     * Gets the packed coordinate of the head of the ship, of a SHIP_PLACED event.
+     *
+     * @return the head of the ship
+     */
+    public int getHead() {
+        return this.second;
+    }
+
+    /**
+     * Gets the packed coordinate of the tail of the ship, of a SHIP_PLACED event.
+     *
+     * @return the tail of the ship
+     */
+    public int getTail() {
+        return this.third;
+    }
+
+    /**
+     * Gets the direction that the fleet was moved, of a FLEET_MOVED event.
+     *
+     * @return the direction of the move
+     */
+    public Direction getDirection() {
+        return Direction.values()[this.first];
+    }
+
+    /**
+     * Gets the index of the weapon in the player's arsenal, of a TURN_TAKEN event.
+     *
+     * @return the index of the weapon
+     */
+    public int getWeaponIndex() {
+        return this.first;
+    }
+
+    /**
+     * Gets the type of the weapon that was used, of a TURN_TAKEN event.
+     *
+     * @return the type of the weapon
+     */
+    public WeaponType getWeaponType() {
+        return WeaponType.values()[this.second];
+    }
+
+    /**
+     * Gets the packed coordinate that the weapon was used on, of a TURN_TAKEN event.
+     *
+     * @return the coordinate of the attack
+     */
+    public int getCoordinate() {
+        return this.third;
+    }
+
+    /**
+     * Gets the index of the player who won, of a GAME_ENDED event.
+     *
+     * @return 0 or 1; -1 if neither player won
+     */
+    public int getWinner() {
+        return this.first;
+    }
+
+    @Override
+    public String toString() {
+        return "game " + this.game_id + " #" + this.sequence + " " + this.type
+                + (this.player == NO_PLAYER ? "" : " by player " + (this.player + 1));
+    }
+}
@@ -0,0 +1,201 @@
+package edu.colorado.objectgrind.log;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GameEventType;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.PlayerListener;
+import edu.colorado.objectgrind.weapons.Weapon;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * This class writes the events of one game to an EventLog.
+ * <p>
+ *     Once attached to a game, it listens to both players and appends a record for each of their actions, numbered in
+ *     the order they happened. Each record is built in a buffer that the writer reuses, so writing an event does not
+ *     create any objects. A writer belongs to the thread that plays its game.
+ * </p>
+ *
+ * @see EventLog#openGame(long)
+ * @see PlayerListener
+ * @see GameEvent
+ */
+public class GameLogWriter {
+
+    /**
+     * The log that the events are appended to.
+     */
+    private final EventLog log;
+
+    /**
+     * The id of the game.
+     */
+    private final long game_id;
+
+    /**
+     * The number of events written so far, which is the sequence number of the next one.
+     */
+    private int num_events;
+
+    /**
+     * The bytes of the record being written.
+     */
+    private final byte[] record;
+
+    /**
+     * A view of record, for writing its fields.
+     */
+    private final ByteBuffer record_buffer;
+
+    /**
+     * The checksum of the records, which the writer reuses.
+     */
+    private final CRC32C crc;
+
+    /**
+     * The listeners of the two players, by index.
+     */
+    private final PlayerListener[] listeners;
+
+    /**
+     * The game that this writer is attached to; <code>null</code> if it is not attached.
+     */
+    private Game game;
+
+    /**
+     * Class constructor specifying the log and the id of the game.
+     *
+     * @param log the log that the events are appended to
+     * @param game_id the id of the game
+     */
+    GameLogWriter(EventLog log, long game_id) {
+        this.log = log;
+        this.game_id = game_id;
+        this.num_events = 0;
+        this.record = new byte[GameEvent.MAX_LENGTH];
+        this.record_buffer = ByteBuffer.wrap(this.record);
+        this.crc = new CRC32C();
+        this.listeners = new PlayerListener[] {new Listener(0), new Listener(1)};
+    }
+
+    /**
+     * Starts writing the events of the given game, whose players have not done anything yet.
+     * <p>
+     *     A GAME_STARTED event is written with the size of the game, and the writer listens to both players.
+     * </p>
+     *
+     * @param game the game to write the events of
+     * @see Player#setPlayerListener(PlayerListener)
+     */
+    public void attach(Game game) {
+        this.game = game;
+        write(GameEventType.GAME_STARTED, GameEvent.NO_PLAYER, game.getSize().ordinal(), 0, 0);
+        game.getPlayer_1().setPlayerListener(this.listeners[0]);
+        game.getPlayer_2().setPlayerListener(this.listeners[1]);
+    }
+
+    /**
+     * Stops writing the events of the game, after writing a GAME_ENDED event with its winner.
+     *
+     * @param winner the index of the player who won; -1 if neither player won
+     */
+    public void finish(int winner) {
+        write(GameEventType.GAME_ENDED, GameEvent.NO_PLAYER, winner, 0, 0);
+        if ( this.game != null ) {
+            this.game.getPlayer_1().setPlayerListener(PlayerListener.NONE);
+            this.game.getPlayer_2().setPlayerListener(PlayerListener.NONE);
+            this.game = null;
+        }
+    }
+
+    /**
+     * Gets the listener that writes the actions of the player with the given index.
+     *
+     * @param player the index of the player
+     * @return the listener of that player
+     */
+    public PlayerListener getListener(int player) {
+        return this.listeners[player];
+    }
+
+    /**
+     * Gets the id of the game.
+     *
+     * @return the current value of game_id
+     */
+    public long getGameId() {
+        return this.game_id;
+    }
+
+    /**
+     * Gets the number of events written so far.
+     *
+     * @return the current value of num_events
+     */
+    public int getNumEvents() {
+        return this.num_events;
+    }
+
+    /**
+     * Builds the record of an event and appends it to the log.
+     *
+     * @param type the kind of event
+     * @param player the index of the player; NO_PLAYER for events of the game itself
+     * @param first the first value of the payload
+     * @param second the second value of the payload
+     * @param third the third value of the payload
+     */
+    private void write(GameEventType type, int player, int first, int second, int third) {
+        int length = GameEvent.encode(this.record_buffer, this.crc, type, this.game_id, this.num_events, player,
+                first, second, third);
+        this.log.append(this.record, length);
+        this.num_events++;
+    }
+
+    /**
+     * This class writes the actions of one player of the game.
+     */
+    private class Listener implements PlayerListener {
+
+        /**
+         * The index of the player.
+         */
+        private final int player;
+
+        /**
+         * Class constructor specifying the index of the player.
+         *
+         * @param player the index of the player
+         */
+        Listener(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public void onShipPlaced(int ship_index, int head, int tail) {
+            write(GameEventType.SHIP_PLACED, this.player, ship_index, head, tail);
+        }
+
+        @Override
+        public void onFleetMoved(Direction direction) {
+            write(GameEventType.FLEET_MOVED, this.player, direction.ordinal(), 0, 0);
+        }
+
+        @Override
+        public void onUndo() {
+            write(GameEventType.UNDONE, this.player, 0, 0, 0);
+        }
+
+        @Override
+        public void onTurnTaken(int weapon_index, Weapon weapon, int coord_of_attack) {
+            write(GameEventType.TURN_TAKEN, this.player, weapon_index, weapon.getType().ordinal(), coord_of_attack);
+        }
+
+        @Override
+        public void onTurnSkipped() {
+            write(GameEventType.TURN_SKIPPED, this.player, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package edu.colorado.objectgrind.log;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class defines one memory-mapped file of an EventLog, which records are appended to until it is full.
+ * <p>
+ *     Space for a record is reserved by moving the tail forward atomically, so any number of threads can append to a
+ *     segment at once, each writing its own bytes. Writing a record is a copy into memory; the operating system writes
+ *     the pages back to the file, and force() waits until it has.
+ * </p>
+ * <p>
+ *     Every append is counted while it is in flight. Once a record has not fit, or the segment is being closed, every
+ *     later reservation is past the end too, so closing only has to wait for the appends it already counted.
+ * </p>
+ *
+ * @see EventLog
+ */
+class LogSegment {
+
+    /**
+     * The index of this segment in its log.
+     */
+    private final int index;
+
+    /**
+     * The channel of the file of this segment.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The file of this segment, mapped into memory.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * The index of the first byte that has not been reserved; may be past the end once the segment is full.
+     */
+    private final AtomicInteger tail;
+
+    /**
+     * The number of appends that are writing to this segment.
+     */
+    private final AtomicInteger writers;
+
+    /**
+     * Class constructor that creates the file of a new segment and maps it.
+     *
+     * @param file the file of the segment, which must not exist yet
+     * @param index the index of the segment in its log
+     * @param capacity the number of bytes of the segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    LogSegment(Path file, int index, int capacity) throws IOException {
+        this.index = index;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.tail = new AtomicInteger(0);
+        this.writers = new AtomicInteger(0);
+    }
+
+    /**
+     * Gets the index of this segment in its log.
+     *
+     * @return the current value of index
+     */
+    int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Appends a record to this segment, if it fits.
+     * <p>
+     *     The length of the record is written first, so that a reader can skip the record if it is torn, and its
+     *     checksum last, which commits it. The space after the last record is left as zeros.
+     * </p>
+     *
+     * @param record the bytes of the record, starting with its 2 byte length and 4 byte checksum
+     * @param length the number of bytes of the record
+     * @return <code>true</code> if the record was appended; <code>false</code> if this segment is full
+     * @see GameEvent#encode
+     */
+    boolean append(byte[] record, int length) {
+        this.writers.incrementAndGet();
+        try {
+            int start = this.tail.getAndAdd(length);
+            if ( start + length > this.buffer.capacity() ) return false;
+
+            this.buffer.put(start, record[0]);
+            this.buffer.put(start + 1, record[1]);
+            for (int i = 6; i < length; i++) this.buffer.put(start + i, record[i]);
+            for (int i = 2; i < 6; i++) this.buffer.put(start + i, record[i]);
+            return true;
+        }
+        finally {
+            this.writers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until everything appended to this segment has been written to its file.
+     */
+    void force() {
+        this.buffer.force();
+    }
+
+    /**
+     * Stops any more records from being appended to this segment, waits for the appends that are writing to it,
+     * writes everything appended to its file, and closes it.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    void close() throws IOException {
+        this.tail.accumulateAndGet(this.buffer.capacity(), Math::max);
+        while (this.writers.get() > 0) Thread.onSpinWait();
+        force();
+        this.channel.close();
+    }
+}
@@ -0,0 +1,338 @@
+package edu.colorado.objectgrind.replay;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GameEventType;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.PlayerListener;
+import edu.colorado.objectgrind.log.GameEvent;
+import edu.colorado.objectgrind.weapons.Weapon;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class defines the actions of both players of a game, in the order they were taken, so that a ReplayEngine
+ * can take them again.
+ * <p>
+ *     An action is a placement of a ship, a move of the fleet, an undo, or a turn taken or skipped, with the same
+ *     values as the GameEvent that an EventLog keeps for it. A recording is either read back from a log, or made
+ *     while a game is played by attaching it to the game. The actions are kept in flat arrays, so a long game takes
+ *     a few bytes per action.
+ * </p>
+ *
+ * @see ReplayEngine
+ * @see GameEvent
+ * @see PlayerListener
+ */
+public class GameRecording {
+
+    /**
+     * The size of the game.
+     */
+    private final Size size;
+
+    /**
+     * The number of actions recorded.
+     */
+    private int num_actions;
+
+    /**
+     * The kind of each action.
+     */
+    private GameEventType[] types;
+
+    /**
+     * The index of the player who took each action.
+     */
+    private byte[] players;
+
+    /**
+     * The first value of each action: the ship index, direction, or weapon index.
+     */
+    private int[] firsts;
+
+    /**
+     * The second value of each action: the head of a ship, or the type of a weapon.
+     */
+    private int[] seconds;
+
+    /**
+     * The third value of each action: the tail of a ship, or the coordinate of an attack.
+     */
+    private int[] thirds;
+
+    /**
+     * The number of turns recorded.
+     */
+    private int num_turns;
+
+    /**
+     * The index of the action of each turn.
+     */
+    private int[] turn_actions;
+
+    /**
+     * The game that this recording is attached to; <code>null</code> if it is not attached.
+     */
+    private Game game;
+
+    /**
+     * Class constructor specifying the size of the game, with no actions.
+     *
+     * @param size the size of the game
+     */
+    public GameRecording(Size size) {
+        this.size = size;
+        this.num_actions = 0;
+        this.types = new GameEventType[64];
+        this.players = new byte[64];
+        this.firsts = new int[64];
+        this.seconds = new int[64];
+        this.thirds = new int[64];
+        this.num_turns = 0;
+        this.turn_actions = new int[32];
+    }
+
+    /**
+     * Makes a recording of the events of one game, as they are read back from an EventLog.
+     *
+     * @param events the events of the game, in order, starting with GAME_STARTED
+     * @return the recording of the actions of the game
+     * @throws IllegalArgumentException if the events do not start with GAME_STARTED
+     * @see edu.colorado.objectgrind.log.EventLog#readGame(java.nio.file.Path, long)
+     */
+    public static GameRecording fromEvents(List<GameEvent> events) {
+        if ( events.isEmpty() || events.get(0).getType() != GameEventType.GAME_STARTED ) {
+            throw new IllegalArgumentException("The events of a game must start with " + GameEventType.GAME_STARTED);
+        }
+
+        GameRecording recording = new GameRecording(events.get(0).getSize());
+        for ( GameEvent event : events ) {
+            switch (event.getType()) {
+                case SHIP_PLACED:
+                    recording.add(event.getType(), event.getPlayer(), event.getShipIndex(), event.getHead(),
+                            event.getTail());
+                    break;
+
+                case FLEET_MOVED:
+                    recording.add(event.getType(), event.getPlayer(), event.getDirection().ordinal(), 0, 0);
+                    break;
+
+                case UNDONE:
+                case TURN_SKIPPED:
+                    recording.add(event.getType(), event.getPlayer(), 0, 0, 0);
+                    break;
+
+                case TURN_TAKEN:
+                    recording.add(event.getType(), event.getPlayer(), event.getWeaponIndex(),
+                            event.getWeaponType().ordinal(), event.getCoordinate());
+                    break;
+
+                default:
+                    break;
+            }
+        }
+        return recording;
+    }
+
+    /**
+     * Starts recording the actions of both players of the given game, which must have the size of this recording.
+     *
+     * @param game the game to record
+     * @throws IllegalArgumentException if the game is not the size of this recording
+     * @see edu.colorado.objectgrind.game.Player#setPlayerListener(PlayerListener)
+     */
+    public void attach(Game game) {
+        if ( game.getSize() != this.size ) {
+            throw new IllegalArgumentException("A " + this.size + " recording cannot record a " + game.getSize() + " game");
+        }
+
+        this.game = game;
+        game.getPlayer_1().setPlayerListener(new Listener(0));
+        game.getPlayer_2().setPlayerListener(new Listener(1));
+    }
+
+    /**
+     * Stops recording the actions of the game that this recording is attached to, if any.
+     */
+    public void detach() {
+        if ( this.game != null ) {
+            this.game.getPlayer_1().setPlayerListener(PlayerListener.NONE);
+            this.game.getPlayer_2().setPlayerListener(PlayerListener.NONE);
+            this.game = null;
+        }
+    }
+
+    /**
+     * Adds an action to the end of this recording.
+     *
+     * @param type the kind of action: SHIP_PLACED, FLEET_MOVED, UNDONE, TURN_TAKEN, or TURN_SKIPPED
+     * @param player the index of the player who took the action
+     * @param first the ship index, direction, or weapon index
+     * @param second the head of a ship, or the type of a weapon
+     * @param third the tail of a ship, or the coordinate of an attack
+     */
+    private void add(GameEventType type, int player, int first, int second, int third) {
+
+        // Make room for the action, doubling the arrays when they are full
+        if ( this.num_actions == this.types.length ) {
+            int capacity = this.num_actions * 2;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.players = Arrays.copyOf(this.players, capacity);
+            this.firsts = Arrays.copyOf(this.firsts, capacity);
+            this.seconds = Arrays.copyOf(this.seconds, capacity);
+            this.thirds = Arrays.copyOf(this.thirds, capacity);
+        }
+
+        if ( (type == GameEventType.TURN_TAKEN) | (type == GameEventType.TURN_SKIPPED) ) {
+            if ( this.num_turns == this.turn_actions.length ) {
+                this.turn_actions = Arrays.copyOf(this.turn_actions, this.num_turns * 2);
+            }
+            this.turn_actions[this.num_turns++] = this.num_actions;
+        }
+
+        this.types[this.num_actions] = type;
+        this.players[this.num_actions] = (byte) player;
+        this.firsts[this.num_actions] = first;
+        this.seconds[this.num_actions] = second;
+        this.thirds[this.num_actions] = third;
+        this.num_actions++;
+    }
+
+    /**
+     * Gets the size of the game.
+     *
+     * @return the current value of size
+     */
+    public Size getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of actions recorded.
+     *
+     * @return the current value of num_actions
+     */
+    public int getNumActions() {
+        return this.num_actions;
+    }
+
+    /**
+     * Gets the number of turns recorded.
+     *
+     * @return the current value of num_turns
+     */
+    public int getNumTurns() {
+        return this.num_turns;
+    }
+
+    /**
+     * Gets the index of the action of the given turn.
+     *
+     * @param turn the number of the turn, counting from 0
+     * @return the index of the TURN_TAKEN or TURN_SKIPPED action of the turn
+     * @throws IndexOutOfBoundsException if the turn was not recorded
+     */
+    public int getActionOfTurn(int turn) {
+        if ( turn < 0 || turn >= this.num_turns ) {
+            throw new IndexOutOfBoundsException("Turn " + turn + " out of bounds for " + this.num_turns + " turns");
+        }
+        return this.turn_actions[turn];
+    }
+
+    /**
+     * Gets the kind of the action at the given index.
+     *
+     * @param action the index of the action
+     * @return SHIP_PLACED, FLEET_MOVED, UNDONE, TURN_TAKEN, or TURN_SKIPPED
+     */
+    public GameEventType getType(int action) {
+        return this.types[action];
+    }
+
+    /**
+     * Gets the index of the player who took the action at the given index.
+     *
+     * @param action the index of the action
+     * @return 0 or 1
+     */
+    public int getPlayer(int action) {
+        return this.players[action];
+    }
+
+    /**
+     * Gets the first value of the action at the given index.
+     *
+     * @param action the index of the action
+     * @return the ship index, direction, or weapon index
+     */
+    public int getFirst(int action) {
+        return this.firsts[action];
+    }
+
+    /**
+     * Gets the second value of the action at the given index.
+     *
+     * @param action the index of the action
+     * @return the head of a ship, or the type of a weapon
+     */
+    public int getSecond(int action) {
+        return this.seconds[action];
+    }
+
+    /**
+     * Gets the third value of the action at the given index.
+     *
+     * @param action the index of the action
+     * @return the tail of a ship, or the coordinate of an attack
+     */
+    public int getThird(int action) {
+        return this.thirds[action];
+    }
+
+    /**
+     * This class records the actions of one player of the attached game.
+     */
+    private class Listener implements PlayerListener {
+
+        /**
+         * The index of the player.
+         */
+        private final int player;
+
+        /**
+         * Class constructor specifying the index of the player.
+         *
+         * @param player the index of the player
+         */
+        Listener(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public void onShipPlaced(int ship_index, int head, int tail) {
+            add(GameEventType.SHIP_PLACED, this.player, ship_index, head, tail);
+        }
+
+        @Override
+        public void onFleetMoved(Direction direction) {
+            add(GameEventType.FLEET_MOVED, this.player, direction.ordinal(), 0, 0);
+        }
+
+        @Override
+        public void onUndo() {
+            add(GameEventType.UNDONE, this.player, 0, 0, 0);
+        }
+
+        @Override
+        public void onTurnTaken(int weapon_index, Weapon weapon, int coord_of_attack) {
+            add(GameEventType.TURN_TAKEN, this.player, weapon_index, weapon.getType().ordinal(), coord_of_attack);
+        }
+
+        @Override
+        public void onTurnSkipped() {
+            add(GameEventType.TURN_SKIPPED, this.player, 0, 0, 0);
+        }
+    }
+}
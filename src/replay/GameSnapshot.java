@@ -0,0 +1,80 @@
+package edu.colorado.objectgrind.replay;
+
+import edu.colorado.objectgrind.codec.StateCodec;
+import edu.colorado.objectgrind.game.Game;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * This class defines a compact copy of the state of both players of a game, which can be put back on the game, or on
+ * any other game of the same size.
+ * <p>
+ *     A snapshot is the bytes of the game in the form of StateCodec: the grids, fleets, arsenals, and command
+ *     histories of both players, in a few hundred bytes. It does not hold any of the game's objects, so the grids can
+ *     be stored in any form.
+ * </p>
+ *
+ * @see ReplayEngine
+ * @see StateCodec
+ */
+public class GameSnapshot {
+
+    /**
+     * The bytes of the game.
+     */
+    private final byte[] state;
+
+    /**
+     * Class constructor specifying the bytes of the game.
+     *
+     * @param state the bytes of the game
+     */
+    private GameSnapshot(byte[] state) {
+        this.state = state;
+    }
+
+    /**
+     * Copies the state of both players of the given game.
+     *
+     * @param game the game to copy
+     * @return a snapshot of the game
+     * @see StateCodec#encodeGame(Game, java.nio.ByteBuffer)
+     */
+    public static GameSnapshot capture(Game game) {
+        ByteBuffer buffer = ByteBuffer.allocate(StateCodec.getMaxLength(game));
+        StateCodec.encodeGame(game, buffer);
+        return new GameSnapshot(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * Puts the state of this snapshot on both players of the given game.
+     *
+     * @param game the game to restore, of the same size as the game this snapshot was taken of
+     * @see StateCodec#decodeGame(java.nio.ByteBuffer, Game)
+     */
+    public void restore(Game game) {
+        StateCodec.decodeGame(ByteBuffer.wrap(this.state), game);
+    }
+
+    /**
+     * Gets the number of bytes of this snapshot.
+     *
+     * @return the length of state
+     */
+    public int getLength() {
+        return this.state.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if ( this == other ) return true;
+        if ( !(other instanceof GameSnapshot) ) return false;
+        return Arrays.equals(this.state, ((GameSnapshot) other).state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.state);
+    }
+}
@@ -0,0 +1,310 @@
+package edu.colorado.objectgrind.replay;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.WeaponType;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class rebuilds a game from a GameRecording, as it was after any number of its actions.
+ * <p>
+ *     The actions are taken again, in order, through the same functions of Player that took them the first time, so
+ *     the game ends up exactly as it was. To seek without replaying the whole game, a GameSnapshot is kept every
+ *     few turns as the replay passes it; seeking then restores the nearest snapshot at or before the target, and
+ *     only takes the actions after it. Seeking forward from where the replay already is just carries on.
+ * </p>
+ * <p>
+ *     Every turn is checked against the recording as it is replayed, so a recording that does not fit the game, or a
+ *     change that makes the game play out differently, is reported at the first turn where it shows.
+ * </p>
+ * <p>
+ *     Every GridStorage plays by the same rules, so a recording can be replayed on a game whose grids store their
+ *     cells in another form than the game it was recorded from.
+ * </p>
+ *
+ * @see GameRecording
+ * @see GameSnapshot
+ */
+public class ReplayEngine {
+
+    /**
+     * The default number of turns between snapshots.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+    /**
+     * The recording that is replayed.
+     */
+    private final GameRecording recording;
+
+    /**
+     * The game that the recording is replayed on.
+     */
+    private final Game game;
+
+    /**
+     * The least number of turns between snapshots.
+     */
+    private final int checkpoint_interval;
+
+    /**
+     * The snapshots kept so far, in the order of their actions.
+     */
+    private final List<Checkpoint> checkpoints;
+
+    /**
+     * The number of actions of the recording that have been taken on the game.
+     */
+    private int position;
+
+    /**
+     * The number of turns that have been taken on the game.
+     */
+    private int num_turns;
+
+    /**
+     * Class constructor specifying the recording, the game to replay it on, and how often to keep snapshots.
+     * <p>
+     *     The game is reset, and must be of the size of the recording.
+     * </p>
+     *
+     * @param recording the recording to replay
+     * @param game the game to replay the recording on
+     * @param checkpoint_interval the least number of turns between snapshots
+     * @throws IllegalArgumentException if the game is not the size of the recording, or the interval is not positive
+     */
+    public ReplayEngine(GameRecording recording, Game game, int checkpoint_interval) {
+        if ( game.getSize() != recording.getSize() ) {
+            throw new IllegalArgumentException("A " + recording.getSize() + " recording cannot be replayed on a "
+                    + game.getSize() + " game");
+        }
+        if ( checkpoint_interval <= 0 ) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive, not " + checkpoint_interval);
+        }
+
+        this.recording = recording;
+        this.game = game;
+        this.checkpoint_interval = checkpoint_interval;
+        this.checkpoints = new ArrayList<>();
+
+        // The first snapshot is the game before any action
+        game.reset();
+        this.position = 0;
+        this.num_turns = 0;
+        this.checkpoints.add(new Checkpoint(0, 0, GameSnapshot.capture(game)));
+    }
+
+    /**
+     * Class constructor specifying the recording, which is replayed on a new game, keeping a snapshot every 16 turns.
+     *
+     * @param recording the recording to replay
+     * @see GameFactory#createGame(edu.colorado.objectgrind.enums.Size)
+     */
+    public ReplayEngine(GameRecording recording) {
+        this(recording, new GameFactory().createGame(recording.getSize()), DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Rebuilds the game as it was after the given number of actions of the recording.
+     *
+     * @param action the number of actions to have taken, from 0 to the number of actions recorded
+     * @return the game, which is the same game every time
+     * @throws IndexOutOfBoundsException if the action is not in the recording
+     * @throws IllegalStateException if a turn of the recording does not fit the game
+     */
+    public Game seekToAction(int action) {
+        if ( action < 0 || action > this.recording.getNumActions() ) {
+            throw new IndexOutOfBoundsException("Action " + action + " out of bounds for "
+                    + this.recording.getNumActions() + " actions");
+        }
+
+        // Start again from the nearest snapshot, unless the replay is already past it and not past the action
+        Checkpoint nearest = findCheckpoint(action);
+        if ( action < this.position || nearest.action > this.position ) {
+            nearest.snapshot.restore(this.game);
+            this.position = nearest.action;
+            this.num_turns = nearest.turn;
+        }
+
+        while (this.position < action) step();
+        return this.game;
+    }
+
+    /**
+     * Rebuilds the game as it was when the given turn was about to be taken, after any moves of the fleet before it.
+     *
+     * @param turn the number of the turn, counting from 0; the number of turns recorded for the end of the game
+     * @return the game, which is the same game every time
+     * @throws IndexOutOfBoundsException if the turn is not in the recording
+     * @throws IllegalStateException if a turn of the recording does not fit the game
+     * @see GameRecording#getActionOfTurn(int)
+     */
+    public Game seekToTurn(int turn) {
+        if ( turn == this.recording.getNumTurns() ) return seekToAction(this.recording.getNumActions());
+        return seekToAction(this.recording.getActionOfTurn(turn));
+    }
+
+    /**
+     * Rebuilds the game as it was after every action of the recording.
+     *
+     * @return the game, which is the same game every time
+     * @throws IllegalStateException if a turn of the recording does not fit the game
+     */
+    public Game seekToEnd() {
+        return seekToAction(this.recording.getNumActions());
+    }
+
+    /**
+     * Finds the last snapshot at or before the given action.
+     *
+     * @param action the number of actions to have taken
+     * @return the nearest checkpoint
+     */
+    private Checkpoint findCheckpoint(int action) {
+        int low = 0;
+        int high = this.checkpoints.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if ( this.checkpoints.get(middle).action <= action ) low = middle;
+            else high = middle - 1;
+        }
+        return this.checkpoints.get(low);
+    }
+
+    /**
+     * Takes the next action of the recording on the game, and keeps a snapshot after it if one is due.
+     * <p>
+     *     A snapshot is due after a turn, once enough turns have passed since the last one.
+     * </p>
+     *
+     * @throws IllegalStateException if the action is a turn that does not fit the game
+     */
+    private void step() {
+        int action = this.position;
+        Player player = this.recording.getPlayer(action) == 0 ? this.game.getPlayer_1() : this.game.getPlayer_2();
+        Player opponent = player == this.game.getPlayer_1() ? this.game.getPlayer_2() : this.game.getPlayer_1();
+
+        int first = this.recording.getFirst(action);
+        switch (this.recording.getType(action)) {
+            case SHIP_PLACED:
+                player.playerPlaceShip(first, this.recording.getSecond(action), this.recording.getThird(action));
+                break;
+
+            case FLEET_MOVED:
+                player.playerMoveFleet(Direction.values()[first]);
+                break;
+
+            case UNDONE:
+                player.playerUndo();
+                break;
+
+            case TURN_TAKEN:
+                WeaponType type = WeaponType.values()[this.recording.getSecond(action)];
+                if ( first >= player.getSizeOfArsenal() || player.getWeaponAtIndex(first).getType() != type ) {
+                    throw new IllegalStateException("Turn " + this.num_turns + " (action " + action + ") used a "
+                            + type.getName() + " at index " + first + ", which the replayed player does not have");
+                }
+                player.takeTurn(opponent, first, this.recording.getThird(action));
+                this.num_turns++;
+                break;
+
+            case TURN_SKIPPED:
+                player.skipTurn();
+                this.num_turns++;
+                break;
+
+            default:
+                break;
+        }
+        this.position++;
+
+        // Keep a snapshot if one is due and this is the furthest the replay has been
+        Checkpoint last = this.checkpoints.get(this.checkpoints.size() - 1);
+        if ( (this.position > last.action) & (this.num_turns - last.turn >= this.checkpoint_interval) ) {
+            this.checkpoints.add(new Checkpoint(this.position, this.num_turns, GameSnapshot.capture(this.game)));
+        }
+    }
+
+    /**
+     * Gets the game that the recording is replayed on.
+     *
+     * @return the current value of game
+     */
+    public Game getGame() {
+        return this.game;
+    }
+
+    /**
+     * Gets the recording that is replayed.
+     *
+     * @return the current value of recording
+     */
+    public GameRecording getRecording() {
+        return this.recording;
+    }
+
+    /**
+     * Gets the number of actions of the recording that have been taken on the game.
+     *
+     * @return the current value of position
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Gets the number of turns that have been taken on the game.
+     *
+     * @return the current value of num_turns
+     */
+    public int getNumTurns() {
+        return this.num_turns;
+    }
+
+    /**
+     * Gets the number of snapshots kept so far, including the one of the game before any action.
+     *
+     * @return the size of checkpoints
+     */
+    public int getNumCheckpoints() {
+        return this.checkpoints.size();
+    }
+
+    /**
+     * This class defines a snapshot of the game along with where in the recording it was taken.
+     */
+    private static class Checkpoint {
+
+        /**
+         * The number of actions taken before the snapshot.
+         */
+        private final int action;
+
+        /**
+         * The number of turns taken before the snapshot.
+         */
+        private final int turn;
+
+        /**
+         * The snapshot of the game.
+         */
+        private final GameSnapshot snapshot;
+
+        /**
+         * Class constructor specifying every field of the checkpoint.
+         *
+         * @param action the number of actions taken before the snapshot
+         * @param turn the number of turns taken before the snapshot
+         * @param snapshot the snapshot of the game
+         */
+        Checkpoint(int action, int turn, GameSnapshot snapshot) {
+            this.action = action;
+            this.turn = turn;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package edu.colorado.objectgrind.server;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.Size;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * This class handles the commands of one client of a MatchServer, on a thread of its own.
+ * <p>
+ *     Commands are lines of words separated by spaces, and every command is answered with one line. A reply that
+ *     starts with ERR means that the command was not carried out, and gives the reason. The commands are:
+ * </p>
+ * <ul>
+ *     <li><code>NEW size</code> starts a match with a game of the given size (SMALL, MEDIUM or LARGE), in which the
+ *     client is player 1; the reply is <code>MATCH id</code>.</li>
+ *     <li><code>JOIN id</code> takes the seat of player 2 of the match with the given id; the reply is
+ *     <code>MATCH id</code>.</li>
+ *     <li><code>PLACE ship head tail</code> places the ship at the given index of the fleet, e.g.
+ *     <code>PLACE 0 11A 11B</code>, before the game starts.</li>
+ *     <li><code>MOVE direction</code> moves the fleet NORTH, EAST, SOUTH or WEST, during the client's turn.</li>
+ *     <li><code>UNDO</code> undoes the last placement or move, before the game starts or during the client's
+ *     turn.</li>
+ *     <li><code>FIRE weapon coordinate</code> takes the client's turn with the weapon at the given index of the
+ *     arsenal. The reply is <code>RESULT</code> followed by the outcome and coordinate of every result, e.g.
+ *     <code>RESULT HIT 14D SUNK 14D</code>, or <code>SKIPPED</code> if the client has no weapons left.</li>
+ *     <li><code>WAIT</code> waits until it is the client's turn, and replies <code>TURN</code>, or until the game is
+ *     over, and replies <code>OVER</code> followed by WON, LOST or DRAW.</li>
+ *     <li><code>QUIT</code> leaves the match, forfeiting it if it is not over; the reply is <code>BYE</code>, and the
+ *     connection is closed.</li>
+ * </ul>
+ * <p>
+ *     The other commands are answered with OK once they are carried out. A client that disconnects leaves its match
+ *     as if it had quit.
+ * </p>
+ *
+ * @see MatchServer
+ * @see Match
+ */
+class Connection implements Runnable {
+
+    /**
+     * The server that the client is connected to.
+     */
+    private final MatchServer server;
+
+    /**
+     * The socket of the client.
+     */
+    private final Socket socket;
+
+    /**
+     * The match that the client is playing; <code>null</code> if it has not started or joined one.
+     */
+    private Match match;
+
+    /**
+     * The index of the player that the client is in its match.
+     */
+    private int player;
+
+    /**
+     * Class constructor specifying the server, and the socket of the client.
+     *
+     * @param server the server that the client is connected to
+     * @param socket the socket of the client
+     */
+    Connection(MatchServer server, Socket socket) {
+        this.server = server;
+        this.socket = socket;
+        this.match = null;
+        this.player = 0;
+    }
+
+    /**
+     * Answers the commands of the client until it quits or disconnects, and then leaves its match.
+     */
+    @Override
+    public void run() {
+        try (Socket client = this.socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(),
+                     StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(),
+                     StandardCharsets.US_ASCII))) {
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] words = line.trim().split("\\s+");
+                String reply = answer(words);
+                out.write(reply);
+                out.write('\n');
+                out.flush();
+                if ( reply.equals("BYE") ) break;
+            }
+        }
+        catch (IOException | RejectedExecutionException | IllegalStateException e) {
+            // The client disconnected, or the server is closing
+        }
+        finally {
+            leave();
+            this.server.removeSocket(this.socket);
+        }
+    }
+
+    /**
+     * Carries out a command of the client.
+     *
+     * @param words the words of the command
+     * @return the reply to the command
+     */
+    private String answer(String[] words) {
+        String command = words[0].toUpperCase();
+        try {
+            switch (command) {
+                case "NEW":
+                    checkArguments(words, 1);
+                    if ( this.match != null ) return "ERR already in match " + this.match.getId();
+                    this.match = this.server.createMatch(parseSize(words[1]));
+                    this.player = 0;
+                    return "MATCH " + this.match.getId();
+
+                case "JOIN":
+                    checkArguments(words, 1);
+                    if ( this.match != null ) return "ERR already in match " + this.match.getId();
+                    Match joined = this.server.findMatch(Integer.parseInt(words[1]));
+                    if ( (joined == null) || !joined.call(joined::join) ) return "ERR cannot join match " + words[1];
+                    this.match = joined;
+                    this.player = 1;
+                    return "MATCH " + joined.getId();
+
+                case "QUIT":
+                    return "BYE";
+
+                default:
+                    break;
+            }
+
+            if ( this.match == null ) return "ERR not in a match";
+            Match playing = this.match;
+            int me = this.player;
+            switch (command) {
+                case "PLACE":
+                    checkArguments(words, 3);
+                    int ship_index = Integer.parseInt(words[1]);
+                    return playing.call(() -> playing.place(me, ship_index, words[2], words[3]));
+
+                case "MOVE":
+                    checkArguments(words, 1);
+                    Direction direction = parseDirection(words[1]);
+                    return playing.call(() -> playing.move(me, direction));
+
+                case "UNDO":
+                    checkArguments(words, 0);
+                    return playing.call(() -> playing.undo(me));
+
+                case "FIRE":
+                    checkArguments(words, 2);
+                    int weapon_index = Integer.parseInt(words[1]);
+                    return playing.call(() -> playing.fire(me, weapon_index, words[2]));
+
+                case "WAIT":
+                    checkArguments(words, 0);
+                    return playing.call(() -> playing.awaitTurn(me)).get();
+
+                default:
+                    return "ERR unknown command " + words[0];
+            }
+        }
+        catch (IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+        catch (ExecutionException e) {
+            return "ERR " + e.getCause().getMessage();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a turn", e);
+        }
+    }
+
+    /**
+     * Leaves the match of the client, if it is in one.
+     */
+    private void leave() {
+        Match playing = this.match;
+        if ( playing == null ) return;
+
+        this.match = null;
+        int me = this.player;
+        try {
+            playing.call(() -> {
+                playing.leave(me);
+                return null;
+            });
+        }
+        catch (RejectedExecutionException | IllegalStateException e) {
+            // The server is closing, so the match is going away anyway
+        }
+    }
+
+    /**
+     * Checks that a command was given the number of arguments that it takes.
+     *
+     * @param words the words of the command
+     * @param num_arguments the number of arguments that the command takes
+     * @throws IllegalArgumentException if it was given another number
+     */
+    private static void checkArguments(String[] words, int num_arguments) {
+        if ( words.length != num_arguments + 1 ) {
+            throw new IllegalArgumentException(words[0] + " takes " + num_arguments + " arguments, not "
+                    + (words.length - 1));
+        }
+    }
+
+    /**
+     * Returns the size of game with the given name.
+     *
+     * @param name the name of the size, in any case
+     * @return the size
+     * @throws IllegalArgumentException if there is no size with that name
+     */
+    private static Size parseSize(String name) {
+        for ( Size size : Size.values() ) {
+            if ( size.name().equalsIgnoreCase(name) ) return size;
+        }
+        throw new IllegalArgumentException("there is no size " + name);
+    }
+
+    /**
+     * Returns the direction with the given name.
+     *
+     * @param name the name of the direction, in any case
+     * @return the direction
+     * @throws IllegalArgumentException if there is no direction with that name
+     */
+    private static Direction parseDirection(String name) {
+        for ( Direction direction : Direction.values() ) {
+            if ( direction.name().equalsIgnoreCase(name) ) return direction;
+        }
+        throw new IllegalArgumentException("there is no direction " + name);
+    }
+}
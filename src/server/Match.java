@@ -0,0 +1,336 @@
+package edu.colorado.objectgrind.server;
+
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This class defines one game hosted by a MatchServer, and the two seats that connections play it from.
+ * <p>
+ *     A match is confined to one game thread of the server: every function other than call must only be run on that
+ *     thread, through call. The Game, its Players and their Grids are then only ever touched by one thread, so none
+ *     of them need any locking, and the connections of both players see every change in order.
+ * </p>
+ * <p>
+ *     Every function that carries out a command returns the line to reply with: a line starting with OK, RESULT,
+ *     SKIPPED, TURN or OVER if it was carried out, or with ERR if it was not.
+ * </p>
+ *
+ * @see MatchServer
+ * @see Connection
+ */
+class Match {
+
+    /**
+     * The value of forfeit while no player has left before the game was over.
+     */
+    private static final int NO_ONE = -1;
+
+    /**
+     * The id of this match, which the second player joins it by.
+     */
+    private final int id;
+
+    /**
+     * The server that hosts this match.
+     */
+    private final MatchServer server;
+
+    /**
+     * The game of this match.
+     */
+    private final Game game;
+
+    /**
+     * The engine that takes the turns of the game.
+     */
+    private final GameEngine engine;
+
+    /**
+     * The game thread that this match is confined to.
+     */
+    private final ExecutorService game_thread;
+
+    /**
+     * Whether or not a connection has taken each seat.
+     */
+    private final boolean[] seated;
+
+    /**
+     * Whether or not the connection of each seat has left.
+     */
+    private final boolean[] left;
+
+    /**
+     * The reply that the connection of each seat is waiting for; <code>null</code> if it is not waiting.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final CompletableFuture<String>[] waiting = new CompletableFuture[2];
+
+    /**
+     * The index of the player who left before the game was over; NO_ONE if neither has.
+     */
+    private int forfeit;
+
+    /**
+     * Class constructor specifying the id of the match, its game, and the game thread it is confined to.
+     * <p>
+     *     The first seat is taken by the connection that creates the match.
+     * </p>
+     *
+     * @param id the id of the match
+     * @param server the server that hosts the match
+     * @param game the game of the match, in its starting state
+     * @param game_thread the game thread that the match is confined to
+     */
+    Match(int id, MatchServer server, Game game, ExecutorService game_thread) {
+        this.id = id;
+        this.server = server;
+        this.game = game;
+        this.engine = new GameEngine(game);
+        this.game_thread = game_thread;
+        this.seated = new boolean[] {true, false};
+        this.left = new boolean[] {false, false};
+        this.forfeit = NO_ONE;
+    }
+
+    /**
+     * Runs the given action on the game thread of this match, and waits for its result.
+     * <p>
+     *     This is the only function that can be called from another thread.
+     * </p>
+     *
+     * @param action the action to run on the match
+     * @param <T> the type of the result of the action
+     * @return the result of the action
+     * @throws java.util.concurrent.RejectedExecutionException if the server has been closed
+     * @throws IllegalStateException if the action threw, or the wait was interrupted
+     */
+    <T> T call(Callable<T> action) {
+        try {
+            return this.game_thread.submit(action).get();
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Match " + this.id + " failed to carry out a command", e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for match " + this.id, e);
+        }
+    }
+
+    /**
+     * Takes the second seat of this match, if it is free.
+     *
+     * @return <code>true</code> if the seat was taken; <code>false</code> if it was already, or the match is over
+     */
+    boolean join() {
+        if ( this.seated[1] | this.left[0] ) return false;
+        this.seated[1] = true;
+        changed();
+        return true;
+    }
+
+    /**
+     * Places a ship of the given player's fleet, before the game starts.
+     *
+     * @param player the index of the player
+     * @param ship_index the index of the ship in the player's fleet
+     * @param head the coordinate of the head of the ship, e.g. "13C"
+     * @param tail the coordinate of the tail of the ship
+     * @return the reply
+     * @see Player#playerPlaceShip(int, String, String)
+     */
+    String place(int player, int ship_index, String head, String tail) {
+        if ( isOver() ) return "ERR the match is over";
+
+        Player placer = this.engine.getPlayer(player);
+        if ( (ship_index < 0) || (ship_index >= placer.getSizeOfFleet()) ) return "ERR there is no ship " + ship_index;
+        Ship ship = placer.getShipAtIndex(ship_index);
+        if ( ship.isShipPlaced() ) return "ERR ship " + ship_index + " is already placed";
+
+        placer.playerPlaceShip(ship_index, head, tail);
+        if ( !ship.isShipPlaced() ) return "ERR ship " + ship_index + " cannot be placed from " + head + " to " + tail;
+
+        changed();
+        return "OK";
+    }
+
+    /**
+     * Moves the fleet of the given player, during their turn.
+     *
+     * @param player the index of the player
+     * @param direction the direction to move the fleet
+     * @return the reply
+     * @see Player#playerMoveFleet(Direction)
+     */
+    String move(int player, Direction direction) {
+        String refusal = refuseTurn(player);
+        if ( refusal != null ) return refusal;
+
+        Player mover = this.engine.getPlayer(player);
+        if ( !mover.getGrid().canMoveFleet(direction) ) return "ERR the fleet cannot move " + direction;
+        mover.playerMoveFleet(direction);
+        return "OK";
+    }
+
+    /**
+     * Undoes the last placement or move of the fleet of the given player, before the game starts or during their
+     * turn.
+     *
+     * @param player the index of the player
+     * @return the reply
+     * @see Player#playerUndo()
+     */
+    String undo(int player) {
+        String refusal = this.engine.isReady() ? refuseTurn(player) : null;
+        if ( refusal != null ) return refusal;
+        if ( isOver() ) return "ERR the match is over";
+
+        Player undoer = this.engine.getPlayer(player);
+        if ( undoer.getCommands().isEmpty() ) return "ERR there is nothing to undo";
+        undoer.playerUndo();
+        changed();
+        return "OK";
+    }
+
+    /**
+     * Takes the turn of the given player, by using a weapon of their arsenal on a coordinate of the opponent's grid.
+     * <p>
+     *     A player without any weapons left cannot attack, so their turn is skipped whatever they fire.
+     * </p>
+     *
+     * @param player the index of the player
+     * @param weapon_index the index of the weapon in the player's arsenal
+     * @param coord the coordinate to attack, e.g. "13C"
+     * @return the reply, listing the outcome and coordinate of every result of the attack
+     * @see GameEngine#step(int, int)
+     */
+    String fire(int player, int weapon_index, String coord) {
+        String refusal = refuseTurn(player);
+        if ( refusal != null ) return refusal;
+
+        int num_turns = this.engine.getNumTurns();
+        List<AttackResult> results = this.engine.step(weapon_index, CoordinateParser.parse(coord));
+        if ( this.engine.getNumTurns() == num_turns ) {
+            return "ERR weapon " + weapon_index + " cannot be fired at " + coord;
+        }
+        changed();
+        if ( results.isEmpty() ) return "SKIPPED";
+
+        StringBuilder reply = new StringBuilder("RESULT");
+        for ( AttackResult result : results ) {
+            reply.append(' ').append(result.getOutcome());
+            reply.append(' ').append(CoordinateParser.format(result.getCoordinate()));
+        }
+        return reply.toString();
+    }
+
+    /**
+     * Returns the reply to a player who waits for their turn, once there is one to give.
+     * <p>
+     *     The reply is TURN once the game has started and it is the player's turn, or OVER followed by WON, LOST or
+     *     DRAW once the game is over, including when a player has left. Until then the future is completed later, on
+     *     the game thread, by the command that gives the player their turn.
+     * </p>
+     *
+     * @param player the index of the player
+     * @return the reply, which may not be complete yet
+     */
+    CompletableFuture<String> awaitTurn(int player) {
+        String reply = turnReply(player);
+        if ( reply != null ) return CompletableFuture.completedFuture(reply);
+
+        if ( this.waiting[player] == null ) this.waiting[player] = new CompletableFuture<>();
+        return this.waiting[player];
+    }
+
+    /**
+     * Leaves the seat of the given player, who forfeits the game if it is not over yet.
+     * <p>
+     *     Once every seated player has left, the match is taken off the server, and its game is handed back.
+     * </p>
+     *
+     * @param player the index of the player
+     */
+    void leave(int player) {
+        if ( this.left[player] ) return;
+        if ( !isOver() ) this.forfeit = player;
+        this.left[player] = true;
+        changed();
+
+        if ( this.left[0] & (this.left[1] | !this.seated[1]) ) this.server.removeMatch(this.id, this.game);
+    }
+
+    /**
+     * Returns the reply that tells the given player that it is their turn, or that the game is over.
+     *
+     * @param player the index of the player
+     * @return the reply; <code>null</code> if the player should still wait
+     */
+    private String turnReply(int player) {
+        if ( isOver() ) {
+            int winner = (this.forfeit != NO_ONE) ? 1 - this.forfeit : this.engine.getWinner();
+            if ( winner == GameEngine.NO_WINNER ) return "OVER DRAW";
+            return (winner == player) ? "OVER WON" : "OVER LOST";
+        }
+
+        boolean started = this.seated[1] && this.engine.isReady();
+        return (started && (this.engine.getCurrentPlayerIndex() == player)) ? "TURN" : null;
+    }
+
+    /**
+     * Returns the reply that refuses a command that can only be given during the player's own turn, if it is not.
+     *
+     * @param player the index of the player
+     * @return the refusal; <code>null</code> if it is the player's turn
+     */
+    private String refuseTurn(int player) {
+        if ( isOver() ) return "ERR the match is over";
+        if ( !this.seated[1] || !this.engine.isReady() ) return "ERR the match has not started";
+        if ( this.engine.getCurrentPlayerIndex() != player ) return "ERR it is not your turn";
+        return null;
+    }
+
+    /**
+     * Determines if the game is over, or a player has left it.
+     *
+     * @return <code>true</code> if no more turns can be taken; <code>false</code> otherwise
+     */
+    private boolean isOver() {
+        return this.engine.isOver() | (this.forfeit != NO_ONE);
+    }
+
+    /**
+     * Gives any player who is waiting the reply they are waiting for, after a command has changed the game.
+     */
+    private void changed() {
+        for (int player = 0; player < this.waiting.length; player++) {
+            CompletableFuture<String> wait = this.waiting[player];
+            String reply = (wait == null) ? null : turnReply(player);
+            if ( reply != null ) {
+                this.waiting[player] = null;
+                wait.complete(reply);
+            }
+        }
+    }
+
+    /**
+     * Gets the id of this match.
+     *
+     * @return the current value of id
+     */
+    int getId() {
+        return this.id;
+    }
+}
@@ -0,0 +1,298 @@
+package edu.colorado.objectgrind.server;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.GamePool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class hosts many games at once for players that connect over TCP, without any user interface.
+ * <p>
+ *     The server listens on the loopback address. Every connection gets a thread of its own, which reads its
+ *     commands one line at a time and writes one line back for each; see Connection for the commands. A player
+ *     starts a match with NEW and is told its id, and a second player joins it by that id with JOIN.
+ * </p>
+ * <p>
+ *     Each match is confined to one of a fixed number of game threads, picked by its id, and every command to it is
+ *     run there. Games never need locking, and a game thread runs the turns of many matches one after another. The
+ *     connection threads only parse commands and wait for their replies, so they are virtual threads when the Java
+ *     runtime has them (Java 21 and later), and platform threads from a cached pool otherwise.
+ * </p>
+ * <p>
+ *     Games are taken from a GamePool and handed back once both players have left, so a server that keeps hosting
+ *     matches of the same sizes stops creating games.
+ * </p>
+ *
+ * @see Connection
+ * @see Match
+ * @see GamePool
+ */
+public class MatchServer implements Closeable {
+
+    /**
+     * The pool that the games of the matches are taken from.
+     */
+    private final GamePool pool;
+
+    /**
+     * The threads that the matches are confined to.
+     */
+    private final ExecutorService[] game_threads;
+
+    /**
+     * The threads that the connections are handled on.
+     */
+    private final ExecutorService connection_threads;
+
+    /**
+     * Whether or not the connections are handled on virtual threads.
+     */
+    private final boolean virtual_threads;
+
+    /**
+     * The matches that are being played, by their id.
+     */
+    private final Map<Integer, Match> matches;
+
+    /**
+     * The sockets of the connections that are open, so that they can be closed along with the server.
+     */
+    private final Set<Socket> sockets;
+
+    /**
+     * The id of the next match.
+     */
+    private final AtomicInteger next_id;
+
+    /**
+     * The socket that connections are accepted on; <code>null</code> until the server is started.
+     */
+    private volatile ServerSocket server_socket;
+
+    /**
+     * Class constructor specifying how the grids of the games store their cells, and the number of game threads.
+     *
+     * @param grid_storage the way that the grids of the games store their cells
+     * @param num_game_threads the number of threads that the matches are confined to
+     * @throws IllegalArgumentException if the number of game threads is not positive
+     */
+    public MatchServer(GridStorage grid_storage, int num_game_threads) {
+        if ( num_game_threads <= 0 ) {
+            throw new IllegalArgumentException("A match server needs a game thread, not " + num_game_threads);
+        }
+
+        this.pool = new GamePool(grid_storage);
+        this.game_threads = new ExecutorService[num_game_threads];
+        ThreadFactory game_factory = namedDaemons("match-game");
+        for (int i = 0; i < num_game_threads; i++) {
+            this.game_threads[i] = Executors.newSingleThreadExecutor(game_factory);
+        }
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtual_threads = (virtual != null);
+        this.connection_threads = this.virtual_threads ? virtual
+                : Executors.newCachedThreadPool(namedDaemons("match-connection"));
+
+        this.matches = new ConcurrentHashMap<>();
+        this.sockets = ConcurrentHashMap.newKeySet();
+        this.next_id = new AtomicInteger(1);
+    }
+
+    /**
+     * Class constructor for a server whose games store their grids as bitboards, which take the least memory, with
+     * a game thread for every processor.
+     */
+    public MatchServer() {
+        this(GridStorage.BITBOARDS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts listening for connections on the given port of the loopback address.
+     *
+     * @param port the port to listen on; 0 for any free port
+     * @return the port that the server listens on
+     * @throws IOException if the port cannot be listened on
+     * @throws IllegalStateException if the server has already been started
+     */
+    public int start(int port) throws IOException {
+        if ( this.server_socket != null ) throw new IllegalStateException("The match server has already been started");
+
+        ServerSocket socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.server_socket = socket;
+
+        Thread acceptor = new Thread(() -> accept(socket), "match-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return socket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, handing each one to a thread of its own.
+     *
+     * @param socket the server socket
+     */
+    private void accept(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                client.setTcpNoDelay(true);
+                this.sockets.add(client);
+                this.connection_threads.execute(new Connection(this, client));
+            }
+            catch (SocketException e) {
+                // The server socket was closed
+            }
+            catch (IOException e) {
+                // The connection failed before it was handed off, which only affects that client
+            }
+        }
+    }
+
+    /**
+     * Starts a new match, with a game of the given size, whose first seat is taken.
+     *
+     * @param size the size of the game
+     * @return the new match
+     */
+    Match createMatch(Size size) {
+        int id = this.next_id.getAndIncrement();
+        ExecutorService game_thread = this.game_threads[Math.floorMod(id, this.game_threads.length)];
+        Match match = new Match(id, this, this.pool.acquire(size), game_thread);
+        this.matches.put(id, match);
+        return match;
+    }
+
+    /**
+     * Finds the match with the given id.
+     *
+     * @param id the id of the match
+     * @return the match; <code>null</code> if there is none, or it has ended
+     */
+    Match findMatch(int id) {
+        return this.matches.get(id);
+    }
+
+    /**
+     * Takes a match that every player has left off the server, and hands its game back to the pool.
+     *
+     * @param id the id of the match
+     * @param game the game of the match, which is not used again
+     */
+    void removeMatch(int id, Game game) {
+        this.matches.remove(id);
+        this.pool.release(game);
+    }
+
+    /**
+     * Forgets the socket of a connection that has been closed.
+     *
+     * @param socket the socket of the connection
+     */
+    void removeSocket(Socket socket) {
+        this.sockets.remove(socket);
+    }
+
+    /**
+     * Stops listening, closes every connection, and stops the threads of the server.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if ( this.server_socket != null ) this.server_socket.close();
+        for ( Socket socket : this.sockets ) {
+            try {
+                socket.close();
+            }
+            catch (IOException e) {
+                // The connection is being closed anyway
+            }
+        }
+
+        this.connection_threads.shutdownNow();
+        for ( ExecutorService game_thread : this.game_threads ) game_thread.shutdownNow();
+    }
+
+    /**
+     * Gets the port that the server listens on.
+     *
+     * @return the local port of the server socket; -1 if the server has not been started
+     */
+    public int getPort() {
+        ServerSocket socket = this.server_socket;
+        return (socket == null) ? -1 : socket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of matches that are being played, or waiting for a second player.
+     *
+     * @return the size of matches
+     */
+    public int getNumMatches() {
+        return this.matches.size();
+    }
+
+    /**
+     * Gets the number of threads that the matches are confined to.
+     *
+     * @return the length of game_threads
+     */
+    public int getNumGameThreads() {
+        return this.game_threads.length;
+    }
+
+    /**
+     * Gets whether or not the connections are handled on virtual threads.
+     *
+     * @return the current value of virtual_threads
+     */
+    public boolean usesVirtualThreads() {
+        return this.virtual_threads;
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread for every task, if the Java runtime has them.
+     * <p>
+     *     The executor is looked up by reflection, so that the server builds and runs on runtimes before Java 21.
+     * </p>
+     *
+     * @return the executor; <code>null</code> if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a factory of daemon threads, numbered after the given name.
+     *
+     * @param name the name of the threads
+     * @return the thread factory
+     */
+    private static ThreadFactory namedDaemons(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,42 +1,36 @@
 package edu.colorado.objectgrind.ships;
 
+import edu.colorado.objectgrind.enums.ShipType;
 import edu.colorado.objectgrind.ships.ship_types.*;
 
 /**
- * This class creates Ship objects given a ship name.
+ * This class creates Ship objects given a ship type or name.
  *
  * @see Ship
+ * @see ShipType
  */
 public class ShipFactory {
 
+    /**
+     * Creates a Ship object given its type.
+     *
+     * @param ship_type The type of the ship that will be created.
+     * @return A new <code>Ship</code> object of that type.
+     * @see ShipType#create()
+     */
+    public Ship createShip(ShipType ship_type) {
+        return ship_type.create();
+    }
+
     /**
      * Creates a Ship object given a string ship name.
      *
      * @param ship_name The name of the ship that will be created.
      * @return A <code>Ship</code> object, depending on the given name; <code>null</code> if name is not valid.
+     * @see ShipType#fromName(String)
      */
     public Ship createShip(String ship_name){
-
-        Ship ship = null;
-
-        switch (ship_name){
-            case "Battleship":
-                ship = new Battleship();
-                break;
-
-            case "Destroyer":
-                ship = new Destroyer();
-                break;
-
-            case "Minesweeper":
-                ship = new Minesweeper();
-                break;
-
-            case "Submarine":
-                ship = new Submarine();
-                break;
-        }
-
-        return ship;
+        ShipType ship_type = ShipType.fromName(ship_name);
+        return ship_type == null ? null : createShip(ship_type);
     }
 }
@@ -1,17 +1,22 @@
 package edu.colorado.objectgrind.ships.captains_quarters;
 
 import edu.colorado.objectgrind.grid.Coordinate;
-import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 
 /**
- * This class defines the behavior of and how to determine if a location is the captain's quarters of a ship.
+ * This class defines the behavior of and how to determine which location is the captain's quarters of a ship.
  *
  * @see Ship
  * @see Coordinate
  */
 public class CaptainsQuarters {
 
+    /**
+     * The value used in place of a packed coordinate for a ship that has no captain's quarters, such as one that is
+     * not placed.
+     */
+    public static final int NONE = -1;
+
     /**
      * The offset values for the rows that must have the same ship.
      */
@@ -48,96 +53,70 @@ public class CaptainsQuarters {
     }
 
     /**
-     * Checks if the coordinate of the given grid is the captains quarters of the ship at that location.
+     * Finds the captain's quarters among the given cells of a ship, by checking horizontally and then vertically.
      * <p>
-     *     The same_ship_offsets and the not_ship_offsets define the orientation which the check for captains quarters
-     *     is executed.
+     *     This is done once, when the ship is placed. Only the ship's own cells are looked at, so the result does not
+     *     depend on other ships or on the edges of the grid: an offset that lands outside of the ship counts as not the
+     *     same ship. Every cell is checked horizontally before any is checked vertically, and the first cell that
+     *     satisfies the offsets is the captain's quarters.
      * </p>
      *
-     * @param same_ship_offsets offset values for the rows that must have the same ship
-     * @param not_ship_offsets offset values for the rows that must NOT have the same ship
-     * @param coord the coordinate that is being checked for captain's quarters
-     * @param grid the that the coordinate is indexing
-     * @return <code>true</code> if the given coordinate is the captain's quarters of the
-     *         given ship; <code>false/code> otherwise
+     * @param cells the packed coordinates of every cell of the ship
+     * @return the packed coordinate of the captain's quarters; <code>NONE</code> if no cell satisfies the offsets
+     * @see #checkCaptainQuarters(int[], int[], boolean, int, int[])
      */
-    public boolean checkCaptainQuarters(int[] same_ship_offsets, int[] not_ship_offsets, Coordinate coord, Grid grid) {
+    public int findCaptainsQuarters(int[] cells) {
 
-        // Get the row, column, and layer from the coordinate
-        int row = coord.getRow();
-        int col = coord.getColumn();
-        int layer = coord.getLayer();
+        // Check for the captain's quarters according to a horizontal orientation
+        for ( int cell : cells ) {
+            if ( checkCaptainQuarters(same_ship_cols, not_ship_cols, false, cell, cells) ) return cell;
+        }
 
-        // Get the ship at the given coordinate
-        Ship ship_of_interest = grid.getLocationByIndex(layer,row,col).getShip();
+        // Check for the captain's quarters according to a vertical orientation
+        for ( int cell : cells ) {
+            if ( checkCaptainQuarters(same_ship_rows, not_ship_rows, true, cell, cells) ) return cell;
+        }
 
-        // Check all of the same ship locations, given all of the row offsets
-        int new_row = row;
-        int new_col = col;
-        for ( int offset : same_ship_offsets ) {
+        return NONE;
+    }
 
-            // if the offset array is same_ship_rows
-            if ( same_ship_offsets == this.same_ship_rows ) {
-                new_row = row + offset;
-                System.out.print("They are the same");
-            }
-            else {
-                new_col = col + offset;
-            }
+    /**
+     * Checks if the given cell of a ship is the captain's quarters, according to one orientation.
+     *
+     * @param same_ship_offsets the offsets that must land on the ship
+     * @param not_ship_offsets the offsets that must NOT land on the ship
+     * @param offset_rows <code>true</code> if the offsets are applied to the row; <code>false</code> for the column
+     * @param cell the packed coordinate of the cell that is being checked
+     * @param cells the packed coordinates of every cell of the ship
+     * @return <code>true</code> if the cell satisfies all of the offsets; <code>false</code> otherwise
+     */
+    private boolean checkCaptainQuarters(int[] same_ship_offsets, int[] not_ship_offsets, boolean offset_rows,
+                                         int cell, int[] cells) {
 
-            // If the location is out of bounds, return false
-            if ( !grid.isCoordinateInBounds( new Coordinate(layer,new_row,new_col) ) ) return false;
+        // Each offset moves the cell by one row or one column, which is a fixed step in its packed form
+        int step = offset_rows ? Coordinate.pack(0, 1, 0) : Coordinate.pack(0, 0, 1);
 
-            // If the location has a different ship, return false
-            if ( grid.getLocationByIndex(layer,new_row,new_col).getShip() != ship_of_interest ) return false;
+        for ( int offset : same_ship_offsets ) {
+            if ( !contains(cells, cell + offset * step) ) return false;
         }
-
-        // Reset the row and column
-        new_row = row;
-        new_col = col;
-
-        // Check all of the different ship locations
         for ( int offset : not_ship_offsets ) {
-
-            // if the offset array is same_ship_rows
-            if ( not_ship_offsets == this.not_ship_rows ) {
-                new_row = row + offset;
-            }
-            else {
-                new_col = col + offset;
-            }
-
-            // If the location is out of bounds, return false
-            if ( !grid.isCoordinateInBounds( new Coordinate(layer,new_row,new_col) ) ) return false;
-
-            // If the location has a different ship, return false
-            if ( grid.getLocationByIndex(layer,new_row,new_col).getShip() == ship_of_interest ) return false;
+            if ( contains(cells, cell + offset * step) ) return false;
         }
 
-        // Otherwise, all of the locations satisfy the conditions, so return true
         return true;
     }
 
     /**
-     * Determines if the given location is a captain's quarters, by checking vertically and horizontally.
+     * Checks if the given packed coordinate is one of the given cells.
      *
-     * @param grid_p the grid that the given coordinate will index
-     * @param coord the coordinate that is being checked for captains quarters
-     * @return <code>true</code> if the given coordinate is the captain's quarters of the
-     *         given ship; <code>false/code> otherwise
-     * @see #checkCaptainQuarters(int[], int[], Coordinate, Grid) 
-     * @see Grid#getLocationByIndex(int, int, int)
-     * @see Coordinate
+     * @param cells the packed coordinates to look through
+     * @param packed the packed coordinate to look for
+     * @return <code>true</code> if it is one of the cells; <code>false</code> otherwise
      */
-    public boolean isCaptainsQuarters(Grid grid_p, Coordinate coord) {
-
-        // Checks for the captain's quarters according to a horizontal orientation
-        boolean horizontal_cap_quarters = checkCaptainQuarters(same_ship_cols, not_ship_cols, coord, grid_p);
-
-        // If the location is a captain's quarters
-        if( horizontal_cap_quarters ) return true;
-
-        // Checks for the captain's quarters according to a vertical orientation
-        return checkCaptainQuarters(same_ship_rows, not_ship_rows, coord, grid_p);
+    private static boolean contains(int[] cells, int packed) {
+        for ( int cell : cells ) {
+            if ( cell == packed ) return true;
+        }
+        return false;
     }
 }
@@ -1,15 +1,22 @@
 package edu.colorado.objectgrind.ships.fleet;
 
+import edu.colorado.objectgrind.enums.ShipType;
 import edu.colorado.objectgrind.ships.ShipFactory;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.ships.ship_types.ShipListener;
 
 /**
  * This class defines the fleet of ships that a player will have for a game of battleship.
+ * <p>
+ *     The fleet listens to each of its ships, and keeps a count of how many have sunk and how many are placed as they
+ *     change, so that checking for the end of the game or the end of setup does not go through every ship.
+ * </p>
  *
  * @see Ship
  * @see ShipFactory
+ * @see ShipListener
  */
-public abstract class Fleet {
+public abstract class Fleet implements ShipListener {
 
     /**
      * The ships that are in this fleet.
@@ -18,23 +25,139 @@ public abstract class Fleet {
     private final Ship[] ships;
 
     /**
-     * Class constructor specifying the names of the ships that will be in this fleet.
+     * The number of ships in this fleet that have sunk.
+     */
+    private int num_sunk;
+
+    /**
+     * The number of ships in this fleet that are placed.
+     */
+    private int num_placed;
+
+    /**
+     * The number of ships in this fleet that have sunk since the start of the current turn.
+     * @see #startTurn()
+     */
+    private int num_sunk_this_turn;
+
+    /**
+     * Class constructor specifying the types of the ships that will be in this fleet.
      *
-     * @param ship_names the names of the ships that will be in this fleet
+     * @param ship_types the types of the ships that will be in this fleet
      */
-    public Fleet(String[] ship_names) {
+    public Fleet(ShipType[] ship_types) {
 
         // Set the ship factory
         ShipFactory ship_factory = new ShipFactory();
 
         // Initialize the ship array
-        int num_ships = ship_names.length;
+        int num_ships = ship_types.length;
         this.ships = new Ship[ num_ships ];
 
-        // For each ship name, create the ship with the factory
+        // For each ship type, create the ship with the factory
         for( int i=0; i<num_ships; i++ ) {
-            this.ships[i] = ship_factory.createShip(ship_names[i]);
+            this.ships[i] = ship_factory.createShip(ship_types[i]);
+            this.ships[i].setShipListener(this);
         }
+
+        this.num_sunk = 0;
+        this.num_placed = 0;
+        this.num_sunk_this_turn = 0;
+    }
+
+    /**
+     * Class constructor specifying the names of the ships that will be in this fleet.
+     *
+     * @param ship_names the names of the ships that will be in this fleet
+     * @throws IllegalArgumentException if one of the names is not the name of a ship
+     * @see ShipType#fromName(String)
+     */
+    public Fleet(String[] ship_names) {
+        this(toShipTypes(ship_names));
+    }
+
+    /**
+     * Returns the types of ship with the given names.
+     *
+     * @param ship_names the names of the ships
+     * @return the type of each ship, in the same order
+     * @throws IllegalArgumentException if one of the names is not the name of a ship
+     */
+    private static ShipType[] toShipTypes(String[] ship_names) {
+        ShipType[] ship_types = new ShipType[ship_names.length];
+        for (int i = 0; i < ship_names.length; i++) {
+            ship_types[i] = ShipType.fromName(ship_names[i]);
+            if ( ship_types[i] == null ) throw new IllegalArgumentException("No ship is named " + ship_names[i]);
+        }
+        return ship_types;
+    }
+
+    /**
+     * Brings this fleet back to how it was created, with every ship at full health and not placed.
+     *
+     * @see Ship#reset()
+     */
+    public void reset() {
+        for ( Ship ship : this.ships ) ship.reset();
+        this.num_sunk = 0;
+        this.num_placed = 0;
+        this.num_sunk_this_turn = 0;
+    }
+
+    /**
+     * Updates the sunk counts when one of the ships in this fleet sinks, or stops being sunk.
+     *
+     * @param ship the ship that changed
+     * @param sunk <code>true</code> if the ship has now sunk; <code>false</code> if it no longer has
+     */
+    @Override
+    public void sunkChanged(Ship ship, boolean sunk) {
+        int change = sunk ? 1 : -1;
+        this.num_sunk += change;
+        this.num_sunk_this_turn += change;
+    }
+
+    /**
+     * Updates the placed count when one of the ships in this fleet is placed, or stops being placed.
+     *
+     * @param ship the ship that changed
+     * @param placed <code>true</code> if the ship is now placed; <code>false</code> if it no longer is
+     */
+    @Override
+    public void placedChanged(Ship ship, boolean placed) {
+        this.num_placed += placed ? 1 : -1;
+    }
+
+    /**
+     * Starts a new turn, so that only ships that sink from now on are counted as sunk this turn.
+     *
+     * @see #getNumSunkThisTurn()
+     */
+    public void startTurn() {
+        this.num_sunk_this_turn = 0;
+    }
+
+    /**
+     * Gets the number of ships in this fleet that have sunk since the start of the current turn.
+     *
+     * @return the current value of num_sunk_this_turn
+     * @see #startTurn()
+     */
+    public int getNumSunkThisTurn() {
+        return this.num_sunk_this_turn;
+    }
+
+    /**
+     * Sets the number of ships in this fleet that have sunk since the start of the current turn.
+     * <p>
+     *     This is for restoring a fleet whose ships were restored, which counts their sinks as sinks of this turn.
+     * </p>
+     *
+     * @param num_sunk_this_turn the new value of num_sunk_this_turn
+     * @see Ship#restoreState(int, int, boolean, int)
+     */
+    public void setNumSunkThisTurn(int num_sunk_this_turn) {
+        this.num_sunk_this_turn = num_sunk_this_turn;
     }
 
     /**
@@ -62,51 +185,39 @@ public abstract class Fleet {
      * Gets the number of ships in this fleet that have sunk.
      *
      * @return a count of all ships in this fleet that have sunk
-     * @see #ships
-     * @see Ship#hasSunk()
+     * @see #num_sunk
      */
     public int getNumShipsSunk() {
-        int num = 0;
-        for (Ship ship : this.ships) {
-            if (ship.hasSunk()) num++;
-        }
-        return num;
+        return this.num_sunk;
+    }
+
+    /**
+     * Gets the number of ships in this fleet that are placed.
+     *
+     * @return a count of all ships in this fleet that are placed
+     * @see #num_placed
+     */
+    public int getNumShipsPlaced() {
+        return this.num_placed;
     }
 
     /**
      * Determines if all of the ships have been sunk.
      *
      * @return <code>true</code> if all ships in this fleet have sunk; <code>false</code> otherwise
-     * @see Ship#hasSunk()
+     * @see #num_sunk
      */
     public boolean allShipsSunk() {
-
-        // If any of the ships has not sunk, then return false
-        for (Ship ship : this.ships) {
-            if (!ship.hasSunk()) return false;
-        }
-        return true;
+        return this.num_sunk == this.ships.length;
     }
 
     /**
      * Determines if all of the ships in this fleet have been placed.
      *
      * @return <code>true</code> if all of the ships in this fleet have been placed; <code>false</code> otherwise
-     * @see Ship#isShipPlaced()
+     * @see #num_placed
      */
     public boolean allShipsPlaced() {
-
-        // Initialize to true
-        boolean all_ships_placed = true;
-
-        // if any ship has not been placed, then set to false
-        for ( Ship ship : this.ships ) {
-            if ( !ship.isShipPlaced() ) {
-                all_ships_placed = false;
-                break;
-            }
-        }
-
-        return all_ships_placed;
+        return this.num_placed == this.ships.length;
     }
 }
@@ -1,5 +1,7 @@
 package edu.colorado.objectgrind.ships.fleet;
 
+import edu.colorado.objectgrind.enums.ShipType;
+
 /**
  * This class defines the fleet that a player will have for a Large game of battleship.
  *
@@ -8,9 +10,10 @@ package edu.colorado.objectgrind.ships.fleet;
 public class LargeFleet extends Fleet {
 
     /**
-     * Class constructor that passes the array of ship names to the super class that will be in this fleet.
+     * Class constructor that passes the array of ship types to the super class that will be in this fleet.
      */
     public LargeFleet() {
-        super( new String[] { "Minesweeper", "Minesweeper", "Destroyer", "Destroyer", "Battleship", "Submarine", "Submarine" } );
+        super( new ShipType[] { ShipType.MINESWEEPER, ShipType.MINESWEEPER, ShipType.DESTROYER, ShipType.DESTROYER,
+                ShipType.BATTLESHIP, ShipType.SUBMARINE, ShipType.SUBMARINE } );
     }
 }
@@ -1,5 +1,7 @@
 package edu.colorado.objectgrind.ships.fleet;
 
+import edu.colorado.objectgrind.enums.ShipType;
+
 /**
  * This class defines the fleet that a player will have for a Medium game of battleship.
  *
@@ -8,9 +10,9 @@ package edu.colorado.objectgrind.ships.fleet;
 public class MediumFleet extends Fleet {
 
     /**
-     * Class constructor that passes the array of ship names to the super class that will be in this fleet.
+     * Class constructor that passes the array of ship types to the super class that will be in this fleet.
      */
     public MediumFleet() {
-        super( new String[]{ "Battleship", "Destroyer", "Minesweeper", "Submarine" } );
+        super( new ShipType[] { ShipType.BATTLESHIP, ShipType.DESTROYER, ShipType.MINESWEEPER, ShipType.SUBMARINE } );
     }
 }
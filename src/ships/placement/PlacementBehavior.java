@@ -43,16 +43,35 @@ public abstract class PlacementBehavior {
      * @see Coordinate
      */
     public boolean isValidBodyPlacement(int ship_length, Coordinate head, Coordinate tail) {
+        return isValidBodyPlacement(ship_length, head.toPacked(), tail.toPacked());
+    }
+
+    /**
+     * Checks that placement of the body of the given ship is valid, given packed head and tail coordinates.
+     *
+     * @param ship_length the length of the ship
+     * @param head the packed head coordinate for the ship
+     * @param tail the packed tail coordinate for the ship
+     * @return <code>true</code> if the placement is valid; <code>false</code> otherwise
+     * @see #isValidBodyPlacement(int, Coordinate, Coordinate)
+     * @see Coordinate#pack(int, int, int)
+     */
+    public boolean isValidBodyPlacement(int ship_length, int head, int tail) {
 
         // If the head and tail are in the same layer
-        if ( head.getLayer() == tail.getLayer() ) {
+        if ( Coordinate.layerOf(head) == Coordinate.layerOf(tail) ) {
+
+            int head_row = Coordinate.rowOf(head);
+            int head_col = Coordinate.columnOf(head);
+            int tail_row = Coordinate.rowOf(tail);
+            int tail_col = Coordinate.columnOf(tail);
 
             // If the head and tail are in the same row, and the tail is to the right of the head by ship_length-1
-            if ((head.getRow() == tail.getRow()) & (tail.getColumn() == (head.getColumn() + ship_length - 1)))
+            if ((head_row == tail_row) & (tail_col == (head_col + ship_length - 1)))
                 return true;
 
             // If the head and tail are in the same column, and the tail is below the head by ship_length-1
-            return ((head.getColumn() == tail.getColumn()) & (tail.getRow() == (head.getRow() + ship_length - 1)));
+            return ((head_col == tail_col) & (tail_row == (head_row + ship_length - 1)));
         }
 
         return false;
@@ -69,23 +88,40 @@ public abstract class PlacementBehavior {
      * @param coord_tail the tail coordinate where the ship body will be placed
      * @return <code>false</code> if any of the locations between head and tail have a ship; <code>true</code> otherwise
      * @see Coordinate
-     * @see Grid#getLocationByIndex(int, int, int)
+     * @see Grid#hasShipAt(int, int, int)
      */
     public boolean canPlaceBodyHere(Grid grid, Coordinate coord_head, Coordinate coord_tail) {
+        return canPlaceBodyHere(grid, coord_head.toPacked(), coord_tail.toPacked());
+    }
+
+    /**
+     * Checks that the body of the ship can be placed between the given packed head and tail coordinates.
+     *
+     * @param grid the grid that the ship will try to be placed on
+     * @param coord_head the packed head coordinate where the ship body will be placed
+     * @param coord_tail the packed tail coordinate where the ship body will be placed
+     * @return <code>false</code> if any of the locations between head and tail have a ship; <code>true</code> otherwise
+     * @see #canPlaceBodyHere(Grid, Coordinate, Coordinate)
+     */
+    public boolean canPlaceBodyHere(Grid grid, int coord_head, int coord_tail) {
+
+        int layer = Coordinate.layerOf(coord_head);
+        int head_row = Coordinate.rowOf(coord_head);
+        int head_col = Coordinate.columnOf(coord_head);
 
         // If the ship is horizontal
-        if (coord_head.getRow() == coord_tail.getRow()) {
+        if (head_row == Coordinate.rowOf(coord_tail)) {
 
             // In the given row, return false if there is a ship there
-            for (int j = coord_head.getColumn(); j < coord_tail.getColumn() + 1; j++) {
-                if (grid.getLocationByIndex(coord_head.getLayer(), coord_head.getRow(), j).hasShip()) return false;
+            for (int j = head_col; j < Coordinate.columnOf(coord_tail) + 1; j++) {
+                if (grid.hasShipAt(layer, head_row, j)) return false;
             }
 
         } else { // if the ship is vertical
 
             // In the given column, return false if there is a ship there
-            for (int i = coord_head.getRow(); i < coord_tail.getRow() + 1; i++) {
-                if (grid.getLocationByIndex(coord_head.getLayer(), i, coord_head.getColumn()).hasShip()) return false;
+            for (int i = head_row; i < Coordinate.rowOf(coord_tail) + 1; i++) {
+                if (grid.hasShipAt(layer, i, head_col)) return false;
             }
 
         }
@@ -101,7 +137,19 @@ public abstract class PlacementBehavior {
      * @param coord_tail the tail coordinate where the ship will be placed
      * @return <code>false</code> if any of the relevant locations have a ship; <code>true</code> otherwise
      */
-    public abstract boolean canPlaceShipHere(Grid grid, Coordinate coord_head, Coordinate coord_tail);
+    public boolean canPlaceShipHere(Grid grid, Coordinate coord_head, Coordinate coord_tail) {
+        return canPlaceShipHere(grid, coord_head.toPacked(), coord_tail.toPacked());
+    }
+
+    /**
+     * Checks that a ship can be placed on the given grid between the given packed head and tail coordinates.
+     *
+     * @param grid the grid that the ship will try to be placed on
+     * @param coord_head the packed head coordinate where the ship will be placed
+     * @param coord_tail the packed tail coordinate where the ship will be placed
+     * @return <code>false</code> if any of the relevant locations have a ship; <code>true</code> otherwise
+     */
+    public abstract boolean canPlaceShipHere(Grid grid, int coord_head, int coord_tail);
 
     /**
      * Places the body of the ship on the given grid between the given head and tail coordinates.
@@ -113,27 +161,80 @@ public abstract class PlacementBehavior {
      * @param grid_of_placement the grid that the ship body will be placed on
      * @param coord_head the head coordinate where the ship body will be placed
      * @param coord_tail the tail coordinate where the ship body will be placed
-     * @see Grid
+     * @see Grid#setShipAt(int, int, int, Ship)
      * @see Ship
      */
     public void placeBody(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail) {
+        placeBody(ship_to_place, grid_of_placement, coord_head.toPacked(), coord_tail.toPacked());
+    }
+
+    /**
+     * Places the body of the ship on the given grid between the given packed head and tail coordinates.
+     *
+     * @param ship_to_place the ship to be placed
+     * @param grid_of_placement the grid that the ship body will be placed on
+     * @param coord_head the packed head coordinate where the ship body will be placed
+     * @param coord_tail the packed tail coordinate where the ship body will be placed
+     * @see #placeBody(Ship, Grid, Coordinate, Coordinate)
+     */
+    public void placeBody(Ship ship_to_place, Grid grid_of_placement, int coord_head, int coord_tail) {
+
+        int layer = Coordinate.layerOf(coord_head);
+        int head_row = Coordinate.rowOf(coord_head);
+        int head_col = Coordinate.columnOf(coord_head);
 
         // If the ship is horizontal
-        if (coord_head.getRow() == coord_tail.getRow()) {
+        if (head_row == Coordinate.rowOf(coord_tail)) {
 
             // In the given row, set the ship at every location from head to tail to the given ship
-            for (int j = coord_head.getColumn(); j < coord_tail.getColumn() + 1; j++) {
-                grid_of_placement.getLocationByIndex(coord_head.getLayer(), coord_head.getRow(), j).setShip(ship_to_place);
+            for (int j = head_col; j < Coordinate.columnOf(coord_tail) + 1; j++) {
+                grid_of_placement.setShipAt(layer, head_row, j, ship_to_place);
             }
         } else { // if the ship is vertical
 
             // In the given column, set the ship at every location from head to tail to the given ship
-            for (int i = coord_head.getRow(); i < coord_tail.getRow() + 1; i++) {
-                grid_of_placement.getLocationByIndex(coord_head.getLayer(), i, coord_head.getColumn()).setShip(ship_to_place);
+            for (int i = head_row; i < Coordinate.rowOf(coord_tail) + 1; i++) {
+                grid_of_placement.setShipAt(layer, i, head_col, ship_to_place);
             }
         }
     }
 
+    /**
+     * Returns the packed coordinates of every cell of the body of a ship between the given head and tail, in order.
+     *
+     * @param coord_head the packed head coordinate of the ship
+     * @param coord_tail the packed tail coordinate of the ship
+     * @return the packed coordinates of the body, from head to tail
+     */
+    public int[] getBodyCells(int coord_head, int coord_tail) {
+
+        // Each cell of the body is one row or one column further along than the last, which is a fixed packed step
+        boolean horizontal = Coordinate.rowOf(coord_head) == Coordinate.rowOf(coord_tail);
+        int step = horizontal ? Coordinate.pack(0, 0, 1) : Coordinate.pack(0, 1, 0);
+        int length = (coord_tail - coord_head) / step + 1;
+
+        int[] cells = new int[length];
+        for ( int i = 0; i < length; i++ ) {
+            cells[i] = coord_head + i * step;
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the packed coordinates of every cell that a ship placed between the given head and tail is at.
+     * <p>
+     *     This is the body by default; placement behaviors that place more than the body add those cells.
+     * </p>
+     *
+     * @param coord_head the packed head coordinate of the ship
+     * @param coord_tail the packed tail coordinate of the ship
+     * @return the packed coordinates of every cell of the ship
+     * @see #getBodyCells(int, int)
+     */
+    public int[] getShipCells(int coord_head, int coord_tail) {
+        return getBodyCells(coord_head, coord_tail);
+    }
+
     /**
      * Checks that the given layer is a valid layer for this placement behavior.
      *
@@ -158,5 +259,21 @@ public abstract class PlacementBehavior {
      * @param coord_head the head coordinate where the ship will be placed
      * @param coord_tail the tail coordinate where the ship will be placed
      */
-    public abstract void placeShip(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail);
+    public void placeShip(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail) {
+        placeShip(ship_to_place, grid_of_placement, coord_head.toPacked(), coord_tail.toPacked());
+    }
+
+    /**
+     * Places the entire given ship on the given grid at the given packed coordinates.
+     * <p>
+     *     Once the ship is on the grid, its captain's quarters are found from the cells that it was placed at.
+     * </p>
+     *
+     * @param ship_to_place the ship to be placed
+     * @param grid_of_placement the grid that the ship will be placed on
+     * @param coord_head the packed head coordinate where the ship will be placed
+     * @param coord_tail the packed tail coordinate where the ship will be placed
+     * @see Ship#locateCaptainsQuarters(int[])
+     */
+    public abstract void placeShip(Ship ship_to_place, Grid grid_of_placement, int coord_head, int coord_tail);
 }
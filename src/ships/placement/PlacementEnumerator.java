@@ -0,0 +1,546 @@
+package edu.colorado.objectgrind.ships.placement;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class enumerates every legal placement of one kind of ship on a grid of a given size.
+ * <p>
+ *     Every placement that could ever be legal, given the ship's length, its placement behavior's cells (such as the
+ *     top side of a submarine), and its valid layers, is worked out once, as a candidate. A candidate is then legal
+ *     on a grid if none of its cells is occupied, which is tested against an occupancy bitmask of the grid with one
+ *     bit per cell, rather than by going through the grid's cells.
+ * </p>
+ * <p>
+ *     A placement is stored as a single int: the packed head coordinate, with the <code>VERTICAL</code> bit set if the
+ *     ship runs down from the head rather than to the right of it. That bit is also bit 4 of the packed layer, so
+ *     placements can only be enumerated on grids of at most <code>MAX_LAYERS</code> layers. Legal placements are
+ *     produced lazily, by an iterator or by a spliterator that splits the candidates in half, so they can also be
+ *     spread across threads.
+ * </p>
+ * <p>
+ *     Enumerators do not hold on to a ship or grid, so one is shared by every ship of the same kind on grids of the
+ *     same size.
+ * </p>
+ *
+ * @see PlacementBehavior#getShipCells(int, int)
+ * @see PlacementBehavior#isValidLayer(int)
+ * @see Coordinate#pack(int, int, int)
+ */
+public final class PlacementEnumerator {
+
+    /**
+     * The bit that is set in a placement if the ship is vertical. It is bit 4 of the layer of a packed coordinate, so
+     * it is only free on grids of at most <code>MAX_LAYERS</code> layers.
+     */
+    public static final int VERTICAL = 1 << 28;
+
+    /**
+     * The greatest number of layers of a grid whose packed coordinates never have the <code>VERTICAL</code> bit set.
+     */
+    public static final int MAX_LAYERS = 16;
+
+    /**
+     * The enumerators that have been created, by the kind of ship and the dimensions of the grid.
+     */
+    private static final Map<String, PlacementEnumerator> ENUMERATORS = new ConcurrentHashMap<>();
+
+    /**
+     * The number of rows and columns of the grid.
+     */
+    private final int size;
+
+    /**
+     * The number of layers of the grid.
+     */
+    private final int num_layers;
+
+    /**
+     * The length of the ship, which is the distance from the head to the tail plus one.
+     */
+    private final int length;
+
+    /**
+     * The number of cells that the ship is at, which may be more than its length.
+     */
+    private final int cells_per_placement;
+
+    /**
+     * Every candidate placement.
+     */
+    private final int[] candidates;
+
+    /**
+     * The occupancy bit of every cell of every candidate, with cells_per_placement entries for each candidate.
+     */
+    private final int[] candidate_bits;
+
+    /**
+     * The index of the first entry of covering for each occupancy bit, with one more entry at the end.
+     */
+    private final int[] covering_starts;
+
+    /**
+     * The indices of the candidates that cover each occupancy bit, grouped by bit.
+     */
+    private final int[] covering;
+
+    /**
+     * Class constructor that works out every candidate placement of the given ship on a grid of the given dimensions.
+     *
+     * @param ship a ship of the kind that will be placed
+     * @param size the number of rows and columns of the grid
+     * @param num_layers the number of layers of the grid
+     * @throws IllegalArgumentException if the grid has more than <code>MAX_LAYERS</code> layers
+     * @see #forShip(Ship, int, int)
+     */
+    private PlacementEnumerator(Ship ship, int size, int num_layers) {
+        if ( num_layers > MAX_LAYERS ) {
+            throw new IllegalArgumentException("Placements cannot be enumerated on a grid of " + num_layers
+                    + " layers, only up to " + MAX_LAYERS);
+        }
+
+        this.size = size;
+        this.num_layers = num_layers;
+        this.length = ship.getLength();
+
+        int[] candidates = new int[num_layers * size * size * 2];
+        int[] candidate_bits = null;
+        int num_candidates = 0;
+        int cells_per_placement = 0;
+
+        for (int layer = 0; layer < num_layers; layer++) {
+            if ( !ship.performIsValidLayer(Coordinate.pack(layer, 0, 0)) ) continue;
+
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    for (int vertical = 0; vertical < 2; vertical++) {
+
+                        // The tail is length-1 cells to the right of or below the head
+                        int head = Coordinate.pack(layer, row, col);
+                        int tail = (vertical == 0) ? Coordinate.pack(layer, row, col + this.length - 1)
+                                                   : Coordinate.pack(layer, row + this.length - 1, col);
+                        if ( (Coordinate.rowOf(tail) >= size) | (Coordinate.columnOf(tail) >= size) ) continue;
+
+                        // Every cell of the ship, such as the top side of a submarine, must be on the grid
+                        int[] cells = ship.performGetShipCells(head, tail);
+                        if ( !allInBounds(cells) ) continue;
+
+                        if ( candidate_bits == null ) {
+                            cells_per_placement = cells.length;
+                            candidate_bits = new int[candidates.length * cells_per_placement];
+                        }
+                        for (int i = 0; i < cells_per_placement; i++) {
+                            candidate_bits[num_candidates * cells_per_placement + i] = bitOf(cells[i]);
+                        }
+                        candidates[num_candidates++] = (vertical == 0) ? head : head | VERTICAL;
+                    }
+                }
+            }
+        }
+
+        this.cells_per_placement = cells_per_placement;
+        this.candidates = Arrays.copyOf(candidates, num_candidates);
+        this.candidate_bits = (candidate_bits == null) ? new int[0]
+                : Arrays.copyOf(candidate_bits, num_candidates * cells_per_placement);
+
+        // Group the candidates by the bits that they cover, counting them first and then filling them in
+        int num_bits = num_layers * size * size;
+        this.covering_starts = new int[num_bits + 1];
+        for ( int bit : this.candidate_bits ) this.covering_starts[bit + 1]++;
+        for (int bit = 0; bit < num_bits; bit++) this.covering_starts[bit + 1] += this.covering_starts[bit];
+
+        this.covering = new int[this.candidate_bits.length];
+        int[] next = Arrays.copyOf(this.covering_starts, num_bits);
+        for (int i = 0; i < this.candidate_bits.length; i++) {
+            this.covering[next[this.candidate_bits[i]]++] = i / Math.max(cells_per_placement, 1);
+        }
+    }
+
+    /**
+     * Returns the enumerator for ships of the same kind as the given ship, on grids of the given dimensions.
+     *
+     * @param ship a ship of the kind that will be placed
+     * @param size the number of rows and columns of the grid
+     * @param num_layers the number of layers of the grid
+     * @return the enumerator, which is created the first time that it is asked for
+     * @throws IllegalArgumentException if the grid has more than <code>MAX_LAYERS</code> layers
+     */
+    public static PlacementEnumerator forShip(Ship ship, int size, int num_layers) {
+        String key = ship.getClass().getName() + ':' + size + ':' + num_layers;
+        return ENUMERATORS.computeIfAbsent(key, k -> new PlacementEnumerator(ship, size, num_layers));
+    }
+
+    /**
+     * Returns the enumerator for ships of the same kind as the given ship, on grids like the given grid.
+     *
+     * @param ship a ship of the kind that will be placed
+     * @param grid a grid with the dimensions that the ship will be placed on
+     * @return the enumerator
+     * @see #forShip(Ship, int, int)
+     */
+    public static PlacementEnumerator forShip(Ship ship, Grid grid) {
+        return forShip(ship, grid.getSize(), grid.getNumLayers());
+    }
+
+    /**
+     * Returns the enumerator for every ship of the given fleet, in the order of the fleet.
+     *
+     * @param fleet the fleet that will be placed
+     * @param grid a grid with the dimensions that the fleet will be placed on
+     * @return an enumerator for each ship of the fleet
+     * @see #forShip(Ship, Grid)
+     */
+    public static PlacementEnumerator[] forFleet(Fleet fleet, Grid grid) {
+        PlacementEnumerator[] enumerators = new PlacementEnumerator[fleet.getSize()];
+        for (int i = 0; i < enumerators.length; i++) {
+            enumerators[i] = forShip(fleet.getShipByIndex(i), grid);
+        }
+        return enumerators;
+    }
+
+    /**
+     * Returns every legal placement of every ship of the given fleet on the given grid, as the grid is now.
+     * <p>
+     *     The ships are enumerated in parallel, and so are the candidates of each ship.
+     * </p>
+     *
+     * @param fleet the fleet that will be placed
+     * @param grid the grid that the fleet will be placed on
+     * @return the legal placements of each ship of the fleet, in the order of the fleet
+     * @see #stream(long[], boolean)
+     */
+    public static int[][] legalPlacements(Fleet fleet, Grid grid) {
+        PlacementEnumerator[] enumerators = forFleet(fleet, grid);
+        long[] occupancy = occupancyOf(grid);
+        return IntStream.range(0, enumerators.length).parallel()
+                .mapToObj(i -> enumerators[i].stream(occupancy, true).toArray())
+                .toArray(int[][]::new);
+    }
+
+    /**
+     * Returns a new, empty occupancy bitmask for a grid of the given dimensions.
+     *
+     * @param size the number of rows and columns of the grid
+     * @param num_layers the number of layers of the grid
+     * @return an occupancy bitmask with no cells occupied
+     */
+    public static long[] emptyOccupancy(int size, int num_layers) {
+        return new long[ (num_layers * size * size + 63) >>> 6 ];
+    }
+
+    /**
+     * Returns the occupancy bitmask of the given grid, with a bit set for every cell that has a ship.
+     *
+     * @param grid the grid
+     * @return the occupancy bitmask of the grid
+     * @see Grid#hasShipAt(int, int, int)
+     */
+    public static long[] occupancyOf(Grid grid) {
+        int size = grid.getSize();
+        long[] occupancy = emptyOccupancy(size, grid.getNumLayers());
+
+        int bit = 0;
+        for (int layer = 0; layer < grid.getNumLayers(); layer++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++, bit++) {
+                    if ( grid.hasShipAt(layer, row, col) ) occupancy[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+        return occupancy;
+    }
+
+    /**
+     * Returns the packed head coordinate of the given placement.
+     *
+     * @param placement the placement
+     * @return the packed head coordinate
+     */
+    public static int headOf(int placement) {
+        return placement & ~VERTICAL;
+    }
+
+    /**
+     * Returns whether or not the ship of the given placement runs down from its head.
+     *
+     * @param placement the placement
+     * @return <code>true</code> if the placement is vertical; <code>false</code> if it is horizontal
+     */
+    public static boolean isVertical(int placement) {
+        return (placement & VERTICAL) != 0;
+    }
+
+    /**
+     * Returns the packed tail coordinate of the given placement of this enumerator's kind of ship.
+     *
+     * @param placement the placement
+     * @return the packed tail coordinate
+     */
+    public int tailOf(int placement) {
+        int head = headOf(placement);
+        return isVertical(placement) ? head + Coordinate.pack(0, this.length - 1, 0) : head + (this.length - 1);
+    }
+
+    /**
+     * Returns the number of candidate placements, legal or not, of this enumerator's kind of ship.
+     *
+     * @return the number of candidates
+     */
+    public int getNumCandidates() {
+        return this.candidates.length;
+    }
+
+    /**
+     * Returns the candidate placement at the given index.
+     *
+     * @param index the index of the candidate
+     * @return the placement
+     */
+    public int getCandidate(int index) {
+        return this.candidates[index];
+    }
+
+    /**
+     * Returns the number of cells that this enumerator's kind of ship is at.
+     *
+     * @return the number of cells of each placement
+     */
+    public int getCellsPerPlacement() {
+        return this.cells_per_placement;
+    }
+
+    /**
+     * Returns the occupancy bit of one of the cells of the candidate at the given index.
+     * <p>
+     *     The bit of a cell is its index in the grid, counting columns, then rows, then layers.
+     * </p>
+     *
+     * @param index the index of the candidate
+     * @param cell the index of the cell, from zero up to the number of cells of each placement
+     * @return the occupancy bit of the cell
+     */
+    public int getCellBit(int index, int cell) {
+        return this.candidate_bits[index * this.cells_per_placement + cell];
+    }
+
+    /**
+     * Returns the number of candidates that cover the cell with the given occupancy bit.
+     *
+     * @param bit the occupancy bit of the cell
+     * @return the number of candidates that cover the cell
+     */
+    public int getNumCovering(int bit) {
+        return this.covering_starts[bit + 1] - this.covering_starts[bit];
+    }
+
+    /**
+     * Returns the index of one of the candidates that cover the cell with the given occupancy bit.
+     *
+     * @param bit the occupancy bit of the cell
+     * @param i which of the covering candidates to return, from zero up to the number of them
+     * @return the index of the candidate
+     */
+    public int getCovering(int bit, int i) {
+        return this.covering[this.covering_starts[bit] + i];
+    }
+
+    /**
+     * Returns the occupancy bit of the cell at the given packed coordinate on a grid of this enumerator's size.
+     *
+     * @param packed the packed coordinate
+     * @return the occupancy bit of the cell
+     */
+    public int bitOf(int packed) {
+        return (Coordinate.layerOf(packed) * this.size + Coordinate.rowOf(packed)) * this.size + Coordinate.columnOf(packed);
+    }
+
+    /**
+     * Checks that the candidate at the given index does not cover any occupied cell.
+     *
+     * @param index the index of the candidate
+     * @param occupancy the occupancy bitmask of the grid
+     * @return <code>true</code> if the candidate is legal; <code>false</code> otherwise
+     */
+    public boolean isLegal(int index, long[] occupancy) {
+        int start = index * this.cells_per_placement;
+        int end = start + this.cells_per_placement;
+        for (int i = start; i < end; i++) {
+            int bit = this.candidate_bits[i];
+            if ( (occupancy[bit >>> 6] & (1L << bit)) != 0 ) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sets the bits of every cell of the candidate at the given index in the occupancy bitmask.
+     *
+     * @param index the index of the candidate
+     * @param occupancy the occupancy bitmask of the grid
+     */
+    public void occupy(int index, long[] occupancy) {
+        int start = index * this.cells_per_placement;
+        int end = start + this.cells_per_placement;
+        for (int i = start; i < end; i++) {
+            int bit = this.candidate_bits[i];
+            occupancy[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Clears the bits of every cell of the candidate at the given index in the occupancy bitmask.
+     *
+     * @param index the index of the candidate
+     * @param occupancy the occupancy bitmask of the grid
+     */
+    public void vacate(int index, long[] occupancy) {
+        int start = index * this.cells_per_placement;
+        int end = start + this.cells_per_placement;
+        for (int i = start; i < end; i++) {
+            int bit = this.candidate_bits[i];
+            occupancy[bit >>> 6] &= ~(1L << bit);
+        }
+    }
+
+    /**
+     * Returns an iterator over the legal placements for the given occupancy, which are found as they are asked for.
+     *
+     * @param occupancy the occupancy bitmask of the grid, which must not change while iterating
+     * @return an iterator over the legal placements
+     */
+    public PrimitiveIterator.OfInt iterator(long[] occupancy) {
+        return Spliterators.iterator(spliterator(occupancy));
+    }
+
+    /**
+     * Returns a spliterator over the legal placements for the given occupancy.
+     *
+     * @param occupancy the occupancy bitmask of the grid, which must not change while it is used
+     * @return a spliterator over the legal placements, which splits the candidates in half
+     */
+    public Spliterator.OfInt spliterator(long[] occupancy) {
+        return new LegalPlacements(occupancy, 0, this.candidates.length);
+    }
+
+    /**
+     * Returns a stream of the legal placements for the given occupancy.
+     *
+     * @param occupancy the occupancy bitmask of the grid, which must not change while it is used
+     * @param parallel whether or not the stream is parallel
+     * @return a stream of the legal placements
+     */
+    public IntStream stream(long[] occupancy, boolean parallel) {
+        return StreamSupport.intStream(spliterator(occupancy), parallel);
+    }
+
+    /**
+     * Returns every legal placement of this enumerator's kind of ship on the given grid, as the grid is now.
+     *
+     * @param grid the grid
+     * @return the legal placements
+     */
+    public int[] legalPlacements(Grid grid) {
+        return stream(occupancyOf(grid), false).toArray();
+    }
+
+    /**
+     * Returns whether or not every given packed coordinate is on the grid.
+     *
+     * @param cells the packed coordinates
+     * @return <code>true</code> if they are all in bounds; <code>false</code> otherwise
+     */
+    private boolean allInBounds(int[] cells) {
+        for ( int cell : cells ) {
+            int row = Coordinate.rowOf(cell);
+            int col = Coordinate.columnOf(cell);
+            if ( (row < 0) | (row >= this.size) | (col < 0) | (col >= this.size) ) return false;
+            if ( Coordinate.layerOf(cell) >= this.num_layers ) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This class defines the spliterator over the legal placements among a range of candidates.
+     */
+    private final class LegalPlacements implements Spliterator.OfInt {
+
+        /**
+         * The occupancy bitmask of the grid.
+         */
+        private final long[] occupancy;
+
+        /**
+         * The index of the next candidate to test.
+         */
+        private int index;
+
+        /**
+         * The index after the last candidate to test.
+         */
+        private final int end;
+
+        /**
+         * Class constructor specifying the occupancy and the range of candidates.
+         *
+         * @param occupancy the occupancy bitmask of the grid
+         * @param index the index of the first candidate
+         * @param end the index after the last candidate
+         */
+        LegalPlacements(long[] occupancy, int index, int end) {
+            this.occupancy = occupancy;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            while (this.index < this.end) {
+                int candidate = this.index++;
+                if ( isLegal(candidate, this.occupancy) ) {
+                    action.accept(candidates[candidate]);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (int candidate = this.index; candidate < this.end; candidate++) {
+                if ( isLegal(candidate, this.occupancy) ) action.accept(candidates[candidate]);
+            }
+            this.index = this.end;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (this.index + this.end) >>> 1;
+            if ( mid <= this.index ) return null;
+            LegalPlacements prefix = new LegalPlacements(this.occupancy, this.index, mid);
+            this.index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+    }
+}
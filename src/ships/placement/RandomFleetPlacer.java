@@ -0,0 +1,215 @@
+package edu.colorado.objectgrind.ships.placement;
+
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This class places a whole fleet at random, by sampling from the legal placements of each ship.
+ * <p>
+ *     Ships are placed in the order of the fleet. Each one is given a placement picked uniformly from the ones that are
+ *     legal around the ships already placed: a random candidate is tested against an occupancy bitmask, and after a
+ *     few rejections the legal candidates are listed and one of them is picked. If a ship has nowhere left to go, the
+ *     whole fleet is started over. Sampling does not touch a grid, so a fleet's placements can be drawn on their own,
+ *     as fast as the bitmask tests allow, and only put on a grid when they are needed.
+ * </p>
+ *
+ * @see PlacementEnumerator
+ * @see SplittableRandom
+ */
+public class RandomFleetPlacer {
+
+    /**
+     * The number of random candidates tried for a ship before the legal ones are listed.
+     */
+    private static final int MAX_REJECTIONS = 32;
+
+    /**
+     * The number of times that a fleet is started over before giving up.
+     */
+    private static final int MAX_RESTARTS = 1000;
+
+    /**
+     * The enumerator of each ship, in the order of the fleet.
+     */
+    private final PlacementEnumerator[] enumerators;
+
+    /**
+     * The occupancy bitmask of the ships placed so far.
+     */
+    private final long[] occupancy;
+
+    /**
+     * The placement picked for each ship, in the order of the fleet.
+     */
+    private final int[] placements;
+
+    /**
+     * Room for the legal candidates of one ship, when they need to be listed.
+     */
+    private final int[] legal;
+
+    /**
+     * The random number generator that picks the placements.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Class constructor specifying the ships to place, the dimensions of the grid, and the random number generator.
+     *
+     * @param ships the ships of the fleet, in the order that they are placed
+     * @param size the number of rows and columns of the grid
+     * @param num_layers the number of layers of the grid
+     * @param random the random number generator that picks the placements
+     */
+    public RandomFleetPlacer(Ship[] ships, int size, int num_layers, SplittableRandom random) {
+
+        this.enumerators = new PlacementEnumerator[ships.length];
+        int max_candidates = 0;
+        for (int i = 0; i < ships.length; i++) {
+            this.enumerators[i] = PlacementEnumerator.forShip(ships[i], size, num_layers);
+            max_candidates = Math.max(max_candidates, this.enumerators[i].getNumCandidates());
+        }
+
+        this.occupancy = PlacementEnumerator.emptyOccupancy(size, num_layers);
+        this.placements = new int[ships.length];
+        this.legal = new int[max_candidates];
+        this.random = random;
+    }
+
+    /**
+     * Class constructor specifying the fleet to place, the dimensions of the grid, and the random number generator.
+     *
+     * @param fleet the fleet that will be placed
+     * @param size the number of rows and columns of the grid
+     * @param num_layers the number of layers of the grid
+     * @param random the random number generator that picks the placements
+     */
+    public RandomFleetPlacer(Fleet fleet, int size, int num_layers, SplittableRandom random) {
+        this(shipsOf(fleet), size, num_layers, random);
+    }
+
+    /**
+     * Sets the random number generator that picks the placements from now on.
+     *
+     * @param random the new random number generator
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Checks that this placer places the same kinds of ships, in the same order, as the given ships.
+     *
+     * @param ships the ships of a fleet
+     * @param grid a grid with the dimensions that the ships will be placed on
+     * @return <code>true</code> if this placer can place the ships; <code>false</code> otherwise
+     */
+    public boolean canPlace(Ship[] ships, Grid grid) {
+        if ( ships.length != this.enumerators.length ) return false;
+
+        for (int i = 0; i < this.enumerators.length; i++) {
+            if ( PlacementEnumerator.forShip(ships[i], grid) != this.enumerators[i] ) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the enumerator of the ship at the given index of the fleet, which can turn its placement into a tail.
+     *
+     * @param index the index of the ship in the fleet
+     * @return the enumerator of the ship
+     * @see PlacementEnumerator#tailOf(int)
+     */
+    public PlacementEnumerator getEnumerator(int index) {
+        return this.enumerators[index];
+    }
+
+    /**
+     * Picks a legal placement for every ship of the fleet, without placing them on a grid.
+     *
+     * @return the placement of each ship, in the order of the fleet; the array is reused by the next call
+     * @throws IllegalStateException if the fleet cannot be placed after many restarts
+     * @see PlacementEnumerator#headOf(int)
+     * @see PlacementEnumerator#tailOf(int)
+     */
+    public int[] nextPlacements() {
+
+        for (int restarts = 0; restarts < MAX_RESTARTS; restarts++) {
+            Arrays.fill(this.occupancy, 0L);
+
+            int i = 0;
+            while ( (i < this.enumerators.length) && pickPlacement(i) ) i++;
+            if ( i == this.enumerators.length ) return this.placements;
+        }
+
+        throw new IllegalStateException("Could not place the fleet");
+    }
+
+    /**
+     * Places every ship of the given fleet on the given grid at random.
+     *
+     * @param fleet the fleet, with the same kinds of ships that this placer was created for
+     * @param grid the grid that the fleet will be placed on
+     * @see Grid#placeShip(Ship, int, int)
+     */
+    public void placeFleet(Fleet fleet, Grid grid) {
+        int[] placements = nextPlacements();
+        for (int i = 0; i < placements.length; i++) {
+            int placement = placements[i];
+            grid.placeShip(fleet.getShipByIndex(i), PlacementEnumerator.headOf(placement), this.enumerators[i].tailOf(placement));
+        }
+    }
+
+    /**
+     * Picks a placement for the ship at the given index, around the ships placed before it, and occupies its cells.
+     *
+     * @param index the index of the ship in the fleet
+     * @return <code>true</code> if the ship was given a placement; <code>false</code> if it has nowhere to go
+     */
+    private boolean pickPlacement(int index) {
+
+        PlacementEnumerator enumerator = this.enumerators[index];
+        int num_candidates = enumerator.getNumCandidates();
+        if ( num_candidates == 0 ) return false;
+
+        // Try random candidates, which are picked uniformly from the legal ones once one is accepted
+        int candidate = -1;
+        for (int tries = 0; tries < MAX_REJECTIONS; tries++) {
+            int next = this.random.nextInt(num_candidates);
+            if ( enumerator.isLegal(next, this.occupancy) ) {
+                candidate = next;
+                break;
+            }
+        }
+
+        // Otherwise, list the legal candidates and pick one of them
+        if ( candidate < 0 ) {
+            int num_legal = 0;
+            for (int next = 0; next < num_candidates; next++) {
+                if ( enumerator.isLegal(next, this.occupancy) ) this.legal[num_legal++] = next;
+            }
+            if ( num_legal == 0 ) return false;
+            candidate = this.legal[this.random.nextInt(num_legal)];
+        }
+
+        enumerator.occupy(candidate, this.occupancy);
+        this.placements[index] = enumerator.getCandidate(candidate);
+        return true;
+    }
+
+    /**
+     * Returns the ships of the given fleet, in order.
+     *
+     * @param fleet the fleet
+     * @return the ships of the fleet
+     */
+    private static Ship[] shipsOf(Fleet fleet) {
+        Ship[] ships = new Ship[fleet.getSize()];
+        for (int i = 0; i < ships.length; i++) ships[i] = fleet.getShipByIndex(i);
+        return ships;
+    }
+}
@@ -4,6 +4,8 @@ import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 
+import java.util.Arrays;
+
 /**
  * This class defines the behavior for placing a submarine on a grid.
  *
@@ -29,23 +31,36 @@ public class SubmarinePlacement extends PlacementBehavior {
      * @see Grid#isCoordinateInBounds(Coordinate) 
      */
     public boolean canPlaceTopSide(Grid grid, Coordinate coord_head, Coordinate coord_tail) {
+        return canPlaceTopSide(grid, coord_head.toPacked(), coord_tail.toPacked());
+    }
 
-        // If the ship is horizontal
-        Coordinate topside;
-        if (coord_head.getRow() == coord_tail.getRow()) {
-
-            // Create a new coordinate for the topside
-            topside = new Coordinate(coord_head.getLayer(), coord_head.getRow() - 1, coord_head.getColumn() + 2);
+    /**
+     * Checks if the top side of a submarine can be placed at the given packed locations on the grid.
+     *
+     * @param grid the grid that the topside of the submarine will try to be placed on
+     * @param coord_head the packed head coordinate of where the submarine will be placed
+     * @param coord_tail the packed tail coordinate of where the submarine will be placed
+     * @return <code>false</code> if the topside is out of bounds of interferes with another ship; <code>true</code> otherwise
+     * @see Grid#isCoordinateInBounds(int, int, int)
+     */
+    public boolean canPlaceTopSide(Grid grid, int coord_head, int coord_tail) {
 
-        } else { // if the ship is vertical
+        int layer = Coordinate.layerOf(coord_head);
+        int topside_row;
+        int topside_col;
 
-            // Create a new coordinate for the topside
-            topside = new Coordinate(coord_head.getLayer(), coord_head.getRow() + 2, coord_head.getColumn() + 1);
+        // If the ship is horizontal
+        if (Coordinate.rowOf(coord_head) == Coordinate.rowOf(coord_tail)) {
+            topside_row = Coordinate.rowOf(coord_head) - 1;
+            topside_col = Coordinate.columnOf(coord_head) + 2;
 
+        } else { // if the ship is vertical
+            topside_row = Coordinate.rowOf(coord_head) + 2;
+            topside_col = Coordinate.columnOf(coord_head) + 1;
         }
 
         // if the topside is in bounds, check that it does not interfere with another ship
-        if ( grid.isCoordinateInBounds(topside) ) return !grid.getLocationByIndex(topside.getLayer(), topside.getRow(), topside.getColumn()).hasShip();
+        if ( grid.isCoordinateInBounds(layer, topside_row, topside_col) ) return !grid.hasShipAt(layer, topside_row, topside_col);
 
         // otherwise return false
         return false;
@@ -55,17 +70,45 @@ public class SubmarinePlacement extends PlacementBehavior {
      * Determines if an entire submarine, both topside and body, can be placed at the given locations on the grid.
      *
      * @param grid the grid that the submarine (ship) will try to be placed on
-     * @param coord_head the head coordinate where the submarine (ship) will be placed
-     * @param coord_tail the tail coordinate where the submarine (ship) will be placed
+     * @param coord_head the packed head coordinate where the submarine (ship) will be placed
+     * @param coord_tail the packed tail coordinate where the submarine (ship) will be placed
      * @return <code>true</code> if both the body and the top side can be placed; <code>false/code> otherwise
-     * @see #canPlaceTopSide(Grid, Coordinate, Coordinate) 
-     * @see #canPlaceBodyHere(Grid, Coordinate, Coordinate) 
+     * @see #canPlaceTopSide(Grid, int, int)
+     * @see #canPlaceBodyHere(Grid, int, int)
      */
-    public boolean canPlaceShipHere(Grid grid, Coordinate coord_head, Coordinate coord_tail) {
+    public boolean canPlaceShipHere(Grid grid, int coord_head, int coord_tail) {
 
         return canPlaceBodyHere(grid, coord_head, coord_tail) & canPlaceTopSide(grid, coord_head, coord_tail);
     }
 
+    /**
+     * Returns the packed coordinates of every cell of a submarine: its body from head to tail, then its top side.
+     *
+     * @param coord_head the packed head coordinate of the submarine
+     * @param coord_tail the packed tail coordinate of the submarine
+     * @return the packed coordinates of every cell of the submarine
+     */
+    @Override
+    public int[] getShipCells(int coord_head, int coord_tail) {
+
+        int[] body = getBodyCells(coord_head, coord_tail);
+        int[] cells = Arrays.copyOf(body, body.length + 1);
+
+        int layer = Coordinate.layerOf(coord_head);
+        int head_row = Coordinate.rowOf(coord_head);
+        int head_col = Coordinate.columnOf(coord_head);
+
+        // If the ship is horizontal
+        if (head_row == Coordinate.rowOf(coord_tail)) {
+            cells[body.length] = Coordinate.pack(layer, head_row - 1, head_col + 2);
+
+        } else { // if the ship is vertical
+            cells[body.length] = Coordinate.pack(layer, head_row + 2, head_col + 1);
+        }
+
+        return cells;
+    }
+
     /**
      * Places the top side of the given submarine (ship).
      *
@@ -75,13 +118,29 @@ public class SubmarinePlacement extends PlacementBehavior {
      * @param coord_tail the tail coordinate where the submarine (ship) will be placed
      */
     public void placeTopSide(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail) {
+        placeTopSide(ship_to_place, grid_of_placement, coord_head.toPacked(), coord_tail.toPacked());
+    }
+
+    /**
+     * Places the top side of the given submarine (ship), given packed head and tail coordinates.
+     *
+     * @param ship_to_place the submarine (ship) that will be placed
+     * @param grid_of_placement the grid where the submarine (ship) will be placed
+     * @param coord_head the packed head coordinate where the submarine (ship) will be placed
+     * @param coord_tail the packed tail coordinate where the submarine (ship) will be placed
+     */
+    public void placeTopSide(Ship ship_to_place, Grid grid_of_placement, int coord_head, int coord_tail) {
+
+        int layer = Coordinate.layerOf(coord_head);
+        int head_row = Coordinate.rowOf(coord_head);
+        int head_col = Coordinate.columnOf(coord_head);
 
         // If the ship is horizontal
-        if (coord_head.getRow() == coord_tail.getRow()) {
-            grid_of_placement.getLocationByIndex(coord_head.getLayer(), coord_head.getRow() - 1, coord_head.getColumn() + 2).setShip(ship_to_place);
+        if (head_row == Coordinate.rowOf(coord_tail)) {
+            grid_of_placement.setShipAt(layer, head_row - 1, head_col + 2, ship_to_place);
 
         } else { // if the ship is vertical
-            grid_of_placement.getLocationByIndex(coord_head.getLayer(), coord_head.getRow() + 2, coord_head.getColumn() + 1).setShip(ship_to_place);
+            grid_of_placement.setShipAt(layer, head_row + 2, head_col + 1, ship_to_place);
         }
     }
 
@@ -94,16 +153,17 @@ public class SubmarinePlacement extends PlacementBehavior {
      * </p>
      * @param ship_to_place the submarine (ship) to be placed
      * @param grid_of_placement the grid that the submarine (ship) will be placed on
-     * @param coord_head the head coordinate where the submarine (ship) will be placed
-     * @param coord_tail the tail coordinate where the submarine (ship) will be placed
+     * @param coord_head the packed head coordinate where the submarine (ship) will be placed
+     * @param coord_tail the packed tail coordinate where the submarine (ship) will be placed
+     * @see Ship#locateCaptainsQuarters(int[])
      */
-    public void placeShip(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail) {
+    public void placeShip(Ship ship_to_place, Grid grid_of_placement, int coord_head, int coord_tail) {
 
         // If the placement of the ship is valid, i.e. not diagonal, tail to the right of or below head
         if ( isValidBodyPlacement(ship_to_place.getLength(), coord_head, coord_tail) ) {
 
             // If the layer that the ship is being placed on is valid
-            if( isValidLayer( coord_head.getLayer() ) ) {
+            if( isValidLayer( Coordinate.layerOf(coord_head) ) ) {
 
                 // Check that the ship can be placed at the given position, i.e. no ship occupies any of the positions that it will cover
                 if (canPlaceShipHere(grid_of_placement, coord_head, coord_tail)) {
@@ -111,6 +171,9 @@ public class SubmarinePlacement extends PlacementBehavior {
                     // Place the submarine
                     placeBody(ship_to_place, grid_of_placement, coord_head, coord_tail);
                     placeTopSide(ship_to_place, grid_of_placement, coord_head, coord_tail);
+
+                    // Find its captain's quarters
+                    ship_to_place.locateCaptainsQuarters(getShipCells(coord_head, coord_tail));
                 }
             }
         }
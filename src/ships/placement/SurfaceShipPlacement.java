@@ -22,11 +22,11 @@ public class SurfaceShipPlacement extends PlacementBehavior {
      * Determines if the placement of this ship overlaps with another ship already on the given grid.
      *
      * @param grid the grid that the ship will try to be placed on
-     * @param coord_head the head coordinate where the ship will be placed
-     * @param coord_tail the tail coordinate where the ship will be placed
+     * @param coord_head the packed head coordinate where the ship will be placed
+     * @param coord_tail the packed tail coordinate where the ship will be placed
      * @return <code>false</code> if any of the relevant locations have a ship; <code>true</code> otherwise
      */
-    public boolean canPlaceShipHere(Grid grid, Coordinate coord_head, Coordinate coord_tail) {
+    public boolean canPlaceShipHere(Grid grid, int coord_head, int coord_tail) {
         return canPlaceBodyHere(grid, coord_head, coord_tail);
     }
 
@@ -39,22 +39,24 @@ public class SurfaceShipPlacement extends PlacementBehavior {
      *
      * @param ship_to_place the ship to be placed
      * @param grid_of_placement the grid that the ship will be placed on
-     * @param coord_head the head coordinate where the ship will be placed
-     * @param coord_tail the tail coordinate where the ship will be placed
+     * @param coord_head the packed head coordinate where the ship will be placed
+     * @param coord_tail the packed tail coordinate where the ship will be placed
+     * @see Ship#locateCaptainsQuarters(int[])
      */
-    public void placeShip(Ship ship_to_place, Grid grid_of_placement, Coordinate coord_head, Coordinate coord_tail) {
+    public void placeShip(Ship ship_to_place, Grid grid_of_placement, int coord_head, int coord_tail) {
 
         // If the placement of the ship is valid, i.e. not diagonal, tail to the right of or below head
         if ( isValidBodyPlacement(ship_to_place.getLength(), coord_head, coord_tail) ) {
 
             // If the layer that the ship is being placed on is valid
-            if( isValidLayer( coord_head.getLayer() ) ) {
+            if( isValidLayer( Coordinate.layerOf(coord_head) ) ) {
 
                 // Check that the ship can be placed at the given position, i.e. no ship occupies any of the positions that it will cover
                 if ( canPlaceShipHere(grid_of_placement, coord_head, coord_tail) ) {
 
-                    // Place the ship
+                    // Place the ship, and find its captain's quarters
                     placeBody(ship_to_place, grid_of_placement, coord_head, coord_tail);
+                    ship_to_place.locateCaptainsQuarters(getShipCells(coord_head, coord_tail));
                 }
             }
         }
@@ -28,6 +28,16 @@ public abstract class Ship {
      */
     private int captains_quarters_health;
 
+    /**
+     * The health that this ship starts every game with.
+     */
+    private final int starting_health;
+
+    /**
+     * The captain's quarters health that this ship starts every game with.
+     */
+    private final int starting_cq_health;
+
     /**
      * Indicates whether or not this ship has been placed.
      */
@@ -43,6 +53,17 @@ public abstract class Ship {
      */
     private final CaptainsQuarters captain_quarter;
 
+    /**
+     * The packed coordinate of this ship's captain's quarters, found when it is placed and moved along with it.
+     * <code>CaptainsQuarters.NONE</code> if this ship is not placed.
+     */
+    private int captains_quarters_cell;
+
+    /**
+     * The listener that is told when this ship sinks or is placed; <code>null</code> if there is none.
+     */
+    private ShipListener listener;
+
     /**
      * Class constructor specifying values for all of this ship's attributes.
      *
@@ -56,9 +77,87 @@ public abstract class Ship {
         this.health = health;
         this.length = length;
         this.captains_quarters_health = cq_health;
+        this.starting_health = health;
+        this.starting_cq_health = cq_health;
         this.place_behavior = place_behavior;
         this.is_placed = false;
         this.captain_quarter = capquarter;
+        this.captains_quarters_cell = CaptainsQuarters.NONE;
+        this.listener = null;
+    }
+
+    /**
+     * Sets the listener that is told when this ship sinks or is placed, or stops being either.
+     *
+     * @param listener the new listener; <code>null</code> for none
+     * @see ShipListener
+     */
+    public void setShipListener(ShipListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Tells the listener if this ship changed from sunk to not sunk or back, given whether it was sunk before.
+     *
+     * @param was_sunk whether or not this ship was sunk before it changed
+     * @see ShipListener#sunkChanged(Ship, boolean)
+     */
+    private void updateSunk(boolean was_sunk) {
+        boolean sunk = hasSunk();
+        if ( (sunk != was_sunk) & (this.listener != null) ) this.listener.sunkChanged(this, sunk);
+    }
+
+    /**
+     * Sets whether or not this ship is placed, and tells the listener if that changed.
+     *
+     * @param placed whether or not this ship is now placed
+     * @see ShipListener#placedChanged(Ship, boolean)
+     */
+    private void updatePlaced(boolean placed) {
+        boolean was_placed = this.is_placed;
+        this.is_placed = placed;
+        if ( (placed != was_placed) & (this.listener != null) ) this.listener.placedChanged(this, placed);
+    }
+
+    /**
+     * Sets the state of this ship to one that was saved from it, or from a ship of the same type.
+     * <p>
+     *     Unlike reset(), the listener is told if the ship sinks, comes back, is placed, or is taken off, so that the
+     *     counts of its fleet follow along.
+     * </p>
+     *
+     * @param health the health of the ship
+     * @param cq_health the health of the captain's quarters
+     * @param placed whether or not the ship is placed
+     * @param cq_cell the packed coordinate of the captain's quarters; CaptainsQuarters.NONE if it is not on a grid
+     * @see #getHealth()
+     * @see #getCapQuartersHealth()
+     * @see #isShipPlaced()
+     * @see #getCaptainsQuartersCell()
+     */
+    public void restoreState(int health, int cq_health, boolean placed, int cq_cell) {
+        boolean was_sunk = hasSunk();
+        this.health = health;
+        this.captains_quarters_health = cq_health;
+        this.captains_quarters_cell = cq_cell;
+        updateSunk(was_sunk);
+        updatePlaced(placed);
+    }
+
+    /**
+     * Brings this ship back to how it was created: full health, and not placed.
+     * <p>
+     *     The listener is kept, but is not told about the change, since the fleet that listens to its ships resets
+     *     its counts along with them.
+     * </p>
+     *
+     * @see edu.colorado.objectgrind.ships.fleet.Fleet#reset()
+     */
+    public void reset() {
+        this.health = this.starting_health;
+        this.captains_quarters_health = this.starting_cq_health;
+        this.is_placed = false;
+        this.captains_quarters_cell = CaptainsQuarters.NONE;
     }
 
     /**
@@ -97,7 +196,8 @@ public abstract class Ship {
      * @see #is_placed
      */
     public void setShipNotPlaced() {
-        this.is_placed = false;
+        this.captains_quarters_cell = CaptainsQuarters.NONE;
+        updatePlaced(false);
     }
 
     /**
@@ -116,7 +216,9 @@ public abstract class Ship {
      * @see #health
      */
     public void hit() {
+        boolean was_sunk = hasSunk();
         this.health--;
+        updateSunk(was_sunk);
     }
 
     /**
@@ -125,7 +227,9 @@ public abstract class Ship {
      * @see #health
      */
     public void sink() {
+        boolean was_sunk = hasSunk();
         this.health = 0;
+        updateSunk(was_sunk);
     }
 
     /**
@@ -177,6 +281,18 @@ public abstract class Ship {
         return this.place_behavior.isValidBodyPlacement(this.length, head, tail);
     }
 
+    /**
+     * Checks that placement of the body of the this ship is valid, given packed head and tail coordinates.
+     *
+     * @param head the packed head coordinate for the ship
+     * @param tail the packed tail coordinate for the ship
+     * @return <code>true</code> if the placement is valid; <code>false</code> otherwise
+     * @see PlacementBehavior#isValidBodyPlacement(int, int, int)
+     */
+    public boolean performIsValidPlacement(int head, int tail) {
+        return this.place_behavior.isValidBodyPlacement(this.length, head, tail);
+    }
+
     /**
      * Checks that this ship can be placed on the given grid between the given head and tail coordinates.
      * <p>
@@ -194,6 +310,19 @@ public abstract class Ship {
         return this.place_behavior.canPlaceShipHere(grid, head, tail);
     }
 
+    /**
+     * Checks that this ship can be placed on the given grid between the given packed head and tail coordinates.
+     *
+     * @param grid the grid that the ship will be placed on
+     * @param head the packed head coordinate where the ship will be placed
+     * @param tail the packed tail coordinate where the ship will be placed
+     * @return <code>true</code> if the ship can be placed between head and tail; <code>false</code> otherwise
+     * @see PlacementBehavior#canPlaceShipHere(Grid, int, int)
+     */
+    public boolean performCanPlaceShip(Grid grid, int head, int tail) {
+        return this.place_behavior.canPlaceShipHere(grid, head, tail);
+    }
+
     /**
      * Checks that the layer of the given coordinate is valid for this ship.
      * <p>
@@ -211,6 +340,18 @@ public abstract class Ship {
         return this.place_behavior.isValidLayer( head.getLayer() );
     }
 
+    /**
+     * Checks that the layer of the given packed head coordinate is valid for this ship.
+     *
+     * @param head the packed head coordinate of this ship
+     * @return <code>true</code> if the given layer is in this ship's placement behavior's valid layers;
+     *         <code>false</code> otherwise
+     * @see PlacementBehavior#isValidLayer(int)
+     */
+    public boolean performIsValidLayer(int head) {
+        return this.place_behavior.isValidLayer( Coordinate.layerOf(head) );
+    }
+
     /**
      * Place this ship.
      * <p>
@@ -225,25 +366,107 @@ public abstract class Ship {
      * @see #place_behavior
      */
     public void performPlacement(Grid grid, Coordinate head, Coordinate tail) {
-        this.place_behavior.placeShip(this, grid, head, tail);
-        this.is_placed = true;
+        performPlacement(grid, head.toPacked(), tail.toPacked());
     }
 
     /**
-     * Checks if the given location on the given grid is the captain's quarter's of this ship.
+     * Returns the packed coordinates of every cell that this ship would be at between the given head and tail.
      * <p>
-     *     This function simply calls isCaptainsQuarters from this ship's captains quarters.
+     *     This function simply calls getShipCells from this ship's placement behavior.
      * </p>
      *
+     * @param head the packed head coordinate of this ship
+     * @param tail the packed tail coordinate of this ship
+     * @return the packed coordinates of every cell of this ship
+     * @see PlacementBehavior#getShipCells(int, int)
+     */
+    public int[] performGetShipCells(int head, int tail) {
+        return this.place_behavior.getShipCells(head, tail);
+    }
+
+    /**
+     * Place this ship, given packed head and tail coordinates.
+     * <p>
+     *     The ship is only marked as placed if the placement behavior actually put it at the head coordinate.
+     * </p>
+     *
+     * @param grid the grid that this ship will be placed on
+     * @param head the packed head coordinate where this ship will be placed
+     * @param tail the packed tail coordinate where the ship will be placed
+     * @see PlacementBehavior#placeShip(Ship, Grid, int, int)
+     * @see #is_placed
+     */
+    public void performPlacement(Grid grid, int head, int tail) {
+        this.place_behavior.placeShip(this, grid, head, tail);
+        if ( grid.getShipAt(Coordinate.layerOf(head), Coordinate.rowOf(head), Coordinate.columnOf(head)) == this ) {
+            updatePlaced(true);
+        }
+    }
+
+    /**
+     * Finds this ship's captain's quarters among the cells that it was just placed at.
+     *
+     * @param cells the packed coordinates of every cell of this ship
+     * @see CaptainsQuarters#findCaptainsQuarters(int[])
+     * @see #captains_quarters_cell
+     */
+    public void locateCaptainsQuarters(int[] cells) {
+        this.captains_quarters_cell = this.captain_quarter.findCaptainsQuarters(cells);
+    }
+
+    /**
+     * Moves this ship's captain's quarters along with the ship.
+     *
+     * @param row_offset the number of rows that the ship moved
+     * @param col_offset the number of columns that the ship moved
+     * @see #captains_quarters_cell
+     */
+    public void moveCaptainsQuarters(int row_offset, int col_offset) {
+        int cell = this.captains_quarters_cell;
+        if ( cell != CaptainsQuarters.NONE ) {
+            this.captains_quarters_cell = Coordinate.pack(Coordinate.layerOf(cell),
+                    Coordinate.rowOf(cell) + row_offset, Coordinate.columnOf(cell) + col_offset);
+        }
+    }
+
+    /**
+     * Gets the packed coordinate of this ship's captain's quarters.
+     *
+     * @return the current value of captains_quarters_cell
+     * @see #captains_quarters_cell
+     */
+    public int getCaptainsQuartersCell() {
+        return this.captains_quarters_cell;
+    }
+
+    /**
+     * Checks if the given location on the given grid is the captain's quarter's of this ship.
+     *
      * @param grid the grid that the given coordinate will index
      * @param coord the coordinate that is being checked for captains quarters
-     * @return <code>true</code> if the given coordinate is the captain's quarters of this ship; 
+     * @return <code>true</code> if the given coordinate is the captain's quarters of this ship;
      *         <code>false/code> otherwise
-     * @see #captain_quarter
-     * @see CaptainsQuarters#isCaptainsQuarters(Grid, Coordinate) 
+     * @see #checkCaptainsQuarter(Grid, int, int, int)
      */
     public boolean checkCaptainsQuarter(Grid grid, Coordinate coord){
-        return this.captain_quarter.isCaptainsQuarters(grid, coord);
+        return checkCaptainsQuarter(grid, coord.getLayer(), coord.getRow(), coord.getColumn());
+    }
+
+    /**
+     * Checks if the given cell on the given grid is the captain's quarters of this ship.
+     * <p>
+     *     The captain's quarters were found when this ship was placed, so this is a single comparison.
+     * </p>
+     *
+     * @param grid the grid that the given cell is on
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return <code>true</code> if the given cell is the captain's quarters of this ship; <code>false</code> otherwise
+     * @see #captains_quarters_cell
+     */
+    public boolean checkCaptainsQuarter(Grid grid, int layer, int row, int col){
+        return this.captains_quarters_cell == Coordinate.pack(layer, row, col);
     }
 
 }
@@ -0,0 +1,30 @@
+package edu.colorado.objectgrind.ships.ship_types;
+
+/**
+ * This interface defines something that is told when a ship sinks or is placed, or stops being either.
+ * <p>
+ *     A Fleet listens to each of its ships, so that it can count its sunk and placed ships without going through
+ *     all of them.
+ * </p>
+ *
+ * @see Ship#setShipListener(ShipListener)
+ * @see edu.colorado.objectgrind.ships.fleet.Fleet
+ */
+public interface ShipListener {
+
+    /**
+     * Called when the given ship sinks, or stops being sunk.
+     *
+     * @param ship the ship that changed
+     * @param sunk <code>true</code> if the ship has now sunk; <code>false</code> if it no longer has
+     */
+    void sunkChanged(Ship ship, boolean sunk);
+
+    /**
+     * Called when the given ship is placed, or stops being placed.
+     *
+     * @param ship the ship that changed
+     * @param placed <code>true</code> if the ship is now placed; <code>false</code> if it no longer is
+     */
+    void placedChanged(Ship ship, boolean placed);
+}
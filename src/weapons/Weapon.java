@@ -1,24 +1,42 @@
 package edu.colorado.objectgrind.weapons;
 
+import edu.colorado.objectgrind.enums.AttackOutcome;
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.attack_patterns.CellAttack;
+import edu.colorado.objectgrind.weapons.attack_patterns.PatternStamp;
 import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class defines a weapon that a player can use during a game.
+ * <p>
+ *     A weapon is the CellAttack that its attack pattern calls on every cell the pattern covers.
+ * </p>
  *
  * @see WeaponAttackPattern
+ * @see CellAttack
+ * @see AttackResult
  */
-public abstract class Weapon {
+public abstract class Weapon implements CellAttack {
 
     /**
      * The number of times this weapon can be used.
      */
     private int num_uses;
 
+    /**
+     * The number of times this weapon could be used when it was created.
+     */
+    private final int starting_uses;
+
     /**
      * The layers of a grid that this weapon can be used on.
      */
@@ -34,6 +52,11 @@ public abstract class Weapon {
      */
     private final int sinks_until_usable;
 
+    /**
+     * The results of the attack that is in progress; <code>null</code> when this weapon is not being used.
+     */
+    private List<AttackResult> results_in_progress;
+
     /**
      * Class constructor specifying values for all of this weapon's attributes.
      *
@@ -44,6 +67,7 @@ public abstract class Weapon {
      */
     public Weapon(int uses, int[] valid_layers, WeaponAttackPattern attack_pattern, int sinks_needed) {
         this.num_uses = uses;
+        this.starting_uses = uses;
         this.valid_layers = valid_layers;
         this.attack_pattern = attack_pattern;
         this.sinks_until_usable = sinks_needed;
@@ -59,6 +83,31 @@ public abstract class Weapon {
         return this.sinks_until_usable;
     }
 
+    /**
+     * Checks whether or not this weapon attacks the given layer.
+     *
+     * @param layer the layer of a grid
+     * @return <code>true</code> if the layer is one of this weapon's valid layers; <code>false</code> otherwise
+     * @see #valid_layers
+     */
+    public boolean attacksLayer(int layer) {
+        for ( int valid_layer : this.valid_layers ) {
+            if ( valid_layer == layer ) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the stamp of this weapon's attack pattern for grids of the given size.
+     *
+     * @param grid_size the number of rows and columns of the grid
+     * @return the cells that this weapon attacks around every target
+     * @see WeaponAttackPattern#getStamp(int)
+     */
+    public PatternStamp getStamp(int grid_size) {
+        return this.attack_pattern.getStamp(grid_size);
+    }
+
     /**
      * Gets the number of uses that this weapon has.
      *
@@ -69,6 +118,24 @@ public abstract class Weapon {
         return this.num_uses;
     }
 
+    /**
+     * Gives this weapon back the number of uses it was created with, so that it can be used in a new game.
+     *
+     * @see #starting_uses
+     */
+    public void resetNumUses() {
+        this.num_uses = this.starting_uses;
+    }
+
+    /**
+     * Sets the number of uses this weapon has left.
+     *
+     * @param num_uses the new value of num_uses
+     */
+    public void setNumUses(int num_uses) {
+        this.num_uses = num_uses;
+    }
+
     /**
      * Decreases the number of uses this weapon has by one.
      * @see #num_uses
@@ -82,47 +149,149 @@ public abstract class Weapon {
      *
      * @param attacked_grid the grid that will be attacked by this weapon
      * @param coord the coordinate that this weapon will be used at
+     * @see #attackLocation(Grid, int, int, int)
      */
-    public abstract void attackLocation(Grid attacked_grid, Coordinate coord);
+    public void attackLocation(Grid attacked_grid, Coordinate coord) {
+        attackLocation(attacked_grid, coord.getLayer(), coord.getRow(), coord.getColumn());
+    }
+
+    /**
+     * Implements the behavior of this weapon on a single cell of the given grid.
+     *
+     * @param attacked_grid the grid that will be attacked by this weapon
+     * @param layer the layer of the cell that this weapon will be used at
+     * @param row the row of the cell that this weapon will be used at
+     * @param col the column of the cell that this weapon will be used at
+     */
+    @Override
+    public abstract void attackLocation(Grid attacked_grid, int layer, int row, int col);
+
+    /**
+     * Returns the name of this weapon.
+     *
+     * @return the name of this weapon, for output
+     */
+    public abstract String getName();
+
+    /**
+     * Returns the type of this weapon.
+     *
+     * @return the WeaponType that creates this weapon
+     */
+    public abstract WeaponType getType();
 
     /**
      * Prints the name of this weapon.
+     *
+     * @see #getName()
+     */
+    public void printWeapon() {
+        System.out.print(getName());
+    }
+
+    /**
+     * Records a result of the attack that is in progress.
+     * <p>
+     *     Results are only kept while useWeapon is running; when attackLocation is called on its own, they are dropped.
+     * </p>
+     *
+     * @param outcome what happened
+     * @param layer the layer of the cell that the result is for
+     * @param row the row of the cell that the result is for
+     * @param col the column of the cell that the result is for
+     * @param ship the ship that the result is for, or <code>null</code>
+     * @see AttackResult
      */
-    public abstract void printWeapon();
+    protected void addResult(AttackOutcome outcome, int layer, int row, int col, Ship ship) {
+        if ( this.results_in_progress != null ) {
+            this.results_in_progress.add(new AttackResult(outcome, Coordinate.pack(layer, row, col), ship));
+        }
+    }
+
+    /**
+     * Called after this weapon has attacked every cell of its pattern, to add any results that depend on the whole
+     * attack.
+     * <p>
+     *     By default there are none.
+     * </p>
+     *
+     * @param attacked_player the player who was attacked by this weapon
+     * @param coord_of_attack the packed coordinate where this weapon was used
+     * @param results the results of the attack so far, which can be added to
+     */
+    protected void finishAttack(Player attacked_player, int coord_of_attack, List<AttackResult> results) {
+    }
 
     /**
      * Uses this weapon over its entire attack pattern on all of its valid layers.
      *
      * @param attacked_player the player who is being attacked by this weapon
      * @param coord_of_attack the coordinate where this weapon is being used
-     * @throws Exception is the attack method is invalid
-     * @see #printWeapon()
+     * @return the results of the attack, in the order they happened
+     * @see #useWeapon(Player, int, AttackListener)
+     */
+    public List<AttackResult> useWeapon(Player attacked_player, Coordinate coord_of_attack) {
+        return useWeapon(attacked_player, coord_of_attack.toPacked(), AttackListener.NONE);
+    }
+
+    /**
+     * Uses this weapon over its entire attack pattern on all of its valid layers, given a packed coordinate.
+     *
+     * @param attacked_player the player who is being attacked by this weapon
+     * @param coord_of_attack the packed coordinate where this weapon is being used
+     * @return the results of the attack, in the order they happened
+     * @see #useWeapon(Player, int, AttackListener)
+     */
+    public List<AttackResult> useWeapon(Player attacked_player, int coord_of_attack) {
+        return useWeapon(attacked_player, coord_of_attack, AttackListener.NONE);
+    }
+
+    /**
+     * Uses this weapon over its entire attack pattern on all of its valid layers, given a packed coordinate, and
+     * sends the results to the given listener.
+     * <p>
+     *     The layer of the packed coordinate is ignored, since the weapon is used on each of its valid layers.
+     * </p>
+     *
+     * @param attacked_player the player who is being attacked by this weapon
+     * @param coord_of_attack the packed coordinate where this weapon is being used
+     * @param listener the listener that is told about the attack
+     * @return the results of the attack, in the order they happened
      * @see #decreaseNumUses()
      * @see #valid_layers
      * @see #attack_pattern
-     * @see Method
-     * @see WeaponAttackPattern#attackWithPattern(Weapon, Method, Grid, Coordinate)
+     * @see #finishAttack(Player, int, List)
+     * @see WeaponAttackPattern#attackWithPattern(CellAttack, Grid, int)
      */
-    public void useWeapon(Player attacked_player, Coordinate coord_of_attack) throws Exception {
+    public List<AttackResult> useWeapon(Player attacked_player, int coord_of_attack, AttackListener listener) {
 
-        // Print the weapon that is being used
-        System.out.print("Using ");
-        printWeapon();
+        // Tell the listener which weapon is being used
+        listener.onWeaponUsed(this, coord_of_attack);
 
         // Save the row and column from the coordinate
-        int row = coord_of_attack.getRow();
-        int col = coord_of_attack.getColumn();
+        int row = Coordinate.rowOf(coord_of_attack);
+        int col = Coordinate.columnOf(coord_of_attack);
 
-        // For each layer that this weapon can attack
-        for ( int layer : this.valid_layers ) {
-
-            // Use attackLocation according to the attack_pattern
-            Coordinate new_coord = new Coordinate(layer, row, col);
-            Method func_to_pass = Weapon.class.getMethod("attackLocation", Grid.class, Coordinate.class);
-            this.attack_pattern.attackWithPattern(this, func_to_pass, attacked_player.getGrid(), new_coord);
+        // For each layer that this weapon can attack, use attackLocation according to the attack_pattern
+        List<AttackResult> results = new ArrayList<>();
+        this.results_in_progress = results;
+        try {
+            Grid attacked_grid = attacked_player.getGrid();
+            for ( int layer : this.valid_layers ) {
+                this.attack_pattern.attackWithPattern(this, attacked_grid, Coordinate.pack(layer, row, col));
+            }
+        }
+        finally {
+            this.results_in_progress = null;
         }
 
         // Decrease the number of uses of this weapon
         decreaseNumUses();
+
+        // Add the results of the whole attack, and send every result to the listener
+        finishAttack(attacked_player, coord_of_attack, results);
+        for ( AttackResult result : results ) listener.onAttackResult(result);
+
+        return results;
     }
 }
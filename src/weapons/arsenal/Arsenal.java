@@ -1,39 +1,139 @@
 package edu.colorado.objectgrind.weapons.arsenal;
 
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.factories.WeaponFactory;
-import edu.colorado.objectgrind.weapons.damage_weapons.Bomb;
 import edu.colorado.objectgrind.weapons.Weapon;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * This class defines the arsenal of weapons that a player will have in a game.
+ * <p>
+ *     Every weapon that the arsenal can ever hold is created with it, and kept in a fixed slot whose index is the
+ *     weapon's id: the main weapon (the Bomb, or the SpaceLaser it is upgraded to) has id 0, and each weapon that is
+ *     unlocked by sinking ships has the next id. A bit for each slot says whether its weapon is in the arsenal, so
+ *     adding, removing, and upgrading a weapon only set a slot and a bit, and an id stays with its weapon however
+ *     many others run out.
+ * </p>
+ * <p>
+ *     The weapons that are in the arsenal are also numbered by index, from 0 to one less than their number, in order
+ *     of id. This is the compacted view that players and bots choose from.
+ * </p>
+ * <p>
+ *     The weapons that are added as ships are sunk are looked up in a table of the slots unlocked at each number of
+ *     sinks, which is worked out once for each size.
+ * </p>
  *
  * @see Weapon
+ * @see WeaponType
  * @see WeaponFactory
  */
 public class Arsenal {
 
     /**
-     * The list of weapons that this arsenal contains.
+     * The id of the main weapon, which starts as a Bomb and is upgraded to a SpaceLaser.
      */
-    private final ArrayList<Weapon> weapons;
+    public static final int MAIN_WEAPON_ID = 0;
+
+    /**
+     * The types of weapon that are added to an arsenal once enough ships are sunk; the type at index i has id i + 1.
+     */
+    private static final WeaponType[] UNLOCKABLE_TYPES = { WeaponType.SONAR_PULSE, WeaponType.HORIZONTAL_AIR_STRIKE };
+
+    /**
+     * The number of slots of every arsenal.
+     */
+    public static final int NUM_SLOTS = UNLOCKABLE_TYPES.length + 1;
+
+    /**
+     * The ids of the weapons that are unlocked at each number of ships sunk, by size.
+     */
+    private static final Map<Size, int[][]> UNLOCKS_BY_SIZE = new EnumMap<>(Size.class);
+
+    static {
+        for ( Size size : Size.values() ) {
+
+            // Find the highest number of sinks needed, for the length of the table
+            int max_sinks = 0;
+            for ( WeaponType type : UNLOCKABLE_TYPES ) max_sinks = Math.max(max_sinks, type.getSinksNeeded(size));
+
+            // Put the id of each type at the number of sinks that unlocks it
+            int[][] unlocks = new int[max_sinks + 1][];
+            for (int num_sunk = 0; num_sunk <= max_sinks; num_sunk++) {
+                ArrayList<Integer> unlocked = new ArrayList<>();
+                for (int t = 0; t < UNLOCKABLE_TYPES.length; t++) {
+                    if ( UNLOCKABLE_TYPES[t].getSinksNeeded(size) == num_sunk ) unlocked.add(t + 1);
+                }
+                unlocks[num_sunk] = unlocked.stream().mapToInt(Integer::intValue).toArray();
+            }
+            UNLOCKS_BY_SIZE.put(size, unlocks);
+        }
+    }
+
+    /**
+     * The weapon in each slot, by id.
+     */
+    private final Weapon[] slots;
+
+    /**
+     * A bit for each slot, set when its weapon is in this arsenal.
+     */
+    private int live_slots;
 
     /**
      * A factory that creates the weapons for this arsenal.
      */
     private final WeaponFactory factory_weapon;
 
+    /**
+     * The weapon that this arsenal starts every game with.
+     */
+    private final Weapon starting_weapon;
+
+    /**
+     * The weapon that the starting weapon is upgraded to.
+     */
+    private final Weapon upgraded_weapon;
+
+    /**
+     * The ids of the weapons that are unlocked at each number of ships sunk, for the size of this arsenal's weapons.
+     */
+    private final int[][] unlocks;
+
     /**
      * Class constructor specifying the factory that it will take to create its weapons.
      *
      * @param factory the factory that this ship will use to create ships
-     * @see WeaponFactory#createWeapon(String)
+     * @see WeaponFactory#createWeapon(WeaponType)
      */
     public Arsenal(WeaponFactory factory) {
-        this.weapons = new ArrayList<>();
         this.factory_weapon = factory;
-        this.weapons.add( this.factory_weapon.createWeapon("Bomb") );
+        this.starting_weapon = this.factory_weapon.createWeapon(WeaponType.BOMB);
+        this.upgraded_weapon = this.factory_weapon.createWeapon(WeaponType.SPACE_LASER);
+        this.unlocks = UNLOCKS_BY_SIZE.get(factory.getSize());
+
+        // Create every weapon up front, so that none are created during a game
+        this.slots = new Weapon[NUM_SLOTS];
+        this.slots[MAIN_WEAPON_ID] = this.starting_weapon;
+        for (int t = 0; t < UNLOCKABLE_TYPES.length; t++) {
+            this.slots[t + 1] = this.factory_weapon.createWeapon(UNLOCKABLE_TYPES[t]);
+        }
+        this.live_slots = 1 << MAIN_WEAPON_ID;
+    }
+
+    /**
+     * Brings this arsenal back to how it started, with only its Bomb, which gets back all of its uses.
+     *
+     * @see Weapon#resetNumUses()
+     */
+    public void reset() {
+        this.slots[MAIN_WEAPON_ID] = this.starting_weapon;
+        for ( Weapon weapon : this.slots ) weapon.resetNumUses();
+        this.upgraded_weapon.resetNumUses();
+        this.live_slots = 1 << MAIN_WEAPON_ID;
     }
 
     /**
@@ -41,78 +141,150 @@ public class Arsenal {
      *
      * @param index the index of the weapon to return
      * @return the weapon at the given index
+     * @throws IndexOutOfBoundsException if the index is not the index of a weapon in this arsenal
+     * @see #getWeaponIdAtIndex(int)
      */
     public Weapon getWeaponAtIndex(int index) {
-        return this.weapons.get(index);
+        return this.slots[getWeaponIdAtIndex(index)];
     }
 
     /**
-     * Gets the number of weapons in this arsenal.
+     * Gets the id of the weapon from this arsenal at the given index.
      *
-     * @return the size of this arsenal's weapons list
+     * @param index the index of the weapon
+     * @return the id of the weapon at the given index
+     * @throws IndexOutOfBoundsException if the index is not the index of a weapon in this arsenal
      */
-    public int getNumberOfWeapons() {
-        return this.weapons.size();
+    public int getWeaponIdAtIndex(int index) {
+        if ( index < 0 || index >= getNumberOfWeapons() ) {
+            throw new IndexOutOfBoundsException(
+                    "Index " + index + " out of bounds for " + getNumberOfWeapons() + " weapons");
+        }
+
+        // Drop the lowest set bits until the one for the index is the lowest
+        int live = this.live_slots;
+        for (int i = 0; i < index; i++) live &= live - 1;
+        return Integer.numberOfTrailingZeros(live);
     }
 
     /**
-     * Adds the given weapon to this arsenal, if the number of ships sunk is met.
+     * Gets the index of the weapon in this arsenal with the given id.
      *
-     * @param weapon_name the name of the weapon to be added
-     * @param num_sunk the number of ships a player has sunk
-     * @see WeaponFactory#createWeapon(String)
-     * @see Weapon#getSinksNeeded()
+     * @param id the id of the weapon
+     * @return the index of the weapon; -1 if no weapon in this arsenal has that id
      */
-    private void addWeapon(String weapon_name, int num_sunk) {
-        Weapon weapon = this.factory_weapon.createWeapon(weapon_name);
-        if ( weapon.getSinksNeeded() == num_sunk ) this.weapons.add(weapon);
+    public int getIndexOfWeaponId(int id) {
+        if ( !hasWeaponId(id) ) return -1;
+        return Integer.bitCount(this.live_slots & ((1 << id) - 1));
     }
 
     /**
-     * Removes weapons from this arsenal when they have no uses left.
-     * 
-     * @see Weapon#getNumUses()
+     * Checks whether the weapon with the given id is in this arsenal.
+     *
+     * @param id the id of the weapon
+     * @return <code>true</code> if the weapon is in this arsenal; <code>false</code> otherwise
      */
-    public void removeWeapons() {
+    public boolean hasWeaponId(int id) {
+        return id >= 0 && id < NUM_SLOTS && (this.live_slots & (1 << id)) != 0;
+    }
+
+    /**
+     * Gets the weapon in the slot with the given id, whether or not it is in this arsenal right now.
+     *
+     * @param id the id of the weapon, from 0 to NUM_SLOTS - 1
+     * @return the weapon in the slot
+     */
+    public Weapon getWeaponById(int id) {
+        return this.slots[id];
+    }
 
-        // Array of indices to remove from the weapons
-        ArrayList<Integer> to_remove = new ArrayList<>();
+    /**
+     * Gets the ids of the weapons in this arsenal, as a bit for each id.
+     *
+     * @return the current value of live_slots
+     */
+    public int getLiveSlots() {
+        return this.live_slots;
+    }
 
-        // Determine which weapons need to be removed
-        for(int i = 0; i<this.weapons.size(); i++) {
-            if ( this.weapons.get(i).getNumUses() == 0 ) to_remove.add(i);
-        }
+    /**
+     * Checks whether the main weapon has been upgraded from the Bomb to the SpaceLaser.
+     *
+     * @return <code>true</code> if the main weapon is the SpaceLaser; <code>false</code> otherwise
+     */
+    public boolean isMainWeaponUpgraded() {
+        return this.slots[MAIN_WEAPON_ID] == this.upgraded_weapon;
+    }
 
-        // Remove the weapons
-        for( int index : to_remove) {
-            this.weapons.remove(index);
+    /**
+     * Sets which weapons are in this arsenal to ones that were saved from it, or from an arsenal of the same size.
+     * <p>
+     *     The uses of the weapons are left as they are, to be set on each weapon.
+     * </p>
+     *
+     * @param upgraded whether or not the main weapon is the SpaceLaser
+     * @param live_slots the ids of the weapons in this arsenal, as a bit for each id
+     * @see #getLiveSlots()
+     * @see #isMainWeaponUpgraded()
+     * @see Weapon#setNumUses(int)
+     */
+    public void restoreSlots(boolean upgraded, int live_slots) {
+        this.slots[MAIN_WEAPON_ID] = upgraded ? this.upgraded_weapon : this.starting_weapon;
+        this.live_slots = live_slots;
+    }
+
+    /**
+     * Gets the number of weapons in this arsenal.
+     *
+     * @return the number of weapons that this arsenal holds
+     */
+    public int getNumberOfWeapons() {
+        return Integer.bitCount(this.live_slots);
+    }
+
+    /**
+     * Removes weapons from this arsenal when they have no uses left.
+     * <p>
+     *     Each weapon is checked in its own slot, so that weapons that run out at the same time are all removed.
+     * </p>
+     *
+     * @see Weapon#getNumUses()
+     */
+    public void removeWeapons() {
+        for (int live = this.live_slots; live != 0; live &= live - 1) {
+            int id = Integer.numberOfTrailingZeros(live);
+            if ( this.slots[id].getNumUses() == 0 ) this.live_slots &= ~(1 << id);
         }
     }
 
     /**
-     * Upgrades the Bomb in this arsenal to a SpaceLaser.
-     * @see Bomb
+     * Upgrades the Bomb in this arsenal to a SpaceLaser with all of its uses, in the slot of the main weapon.
+     *
+     * @see edu.colorado.objectgrind.weapons.damage_weapons.Bomb
      * @see edu.colorado.objectgrind.weapons.damage_weapons.SpaceLaser
-     * @see WeaponFactory#createWeapon(String)
+     * @see #MAIN_WEAPON_ID
      */
     public void upgradeBombToSpaceLaser() {
-        this.weapons.set(0, this.factory_weapon.createWeapon("SpaceLaser"));
+        this.upgraded_weapon.resetNumUses();
+        this.slots[MAIN_WEAPON_ID] = this.upgraded_weapon;
+        this.live_slots |= 1 << MAIN_WEAPON_ID;
     }
 
     /**
-     * Adds new weapons to this arsenal, determined by a list of weapon names inside the function.
+     * Adds the weapons that are unlocked at the given number of ships sunk to this arsenal.
+     * <p>
+     *     A weapon that is unlocked again gets back all of its uses.
+     * </p>
      *
      * @param num_sunk the number of ships a player has sunk
-     * @see #addWeapon(String, int)
+     * @see WeaponType#getSinksNeeded(Size)
      */
     public void addNewWeapons(int num_sunk) {
+        if ( num_sunk < 0 || num_sunk >= this.unlocks.length ) return;
 
-        // Names of weapons to add
-        String[] weapon_names = new String[] {"SonarPulse", "HorizontalAirStrike"};
-
-        // Add each weapon from the array of names
-        for ( String weapon_name : weapon_names ) {
-            this.addWeapon(weapon_name, num_sunk);
+        for ( int id : this.unlocks[num_sunk] ) {
+            this.slots[id].resetNumUses();
+            this.live_slots |= 1 << id;
         }
     }
 
@@ -131,7 +303,7 @@ public class Arsenal {
         if( num_sunk_this_turn != 0 ) {
 
             // Upgrade Bomb to SpaceLaser
-            if( this.weapons.get(0) instanceof Bomb ) upgradeBombToSpaceLaser();
+            if( this.slots[MAIN_WEAPON_ID] == this.starting_weapon ) upgradeBombToSpaceLaser();
 
             // Add all other weapons
             addNewWeapons(num_sunk_total);
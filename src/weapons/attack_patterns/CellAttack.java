@@ -0,0 +1,27 @@
+package edu.colorado.objectgrind.weapons.attack_patterns;
+
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.weapons.Weapon;
+
+/**
+ * This interface defines an attack on a single cell of a grid, which an attack pattern calls for every cell it covers.
+ * <p>
+ *     Every Weapon is a CellAttack, so a weapon hands itself to its pattern and each cell is a plain interface call.
+ * </p>
+ *
+ * @see WeaponAttackPattern
+ * @see Weapon#attackLocation(Grid, int, int, int)
+ */
+@FunctionalInterface
+public interface CellAttack {
+
+    /**
+     * Attacks a single cell of the given grid.
+     *
+     * @param attacked_grid the grid that will be attacked
+     * @param layer the layer of the cell that will be attacked
+     * @param row the row of the cell that will be attacked
+     * @param col the column of the cell that will be attacked
+     */
+    void attackLocation(Grid attacked_grid, int layer, int row, int col);
+}
@@ -1,11 +1,5 @@
 package edu.colorado.objectgrind.weapons.attack_patterns;
 
-import edu.colorado.objectgrind.grid.Coordinate;
-import edu.colorado.objectgrind.grid.Grid;
-import edu.colorado.objectgrind.weapons.Weapon;
-
-import java.lang.reflect.Method;
-
 /**
  * This class defines a diamond pattern that a weapon can attack with.
  *
@@ -14,39 +8,27 @@ import java.lang.reflect.Method;
 public class DiamondPattern extends WeaponAttackPattern {
 
     /**
-     * Attacks every location in a diamond pattern centered at the coordinate on the grid, by using the given attack method.
+     * Returns the offsets of every cell in a diamond pattern with a radius of two, centered at the coordinate of attack.
      *
-     * @param attack_weapon the weapon that will be used to attack
-     * @param attack_method the method that will be used to attack
-     * @param attacked_grid the grid that will be attacked
-     * @param coord_of_attack the coordinate that will be attacked
-     * @throws Exception if attack_method is invalid
-     * @see Weapon
-     * @see Method
-     * @see Grid
-     * @see Coordinate
+     * @return an array of {row offset, column offset} pairs, row by row
      */
-    public void attackWithPattern(Weapon attack_weapon, Method attack_method, Grid attacked_grid, Coordinate coord_of_attack) throws Exception {
+    @Override
+    protected int[][] getCellOffsets() {
 
-        // Save the row and column of the attacked coordinate
-        int row = coord_of_attack.getRow();
-        int col = coord_of_attack.getColumn();
-        int layer = coord_of_attack.getLayer();
+        int[][] offsets = new int[13][];
+        int next = 0;
 
-        // Centered on the given coordinate, iterate over the sonar's range and update locations accordingly
-        for (int i=row-2; i<row+2+1; i++) { // rows
+        // Centered on the coordinate of attack, iterate over the sonar's range
+        for (int i=-2; i<2+1; i++) { // rows
 
             // Determine the offset on both sides of the column for the given row
-            int offset = -1;
-            if ( (i == row-2) | (i == row+2) ) offset = 0;
-            else if ( (i == row-1) | (i == row+1) ) offset = 1;
-            else if ( i == row ) offset = 2;
+            int offset = 2 - Math.abs(i);
 
-            for (int j=col-offset; j<col+offset+1; j++) { // columns
-
-                Coordinate curr_coord = new Coordinate(layer, i, j);
-                super.callAttackMethod(attack_weapon, attack_method, attacked_grid, curr_coord);
+            for (int j=-offset; j<offset+1; j++) { // columns
+                offsets[next++] = new int[] {i, j};
             }
         }
+
+        return offsets;
     }
 }
@@ -1,11 +1,5 @@
 package edu.colorado.objectgrind.weapons.attack_patterns;
 
-import edu.colorado.objectgrind.grid.Coordinate;
-import edu.colorado.objectgrind.grid.Grid;
-import edu.colorado.objectgrind.weapons.Weapon;
-
-import java.lang.reflect.Method;
-
 /**
  * This class defines a line pattern that a weapon can attack with.
  *
@@ -35,37 +29,27 @@ public class LinePattern extends WeaponAttackPattern {
     }
 
     /**
-     * Attacks every location in a line centered at the coordinate on the grid, by using the given attack method.
+     * Returns the offsets of every cell in a line centered at the coordinate of attack.
      *
-     * @param attack_weapon the weapon that will be used to attack
-     * @param attack_method the method that will be used to attack
-     * @param attacked_grid the grid that will be attacked
-     * @param coord_of_attack the coordinate that will be attacked
-     * @throws Exception if attack_method is invalid
-     * @see Weapon
-     * @see Method
-     * @see Grid
-     * @see Coordinate
+     * @return an array of {row offset, column offset} pairs, row by row
      * @see #row_offset
      * @see #col_offset
      */
-    public void attackWithPattern(Weapon attack_weapon, Method attack_method, Grid attacked_grid, Coordinate coord_of_attack) throws Exception {
+    @Override
+    protected int[][] getCellOffsets() {
 
-        // Get the row, column, and layer from the attacked coordinate
-        int row = coord_of_attack.getRow();
-        int col = coord_of_attack.getColumn();
-        int layer = coord_of_attack.getLayer();
+        int[][] offsets = new int[(2 * this.row_offset + 1) * (2 * this.col_offset + 1)][];
+        int next = 0;
 
         // For every row above and below the attacked row by the row_offset
-        for( int i=row-this.row_offset; i<row+this.row_offset+1; i++ ) {
+        for( int i=-this.row_offset; i<this.row_offset+1; i++ ) {
 
             // For every column left and right of the attacked column by the col_offset
-            for( int j=col-this.col_offset; j<col+this.col_offset+1; j++ ) {
-
-                // Get the current coordinate, and call the attack method
-                Coordinate curr_coord = new Coordinate(layer, i, j);
-                super.callAttackMethod(attack_weapon, attack_method, attacked_grid, curr_coord);
+            for( int j=-this.col_offset; j<this.col_offset+1; j++ ) {
+                offsets[next++] = new int[] {i, j};
             }
         }
+
+        return offsets;
     }
 }
@@ -0,0 +1,183 @@
+package edu.colorado.objectgrind.weapons.attack_patterns;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+
+/**
+ * This class defines the cells that an attack pattern covers on a grid of one size, for every cell it can be
+ * centered on.
+ * <p>
+ *     The offsets of a pattern are applied to every cell of the grid once, when the stamp is built, and only the
+ *     cells that land in bounds are kept. Using the pattern at a target is then one lookup of that target's range of
+ *     cells, with no bounds check per cell. Cells are stored as packed coordinates on layer 0, so the layer of an
+ *     attack is added to them with a single OR.
+ * </p>
+ *
+ * @see WeaponAttackPattern#getStamp(int)
+ * @see Coordinate#pack(int, int, int)
+ */
+public final class PatternStamp {
+
+    /**
+     * The size of the grid that this stamp was built for.
+     */
+    private final int size;
+
+    /**
+     * The row offset of every cell of the pattern, in the order that its cells are attacked.
+     */
+    private final int[] row_offsets;
+
+    /**
+     * The column offset of every cell of the pattern, in the order that its cells are attacked.
+     */
+    private final int[] col_offsets;
+
+    /**
+     * The index in cells where the cells of each target start, by flat target index (row * size + col). The entry
+     * after the last target is the total number of cells.
+     */
+    private final int[] starts;
+
+    /**
+     * The in-bounds cells of every target, as packed coordinates on layer 0.
+     */
+    private final int[] cells;
+
+    /**
+     * Class constructor that builds the clipped cells of every target for a grid of the given size.
+     *
+     * @param size the size of the grid that the stamp is for
+     * @param row_offsets the row offset of every cell of the pattern
+     * @param col_offsets the column offset of every cell of the pattern
+     */
+    PatternStamp(int size, int[] row_offsets, int[] col_offsets) {
+        this.size = size;
+        this.row_offsets = row_offsets;
+        this.col_offsets = col_offsets;
+        this.starts = new int[size * size + 1];
+
+        // Count the cells of every target that are in bounds
+        for (int target = 0; target < size * size; target++) {
+            int count = 0;
+            for (int i = 0; i < row_offsets.length; i++) {
+                if ( inBounds(target / size + row_offsets[i], target % size + col_offsets[i]) ) count++;
+            }
+            this.starts[target + 1] = this.starts[target] + count;
+        }
+
+        // Fill in those cells, keeping the order of the offsets
+        this.cells = new int[this.starts[size * size]];
+        int next = 0;
+        for (int target = 0; target < size * size; target++) {
+            for (int i = 0; i < row_offsets.length; i++) {
+                int row = target / size + row_offsets[i];
+                int col = target % size + col_offsets[i];
+                if ( inBounds(row, col) ) this.cells[next++] = Coordinate.pack(0, row, col);
+            }
+        }
+    }
+
+    /**
+     * Gets the size of the grid that this stamp was built for.
+     *
+     * @return the current value of size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of cells that the pattern covers when it is centered on the given cell.
+     *
+     * @param row the row that the pattern is centered on
+     * @param col the column that the pattern is centered on
+     * @return the number of in-bounds cells; 0 if the center is not on a grid of this size
+     */
+    public int getNumCells(int row, int col) {
+        if ( !inBounds(row, col) ) return 0;
+        int target = row * this.size + col;
+        return this.starts[target + 1] - this.starts[target];
+    }
+
+    /**
+     * Returns the in-bounds cells that the pattern covers when it is centered on the given cell.
+     *
+     * @param layer the layer that the pattern is used on
+     * @param row the row that the pattern is centered on
+     * @param col the column that the pattern is centered on
+     * @return the packed coordinates of the cells, in the order they are attacked
+     */
+    public int[] getCells(int layer, int row, int col) {
+        int[] found = new int[getNumCells(row, col)];
+        if ( found.length > 0 ) {
+            int start = this.starts[row * this.size + col];
+            int layer_bits = Coordinate.pack(layer, 0, 0);
+            for (int i = 0; i < found.length; i++) found[i] = this.cells[start + i] | layer_bits;
+        }
+        return found;
+    }
+
+    /**
+     * Returns one of the in-bounds cells that the pattern covers when it is centered on the given cell, without
+     * creating an array.
+     *
+     * @param row the row that the pattern is centered on, which must be on a grid of this stamp's size
+     * @param col the column that the pattern is centered on, which must be on a grid of this stamp's size
+     * @param index which of the cells to return, from zero up to the number of cells
+     * @return the packed coordinate of the cell, on layer 0
+     * @see #getNumCells(int, int)
+     */
+    public int getCell(int row, int col, int index) {
+        return this.cells[this.starts[row * this.size + col] + index];
+    }
+
+    /**
+     * Calls the given attack on every in-bounds cell that the pattern covers when centered on the given cell.
+     * <p>
+     *     A center that is not on the grid is still allowed, in which case each cell is checked on its own, since
+     *     there is no precomputed range for it.
+     * </p>
+     *
+     * @param attack the attack that will be used on every cell
+     * @param attacked_grid the grid that will be attacked, which must be of this stamp's size
+     * @param layer the layer that the pattern is used on
+     * @param row the row that the pattern is centered on
+     * @param col the column that the pattern is centered on
+     * @see CellAttack#attackLocation(Grid, int, int, int)
+     */
+    public void apply(CellAttack attack, Grid attacked_grid, int layer, int row, int col) {
+
+        // Nothing is attacked on a layer that the grid does not have
+        if ( (layer < 0) | (layer >= attacked_grid.getNumLayers()) ) return;
+
+        // A center off the grid has no range, so check its cells one at a time
+        if ( !inBounds(row, col) ) {
+            for (int i = 0; i < this.row_offsets.length; i++) {
+                int cell_row = row + this.row_offsets[i];
+                int cell_col = col + this.col_offsets[i];
+                if ( inBounds(cell_row, cell_col) ) attack.attackLocation(attacked_grid, layer, cell_row, cell_col);
+            }
+            return;
+        }
+
+        // Otherwise, attack the target's range of cells
+        int target = row * this.size + col;
+        int end = this.starts[target + 1];
+        for (int i = this.starts[target]; i < end; i++) {
+            int cell = this.cells[i];
+            attack.attackLocation(attacked_grid, layer, Coordinate.rowOf(cell), Coordinate.columnOf(cell));
+        }
+    }
+
+    /**
+     * Determines if the given row and column are on a grid of this stamp's size.
+     *
+     * @param row the row to check
+     * @param col the column to check
+     * @return <code>true</code> if both are in bounds; <code>false</code> otherwise
+     */
+    private boolean inBounds(int row, int col) {
+        return (0 <= row) & (row < this.size) & (0 <= col) & (col < this.size);
+    }
+}
@@ -4,49 +4,94 @@ import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.grid.Grid;
 import edu.colorado.objectgrind.weapons.Weapon;
 
-import java.lang.reflect.Method;
-
 /**
  * This class defines a pattern that any given weapon can attack with.
+ * <p>
+ *     A pattern is defined by the offsets of its cells from the coordinate of attack. For every grid size it is used
+ *     on, those offsets are built once into a PatternStamp, which already has the cells that fall off the edges of
+ *     the grid removed for every target.
+ * </p>
  *
  * @see Weapon
+ * @see CellAttack
+ * @see PatternStamp
  * @see Grid
  * @see Coordinate
  */
 public abstract class WeaponAttackPattern {
 
     /**
-     * Calls the given attack method from the given weapon on the grid at the given coordinate.
+     * The stamps of this pattern that have been built so far, by grid size.
+     */
+    private PatternStamp[] stamps = new PatternStamp[0];
+
+    /**
+     * Returns the offsets of every cell of this pattern from the coordinate of attack, in the order they are attacked.
      *
-     * @param attack_weapon the weapon that will be used to attack
-     * @param attack_method the method that will be used to attack
-     * @param attacked_grid the grid that will be attacked
-     * @param coord_of_attack the coordinate that will be attacked
-     * @throws Exception if the given attack_method is invalid
-     * @see Weapon
-     * @see Method
-     * @see Grid
-     * @see Coordinate
+     * @return an array of {row offset, column offset} pairs
      */
-    public void callAttackMethod(Weapon attack_weapon, Method attack_method, Grid attacked_grid, Coordinate coord_of_attack) throws Exception {
+    protected abstract int[][] getCellOffsets();
 
-        // If the coordinate is in bounds
-        if ( attacked_grid.isCoordinateInBounds(coord_of_attack) ) {
+    /**
+     * Returns the stamp of this pattern for a grid of the given size, building it the first time it is needed.
+     *
+     * @param grid_size the size of the grid that the pattern will be used on
+     * @return the stamp of this pattern for that size
+     * @see #getCellOffsets()
+     */
+    public PatternStamp getStamp(int grid_size) {
 
-            // Execute the given attack method
-            Object[] params = new Object[] {attacked_grid, coord_of_attack};
-            attack_method.invoke(attack_weapon, params);
+        // Make room for a stamp of this size
+        PatternStamp[] built = this.stamps;
+        if ( grid_size >= built.length ) {
+            PatternStamp[] grown = new PatternStamp[grid_size + 1];
+            System.arraycopy(built, 0, grown, 0, built.length);
+            built = grown;
+            this.stamps = built;
         }
+
+        // Build the stamp if this is the first time this size is used
+        if ( built[grid_size] == null ) {
+            int[][] offsets = getCellOffsets();
+            int[] row_offsets = new int[offsets.length];
+            int[] col_offsets = new int[offsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                row_offsets[i] = offsets[i][0];
+                col_offsets[i] = offsets[i][1];
+            }
+            built[grid_size] = new PatternStamp(grid_size, row_offsets, col_offsets);
+        }
+
+        return built[grid_size];
     }
 
     /**
-     * With the given attack method, attack according to the pattern defined in this class' subclasses.
+     * With the given attack, attack according to the pattern defined in this class' subclasses.
      *
-     * @param attack_weapon the weapon that will be used to attack
-     * @param attack_method the method that will be used to attack
+     * @param attack the attack that will be used on every cell of the pattern
      * @param attacked_grid the grid that will be attacked
      * @param coord_of_attack the coordinate that will be attacked
-     * @throws Exception if the given attack_method is invalid
+     * @see #attackWithPattern(CellAttack, Grid, int)
      */
-    public abstract void attackWithPattern(Weapon attack_weapon, Method attack_method, Grid attacked_grid, Coordinate coord_of_attack) throws Exception;
+    public void attackWithPattern(CellAttack attack, Grid attacked_grid, Coordinate coord_of_attack) {
+        attackWithPattern(attack, attacked_grid, coord_of_attack.toPacked());
+    }
+
+    /**
+     * With the given attack, attack according to the pattern defined in this class' subclasses, centered on the
+     * given packed coordinate.
+     * <p>
+     *     Only the cells of the pattern that are in bounds of the grid are attacked.
+     * </p>
+     *
+     * @param attack the attack that will be used on every cell of the pattern
+     * @param attacked_grid the grid that will be attacked
+     * @param coord_of_attack the packed coordinate that will be attacked
+     * @see #getStamp(int)
+     * @see PatternStamp#apply(CellAttack, Grid, int, int, int)
+     */
+    public void attackWithPattern(CellAttack attack, Grid attacked_grid, int coord_of_attack) {
+        getStamp(attacked_grid.getSize()).apply(attack, attacked_grid, Coordinate.layerOf(coord_of_attack),
+                Coordinate.rowOf(coord_of_attack), Coordinate.columnOf(coord_of_attack));
+    }
 }
@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.weapons.damage_weapons;
 
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.attack_patterns.SingleLocationPattern;
 
 /**
@@ -26,10 +27,22 @@ public class Bomb extends DamageWeapon {
     }
 
     /**
-     * Prints the string "Bomb"
+     * Returns the name of this weapon, "Bomb".
+     *
+     * @return the string "Bomb"
+     */
+    @Override
+    public String getName() {
+        return "Bomb";
+    }
+
+    /**
+     * Returns the type of this weapon, BOMB.
+     *
+     * @return WeaponType.BOMB
      */
     @Override
-    public void printWeapon() {
-        System.out.print("Bomb");
+    public WeaponType getType() {
+        return WeaponType.BOMB;
     }
 }
@@ -1,15 +1,15 @@
 package edu.colorado.objectgrind.weapons.damage_weapons;
 
+import edu.colorado.objectgrind.enums.AttackOutcome;
 import edu.colorado.objectgrind.enums.LocationStatus;
 import edu.colorado.objectgrind.game.Player;
-import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.grid.Grid;
-import edu.colorado.objectgrind.grid.Location;
 import edu.colorado.objectgrind.ships.ship_types.Ship;
 import edu.colorado.objectgrind.weapons.Weapon;
 import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
 
-import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * This class defines a weapon that does "damage" to a location, and either results in a HIT or a MISS.
@@ -36,32 +36,39 @@ public abstract class DamageWeapon extends Weapon {
 
     /**
      * Attacks the given coordinate on the grid and results in a HIT or MISS.
+     * <p>
+     *     A location that was already hit, or a ship that has already sunk, does not take any more damage.
+     * </p>
      *
      * @param attacked_grid the grid that will be attacked by this weapon
-     * @param coord the coordinate that this weapon will be used at
-     * @see Ship#checkCaptainsQuarter(Grid, Coordinate)
+     * @param layer the layer of the cell that this weapon will be used at
+     * @param row the row of the cell that this weapon will be used at
+     * @param col the column of the cell that this weapon will be used at
+     * @see Ship#checkCaptainsQuarter(Grid, int, int, int)
      * @see Ship#isCapQuartersDestroyed()
      * @see Ship#sink()
+     * @see Grid#setShipStatus(Ship, LocationStatus)
      * @see LocationStatus
+     * @see AttackOutcome
      */
     @Override
-    public void attackLocation(Grid attacked_grid, Coordinate coord){
-
-        // Save the attacked location
-        Location attacked_location = attacked_grid.getLocationByIndex(coord.getLayer(), coord.getRow(), coord.getColumn());
-        
-        // Get the layer of the attacked coordinate
-        int layer = coord.getLayer();
-        System.out.println("Attacking layer " + layer);
+    public void attackLocation(Grid attacked_grid, int layer, int row, int col){
 
         // If there is a ship at the location of attack
-        if( attacked_location.hasShip() ) {
+        if( attacked_grid.hasShipAt(layer, row, col) ) {
 
-            // Get the ship that is at this location
-            Ship attacked_ship = attacked_location.getShip();
+            // Get the ship that is at this location, and whether it had already sunk
+            Ship attacked_ship = attacked_grid.getShipAt(layer, row, col);
+            boolean was_sunk = attacked_ship.hasSunk();
+
+            // If the ship has already sunk, or this location was already hit, then it is a HIT with no more damage
+            if ( was_sunk || attacked_grid.getStatusAt(layer, row, col) == LocationStatus.HIT ) {
+                addResult(AttackOutcome.HIT, layer, row, col, attacked_ship);
+                attacked_grid.setStatusAt(layer, row, col, LocationStatus.HIT);
+            }
 
             // If the location is the captain's quarters
-            if ( attacked_ship.checkCaptainsQuarter(attacked_grid,coord) ) {
+            else if ( attacked_ship.checkCaptainsQuarter(attacked_grid, layer, row, col) ) {
 
                 // Decrease the health of the captain's quarters
                 attacked_ship.hitCapQuarters();
@@ -69,86 +76,61 @@ public abstract class DamageWeapon extends Weapon {
                 // If the captain's quarters health is zero
                 if( attacked_ship.isCapQuartersDestroyed() ) {
 
-                    // Indicate that the attack was a HIT
-                    System.out.println("HIT the Captain's Quarters");
+                    // Indicate that the captain's quarters were destroyed
+                    addResult(AttackOutcome.CAPTAINS_QUARTERS_DESTROYED, layer, row, col, attacked_ship);
 
                     // Sink the ship
                     attacked_ship.sink();
 
-                    // Update every location the ship is at to HIT, by scanning the row and col of the attacked location
-                    for (int i=0; i<attacked_grid.getGrid()[layer].length; i++) {
-
-                        for(int j=0; j<attacked_grid.getGrid()[layer].length; j++) {
-
-                            // If the current location has the same ship as the one that was just hit, set status to HIT
-                            Location new_location = attacked_grid.getLocationByIndex(layer, i, j);
-                            if ( new_location.getShip() == attacked_ship ) new_location.setLocationStatus(LocationStatus.HIT);
-                        }
-                    }
+                    // Update every location the ship is at to HIT
+                    attacked_grid.setShipStatus(attacked_ship, LocationStatus.HIT);
                 }
                 else {
 
-                    // Inform the user that it is a MISS
-                    System.out.println("MISS");
+                    // Indicate that the captain's quarters were hit, which the attacker sees as a MISS
+                    addResult(AttackOutcome.CAPTAINS_QUARTERS_HIT, layer, row, col, attacked_ship);
 
                     // Update the location status to MISS
-                    attacked_location.setLocationStatus(LocationStatus.MISS);
+                    attacked_grid.setStatusAt(layer, row, col, LocationStatus.MISS);
                 }
             }
             else { // if it is not the captain's quarters
 
                 // Indicate that the attack was a HIT
-                System.out.println("HIT");
+                addResult(AttackOutcome.HIT, layer, row, col, attacked_ship);
 
                 // Hit the ship, i.e. decrease its health by one
                 attacked_ship.hit();
 
                 // Update the location status to HIT
-                attacked_location.setLocationStatus(LocationStatus.HIT);
+                attacked_grid.setStatusAt(layer, row, col, LocationStatus.HIT);
             }
 
-            // If the ship has sunk
-            if ( attacked_ship.hasSunk() ) {
-
-                // Inform the attacker that they sunk a ship, and give the type
-                System.out.println("You SUNK your opponent's ");
-                attacked_ship.printShip();
-            }
+            // If the ship has sunk because of this attack, indicate which ship it was
+            if ( !was_sunk & attacked_ship.hasSunk() ) addResult(AttackOutcome.SUNK, layer, row, col, attacked_ship);
         }
         else { // there is no ship at the location of attack
 
-            // Inform the user that it is a MISS
-            System.out.println("MISS");
+            // Indicate that the attack was a MISS
+            addResult(AttackOutcome.MISS, layer, row, col, null);
 
             // Update the location status to MISS
-            attacked_location.setLocationStatus(LocationStatus.MISS);
+            attacked_grid.setStatusAt(layer, row, col, LocationStatus.MISS);
         }
     }
 
     /**
-     * Uses this weapon over its entire attack pattern on all of its valid layers.
-     * <p>
-     *     This function calls the useWeapon function from this class' super class - Weapon - and then
-     *     afterwards checks if the player that was attacked has surrendered.
-     * </p>
+     * Checks if the player that was attacked has surrendered, after every cell of the attack.
      *
-     * @param attacked_player the player who is being attacked by this weapon
-     * @param coord_of_attack the coordinate where this weapon is being used
-     * @throws Exception if the attack method is invalid
-     * @see #printWeapon()
-     * @see #decreaseNumUses()
-     * @see #valid_layers
-     * @see #attack_pattern
-     * @see Method
-     * @see WeaponAttackPattern#attackWithPattern(Weapon, Method, Grid, Coordinate)
+     * @param attacked_player the player who was attacked by this weapon
+     * @param coord_of_attack the packed coordinate where this weapon was used
+     * @param results the results of the attack so far, which a SURRENDERED result is added to
+     * @see Player#surrender()
      */
     @Override
-    public void useWeapon(Player attacked_player, Coordinate coord_of_attack) throws Exception {
-
-        // Use the weapon
-        super.useWeapon(attacked_player, coord_of_attack);
+    protected void finishAttack(Player attacked_player, int coord_of_attack, List<AttackResult> results) {
 
-        // If all the ships of the attacked player are sunk, then they surrender, and print it to the user
-        if( attacked_player.surrender() ) System.out.print("Your opponent has SURRENDERED");
+        // If all the ships of the attacked player are sunk, then they surrender
+        if( attacked_player.surrender() ) results.add(new AttackResult(AttackOutcome.SURRENDERED, coord_of_attack, null));
     }
 }
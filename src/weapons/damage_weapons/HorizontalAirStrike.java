@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.weapons.damage_weapons;
 
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.attack_patterns.HorizontalLinePattern;
 
 /**
@@ -25,10 +26,22 @@ public class HorizontalAirStrike extends AirStrike {
     }
 
     /**
-     * Prints the string "Horizontal Air Strike"
+     * Returns the name of this weapon, "Horizontal Air Strike".
+     *
+     * @return the string "Horizontal Air Strike"
+     */
+    @Override
+    public String getName() {
+        return "Horizontal Air Strike";
+    }
+
+    /**
+     * Returns the type of this weapon, HORIZONTAL_AIR_STRIKE.
+     *
+     * @return WeaponType.HORIZONTAL_AIR_STRIKE
      */
     @Override
-    public void printWeapon() {
-        System.out.print("Horizontal Air Strike");
+    public WeaponType getType() {
+        return WeaponType.HORIZONTAL_AIR_STRIKE;
     }
 }
@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.weapons.damage_weapons;
 
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.attack_patterns.SingleLocationPattern;
 
 /**
@@ -26,11 +27,22 @@ public class SpaceLaser extends DamageWeapon {
     }
 
     /**
-     * Prints the string "Space Laser"
+     * Returns the name of this weapon, "Space Laser".
+     *
+     * @return the string "Space Laser"
      */
     @Override
-    public void printWeapon() {
-        System.out.print("Space Laser");
+    public String getName() {
+        return "Space Laser";
     }
-}
 
+    /**
+     * Returns the type of this weapon, SPACE_LASER.
+     *
+     * @return WeaponType.SPACE_LASER
+     */
+    @Override
+    public WeaponType getType() {
+        return WeaponType.SPACE_LASER;
+    }
+}
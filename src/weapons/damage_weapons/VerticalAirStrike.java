@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.weapons.damage_weapons;
 
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.attack_patterns.VerticalLinePattern;
 
 /**
@@ -25,10 +26,22 @@ public class VerticalAirStrike extends AirStrike {
     }
 
     /**
-     * Prints the string "Vertical Air Strike"
+     * Returns the name of this weapon, "Vertical Air Strike".
+     *
+     * @return the string "Vertical Air Strike"
+     */
+    @Override
+    public String getName() {
+        return "Vertical Air Strike";
+    }
+
+    /**
+     * Returns the type of this weapon, VERTICAL_AIR_STRIKE.
+     *
+     * @return WeaponType.VERTICAL_AIR_STRIKE
      */
     @Override
-    public void printWeapon() {
-        System.out.print("Vertical Air Strike");
+    public WeaponType getType() {
+        return WeaponType.VERTICAL_AIR_STRIKE;
     }
 }
@@ -1,20 +1,45 @@
 package edu.colorado.objectgrind.weapons.factories;
 
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.Weapon;
 
 /**
- * This interface defines the function that creates Weapon objects given a name.
+ * This interface defines the functions that create Weapon objects for a size of game, given a type or a name.
  *
  * @see Weapon
+ * @see WeaponType
  */
 public interface WeaponFactory {
 
+    /**
+     * Creates a Weapon object given its type.
+     *
+     * @param weapon_type the type of the weapon that will be created
+     * @return a new <code>Weapon</code> of that type
+     * @see WeaponType#create(Size)
+     */
+    default Weapon createWeapon(WeaponType weapon_type) {
+        return weapon_type.create(getSize());
+    }
+
     /**
      * Creates a Weapon object given a string weapon name.
      *
      * @param weapon_name The name of the weapon that will be created
      * @return <code>Weapon</code> if the weapon name is valid;
      *         <code>null</code> otherwise.
+     * @see WeaponType#fromName(String)
+     */
+    default Weapon createWeapon(String weapon_name) {
+        WeaponType weapon_type = WeaponType.fromName(weapon_name);
+        return weapon_type == null ? null : createWeapon(weapon_type);
+    }
+
+    /**
+     * Gets the size of the games that this factory creates weapons for.
+     *
+     * @return the size of the game
      */
-    Weapon createWeapon(String weapon_name);
+    Size getSize();
 }
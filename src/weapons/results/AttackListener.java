@@ -0,0 +1,38 @@
+package edu.colorado.objectgrind.weapons.results;
+
+import edu.colorado.objectgrind.weapons.Weapon;
+
+/**
+ * This interface defines something that is told about the attacks of a game as they happen.
+ * <p>
+ *     A Player sends the results of every weapon it uses to its listener. By default nothing listens, so a game that
+ *     does not need output does not pay for it; ConsoleAttackListener prints the results for a person to read.
+ * </p>
+ *
+ * @see AttackResult
+ * @see ConsoleAttackListener
+ */
+@FunctionalInterface
+public interface AttackListener {
+
+    /**
+     * A listener that ignores everything.
+     */
+    AttackListener NONE = result -> {};
+
+    /**
+     * Called when a weapon is about to be used.
+     *
+     * @param weapon the weapon that is being used
+     * @param coord_of_attack the packed coordinate where the weapon is being used
+     */
+    default void onWeaponUsed(Weapon weapon, int coord_of_attack) {
+    }
+
+    /**
+     * Called for every result of an attack, in the order they happened.
+     *
+     * @param result the result of the attack
+     */
+    void onAttackResult(AttackResult result);
+}
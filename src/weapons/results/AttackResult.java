@@ -0,0 +1,113 @@
+package edu.colorado.objectgrind.weapons.results;
+
+import edu.colorado.objectgrind.enums.AttackOutcome;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.Weapon;
+
+/**
+ * This class defines one thing that happened during an attack with a weapon.
+ * <p>
+ *     A result is created for every cell a weapon attacks, and for every ship sunk and player surrendered because of
+ *     the attack. The results of an attack are returned by the weapon and sent to an AttackListener, in the order
+ *     they happened.
+ * </p>
+ *
+ * @see AttackOutcome
+ * @see AttackListener
+ * @see Weapon#useWeapon(edu.colorado.objectgrind.game.Player, int, AttackListener)
+ */
+public final class AttackResult {
+
+    /**
+     * What happened.
+     */
+    private final AttackOutcome outcome;
+
+    /**
+     * The packed coordinate of the cell that this result is for.
+     * <p>
+     *     For SUNK it is the cell that sunk the ship, and for SURRENDERED it is the coordinate of the attack.
+     * </p>
+     */
+    private final int coord;
+
+    /**
+     * The ship that was at the cell, or that sunk; <code>null</code> if there is no ship for this result.
+     */
+    private final Ship ship;
+
+    /**
+     * Class constructor specifying values for all of this result's attributes.
+     *
+     * @param outcome what happened
+     * @param coord the packed coordinate that the result is for
+     * @param ship the ship that the result is for, or <code>null</code>
+     */
+    public AttackResult(AttackOutcome outcome, int coord, Ship ship) {
+        this.outcome = outcome;
+        this.coord = coord;
+        this.ship = ship;
+    }
+
+    /**
+     * Gets what happened.
+     *
+     * @return the current value of outcome
+     */
+    public AttackOutcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * Gets the packed coordinate that this result is for.
+     *
+     * @return the current value of coord
+     * @see Coordinate#unpack(int)
+     */
+    public int getCoordinate() {
+        return this.coord;
+    }
+
+    /**
+     * Gets the layer of the coordinate that this result is for.
+     *
+     * @return the layer of coord
+     */
+    public int getLayer() {
+        return Coordinate.layerOf(this.coord);
+    }
+
+    /**
+     * Gets the row of the coordinate that this result is for.
+     *
+     * @return the row of coord
+     */
+    public int getRow() {
+        return Coordinate.rowOf(this.coord);
+    }
+
+    /**
+     * Gets the column of the coordinate that this result is for.
+     *
+     * @return the column of coord
+     */
+    public int getColumn() {
+        return Coordinate.columnOf(this.coord);
+    }
+
+    /**
+     * Gets the ship that this result is for.
+     *
+     * @return the current value of ship; <code>null</code> if there is none
+     */
+    public Ship getShip() {
+        return this.ship;
+    }
+
+    @Override
+    public String toString() {
+        return this.outcome + " at " + CoordinateParser.format(this.coord);
+    }
+}
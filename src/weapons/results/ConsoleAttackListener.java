@@ -0,0 +1,83 @@
+package edu.colorado.objectgrind.weapons.results;
+
+import edu.colorado.objectgrind.weapons.Weapon;
+
+import java.io.PrintStream;
+
+/**
+ * This class defines a listener that prints the attacks of a game to the console.
+ * <p>
+ *     The messages are the ones that the weapons used to print themselves.
+ * </p>
+ *
+ * @see AttackListener
+ */
+public class ConsoleAttackListener implements AttackListener {
+
+    /**
+     * The stream that the messages are printed to.
+     */
+    private final PrintStream out;
+
+    /**
+     * Class constructor that prints to standard output.
+     */
+    public ConsoleAttackListener() {
+        this(System.out);
+    }
+
+    /**
+     * Class constructor specifying the stream that messages are printed to.
+     *
+     * @param out the stream to print to
+     */
+    public ConsoleAttackListener(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Prints the weapon that is being used.
+     *
+     * @param weapon the weapon that is being used
+     * @param coord_of_attack the packed coordinate where the weapon is being used
+     */
+    @Override
+    public void onWeaponUsed(Weapon weapon, int coord_of_attack) {
+        this.out.println("Using " + weapon.getName());
+    }
+
+    /**
+     * Prints a message for the result of an attack.
+     * <p>
+     *     A captain's quarters that is hit but not destroyed is printed as a MISS, since that is what the attacker sees.
+     * </p>
+     *
+     * @param result the result of the attack
+     */
+    @Override
+    public void onAttackResult(AttackResult result) {
+        switch (result.getOutcome()) {
+            case HIT:
+                this.out.println("Attacking layer " + result.getLayer());
+                this.out.println("HIT");
+                break;
+            case MISS:
+            case CAPTAINS_QUARTERS_HIT:
+                this.out.println("Attacking layer " + result.getLayer());
+                this.out.println("MISS");
+                break;
+            case CAPTAINS_QUARTERS_DESTROYED:
+                this.out.println("Attacking layer " + result.getLayer());
+                this.out.println("HIT the Captain's Quarters");
+                break;
+            case SUNK:
+                this.out.println("You SUNK your opponent's " + result.getShip().printShip());
+                break;
+            case SURRENDERED:
+                this.out.println("Your opponent has SURRENDERED");
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.weapons.utility_weapons;
 
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.attack_patterns.DiamondPattern;
 
 /**
@@ -25,10 +26,22 @@ public class SonarPulse extends UtilityWeapon {
     }
 
     /**
-     * Prints the string "Sonar Pulse".
+     * Returns the name of this weapon, "Sonar Pulse".
+     *
+     * @return the string "Sonar Pulse"
+     */
+    @Override
+    public String getName() {
+        return "Sonar Pulse";
+    }
+
+    /**
+     * Returns the type of this weapon, SONAR_PULSE.
+     *
+     * @return WeaponType.SONAR_PULSE
      */
     @Override
-    public void printWeapon() {
-        System.out.print("Sonar Pulse");
+    public WeaponType getType() {
+        return WeaponType.SONAR_PULSE;
     }
 }
@@ -1,9 +1,8 @@
 package edu.colorado.objectgrind.weapons.utility_weapons;
 
+import edu.colorado.objectgrind.enums.AttackOutcome;
 import edu.colorado.objectgrind.enums.LocationStatus;
-import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.grid.Grid;
-import edu.colorado.objectgrind.grid.Location;
 import edu.colorado.objectgrind.weapons.Weapon;
 import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
 
@@ -37,19 +36,23 @@ public abstract class UtilityWeapon extends Weapon {
      * Attacks the given location and results in a FREE or OCCUPIED.
      *
      * @param attacked_grid the grid that will be attacked by this weapon
-     * @param coord_of_attack the coordinate that this weapon will be attacking
+     * @param layer the layer of the cell that this weapon will be attacking
+     * @param row the row of the cell that this weapon will be attacking
+     * @param col the column of the cell that this weapon will be attacking
      * @see LocationStatus
+     * @see AttackOutcome
      */
     @Override
-    public void attackLocation(Grid attacked_grid, Coordinate coord_of_attack) {
-
-        int row = coord_of_attack.getRow();
-        int col = coord_of_attack.getColumn();
-        int layer = coord_of_attack.getLayer();
-        Location loc_of_attack = attacked_grid.getLocationByIndex(layer, row, col);
+    public void attackLocation(Grid attacked_grid, int layer, int row, int col) {
 
         // Set the status according to whether or not there is a ship at the current location
-        if ( loc_of_attack.hasShip() ) loc_of_attack.setLocationStatus(LocationStatus.OCCUPIED);
-        else loc_of_attack.setLocationStatus(LocationStatus.FREE);
+        if ( attacked_grid.hasShipAt(layer, row, col) ) {
+            addResult(AttackOutcome.OCCUPIED, layer, row, col, attacked_grid.getShipAt(layer, row, col));
+            attacked_grid.setStatusAt(layer, row, col, LocationStatus.OCCUPIED);
+        }
+        else {
+            addResult(AttackOutcome.FREE, layer, row, col, null);
+            attacked_grid.setStatusAt(layer, row, col, LocationStatus.FREE);
+        }
     }
 }
@@ -1,6 +1,10 @@
 package edu.colorado.objectgrind;
 
 import edu.colorado.objectgrind.commands.*;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.MediumGamePartsFactory;
 import edu.colorado.objectgrind.grid.Coordinate;
 import edu.colorado.objectgrind.ships.fleet.Fleet;
 import edu.colorado.objectgrind.ships.fleet.MediumFleet;
@@ -9,10 +13,15 @@ import edu.colorado.objectgrind.grid.MediumGrid;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This class defines the tests for the Command interface and classes that implement it.
  *
  * @see Command
+ * @see CommandHistory
  * @see Fleet
  */
 public class CommandTest {
@@ -102,4 +111,106 @@ public class CommandTest {
         my_command.execute();
         my_command.undo();
     }
+
+    /**
+     * Check that moves of the same fleet are combined into one command, and that moves which cancel out leave none.
+     */
+    @Test
+    public void canCombineFleetMoves() {
+        CommandHistory history = new CommandHistory();
+        history.push(new NoCommand());
+        history.push(new MoveNorthCommand(my_grid));
+        history.push(new MoveEastCommand(my_grid));
+        assertEquals(2, history.size());
+
+        MoveFleetCommand combined = (MoveFleetCommand) history.peek();
+        assertEquals(-1, combined.getRowOffset());
+        assertEquals(1, combined.getColumnOffset());
+
+        history.push(new MoveSouthCommand(my_grid));
+        history.push(new MoveWestCommand(my_grid));
+        assertEquals(1, history.size());
+        assertTrue(history.peek() instanceof NoCommand);
+
+        // Moves of another grid's fleet are kept apart
+        history.push(new MoveNorthCommand(my_grid));
+        history.push(new MoveNorthCommand(new MediumGrid(2)));
+        assertEquals(3, history.size());
+    }
+
+    /**
+     * Check that a full history drops its oldest command.
+     */
+    @Test
+    public void canDropOldestCommand() {
+        CommandHistory history = new CommandHistory(2);
+        Command first = new NoCommand();
+        Command second = new NoCommand();
+        Command third = new NoCommand();
+
+        history.push(first);
+        history.push(second);
+        history.push(third);
+        assertEquals(2, history.size());
+        assertSame(third, history.pop());
+        assertSame(second, history.pop());
+        assertNull(history.pop());
+        assertTrue(history.isEmpty());
+
+        // The ring keeps working after it has wrapped around
+        for (int i = 0; i < 5; i++) history.push(new NoCommand());
+        history.push(first);
+        assertSame(first, history.peek());
+        history.clear();
+        assertEquals(0, history.size());
+    }
+
+    /**
+     * Check that a burst of fleet moves is undone and executed again as one move, whatever the grid storage.
+     */
+    @Test
+    public void canUndoFleetMovesTogether() {
+        for ( GridStorage storage : GridStorage.values() ) {
+            Player player = new Player(new MediumGamePartsFactory(storage));
+            player.playerPlaceShip(0, "13F", "13I");
+            player.playerPlaceShip(1, "17H", "19H");
+            player.playerPlaceShip(2, "12C", "13C");
+            player.playerPlaceShip(3, "16C", "16F");
+            int[] start = fleetCells(player);
+
+            player.playerMoveFleet(Direction.NORTH);
+            player.playerMoveFleet(Direction.WEST);
+            player.playerMoveFleet(Direction.WEST);
+            int[] moved = fleetCells(player);
+            assertEquals(5, player.getCommands().size());
+
+            Command burst = player.getCommands().peek();
+            player.playerUndo();
+            assertArrayEquals(start, fleetCells(player));
+            assertEquals(4, player.getCommands().size());
+
+            burst.execute();
+            assertArrayEquals(moved, fleetCells(player));
+            burst.undo();
+            assertArrayEquals(start, fleetCells(player));
+        }
+    }
+
+    /**
+     * Returns the packed coordinates of every cell of the given player's fleet, in order.
+     *
+     * @param player the player whose fleet is on their grid
+     * @return the sorted packed coordinates of the fleet
+     */
+    private static int[] fleetCells(Player player) {
+        int[] cells = new int[0];
+        for (int i = 0; i < player.getSizeOfFleet(); i++) {
+            for ( Coordinate coord : player.getGrid().getShipCoordinates(player.getShipAtIndex(i)) ) {
+                cells = Arrays.copyOf(cells, cells.length + 1);
+                cells[cells.length - 1] = coord.toPacked();
+            }
+        }
+        Arrays.sort(cells);
+        return cells;
+    }
 }
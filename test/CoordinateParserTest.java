@@ -0,0 +1,71 @@
+package edu.colorado.objectgrind;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the CoordinateParser class.
+ *
+ * @see CoordinateParser
+ * @see Coordinate
+ */
+public class CoordinateParserTest {
+
+    /**
+     * Checks that coordinates with single and multiple digit rows are parsed.
+     */
+    @Test
+    public void canParseCoordinate() {
+        assertEquals(Coordinate.pack(1, 0, 0), CoordinateParser.parse("11A"));
+        assertEquals(Coordinate.pack(0, 3, 2), CoordinateParser.parse("04C"));
+        assertEquals(Coordinate.pack(1, 12, 12), CoordinateParser.parse("113M"));
+    }
+
+    /**
+     * Checks that columns past Z are parsed with more than one letter.
+     */
+    @Test
+    public void canParseMultiLetterColumn() {
+        assertEquals(Coordinate.pack(1, 0, 25), CoordinateParser.parse("11Z"));
+        assertEquals(Coordinate.pack(1, 0, 26), CoordinateParser.parse("11AA"));
+        assertEquals(Coordinate.pack(0, 29, 27), CoordinateParser.parse("030AB"));
+        assertEquals(Coordinate.pack(1, 0, 52), CoordinateParser.parse("11BA"));
+        assertEquals("030AB", CoordinateParser.format(CoordinateParser.parse("030AB")));
+    }
+
+    /**
+     * Checks that text that is not a coordinate is detected.
+     */
+    @Test
+    public void canDetectInvalidCoordinate() {
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("Hello1234"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("1A"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("11"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("10A"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("11a"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("11A1"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse("1999999999A"));
+        assertEquals(CoordinateParser.INVALID, CoordinateParser.parse(""));
+    }
+
+    /**
+     * Checks that many coordinates can be parsed out of one piece of text.
+     */
+    @Test
+    public void canParseManyCoordinates() {
+        int[] coords = new int[8];
+        int count = CoordinateParser.parseAll(" 11A, 04C;\n113M  oops 11AA", coords);
+        assertEquals(5, count);
+        assertEquals(Coordinate.pack(1, 0, 0), coords[0]);
+        assertEquals(Coordinate.pack(0, 3, 2), coords[1]);
+        assertEquals(Coordinate.pack(1, 12, 12), coords[2]);
+        assertEquals(CoordinateParser.INVALID, coords[3]);
+        assertEquals(Coordinate.pack(1, 0, 26), coords[4]);
+
+        // Parsing stops once the array is full
+        assertEquals(2, CoordinateParser.parseAll("11A 12A 13A", new int[2]));
+    }
+}
@@ -0,0 +1,279 @@
+package edu.colorado.objectgrind;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.MediumGamePartsFactory;
+import edu.colorado.objectgrind.grid.FleetOffsetGrid;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.fleet.MediumFleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the FleetOffsetGrid class.
+ *
+ * @see FleetOffsetGrid
+ * @see Fleet
+ */
+public class FleetOffsetGridTest {
+
+    /**
+     * The grid that is used throughout the tests.
+     */
+    Grid my_grid;
+
+    /**
+     * The fleet that will be placed on the grid.
+     */
+    Fleet my_fleet;
+
+    /**
+     * Initializes the grid and fleet before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        my_grid = new FleetOffsetGrid(10, 2);
+        my_fleet = new MediumFleet();
+    }
+
+    /**
+     * Places the fleet such that it can move in every direction.
+     */
+    private void placeFleet() {
+        my_grid.placeShip(my_fleet.getShipByIndex(0), new Coordinate(1, 2, 5), new Coordinate(1, 2, 8));
+        my_grid.placeShip(my_fleet.getShipByIndex(1), new Coordinate(1, 6, 7), new Coordinate(1, 8, 7));
+        my_grid.placeShip(my_fleet.getShipByIndex(2), new Coordinate(1, 1, 2), new Coordinate(1, 2, 2));
+        my_grid.placeShip(my_fleet.getShipByIndex(3), new Coordinate(1, 5, 2), new Coordinate(1, 5, 5));
+    }
+
+    /**
+     * Checks that the grid has the correct dimensions, and that its locations start out HIDDEN and empty.
+     */
+    @Test
+    public void canCreateGridOfGivenSize() {
+        assertEquals(2, my_grid.getGrid().length);
+        assertEquals(10, my_grid.getGrid()[0].length);
+        assertEquals(10, my_grid.getGrid()[0][0].length);
+        assertEquals(LocationStatus.HIDDEN, my_grid.getLocationByIndex(1, 9, 9).getLocationStatus());
+        assertFalse(my_grid.getLocationByIndex(0, 0, 0).hasShip());
+    }
+
+    /**
+     * Checks that a ship can be placed and removed, and that the Locations of the grid see the change.
+     */
+    @Test
+    public void canPlaceAndRemoveShip() {
+        Ship to_place = my_fleet.getShipByIndex(3);
+        my_grid.placeShip(to_place, new Coordinate(0, 5, 2), new Coordinate(0, 5, 5));
+        assertEquals(to_place, my_grid.getLocationByIndex(0, 5, 2).getShip());
+        assertEquals(to_place, my_grid.getLocationByIndex(0, 4, 4).getShip());
+        assertFalse(my_grid.shipCanBePlaced(my_fleet.getShipByIndex(2), "05E", "06E"));
+
+        my_grid.removeShip(to_place);
+        assertNull(my_grid.getLocationByIndex(0, 5, 2).getShip());
+        assertFalse(my_grid.hasShipAt(0, 4, 4));
+        assertFalse(to_place.isShipPlaced());
+    }
+
+    /**
+     * Checks that statuses set through a Location are kept by the grid.
+     */
+    @Test
+    public void canSetStatusThroughLocation() {
+        my_grid.getLocationByIndex(1, 3, 3).setLocationStatus(LocationStatus.MISS);
+        assertEquals(LocationStatus.MISS, my_grid.getStatusAt(1, 3, 3));
+
+        my_grid.setStatusAt(1, 3, 3, LocationStatus.OCCUPIED);
+        assertEquals(LocationStatus.OCCUPIED, my_grid.getLocationByIndex(1, 3, 3).getLocationStatus());
+
+        my_grid.setStatusAt(1, 3, 3, LocationStatus.HIDDEN);
+        assertEquals(LocationStatus.HIDDEN, my_grid.getLocationByIndex(1, 3, 3).getLocationStatus());
+    }
+
+    /**
+     * Checks that a fleet is determined able to move in every direction, and unable when against the edges.
+     */
+    @Test
+    public void canDetermineIfFleetCanMove() {
+        placeFleet();
+        for ( Direction dir : Direction.values() ) {
+            assertTrue(my_grid.canMoveFleet(dir));
+        }
+
+        // Set up the ships such that the fleet CANNOT move in ANY direction
+        for (int i=0; i<4; i++) my_grid.removeShip(my_fleet.getShipByIndex(i));
+        my_grid.placeShip(my_fleet.getShipByIndex(0), new Coordinate(1, 1, 6), new Coordinate(1, 1, 9));
+        my_grid.placeShip(my_fleet.getShipByIndex(1), new Coordinate(1, 7, 7), new Coordinate(1, 9, 7));
+        my_grid.placeShip(my_fleet.getShipByIndex(2), new Coordinate(1, 0, 1), new Coordinate(1, 1, 1));
+        my_grid.placeShip(my_fleet.getShipByIndex(3), new Coordinate(0, 6, 0), new Coordinate(0, 6, 3));
+        for ( Direction dir : Direction.values() ) {
+            assertFalse(my_grid.canMoveFleet(dir));
+        }
+    }
+
+    /**
+     * Checks that, as on Grid, the fleet cannot move a ship onto a cell held by a different ship that moves along
+     * with it.
+     */
+    @Test
+    public void canRefuseMoveOntoMovingShip() {
+        Grid location_grid = new Grid(10, 2);
+        Fleet location_fleet = new MediumFleet();
+
+        // The minesweeper is just south of the battleship on both grids
+        for ( Grid grid : new Grid[] {my_grid, location_grid} ) {
+            Fleet fleet = (grid == my_grid) ? my_fleet : location_fleet;
+            grid.placeShip(fleet.getShipByIndex(0), new Coordinate(1, 2, 5), new Coordinate(1, 2, 8));
+            grid.placeShip(fleet.getShipByIndex(2), new Coordinate(1, 3, 5), new Coordinate(1, 3, 6));
+        }
+
+        assertFalse(my_grid.canMoveFleet(Direction.SOUTH));
+        assertFalse(my_grid.canMoveFleet(Direction.NORTH));
+        for ( Direction dir : Direction.values() ) {
+            assertEquals(location_grid.canMoveFleet(dir), my_grid.canMoveFleet(dir), dir.toString());
+        }
+
+        // Once the fleet has moved, the ships still cannot run into each other
+        my_grid.moveFleet(Direction.EAST);
+        location_grid.moveFleet(Direction.EAST);
+        for ( Direction dir : Direction.values() ) {
+            assertEquals(location_grid.canMoveFleet(dir), my_grid.canMoveFleet(dir), dir.toString());
+        }
+    }
+
+    /**
+     * Checks that the fleet moves, that HIT statuses move with it, and that sunk ships stay where they are.
+     */
+    @Test
+    public void canMoveFleetWithHitsAndSunkShips() {
+        placeFleet();
+        my_grid.setStatusAt(1, 2, 5, LocationStatus.HIT);
+        my_grid.setStatusAt(1, 0, 0, LocationStatus.MISS);
+
+        // Sink the minesweeper, so that it stays put
+        my_fleet.getShipByIndex(2).sink();
+
+        my_grid.moveFleet(Direction.EAST);
+        assertEquals(my_fleet.getShipByIndex(0), my_grid.getShipAt(1, 2, 6));
+        assertEquals(my_fleet.getShipByIndex(0), my_grid.getShipAt(1, 2, 9));
+        assertNull(my_grid.getShipAt(1, 2, 5));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 2, 6));
+        assertEquals(LocationStatus.HIDDEN, my_grid.getStatusAt(1, 2, 5));
+        assertEquals(LocationStatus.MISS, my_grid.getStatusAt(1, 0, 0));
+        assertEquals(my_fleet.getShipByIndex(2), my_grid.getShipAt(1, 1, 2));
+        assertEquals(my_fleet.getShipByIndex(3), my_grid.getShipAt(1, 4, 5));
+
+        // The battleship is now against the east edge
+        assertFalse(my_grid.canMoveFleet(Direction.EAST));
+
+        my_grid.moveFleet(Direction.WEST);
+        assertEquals(my_fleet.getShipByIndex(0), my_grid.getShipAt(1, 2, 5));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 2, 5));
+    }
+
+    /**
+     * Checks that a HIT that moves onto a MISS replaces it, as on any other grid, so the cell is HIDDEN once the ship
+     * moves off it again.
+     */
+    @Test
+    public void canMoveHitOverMiss() {
+        placeFleet();
+        my_grid.setStatusAt(1, 2, 6, LocationStatus.HIT);
+        my_grid.setStatusAt(1, 3, 6, LocationStatus.MISS);
+
+        my_grid.moveFleet(Direction.SOUTH);
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 3, 6));
+
+        my_grid.moveFleet(Direction.NORTH);
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 2, 6));
+        assertEquals(LocationStatus.HIDDEN, my_grid.getStatusAt(1, 3, 6));
+    }
+
+    /**
+     * Checks that every location of a ship can be marked HIT at once.
+     */
+    @Test
+    public void canSetShipStatus() {
+        placeFleet();
+        my_grid.setShipStatus(my_fleet.getShipByIndex(3), LocationStatus.HIT);
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 4, 4));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 5, 2));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 5, 5));
+        assertEquals(LocationStatus.HIDDEN, my_grid.getStatusAt(1, 5, 6));
+    }
+
+    /**
+     * Checks that a game part factory can be told to create grids that move the fleet by an offset.
+     */
+    @Test
+    public void canCreateFleetOffsetGridWithFactory() {
+        Player player = new Player(new MediumGamePartsFactory(GridStorage.FLEET_OFFSETS));
+        assertTrue(player.getGrid() instanceof FleetOffsetGrid);
+        assertEquals(10, player.getGrid().getSize());
+    }
+
+    /**
+     * Checks that the coordinates of a ship can be read from the grid, and follow the ship when the fleet moves.
+     */
+    @Test
+    public void canFindShipCoordinates() {
+        placeFleet();
+        Ship submarine = my_fleet.getShipByIndex(3);
+        assertEquals(5, my_grid.getShipCoordinates(submarine).length);
+        for ( Coordinate coord : my_grid.getShipCoordinates(submarine) ) {
+            assertEquals(submarine, my_grid.getShipAt(coord.getLayer(), coord.getRow(), coord.getColumn()));
+        }
+
+        my_grid.moveFleet(Direction.SOUTH);
+        for ( Coordinate coord : my_grid.getShipCoordinates(submarine) ) {
+            assertTrue(coord.getRow() == 5 || coord.getRow() == 6);
+        }
+
+        my_grid.removeShip(submarine);
+        assertEquals(0, my_grid.getShipCoordinates(submarine).length);
+    }
+
+    /**
+     * Checks that moving the fleet only moves the origins, and that MISS statuses and sunk ships stay pinned.
+     */
+    @Test
+    public void canMoveFleetByOriginOffset() {
+        placeFleet();
+        FleetOffsetGrid offset_grid = (FleetOffsetGrid) my_grid;
+        my_grid.setStatusAt(1, 6, 7, LocationStatus.HIT);
+        my_grid.setStatusAt(1, 9, 9, LocationStatus.MISS);
+
+        // Sink the minesweeper, then move away from it and back again
+        my_fleet.getShipByIndex(2).sink();
+        my_grid.moveFleet(Direction.SOUTH);
+        assertEquals(1, offset_grid.getOriginRow(1));
+        assertEquals(1, offset_grid.getOriginRow(0));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 7, 7));
+        assertEquals(LocationStatus.HIDDEN, my_grid.getStatusAt(1, 6, 7));
+        assertEquals(LocationStatus.MISS, my_grid.getStatusAt(1, 9, 9));
+        assertEquals(my_fleet.getShipByIndex(2), my_grid.getShipAt(1, 1, 2));
+        assertNull(my_grid.getShipAt(1, 3, 2));
+
+        // Undoing the move puts the origin back
+        my_grid.moveFleet(Direction.NORTH);
+        assertEquals(0, offset_grid.getOriginRow(1));
+        assertEquals(my_fleet.getShipByIndex(1), my_grid.getShipAt(1, 6, 7));
+        assertEquals(LocationStatus.HIT, my_grid.getStatusAt(1, 6, 7));
+
+        // The submarine cannot move onto the sunk minesweeper
+        my_grid.moveFleet(Direction.WEST);
+        my_grid.moveFleet(Direction.WEST);
+        assertEquals(my_fleet.getShipByIndex(3), my_grid.getShipAt(1, 5, 3));
+        assertTrue(my_grid.canMoveFleet(Direction.NORTH));
+        my_grid.moveFleet(Direction.NORTH);
+        assertEquals(my_fleet.getShipByIndex(3), my_grid.getShipAt(1, 3, 2));
+        assertFalse(my_grid.canMoveFleet(Direction.NORTH));
+    }
+}
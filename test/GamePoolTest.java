@@ -0,0 +1,125 @@
+package edu.colorado.objectgrind;
+
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.engine.GameRunner;
+import edu.colorado.objectgrind.engine.RandomBot;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.GamePool;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.captains_quarters.CaptainsQuarters;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.damage_weapons.Bomb;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the GamePool class, and the reset functions of the parts of a game.
+ *
+ * @see GamePool
+ * @see Game#reset()
+ */
+public class GamePoolTest {
+
+    /**
+     * Checks that a released game is handed out again, and that games are only created when none are idle.
+     */
+    @Test
+    public void canReuseGames() {
+        GamePool pool = new GamePool(GridStorage.LOCATIONS, 1);
+
+        Game first = pool.acquire(Size.MEDIUM);
+        Game second = pool.acquire(Size.MEDIUM);
+        assertNotSame(first, second);
+        assertEquals(Size.MEDIUM, first.getSize());
+        assertEquals(2, pool.getNumCreated());
+
+        // Only one idle game is kept
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getNumIdle(Size.MEDIUM));
+        assertEquals(0, pool.getNumIdle(Size.SMALL));
+
+        // Games are only handed out for their own size
+        assertNotSame(second, pool.acquire(Size.SMALL));
+        assertSame(first, pool.acquire(Size.MEDIUM));
+        assertEquals(3, pool.getNumCreated());
+    }
+
+    /**
+     * Checks that a game that was played is brought back to its starting state, whatever its grid storage.
+     */
+    @Test
+    public void canResetPlayedGame() {
+        for ( GridStorage storage : GridStorage.values() ) {
+            GamePool pool = new GamePool(storage);
+            GameRunner runner = new GameRunner(Size.LARGE, pool, 10000);
+
+            // Play a game, moving the fleet of player 1 as well
+            RandomBot bot_1 = new RandomBot(3);
+            RandomBot bot_2 = new RandomBot(4);
+            GameEngine engine = runner.setUpGame(bot_1, bot_2);
+            engine.getPlayer(0).playerMoveFleet(Direction.EAST);
+            runner.playGame(engine, bot_1, bot_2);
+            assertTrue(engine.isOver());
+            Game game = engine.getGame();
+            runner.finishGame(engine);
+
+            assertSame(game, pool.acquire(Size.LARGE));
+            for ( Player player : new Player[] {game.getPlayer_1(), game.getPlayer_2()} ) {
+                assertFalse(player.allShipsPlaced());
+                assertEquals(0, player.getNumShipsSunk());
+                assertTrue(player.getCommands().isEmpty());
+                assertEquals(1, player.getSizeOfArsenal());
+                assertTrue(player.getWeaponAtIndex(0) instanceof Bomb);
+                assertEquals(13 * 13, player.getWeaponAtIndex(0).getNumUses());
+
+                for (int i = 0; i < player.getSizeOfFleet(); i++) {
+                    Ship ship = player.getShipAtIndex(i);
+                    assertFalse(ship.hasSunk());
+                    assertEquals(CaptainsQuarters.NONE, ship.getCaptainsQuartersCell());
+                    assertEquals(0, player.getGrid().getShipCoordinates(ship).length);
+                }
+
+                Grid grid = player.getGrid();
+                for (int layer = 0; layer < grid.getNumLayers(); layer++) {
+                    for (int row = 0; row < grid.getSize(); row++) {
+                        for (int col = 0; col < grid.getSize(); col++) {
+                            assertFalse(grid.hasShipAt(layer, row, col));
+                            assertEquals(LocationStatus.HIDDEN, grid.getStatusAt(layer, row, col));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that a reset game plays the same as a new one.
+     */
+    @Test
+    public void canReplayResetGame() {
+        for ( GridStorage storage : GridStorage.values() ) {
+            GameRunner runner = new GameRunner(Size.MEDIUM, new GamePool(storage), 10000);
+            int[] winners = new int[2];
+            int[] turns = new int[2];
+
+            for (int i = 0; i < 2; i++) {
+                RandomBot bot_1 = new RandomBot(11);
+                RandomBot bot_2 = new RandomBot(12);
+                GameEngine engine = runner.setUpGame(bot_1, bot_2);
+                winners[i] = runner.playGame(engine, bot_1, bot_2);
+                turns[i] = engine.getNumTurns();
+                runner.finishGame(engine);
+            }
+
+            assertEquals(winners[0], winners[1]);
+            assertEquals(turns[0], turns[1]);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package edu.colorado.objectgrind;
+
+import edu.colorado.objectgrind.codec.StateCodec;
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.engine.RandomBot;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+import edu.colorado.objectgrind.game.factories.MediumGamePartsFactory;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the Zobrist hash that every kind of Grid keeps.
+ *
+ * @see Grid#getHash()
+ */
+public class GridHashTest {
+
+    /**
+     * Plays a large game between two RandomBots, moving the fleets every turn, until some ships have sunk.
+     *
+     * @param storage how the grids of the game store their cells
+     * @return the game, halfway through
+     */
+    private static Game play(GridStorage storage) {
+        Game game = new GameFactory().createGame(Size.LARGE, storage);
+        GameEngine engine = new GameEngine(game);
+        RandomBot bot_1 = new RandomBot(11);
+        RandomBot bot_2 = new RandomBot(12);
+        bot_1.placeFleet(engine.getPlayer(0));
+        bot_2.placeFleet(engine.getPlayer(1));
+
+        while (game.getPlayer_1().getNumShipsSunk() + game.getPlayer_2().getNumShipsSunk() < 4) {
+            RandomBot bot = engine.getCurrentPlayerIndex() == 0 ? bot_1 : bot_2;
+            engine.step(Direction.values()[engine.getNumTurns() % 4], bot.chooseWeapon(engine.getCurrentView()),
+                    bot.chooseShot(engine.getCurrentView()));
+        }
+        return game;
+    }
+
+    /**
+     * Checks that every change to a cell changes the hash, and that undoing the change brings the hash back.
+     */
+    @Test
+    public void canUpdateHashOnEveryChange() {
+        for ( GridStorage storage : GridStorage.values() ) {
+            Player player = new Player(new MediumGamePartsFactory(storage));
+            Grid grid = player.getGrid();
+            Fleet fleet = player.getFleet();
+            assertEquals(0L, grid.getHash(), storage.toString());
+
+            grid.placeShip(fleet.getShipByIndex(0), new Coordinate(1, 2, 5), new Coordinate(1, 2, 8));
+            long placed = grid.getHash();
+            assertNotEquals(0L, placed, storage.toString());
+
+            // A status, set and cleared again
+            grid.setStatusAt(1, 2, 6, LocationStatus.HIT);
+            long hit = grid.getHash();
+            assertNotEquals(placed, hit, storage.toString());
+            grid.setStatusAt(1, 2, 6, LocationStatus.HIDDEN);
+            assertEquals(placed, grid.getHash(), storage.toString());
+
+            // A move of the fleet, with a HIT on it, and back
+            grid.setStatusAt(1, 2, 6, LocationStatus.HIT);
+            grid.setStatusAt(1, 7, 7, LocationStatus.MISS);
+            long missed = grid.getHash();
+            grid.moveFleet(Direction.SOUTH);
+            assertNotEquals(missed, grid.getHash(), storage.toString());
+            grid.moveFleet(Direction.NORTH);
+            assertEquals(missed, grid.getHash(), storage.toString());
+
+            // Removing the ship leaves its HIT and the MISS behind, and a reset clears everything
+            grid.removeShip(fleet.getShipByIndex(0));
+            grid.setStatusAt(1, 2, 6, LocationStatus.HIDDEN);
+            grid.setStatusAt(1, 7, 7, LocationStatus.HIDDEN);
+            assertEquals(0L, grid.getHash(), storage.toString());
+            grid.placeShip(fleet.getShipByIndex(1), new Coordinate(1, 6, 7), new Coordinate(1, 8, 7));
+            grid.reset();
+            assertEquals(0L, grid.getHash(), storage.toString());
+        }
+    }
+
+    /**
+     * Checks that the same game, played on every kind of grid, ends up with the same hashes.
+     */
+    @Test
+    public void canHashSamePositionOnEveryGridStorage() {
+        Game expected = play(GridStorage.LOCATIONS);
+        long hash_1 = expected.getPlayer_1().getGrid().getHash();
+        long hash_2 = expected.getPlayer_2().getGrid().getHash();
+        assertNotEquals(hash_1, hash_2);
+
+        for ( GridStorage storage : GridStorage.values() ) {
+            Game game = play(storage);
+            assertEquals(hash_1, game.getPlayer_1().getGrid().getHash(), storage.toString());
+            assertEquals(hash_2, game.getPlayer_2().getGrid().getHash(), storage.toString());
+        }
+    }
+
+    /**
+     * Checks that a game decoded from its bytes, which sets its cells in another order than they were played, has
+     * the same hashes as the game it was encoded from.
+     */
+    @Test
+    public void canHashDecodedGameAsPlayed() {
+        Game game = play(GridStorage.FLEET_OFFSETS);
+        ByteBuffer buffer = ByteBuffer.allocate(StateCodec.getMaxLength(game));
+        StateCodec.encodeGame(game, buffer);
+        buffer.flip();
+
+        Game copy = new GameFactory().createGame(Size.LARGE, GridStorage.BITBOARDS);
+        copy.getPlayer_1().getGrid().setStatusAt(0, 0, 0, LocationStatus.MISS);
+        StateCodec.decodeGame(buffer, copy);
+        assertEquals(game.getPlayer_1().getGrid().getHash(), copy.getPlayer_1().getGrid().getHash());
+        assertEquals(game.getPlayer_2().getGrid().getHash(), copy.getPlayer_2().getGrid().getHash());
+    }
+}
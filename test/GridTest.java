@@ -369,4 +369,74 @@ public class GridTest {
             assertEquals(my_fleet.getShipByIndex(3), my_grid.getLocationByIndex(1, 5 + row_offset, 5 + col_offset).getShip());
         }
     }
+
+    /**
+     * Checks that the coordinates of a ship are kept up to date as it is placed, moved, and removed.
+     */
+    @Test
+    public void canFindShipCoordinates() {
+
+        // Place the Grid's Destroyer vertically
+        Ship to_place = my_fleet.getShipByIndex(1);
+        my_grid.placeShip(to_place, new Coordinate(1, 6, 7), new Coordinate(1, 8, 7));
+        assertEquals(3, my_grid.getShipCoordinates(to_place).length);
+        for ( Coordinate coord : my_grid.getShipCoordinates(to_place) ) {
+            assertEquals(7, coord.getColumn());
+            assertEquals(to_place, my_grid.getLocationByIndex(1, coord.getRow(), coord.getColumn()).getShip());
+        }
+
+        // Move the fleet, and the coordinates should move with it
+        my_grid.moveFleet(Direction.WEST);
+        assertEquals(3, my_grid.getShipCoordinates(to_place).length);
+        for ( Coordinate coord : my_grid.getShipCoordinates(to_place) ) assertEquals(6, coord.getColumn());
+
+        // Sinking the ship marks only its locations as HIT
+        my_grid.setShipStatus(to_place, LocationStatus.HIT);
+        assertEquals(LocationStatus.HIT, my_grid.getLocationByIndex(1, 7, 6).getLocationStatus());
+        assertEquals(LocationStatus.HIDDEN, my_grid.getLocationByIndex(1, 7, 7).getLocationStatus());
+
+        // Once removed, the ship is nowhere on the grid
+        my_grid.removeShip(to_place);
+        assertEquals(0, my_grid.getShipCoordinates(to_place).length);
+        assertFalse(my_grid.getLocationByIndex(1, 8, 6).hasShip());
+    }
+
+    /**
+     * Checks that a coordinate can be packed into an int and unpacked again.
+     */
+    @Test
+    public void canPackCoordinate() {
+        int packed = Coordinate.pack(1, 9, 12);
+        assertEquals(1, Coordinate.layerOf(packed));
+        assertEquals(9, Coordinate.rowOf(packed));
+        assertEquals(12, Coordinate.columnOf(packed));
+        assertEquals(packed, new Coordinate(1, 9, 12).toPacked());
+
+        Coordinate unpacked = Coordinate.unpack(packed);
+        assertEquals(1, unpacked.getLayer());
+        assertEquals(9, unpacked.getRow());
+        assertEquals(12, unpacked.getColumn());
+    }
+
+    /**
+     * Checks that ships can be checked and placed with packed coordinates.
+     */
+    @Test
+    public void canPlaceShipWithPackedCoordinates() {
+
+        // Try to place the Submarine diagonally, and then out of bounds
+        Ship submarine = my_fleet.getShipByIndex(3);
+        assertFalse(my_grid.shipCanBePlaced(submarine, Coordinate.pack(1, 5, 2), Coordinate.pack(1, 6, 5)));
+        assertFalse(my_grid.shipCanBePlaced(submarine, Coordinate.pack(1, 9, 7), Coordinate.pack(1, 9, 10)));
+
+        // Place the Submarine, with its topside above the body
+        assertTrue(my_grid.shipCanBePlaced(submarine, Coordinate.pack(1, 5, 2), Coordinate.pack(1, 5, 5)));
+        my_grid.placeShip(submarine, Coordinate.pack(1, 5, 2), Coordinate.pack(1, 5, 5));
+        assertEquals(submarine, my_grid.getShipAt(1, 5, 2));
+        assertEquals(submarine, my_grid.getShipAt(1, 4, 4));
+        assertTrue(submarine.isShipPlaced());
+
+        // Another ship cannot be placed over it
+        assertFalse(my_grid.shipCanBePlaced(my_fleet.getShipByIndex(1), Coordinate.pack(1, 3, 4), Coordinate.pack(1, 5, 4)));
+    }
 }
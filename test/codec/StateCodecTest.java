@@ -0,0 +1,141 @@
+package edu.colorado.objectgrind.codec;
+
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.engine.RandomBot;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the StateCodec class.
+ *
+ * @see StateCodec
+ */
+public class StateCodecTest {
+
+    /**
+     * The large game, halfway through, that is used throughout the tests.
+     */
+    private Game my_game;
+
+    /**
+     * Plays half of a large game between two RandomBots before each test, with sunk ships and upgraded weapons.
+     */
+    @BeforeEach
+    public void setUp() {
+        my_game = new GameFactory().createGame(Size.LARGE, GridStorage.FLEET_OFFSETS);
+        GameEngine engine = new GameEngine(my_game);
+        RandomBot bot_1 = new RandomBot(8);
+        RandomBot bot_2 = new RandomBot(9);
+        bot_1.placeFleet(engine.getPlayer(0));
+        bot_2.placeFleet(engine.getPlayer(1));
+
+        while (my_game.getPlayer_1().getNumShipsSunk() + my_game.getPlayer_2().getNumShipsSunk() < 3) {
+            RandomBot bot = engine.getCurrentPlayerIndex() == 0 ? bot_1 : bot_2;
+            engine.step(Direction.values()[engine.getNumTurns() % 4], bot.chooseWeapon(engine.getCurrentView()),
+                    bot.chooseShot(engine.getCurrentView()));
+        }
+    }
+
+    /**
+     * Encodes a game into a new array of the bytes it takes.
+     *
+     * @param game the game to encode
+     * @return the bytes of the game
+     */
+    private static byte[] encode(Game game) {
+        ByteBuffer buffer = ByteBuffer.allocate(StateCodec.getMaxLength(game));
+        StateCodec.encodeGame(game, buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Checks that a game decoded from its bytes, on any kind of grid, encodes to the same bytes, and that a large
+     * game fits in a few hundred bytes.
+     */
+    @Test
+    public void canDecodeOntoEveryGridStorage() {
+        byte[] state = encode(my_game);
+        assertTrue(state.length < 600, state.length + " bytes");
+        assertEquals(StateCodec.VERSION, state[0]);
+
+        for ( GridStorage storage : GridStorage.values() ) {
+            Game copy = new GameFactory().createGame(Size.LARGE, storage);
+            StateCodec.decodeGame(ByteBuffer.wrap(state), copy);
+            assertArrayEquals(state, encode(copy), storage.toString());
+
+            assertEquals(my_game.getPlayer_2().getNumShipsSunk(), copy.getPlayer_2().getNumShipsSunk());
+            assertEquals(my_game.getPlayer_1().getSizeOfArsenal(), copy.getPlayer_1().getSizeOfArsenal());
+            assertEquals(my_game.getPlayer_1().getWeaponAtIndex(0).getType(),
+                    copy.getPlayer_1().getWeaponAtIndex(0).getType());
+        }
+    }
+
+    /**
+     * Checks that a decoded game plays on the same as the game it was encoded from, including undoing the commands
+     * of its history.
+     */
+    @Test
+    public void canPlayOnFromDecodedGame() {
+        Player player = my_game.getPlayer_1();
+        player.playerMoveFleet(Direction.NORTH);
+        player.playerMoveFleet(Direction.WEST);
+
+        Game copy = new GameFactory().createGame(Size.LARGE, GridStorage.LOCATIONS);
+        StateCodec.decodeGame(ByteBuffer.wrap(encode(my_game)), copy);
+        assertEquals(player.getCommands().size(), copy.getPlayer_1().getCommands().size());
+
+        // Undo the moves, and take the same turn in both games
+        player.playerUndo();
+        copy.getPlayer_1().playerUndo();
+        assertArrayEquals(encode(my_game), encode(copy));
+
+        player.takeTurn(my_game.getPlayer_2(), 0, "33F");
+        copy.getPlayer_1().takeTurn(copy.getPlayer_2(), 0, "33F");
+        assertArrayEquals(encode(my_game), encode(copy));
+    }
+
+    /**
+     * Checks that placements that have not been undone can still be undone after decoding.
+     */
+    @Test
+    public void canUndoDecodedPlacements() {
+        Game game = new GameFactory().createGame(Size.MEDIUM);
+        new RandomBot(1).placeFleet(game.getPlayer_2());
+        int num_placed = game.getPlayer_2().getFleet().getNumShipsPlaced();
+
+        Game copy = new GameFactory().createGame(Size.MEDIUM, GridStorage.BITBOARDS);
+        StateCodec.decodeGame(ByteBuffer.wrap(encode(game)), copy);
+        assertTrue(copy.getPlayer_2().allShipsPlaced());
+
+        copy.getPlayer_2().playerUndo();
+        game.getPlayer_2().playerUndo();
+        assertEquals(num_placed - 1, copy.getPlayer_2().getFleet().getNumShipsPlaced());
+        assertArrayEquals(encode(game), encode(copy));
+    }
+
+    /**
+     * Checks that bytes of another version or of a game of another size are not decoded.
+     */
+    @Test
+    public void canRejectOtherVersionsAndSizes() {
+        byte[] state = encode(my_game);
+
+        Game medium = new GameFactory().createGame(Size.MEDIUM);
+        assertThrows(IllegalArgumentException.class, () -> StateCodec.decodeGame(ByteBuffer.wrap(state), medium));
+
+        state[0] = (byte) (StateCodec.VERSION + 1);
+        Game large = new GameFactory().createGame(Size.LARGE);
+        assertThrows(IllegalArgumentException.class, () -> StateCodec.decodeGame(ByteBuffer.wrap(state), large));
+    }
+}
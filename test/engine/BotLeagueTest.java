@@ -0,0 +1,103 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the BotLeague class.
+ *
+ * @see BotLeague
+ * @see LeagueReport
+ * @see HuntTargetBot
+ * @see LatencyHistogram
+ */
+public class BotLeagueTest {
+
+    /**
+     * Creates a league between a RandomBot, a HuntTargetBot, and a ProbabilityBot, on every size.
+     * <p>
+     *     The ProbabilityBot has no time budget, so that it makes the same moves however fast they are chosen.
+     * </p>
+     *
+     * @param games_per_pairing the number of games that every pair of bots plays on each size
+     * @return the new league
+     */
+    private static BotLeague createLeague(int games_per_pairing) {
+        BotLeague league = new BotLeague(GridStorage.LOCATIONS, games_per_pairing, 10000);
+        league.addBot("random", RandomBot::new);
+        league.addBot("hunt-target", HuntTargetBot::new);
+        league.addBot("probability", seed -> new ProbabilityBot(seed, Long.MAX_VALUE));
+        return league;
+    }
+
+    /**
+     * Checks that every bot plays every other bot on every size, that the wins and losses add up, and that every
+     * move was timed.
+     */
+    @Test
+    public void canPlayEveryPairing() {
+        LeagueReport report = createLeague(10).run(1);
+        assertEquals(3, report.getNumBots());
+        assertArrayEquals(Size.values(), report.getSizes());
+
+        for ( Size size : Size.values() ) {
+            int total_wins = 0;
+            int total_losses = 0;
+            for (int bot = 0; bot < report.getNumBots(); bot++) {
+                assertEquals(20, report.getNumGames(size, bot));
+                total_wins += report.getWins(size, bot);
+                total_losses += report.getLosses(size, bot);
+
+                LatencyHistogram moves = report.getLatencies(size, bot);
+                assertTrue(moves.getCount() > 0);
+                assertTrue(moves.getPercentile(50) <= moves.getPercentile(99));
+                assertTrue(moves.getPercentile(99) <= moves.getMax());
+            }
+            assertEquals(total_wins, total_losses);
+        }
+    }
+
+    /**
+     * Checks that the same seed plays the same league, and that the smarter bots beat the RandomBot.
+     */
+    @Test
+    public void canRankBotsFromSeed() {
+        LeagueReport first = createLeague(20).run(7);
+        LeagueReport again = createLeague(20).run(7);
+
+        for ( Size size : Size.values() ) {
+            for (int bot = 0; bot < first.getNumBots(); bot++) {
+                assertEquals(first.getWins(size, bot), again.getWins(size, bot));
+                assertEquals(first.getMeanTurnsToWin(size, bot), again.getMeanTurnsToWin(size, bot));
+            }
+            assertTrue(first.getWins(size, 1, 0) >= 16);
+            assertTrue(first.getWins(size, 2, 0) >= 16);
+            assertTrue(first.getWinRate(size, 2) > first.getWinRate(size, 0));
+        }
+    }
+
+    /**
+     * Checks that the percentiles of a latency histogram are within its resolution.
+     */
+    @Test
+    public void canReadLatencyPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        for (long nanos = 1; nanos <= 10000; nanos++) histogram.record(nanos);
+        assertEquals(10000, histogram.getCount());
+        assertEquals(10000, histogram.getMax());
+        assertEquals(5000, histogram.getPercentile(50), 5000 / 32.0);
+        assertEquals(9900, histogram.getPercentile(99), 9900 / 32.0);
+        assertEquals(1, histogram.getPercentile(0));
+
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(1_000_000_000L);
+        histogram.merge(other);
+        assertEquals(10001, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getPercentile(100), 1_000_000_000L / 32.0);
+    }
+}
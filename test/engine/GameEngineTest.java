@@ -0,0 +1,120 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.AttackOutcome;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the GameEngine class.
+ *
+ * @see GameEngine
+ * @see ScriptedBot
+ */
+public class GameEngineTest {
+
+    /**
+     * The placements that both players use: every ship on the surface, in rows 2, 4, 6, and 8.
+     */
+    private static final String PLACEMENTS = "12A 12D, 14A 14C, 16A 16B, 18A 18D";
+
+    /**
+     * The engine of the game that is used throughout the tests.
+     */
+    private GameEngine my_engine;
+
+    /**
+     * Initializes a medium game with both fleets placed before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        my_engine = new GameEngine(new GameFactory().createGame(Size.MEDIUM));
+        ScriptedBot placer = new ScriptedBot(PLACEMENTS, "11A", 0);
+        placer.placeFleet(my_engine.getPlayer(0));
+        placer.placeFleet(my_engine.getPlayer(1));
+    }
+
+    /**
+     * Checks that turns alternate between the players, and that a turn that cannot be taken does not count.
+     */
+    @Test
+    public void canAlternateTurns() {
+        assertTrue(my_engine.isReady());
+        assertEquals(0, my_engine.getCurrentPlayerIndex());
+
+        List<AttackResult> results = my_engine.step(0, Coordinate.pack(1, 1, 0));
+        assertEquals(AttackOutcome.HIT, results.get(0).getOutcome());
+        assertEquals(1, my_engine.getCurrentPlayerIndex());
+        assertEquals(1, my_engine.getNumTurns());
+
+        // A weapon that does not exist does not take the turn
+        assertTrue(my_engine.step(5, Coordinate.pack(1, 1, 0)).isEmpty());
+        assertEquals(1, my_engine.getCurrentPlayerIndex());
+
+        // Moving the fleet is part of the turn
+        my_engine.step(Direction.EAST, 0, Coordinate.pack(1, 9, 9));
+        assertEquals(my_engine.getPlayer(1).getShipAtIndex(0), my_engine.getPlayer(1).getGrid().getShipAt(1, 1, 4));
+        assertEquals(0, my_engine.getCurrentPlayerIndex());
+    }
+
+    /**
+     * Checks that a scripted game ends when a player surrenders, and that no turns are taken after.
+     */
+    @Test
+    public void canPlayGameToSurrender() {
+        Bot winner = new ScriptedBot(PLACEMENTS, "12C 12C 14B 14B 16A 18D", 0);
+        Bot loser = new ScriptedBot(PLACEMENTS, "110J", 0);
+
+        GameRunner runner = new GameRunner(Size.MEDIUM, GridStorage.LOCATIONS);
+        assertEquals(0, runner.playGame(my_engine, winner, loser));
+        assertTrue(my_engine.isOver());
+        assertEquals(11, my_engine.getNumTurns());
+        assertTrue(my_engine.getPlayer(1).surrender());
+
+        assertTrue(my_engine.step(0, Coordinate.pack(1, 0, 0)).isEmpty());
+        assertEquals(11, my_engine.getNumTurns());
+    }
+
+    /**
+     * Checks that a player without weapons has their turn skipped, without moving their fleet, and that moves made
+     * before the skip can no longer be undone after it.
+     */
+    @Test
+    public void canSkipTurnWithoutWeapons() {
+        my_engine.getPlayer(1).getArsenal().restoreSlots(false, 0);
+        my_engine.step(0, Coordinate.pack(1, 9, 9));
+
+        // The turn is skipped, and the fleet stays where it is
+        assertTrue(my_engine.step(Direction.EAST, 0, Coordinate.pack(1, 9, 9)).isEmpty());
+        assertEquals(my_engine.getPlayer(1).getShipAtIndex(0), my_engine.getPlayer(1).getGrid().getShipAt(1, 1, 0));
+        assertEquals(0, my_engine.getCurrentPlayerIndex());
+        assertEquals(2, my_engine.getNumTurns());
+
+        // A move made during a skipped turn cannot be undone once the opponent has played
+        my_engine.step(0, Coordinate.pack(1, 9, 9));
+        my_engine.getPlayer(1).playerMoveFleet(Direction.EAST);
+        my_engine.step(0, Coordinate.pack(1, 9, 9));
+        assertTrue(my_engine.getPlayer(1).getCommands().isEmpty());
+        assertEquals(0, my_engine.getCurrentPlayerIndex());
+    }
+
+    /**
+     * Checks that no turns can be taken until both fleets are placed.
+     */
+    @Test
+    public void cannotStepBeforePlacement() {
+        GameEngine engine = new GameEngine(new GameFactory().createGame(Size.SMALL));
+        assertFalse(engine.isReady());
+        assertTrue(engine.step(0, Coordinate.pack(1, 0, 0)).isEmpty());
+        assertEquals(0, engine.getNumTurns());
+    }
+}
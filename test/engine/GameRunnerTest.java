@@ -0,0 +1,45 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the GameRunner class.
+ *
+ * @see GameRunner
+ * @see RandomBot
+ * @see RunReport
+ */
+public class GameRunnerTest {
+
+    /**
+     * Checks that every game of a batch is played to a winner or a draw, and that the report adds up.
+     */
+    @Test
+    public void canRunGames() {
+        for ( Size size : Size.values() ) {
+            RunReport report = new GameRunner(size, GridStorage.LOCATIONS).run(20, new RandomBot(1), new RandomBot(2));
+            assertEquals(20, report.getNumGames());
+            assertEquals(20, report.getWins(0) + report.getWins(1) + report.getNumDraws());
+            assertTrue(report.getMeanTurns() > 0);
+            assertTrue(report.getGamesPerSecond() > 0);
+        }
+    }
+
+    /**
+     * Checks that the same seeds play the same games, whatever the grid storage.
+     */
+    @Test
+    public void canRepeatGamesFromSeed() {
+        RunReport first = new GameRunner(Size.MEDIUM, GridStorage.LOCATIONS).run(50, new RandomBot(7), new RandomBot(8));
+        for ( GridStorage storage : GridStorage.values() ) {
+            RunReport again = new GameRunner(Size.MEDIUM, storage).run(50, new RandomBot(7), new RandomBot(8));
+            assertEquals(first.getWins(0), again.getWins(0));
+            assertEquals(first.getWins(1), again.getWins(1));
+            assertEquals(first.getTotalTurns(), again.getTotalTurns());
+        }
+    }
+}
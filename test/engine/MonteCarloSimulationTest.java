@@ -0,0 +1,52 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the MonteCarloSimulation and SimulationStats classes.
+ *
+ * @see MonteCarloSimulation
+ * @see SimulationStats
+ */
+public class MonteCarloSimulationTest {
+
+    /**
+     * Checks that the statistics of a simulation add up.
+     */
+    @Test
+    public void canMergeStatistics() {
+        MonteCarloSimulation simulation = new MonteCarloSimulation(Size.SMALL, GridStorage.LOCATIONS, 2);
+        SimulationStats stats = simulation.run(600, 3);
+        simulation.shutdown();
+
+        assertEquals(600, stats.getNumGames());
+        assertEquals(600, stats.getWins(0) + stats.getWins(1) + stats.getNumDraws());
+        assertTrue(stats.getWeaponUses("Bomb") > 0);
+        assertTrue(stats.getHitRate() > 0 && stats.getHitRate() < 1);
+        if ( stats.getWins(0) + stats.getWins(1) > 0 ) {
+            assertTrue(stats.getMinTurnsToWin() <= stats.getMeanTurnsToWin());
+            assertTrue(stats.getMeanTurnsToWin() <= stats.getMaxTurnsToWin());
+        }
+    }
+
+    /**
+     * Checks that the same master seed gives the same statistics, whatever the number of threads.
+     */
+    @Test
+    public void canReproduceFromMasterSeed() {
+        MonteCarloSimulation one_thread = new MonteCarloSimulation(Size.MEDIUM, GridStorage.LOCATIONS, 1);
+        MonteCarloSimulation three_threads = new MonteCarloSimulation(Size.MEDIUM, GridStorage.BITBOARDS, 3);
+        SimulationStats first = one_thread.run(700, 11);
+        SimulationStats second = three_threads.run(700, 11);
+        one_thread.shutdown();
+        three_threads.shutdown();
+
+        assertEquals(first.toString(), second.toString());
+        assertNotEquals(MonteCarloSimulation.seedFor(11, 0, 0), MonteCarloSimulation.seedFor(11, 0, 1));
+        assertNotEquals(MonteCarloSimulation.seedFor(11, 0, 1), MonteCarloSimulation.seedFor(11, 1, 0));
+    }
+}
@@ -0,0 +1,80 @@
+package edu.colorado.objectgrind.engine;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.LocationStatus;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.weapons.Weapon;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the ProbabilityBot class.
+ *
+ * @see ProbabilityBot
+ */
+public class ProbabilityBotTest {
+
+    /**
+     * Checks that the bot beats a RandomBot, and in fewer turns than two RandomBots take.
+     */
+    @Test
+    public void canBeatRandomBot() {
+        GameRunner runner = new GameRunner(Size.MEDIUM, GridStorage.LOCATIONS);
+        RunReport against_random = runner.run(20, new RandomBot(1), new ProbabilityBot(2));
+        RunReport random_only = runner.run(20, new RandomBot(1), new RandomBot(2));
+
+        assertTrue(against_random.getWins(1) >= 18);
+        assertTrue(against_random.getMeanTurns() < random_only.getMeanTurns());
+    }
+
+    /**
+     * Checks that the heatmap that is updated after every attack is the same as one worked out from scratch, and that
+     * the bot never fires a single surface shot at a cell that it already hit.
+     */
+    @Test
+    public void canUpdateHeatmapIncrementally() {
+        GameRunner runner = new GameRunner(Size.LARGE, GridStorage.LOCATIONS);
+        ProbabilityBot bot = new ProbabilityBot(3);
+        RandomBot opponent = new RandomBot(4);
+        GameEngine engine = runner.setUpGame(bot, opponent);
+
+        for (int turn = 0; turn < 200 && !engine.isOver(); turn++) {
+            if ( engine.getCurrentPlayerIndex() == 0 ) {
+                int weapon = bot.chooseWeapon(engine.getCurrentView());
+                int shot = bot.chooseShot(engine.getCurrentView());
+                Grid attacked = engine.getOpponent().getGrid();
+                int row = Coordinate.rowOf(shot);
+                int col = Coordinate.columnOf(shot);
+                Weapon used = engine.getCurrentPlayer().getWeaponAtIndex(weapon);
+                if ( !used.attacksLayer(0) && used.getStamp(attacked.getSize()).getNumCells(row, col) == 1 ) {
+                    assertNotEquals(LocationStatus.HIT, attacked.getStatusAt(1, row, col));
+                }
+                bot.observeResults(engine.step(weapon, shot));
+            }
+            else {
+                engine.step(opponent.chooseWeapon(engine.getCurrentView()), opponent.chooseShot(engine.getCurrentView()));
+            }
+        }
+
+        double[] fresh = bot.recomputeHeat();
+        for (int bit = 0; bit < fresh.length; bit++) {
+            assertEquals(fresh[bit], bot.getHeat(bit), 1e-6);
+        }
+    }
+
+    /**
+     * Checks that the same seeds play the same games, with no time budget so that the games do not depend on
+     * how fast the moves are chosen.
+     */
+    @Test
+    public void canRepeatGamesFromSeed() {
+        GameRunner runner = new GameRunner(Size.SMALL, GridStorage.BITBOARDS);
+        RunReport first = runner.run(10, new ProbabilityBot(5, Long.MAX_VALUE), new ProbabilityBot(6, Long.MAX_VALUE));
+        RunReport again = runner.run(10, new ProbabilityBot(5, Long.MAX_VALUE), new ProbabilityBot(6, Long.MAX_VALUE));
+        assertEquals(first.getWins(0), again.getWins(0));
+        assertEquals(first.getTotalTurns(), again.getTotalTurns());
+    }
+}
@@ -0,0 +1,69 @@
+package edu.colorado.objectgrind.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the TranspositionTable class.
+ *
+ * @see TranspositionTable
+ */
+public class TranspositionTableTest {
+
+    /**
+     * Checks that stored values are found again by their key and depth, and that lookups are counted.
+     */
+    @Test
+    public void canStoreAndFindValues() {
+        TranspositionTable<String> table = new TranspositionTable<>(100);
+        assertEquals(128, table.getCapacity());
+
+        table.put(0L, "empty");
+        table.put(42L, "shallow", 1);
+        table.put(42L, "deep", 3);
+        assertEquals(2, table.getSize());
+
+        assertEquals("empty", table.get(0L));
+        assertEquals("deep", table.get(42L, 3));
+        assertNull(table.get(42L, 4));
+        assertNull(table.get(7L));
+        assertEquals(3, table.getDepth(42L));
+        assertEquals(-1, table.getDepth(7L));
+        assertEquals(2, table.getNumHits());
+        assertEquals(2, table.getNumMisses());
+
+        assertThrows(IllegalArgumentException.class, () -> table.put(1L, null));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable<String>(0));
+
+        table.clear();
+        assertEquals(0, table.getSize());
+        assertNull(table.get(0L));
+    }
+
+    /**
+     * Checks that a full bucket replaces entries of earlier generations first, and then the entry with less depth.
+     */
+    @Test
+    public void canReplaceByGenerationAndDepth() {
+        TranspositionTable<Integer> table = new TranspositionTable<>(2);
+
+        // Both entries of the only bucket are full, so the shallower one makes way
+        table.put(1L, 1, 5);
+        table.put(2L, 2, 2);
+        table.put(3L, 3, 4);
+        assertEquals(1, table.get(1L).intValue());
+        assertNull(table.get(2L));
+        assertEquals(3, table.get(3L).intValue());
+        assertEquals(1, table.getNumReplacements());
+
+        // In a new generation, an old entry makes way even if it is deeper
+        table.nextGeneration();
+        table.put(3L, 3, 4);
+        table.put(4L, 4, 0);
+        assertNull(table.get(1L));
+        assertEquals(3, table.get(3L).intValue());
+        assertEquals(4, table.get(4L).intValue());
+        assertEquals(2, table.getSize());
+    }
+}
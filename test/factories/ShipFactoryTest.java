@@ -1,5 +1,6 @@
 package edu.colorado.objectgrind.factories;
 
+import edu.colorado.objectgrind.enums.ShipType;
 import edu.colorado.objectgrind.ships.ShipFactory;
 import edu.colorado.objectgrind.ships.ship_types.*;
 import org.junit.jupiter.api.Test;
@@ -33,4 +34,18 @@ public class ShipFactoryTest {
         assertTrue( test_ship instanceof Submarine);
     }
 
+    /**
+     * Checks that a ship created from its type is the same kind as one created from its name.
+     */
+    @Test
+    public void canCreateShipFromType() {
+        ShipFactory factory = new ShipFactory();
+
+        for ( ShipType type : ShipType.values() ) {
+            assertSame(type, ShipType.fromName(type.getName()));
+            assertSame(factory.createShip(type.getName()).getClass(), factory.createShip(type).getClass());
+        }
+
+        assertNull(factory.createShip("Carrier"));
+    }
 }
@@ -1,6 +1,7 @@
 package edu.colorado.objectgrind.factories;
 
 import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.enums.WeaponType;
 import edu.colorado.objectgrind.weapons.factories.*;
 import edu.colorado.objectgrind.weapons.Weapon;
 import edu.colorado.objectgrind.weapons.damage_weapons.Bomb;
@@ -16,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * This class defines the tests for the WeaponFactory class.
  *
  * @see WeaponFactory
+ * @see WeaponType
  * @see Weapon
  */
 public class WeaponFactoryTest {
@@ -81,4 +83,29 @@ public class WeaponFactoryTest {
             }
         }
     }
+
+    /**
+     * Checks that creating a weapon from its type gives the same weapon as creating it from its name, and that the
+     * sinks needed by each type match the weapon that it creates.
+     */
+    @Test
+    public void canCreateWeaponFromType() {
+        WeaponFactory[] factories = new WeaponFactory[] {
+                new SmallWeaponFactory(), new MediumWeaponFactory(), new LargeWeaponFactory() };
+
+        for ( WeaponFactory factory : factories ) {
+            for ( WeaponType type : WeaponType.values() ) {
+                Weapon by_type = factory.createWeapon(type);
+                Weapon by_name = factory.createWeapon(type.getName());
+
+                assertSame(type, WeaponType.fromName(type.getName()));
+                assertSame(type, by_type.getType());
+                assertSame(by_name.getClass(), by_type.getClass());
+                assertEquals(by_name.getNumUses(), by_type.getNumUses());
+                assertEquals(by_type.getSinksNeeded(), type.getSinksNeeded(factory.getSize()));
+            }
+        }
+
+        assertNull(new MediumWeaponFactory().createWeapon("Torpedo"));
+    }
 }
@@ -0,0 +1,227 @@
+package edu.colorado.objectgrind.log;
+
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.engine.RandomBot;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GameEventType;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.PlayerListener;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the EventLog class.
+ *
+ * @see EventLog
+ * @see GameLogWriter
+ * @see GameEvent
+ */
+public class EventLogTest {
+
+    /**
+     * Plays a game between two RandomBots while writing its events, moving player 1's fleet and undoing the move.
+     *
+     * @param writer the writer of the game's events
+     * @param seed the seed of the bots
+     * @return the engine of the finished game
+     */
+    static GameEngine playLoggedGame(GameLogWriter writer, long seed) {
+        Game game = new GameFactory().createGame(Size.SMALL);
+        writer.attach(game);
+
+        GameEngine engine = new GameEngine(game);
+        RandomBot bot_1 = new RandomBot(seed);
+        RandomBot bot_2 = new RandomBot(seed + 1);
+        bot_1.placeFleet(engine.getPlayer(0));
+        bot_2.placeFleet(engine.getPlayer(1));
+
+        for (int attempt = 0; attempt < 10000 && !engine.isOver(); attempt++) {
+            if ( attempt == 0 ) {
+                Player player = engine.getPlayer(0);
+                int num_commands = player.getCommands().size();
+                for ( Direction direction : Direction.values() ) {
+                    player.playerMoveFleet(direction);
+                    if ( player.getCommands().size() > num_commands ) break;
+                }
+                if ( player.getCommands().size() > num_commands ) player.playerUndo();
+            }
+            RandomBot bot = engine.getCurrentPlayerIndex() == 0 ? bot_1 : bot_2;
+            bot.observeResults(engine.step(bot.chooseWeapon(engine.getCurrentView()),
+                    bot.chooseShot(engine.getCurrentView())));
+        }
+
+        writer.finish(engine.getWinner());
+        return engine;
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if a file cannot be deleted
+     */
+    static void delete(Path directory) throws IOException {
+        try ( Stream<Path> files = Files.walk(directory) ) {
+            for ( Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator ) Files.delete(file);
+        }
+    }
+
+    /**
+     * Checks that every action of a game is read back from the log, in order, with its values.
+     */
+    @Test
+    public void canReadBackGame() throws IOException {
+        Path directory = Files.createTempDirectory("event-log");
+        try {
+            GameEngine engine;
+            try ( EventLog log = new EventLog(directory, 1 << 16, 0) ) {
+                engine = playLoggedGame(log.openGame(42), 5);
+                assertEquals(PlayerListener.NONE, engine.getPlayer(0).getPlayerListener());
+            }
+
+            List<GameEvent> events = EventLog.readGame(directory, 42);
+            assertEquals(GameEventType.GAME_STARTED, events.get(0).getType());
+            assertEquals(Size.SMALL, events.get(0).getSize());
+            assertEquals(GameEventType.GAME_ENDED, events.get(events.size() - 1).getType());
+            assertEquals(engine.getWinner(), events.get(events.size() - 1).getWinner());
+
+            Map<GameEventType, Integer> counts = new HashMap<>();
+            for (int i = 0; i < events.size(); i++) {
+                GameEvent event = events.get(i);
+                assertEquals(i, event.getSequence());
+                assertEquals(42, event.getGameId());
+                counts.merge(event.getType(), 1, Integer::sum);
+            }
+
+            int num_ships = engine.getPlayer(0).getSizeOfFleet() + engine.getPlayer(1).getSizeOfFleet();
+            assertEquals(num_ships, counts.get(GameEventType.SHIP_PLACED).intValue());
+            assertEquals(counts.getOrDefault(GameEventType.FLEET_MOVED, 0), counts.getOrDefault(GameEventType.UNDONE, 0));
+            assertTrue(counts.get(GameEventType.TURN_TAKEN) > 0);
+
+            // The first turn is player 1's, with a weapon they had
+            for ( GameEvent event : events ) {
+                if ( event.getType() != GameEventType.TURN_TAKEN ) continue;
+                assertEquals(0, event.getPlayer());
+                assertEquals(0, event.getWeaponIndex());
+                assertNotNull(event.getWeaponType());
+                break;
+            }
+        }
+        finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Checks that records torn by a crash are skipped, whether or not their length was written, and that the records
+     * of other games after them are still read.
+     */
+    @Test
+    public void canSkipTornRecords() throws IOException {
+        Path directory = Files.createTempDirectory("event-log");
+        try {
+            int num_events_1;
+            int num_events_2;
+            try ( EventLog log = new EventLog(directory, 1 << 16, 0) ) {
+                GameLogWriter writer_1 = log.openGame(1);
+                playLoggedGame(writer_1, 3);
+                num_events_1 = writer_1.getNumEvents();
+                GameLogWriter writer_2 = log.openGame(2);
+                playLoggedGame(writer_2, 4);
+                num_events_2 = writer_2.getNumEvents();
+            }
+
+            // Tear the first two records of game 1: the first lost its length, and the second a byte of its payload
+            try ( FileChannel channel = FileChannel.open(directory.resolve("segment-000000.log"),
+                    StandardOpenOption.READ, StandardOpenOption.WRITE) ) {
+                ByteBuffer header = ByteBuffer.allocate(2);
+                channel.read(header, 0);
+                int second = header.getShort(0);
+                channel.write(ByteBuffer.allocate(2), 0);
+                channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), second + GameEvent.HEADER_LENGTH);
+            }
+
+            List<GameEvent> events_1 = EventLog.readGame(directory, 1);
+            assertEquals(num_events_1 - 2, events_1.size());
+            assertEquals(2, events_1.get(0).getSequence());
+            assertEquals(num_events_2, EventLog.readGame(directory, 2).size());
+        }
+        finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Checks that games written from many threads at once, over many segments, are all read back complete.
+     */
+    @Test
+    public void canWriteGamesConcurrently() throws Exception {
+        Path directory = Files.createTempDirectory("event-log");
+        int num_threads = 4;
+        int games_per_thread = 25;
+
+        try {
+            int[][] num_events = new int[num_threads][games_per_thread];
+            try ( EventLog log = new EventLog(directory, 1 << 12, 1) ) {
+                Thread[] threads = new Thread[num_threads];
+                for (int t = 0; t < num_threads; t++) {
+                    int thread = t;
+                    threads[t] = new Thread(() -> {
+                        for (int g = 0; g < games_per_thread; g++) {
+                            GameLogWriter writer = log.openGame(thread * 1000L + g);
+                            playLoggedGame(writer, g);
+                            num_events[thread][g] = writer.getNumEvents();
+                        }
+                    });
+                    threads[t].start();
+                }
+                for ( Thread thread : threads ) thread.join();
+            }
+
+            // Every game's events are there, numbered without gaps
+            Map<Long, Integer> next_sequence = new HashMap<>();
+            EventLog.read(directory, event -> {
+                int expected = next_sequence.getOrDefault(event.getGameId(), 0);
+                assertEquals(expected, event.getSequence());
+                next_sequence.put(event.getGameId(), expected + 1);
+            });
+
+            assertEquals(num_threads * games_per_thread, next_sequence.size());
+            for (int t = 0; t < num_threads; t++) {
+                for (int g = 0; g < games_per_thread; g++) {
+                    assertEquals(num_events[t][g], next_sequence.get(t * 1000L + g).intValue());
+                }
+            }
+
+            // A log opened on the same directory starts after the existing segments
+            long num_segments;
+            try ( Stream<Path> files = Files.list(directory) ) {
+                num_segments = files.count();
+            }
+            assertTrue(num_segments > 1);
+            try ( EventLog log = new EventLog(directory, 1 << 12, 0) ) {
+                playLoggedGame(log.openGame(7), 1);
+            }
+            assertEquals(GameEventType.GAME_STARTED, EventLog.readGame(directory, 7).get(0).getType());
+        }
+        finally {
+            delete(directory);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package edu.colorado.objectgrind.replay;
+
+import edu.colorado.objectgrind.engine.GameEngine;
+import edu.colorado.objectgrind.engine.RandomBot;
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.game.Game;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.GameFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the ReplayEngine class.
+ *
+ * @see ReplayEngine
+ * @see GameRecording
+ * @see GameSnapshot
+ */
+public class ReplayEngineTest {
+
+    /**
+     * The recording of the game that is played before each test.
+     */
+    private GameRecording my_recording;
+
+    /**
+     * The snapshot of the game right before each of its turns, and at its end.
+     */
+    private List<GameSnapshot> my_snapshots;
+
+    /**
+     * Plays and records a large game on grids that store their cells as Locations before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        play(Size.LARGE, GridStorage.LOCATIONS, 3);
+    }
+
+    /**
+     * Plays and records a game between two RandomBots, in which the players also move their fleets and undo some of
+     * those moves.
+     *
+     * @param size the size of the game
+     * @param storage how the grids of the game store their cells
+     * @param seed the seed of the first bot; the second bot and the moves use the seeds after it
+     */
+    private void play(Size size, GridStorage storage, long seed) {
+        Game game = new GameFactory().createGame(size, storage);
+        my_recording = new GameRecording(size);
+        my_recording.attach(game);
+
+        GameEngine engine = new GameEngine(game);
+        RandomBot bot_1 = new RandomBot(seed);
+        RandomBot bot_2 = new RandomBot(seed + 1);
+        bot_1.placeFleet(engine.getPlayer(0));
+        bot_2.placeFleet(engine.getPlayer(1));
+
+        // Keep the snapshot taken last before each turn, which is what seeking to that turn rebuilds
+        my_snapshots = new ArrayList<>();
+        Random random = new Random(seed + 2);
+        for (int attempt = 0; attempt < 10000 && !engine.isOver(); attempt++) {
+            Player player = engine.getCurrentPlayer();
+            for (int i = random.nextInt(3); i > 0; i--) player.playerMoveFleet(Direction.values()[random.nextInt(4)]);
+
+            // Until both players have taken a turn, an undo would take back a placement rather than a move
+            if ( (random.nextInt(4) == 0) & (engine.getNumTurns() >= 2) ) player.playerUndo();
+
+            keepSnapshot(GameSnapshot.capture(game));
+
+            RandomBot bot = engine.getCurrentPlayerIndex() == 0 ? bot_1 : bot_2;
+            bot.observeResults(engine.step(bot.chooseWeapon(engine.getCurrentView()),
+                    bot.chooseShot(engine.getCurrentView())));
+        }
+        assertTrue(engine.isOver());
+
+        my_recording.detach();
+        keepSnapshot(GameSnapshot.capture(game));
+    }
+
+    /**
+     * Keeps a snapshot as the one of the turn that is about to be taken, in place of any taken before it.
+     *
+     * @param snapshot the snapshot of the game
+     */
+    private void keepSnapshot(GameSnapshot snapshot) {
+        int turn = my_recording.getNumTurns();
+        if ( turn < my_snapshots.size() ) my_snapshots.set(turn, snapshot);
+        else my_snapshots.add(snapshot);
+    }
+
+    /**
+     * Checks that every turn of the game is rebuilt exactly, whichever order the turns are sought in.
+     */
+    @Test
+    public void canSeekToAnyTurn() {
+        int num_turns = my_recording.getNumTurns();
+        assertEquals(num_turns + 1, my_snapshots.size());
+
+        ReplayEngine replay = new ReplayEngine(my_recording, new GameFactory().createGame(Size.LARGE), 8);
+
+        // Forwards, which keeps a snapshot every 8 turns
+        for (int turn = 0; turn <= num_turns; turn++) {
+            assertEquals(my_snapshots.get(turn), GameSnapshot.capture(replay.seekToTurn(turn)), "turn " + turn);
+            assertEquals(turn, replay.getNumTurns());
+        }
+        assertTrue(replay.getNumCheckpoints() > num_turns / 16);
+        assertEquals(my_recording.getNumActions(), replay.getPosition());
+
+        // Backwards and at random, from the snapshots
+        Random random = new Random(6);
+        for (int i = 0; i < 50; i++) {
+            int turn = random.nextInt(num_turns + 1);
+            assertEquals(my_snapshots.get(turn), GameSnapshot.capture(replay.seekToTurn(turn)), "turn " + turn);
+        }
+        assertEquals(my_snapshots.get(0), GameSnapshot.capture(replay.seekToTurn(0)));
+    }
+
+    /**
+     * Checks that a game is rebuilt exactly on every kind of grid that it can be played on.
+     */
+    @Test
+    public void canReplayOnEveryGridStorage() {
+        for ( GridStorage storage : GridStorage.values() ) {
+            play(Size.LARGE, storage, 3);
+            GameSnapshot end = my_snapshots.get(my_snapshots.size() - 1);
+            int middle = my_recording.getNumTurns() / 2;
+
+            ReplayEngine replay = new ReplayEngine(my_recording, new GameFactory().createGame(Size.LARGE, storage), 4);
+            assertEquals(end, GameSnapshot.capture(replay.seekToEnd()), storage.toString());
+            assertEquals(my_snapshots.get(middle), GameSnapshot.capture(replay.seekToTurn(middle)), storage.toString());
+            assertEquals(end, GameSnapshot.capture(replay.seekToEnd()), storage.toString());
+        }
+    }
+
+    /**
+     * Checks that games played with fleet moves and undos on one kind of grid are rebuilt exactly on every other
+     * kind, at every turn, whether they are replayed forwards or restored from a snapshot. Small games are played, so
+     * that ships are often next to each other when the fleet moves.
+     */
+    @Test
+    public void canReplayOntoAnotherGridStorage() {
+        for (int seed = 0; seed < 30; seed += 3) for ( GridStorage played_on : GridStorage.values() ) {
+            play(Size.SMALL, played_on, seed);
+            int num_turns = my_recording.getNumTurns();
+
+            for ( GridStorage replayed_on : GridStorage.values() ) {
+                String storages = played_on + " on " + replayed_on + " from seed " + seed;
+                ReplayEngine replay = new ReplayEngine(my_recording,
+                        new GameFactory().createGame(Size.SMALL, replayed_on), 8);
+                for (int turn = 0; turn <= num_turns; turn++) {
+                    assertEquals(my_snapshots.get(turn), GameSnapshot.capture(replay.seekToTurn(turn)),
+                            storages + ", turn " + turn);
+                }
+
+                Random random = new Random(7);
+                for (int i = 0; i < 20; i++) {
+                    int turn = random.nextInt(num_turns + 1);
+                    assertEquals(my_snapshots.get(turn), GameSnapshot.capture(replay.seekToTurn(turn)),
+                            storages + ", turn " + turn);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that every action can be sought, and that a recording cannot be replayed on a game of another size.
+     */
+    @Test
+    public void canSeekToAnyAction() {
+        ReplayEngine replay = new ReplayEngine(my_recording);
+        int first_turn = my_recording.getActionOfTurn(0);
+
+        // Every ship is placed by the first turn, and the placements can still be undone
+        assertEquals(0, replay.seekToAction(0).getPlayer_1().getFleet().getNumShipsPlaced());
+        replay.seekToAction(first_turn);
+        assertTrue(replay.getGame().getPlayer_1().allShipsPlaced() & replay.getGame().getPlayer_2().allShipsPlaced());
+        assertFalse(replay.getGame().getPlayer_2().getCommands().isEmpty());
+        assertEquals(my_snapshots.get(0), GameSnapshot.capture(replay.seekToAction(first_turn)));
+        assertEquals(my_snapshots.get(1), GameSnapshot.capture(replay.seekToAction(my_recording.getActionOfTurn(1))));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.seekToAction(my_recording.getNumActions() + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplayEngine(my_recording, new GameFactory().createGame(Size.SMALL), 4));
+    }
+}
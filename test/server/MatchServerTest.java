@@ -0,0 +1,267 @@
+package edu.colorado.objectgrind.server;
+
+import edu.colorado.objectgrind.enums.GridStorage;
+import edu.colorado.objectgrind.enums.Size;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+import edu.colorado.objectgrind.ships.fleet.SmallFleet;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.placement.RandomFleetPlacer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the MatchServer class, played end to end by clients over the loopback address.
+ *
+ * @see MatchServer
+ * @see Connection
+ * @see Match
+ */
+public class MatchServerTest {
+
+    /**
+     * The server that is started before each test.
+     */
+    private MatchServer my_server;
+
+    /**
+     * The port that the server listens on.
+     */
+    private int my_port;
+
+    /**
+     * Starts a server on any free port, with two game threads, before each test.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        my_server = new MatchServer(GridStorage.BITBOARDS, 2);
+        my_port = my_server.start(0);
+    }
+
+    /**
+     * Closes the server after each test.
+     *
+     * @throws IOException if the server cannot be closed
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        my_server.close();
+    }
+
+    /**
+     * This class defines a client that sends one command at a time, and reads its reply.
+     */
+    private class Client implements Closeable {
+
+        /**
+         * The socket of the client.
+         */
+        private final Socket socket;
+
+        /**
+         * The replies of the server.
+         */
+        private final BufferedReader in;
+
+        /**
+         * The commands to the server.
+         */
+        private final Writer out;
+
+        /**
+         * Class constructor that connects to the server.
+         *
+         * @throws IOException if the client cannot connect
+         */
+        Client() throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), my_port);
+            this.socket.setTcpNoDelay(true);
+            this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            this.out = new OutputStreamWriter(this.socket.getOutputStream(), StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Sends a command, and waits for its reply.
+         *
+         * @param command the command
+         * @return the reply
+         * @throws IOException if the connection fails
+         */
+        String send(String command) throws IOException {
+            this.out.write(command + "\n");
+            this.out.flush();
+            return this.in.readLine();
+        }
+
+        /**
+         * Places the ships of a small fleet that are not placed yet, at random.
+         *
+         * @param seed the seed of the placements
+         * @throws IOException if the connection fails
+         */
+        void placeFleet(long seed) throws IOException {
+            RandomFleetPlacer placer = new RandomFleetPlacer(new SmallFleet(), Size.SMALL.getGridSize(), 2,
+                    new SplittableRandom(seed));
+            int[] placements = placer.nextPlacements();
+            for (int i = 0; i < placements.length; i++) {
+                String head = CoordinateParser.format(PlacementEnumerator.headOf(placements[i]));
+                String tail = CoordinateParser.format(placer.getEnumerator(i).tailOf(placements[i]));
+                String reply = send("PLACE " + i + " " + head + " " + tail);
+                assertTrue(reply.equals("OK") | reply.equals("ERR ship " + i + " is already placed"), reply);
+            }
+        }
+
+        /**
+         * Plays the rest of the match, firing the main weapon at every cell of the surface and then the
+         * depths over and over, until it is over.
+         *
+         * @return the reply that said that the match is over
+         * @throws IOException if the connection fails
+         */
+        String playOut() throws IOException {
+            int size = Size.SMALL.getGridSize();
+            int shot = 0;
+            for (int num_commands = 0; num_commands < 5000; num_commands++) {
+                String reply = send("WAIT");
+                if ( reply.startsWith("OVER") ) return reply;
+                assertEquals("TURN", reply);
+
+                // Fire until a shot is taken, skipping the cells that the weapon cannot reach
+                do {
+                    int cell = shot++ % (2 * size * size);
+                    int layer = 1 - cell / (size * size);
+                    int coord = Coordinate.pack(layer, (cell / size) % size, cell % size);
+                    reply = send("FIRE 0 " + CoordinateParser.format(coord));
+                } while (reply.startsWith("ERR") && !reply.equals("ERR the match is over"));
+                assertTrue(reply.startsWith("RESULT") | reply.startsWith("SKIPPED") | reply.startsWith("ERR"), reply);
+            }
+            return fail("The match did not end");
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+
+    /**
+     * Checks that many matches can be played at once to the end, that both players agree on how each ended, and that
+     * the server lets go of every match once its players have quit.
+     *
+     * @throws Exception if a client fails
+     */
+    @Test
+    public void canPlayManyMatchesAtOnce() throws Exception {
+        int num_matches = 40;
+        ExecutorService clients = Executors.newFixedThreadPool(2 * num_matches);
+        List<Future<String>> firsts = new ArrayList<>();
+        List<Future<String>> seconds = new ArrayList<>();
+
+        for (int m = 0; m < num_matches; m++) {
+            long seed = m;
+            CompletableFuture<String> match_id = new CompletableFuture<>();
+
+            firsts.add(clients.submit(() -> {
+                try (Client client = new Client()) {
+                    String reply = client.send("NEW SMALL");
+                    assertTrue(reply.startsWith("MATCH "), reply);
+                    match_id.complete(reply.substring("MATCH ".length()));
+                    client.placeFleet(2 * seed);
+                    String over = client.playOut();
+                    assertEquals("BYE", client.send("QUIT"));
+                    return over;
+                }
+            }));
+
+            seconds.add(clients.submit(() -> {
+                try (Client client = new Client()) {
+                    String id = match_id.get(10, TimeUnit.SECONDS);
+                    assertEquals("MATCH " + id, client.send("JOIN " + id));
+                    client.placeFleet(2 * seed + 1);
+                    String over = client.playOut();
+                    assertEquals("BYE", client.send("QUIT"));
+                    return over;
+                }
+            }));
+        }
+
+        for (int m = 0; m < num_matches; m++) {
+            String first = firsts.get(m).get(60, TimeUnit.SECONDS);
+            String second = seconds.get(m).get(60, TimeUnit.SECONDS);
+            // Both players can lose every weapon, in which case the match is a draw for both
+            if ( first.equals("OVER DRAW") ) assertEquals("OVER DRAW", second);
+            else assertEquals(first.equals("OVER WON") ? "OVER LOST" : "OVER WON", second);
+            assertTrue(first.equals("OVER WON") | first.equals("OVER LOST") | first.equals("OVER DRAW"), first);
+        }
+        clients.shutdown();
+
+        // The matches are taken off the server as their players leave
+        for (int wait = 0; (wait < 500) && (my_server.getNumMatches() > 0); wait++) Thread.sleep(10);
+        assertEquals(0, my_server.getNumMatches());
+    }
+
+    /**
+     * Checks that commands that cannot be carried out are refused, and that a player who leaves forfeits the match.
+     *
+     * @throws IOException if a client fails
+     */
+    @Test
+    public void canRefuseCommandsAndForfeit() throws IOException {
+        assertEquals(Runtime.version().feature() >= 21, my_server.usesVirtualThreads());
+
+        try (Client first = new Client(); Client second = new Client()) {
+            assertTrue(first.send("FIRE 0 11A").startsWith("ERR"));
+            assertTrue(first.send("NEW HUGE").startsWith("ERR"));
+            assertTrue(first.send("LAUNCH").startsWith("ERR"));
+
+            String id = first.send("NEW SMALL").substring("MATCH ".length());
+            assertEquals("ERR the match has not started", first.send("FIRE 0 11A"));
+            assertTrue(second.send("JOIN 999999").startsWith("ERR"));
+            assertEquals("MATCH " + id, second.send("JOIN " + id));
+            try (Client third = new Client()) {
+                assertTrue(third.send("JOIN " + id).startsWith("ERR"));
+            }
+
+            // Placements can be undone before the game starts
+            first.placeFleet(1);
+            assertEquals("OK", first.send("UNDO"));
+            assertTrue(first.send("PLACE 0 11A 17G").startsWith("ERR"));
+            second.placeFleet(2);
+            assertEquals("ERR the match has not started", second.send("FIRE 0 11A"));
+            first.placeFleet(1);
+
+            assertEquals("TURN", first.send("WAIT"));
+            assertEquals("ERR it is not your turn", second.send("FIRE 0 11A"));
+            assertTrue(first.send("MOVE UP").startsWith("ERR"));
+            assertTrue(first.send("FIRE 0 11A").startsWith("RESULT"));
+
+            assertEquals("BYE", second.send("QUIT"));
+            assertEquals("OVER WON", first.send("WAIT"));
+            assertEquals("ERR the match is over", first.send("FIRE 0 12A"));
+        }
+    }
+}
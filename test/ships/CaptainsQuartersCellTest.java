@@ -0,0 +1,102 @@
+package edu.colorado.objectgrind.ships;
+
+import edu.colorado.objectgrind.enums.Direction;
+import edu.colorado.objectgrind.grid.BitboardGrid;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.FleetOffsetGrid;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.captains_quarters.CaptainsQuarters;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.fleet.MediumFleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the captain's quarters cell that a ship finds when it is placed.
+ *
+ * @see Ship#locateCaptainsQuarters(int[])
+ * @see CaptainsQuarters#findCaptainsQuarters(int[])
+ */
+public class CaptainsQuartersCellTest {
+
+    /**
+     * The fleet that is used throughout the tests.
+     */
+    private Fleet my_fleet;
+
+    /**
+     * Creates a new medium fleet before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        my_fleet = new MediumFleet();
+    }
+
+    /**
+     * Checks that each ship's captain's quarters is found at placement, and is cleared when it is removed.
+     */
+    @Test
+    public void canLocateCaptainsQuartersAtPlacement() {
+        Grid grid = new Grid(10, 2);
+        Ship battleship = my_fleet.getShipByIndex(0);
+        Ship submarine = my_fleet.getShipByIndex(3);
+        assertEquals(CaptainsQuarters.NONE, battleship.getCaptainsQuartersCell());
+
+        grid.placeShip(battleship, Coordinate.pack(1, 1, 0), Coordinate.pack(1, 1, 3));
+        assertEquals(Coordinate.pack(1, 1, 2), battleship.getCaptainsQuartersCell());
+        assertTrue(battleship.checkCaptainsQuarter(grid, 1, 1, 2));
+        assertFalse(battleship.checkCaptainsQuarter(grid, 1, 1, 3));
+
+        // A vertical submarine's captain's quarters is its top side
+        grid.placeShip(submarine, Coordinate.pack(0, 3, 3), Coordinate.pack(0, 6, 3));
+        assertEquals(Coordinate.pack(0, 5, 4), submarine.getCaptainsQuartersCell());
+
+        grid.removeShip(battleship);
+        assertEquals(CaptainsQuarters.NONE, battleship.getCaptainsQuartersCell());
+        assertFalse(battleship.checkCaptainsQuarter(grid, 1, 1, 2));
+    }
+
+    /**
+     * Checks that a ship against the edge of the grid still has a captain's quarters, and that placing other ships
+     * next to it later does not change it.
+     */
+    @Test
+    public void canKeepCaptainsQuartersWithNeighbors() {
+        Grid grid = new Grid(10, 2);
+        Ship battleship = my_fleet.getShipByIndex(0);
+        Ship destroyer = my_fleet.getShipByIndex(1);
+
+        grid.placeShip(battleship, Coordinate.pack(1, 4, 6), Coordinate.pack(1, 4, 9));
+        assertTrue(battleship.checkCaptainsQuarter(grid, 1, 4, 8));
+
+        grid.placeShip(destroyer, Coordinate.pack(1, 5, 7), Coordinate.pack(1, 7, 7));
+        assertTrue(battleship.checkCaptainsQuarter(grid, 1, 4, 8));
+        assertTrue(destroyer.checkCaptainsQuarter(grid, 1, 6, 7));
+    }
+
+    /**
+     * Checks that the captain's quarters moves along with the fleet for every kind of grid, and that a sunk ship's
+     * stays where it is.
+     */
+    @Test
+    public void canMoveCaptainsQuartersWithFleet() {
+        Grid[] grids = { new Grid(10, 2), new BitboardGrid(10, 2), new FleetOffsetGrid(10, 2) };
+        for ( Grid grid : grids ) {
+            Fleet fleet = new MediumFleet();
+            Ship battleship = fleet.getShipByIndex(0);
+            Ship minesweeper = fleet.getShipByIndex(2);
+            grid.placeShip(battleship, Coordinate.pack(1, 2, 2), Coordinate.pack(1, 5, 2));
+            grid.placeShip(minesweeper, Coordinate.pack(1, 8, 0), Coordinate.pack(1, 8, 1));
+            minesweeper.sink();
+
+            grid.moveFleet(Direction.EAST);
+            grid.moveFleet(Direction.NORTH);
+            assertEquals(Coordinate.pack(1, 3, 3), battleship.getCaptainsQuartersCell(), grid.getClass().getSimpleName());
+            assertEquals(battleship, grid.getShipAt(1, 3, 3));
+            assertEquals(Coordinate.pack(1, 8, 0), minesweeper.getCaptainsQuartersCell());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.colorado.objectgrind.ships;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.fleet.MediumFleet;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the sunk and placed counts that a Fleet keeps as its ships change.
+ *
+ * @see Fleet
+ */
+public class FleetTest {
+
+    /**
+     * The grid that the fleet is placed on.
+     */
+    private Grid my_grid;
+
+    /**
+     * The fleet that is used throughout the tests.
+     */
+    private Fleet my_fleet;
+
+    /**
+     * Creates a new medium grid and fleet before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        my_grid = new Grid(10, 2);
+        my_fleet = new MediumFleet();
+    }
+
+    /**
+     * Checks that the placed count follows ships being placed and removed.
+     */
+    @Test
+    public void canCountPlacedShips() {
+        assertEquals(0, my_fleet.getNumShipsPlaced());
+        assertFalse(my_fleet.allShipsPlaced());
+
+        my_grid.placeShip(my_fleet.getShipByIndex(0), Coordinate.pack(1, 1, 0), Coordinate.pack(1, 1, 3));
+        my_grid.placeShip(my_fleet.getShipByIndex(1), Coordinate.pack(1, 3, 0), Coordinate.pack(1, 3, 2));
+        my_grid.placeShip(my_fleet.getShipByIndex(2), Coordinate.pack(1, 5, 0), Coordinate.pack(1, 5, 1));
+        assertEquals(3, my_fleet.getNumShipsPlaced());
+
+        my_grid.placeShip(my_fleet.getShipByIndex(3), Coordinate.pack(0, 7, 0), Coordinate.pack(0, 7, 3));
+        assertTrue(my_fleet.allShipsPlaced());
+
+        my_grid.removeShip(my_fleet.getShipByIndex(1));
+        assertEquals(3, my_fleet.getNumShipsPlaced());
+        assertFalse(my_fleet.allShipsPlaced());
+    }
+
+    /**
+     * Checks that a ship that the grid refuses to place, such as a surface ship underwater, is not counted as placed.
+     */
+    @Test
+    public void cannotCountRejectedPlacement() {
+        Ship battleship = my_fleet.getShipByIndex(0);
+        assertFalse(my_grid.shipCanBePlaced(battleship, Coordinate.pack(0, 1, 0), Coordinate.pack(0, 1, 3)));
+
+        my_grid.placeShip(battleship, Coordinate.pack(0, 1, 0), Coordinate.pack(0, 1, 3));
+        assertFalse(battleship.isShipPlaced());
+        assertEquals(0, my_fleet.getNumShipsPlaced());
+    }
+
+    /**
+     * Checks that the sunk count follows hits and sinks, and that sinking a ship twice only counts it once.
+     */
+    @Test
+    public void canCountSunkShips() {
+        Ship minesweeper = my_fleet.getShipByIndex(2);
+        minesweeper.hit();
+        assertEquals(0, my_fleet.getNumShipsSunk());
+        minesweeper.hit();
+        assertEquals(1, my_fleet.getNumShipsSunk());
+        minesweeper.sink();
+        assertEquals(1, my_fleet.getNumShipsSunk());
+
+        for ( int i = 0; i < my_fleet.getSize(); i++ ) my_fleet.getShipByIndex(i).sink();
+        assertEquals(4, my_fleet.getNumShipsSunk());
+        assertTrue(my_fleet.allShipsSunk());
+    }
+
+    /**
+     * Checks that only ships sunk since the start of the turn are counted as sunk this turn.
+     */
+    @Test
+    public void canCountShipsSunkThisTurn() {
+        my_fleet.getShipByIndex(0).sink();
+        assertEquals(1, my_fleet.getNumSunkThisTurn());
+
+        my_fleet.startTurn();
+        assertEquals(0, my_fleet.getNumSunkThisTurn());
+        my_fleet.getShipByIndex(1).sink();
+        my_fleet.getShipByIndex(2).sink();
+        assertEquals(2, my_fleet.getNumSunkThisTurn());
+        assertEquals(3, my_fleet.getNumShipsSunk());
+    }
+}
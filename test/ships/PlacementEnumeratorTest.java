@@ -0,0 +1,132 @@
+package edu.colorado.objectgrind.ships;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.fleet.LargeFleet;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the PlacementEnumerator class.
+ *
+ * @see PlacementEnumerator
+ */
+public class PlacementEnumeratorTest {
+
+    /**
+     * Returns every placement of the given ship that the grid allows, by asking it about every head and tail.
+     *
+     * @param grid the grid
+     * @param ship the ship
+     * @return the placements in the enumerator's format, sorted
+     */
+    private static int[] bruteForcePlacements(Grid grid, Ship ship) {
+        int size = grid.getSize();
+        int[] found = new int[grid.getNumLayers() * size * size * 2];
+        int count = 0;
+        for (int layer = 0; layer < grid.getNumLayers(); layer++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int head = Coordinate.pack(layer, row, col);
+                    int length = ship.getLength();
+                    if ( grid.shipCanBePlaced(ship, head, Coordinate.pack(layer, row, col + length - 1)) ) found[count++] = head;
+                    if ( grid.shipCanBePlaced(ship, head, Coordinate.pack(layer, row + length - 1, col)) ) {
+                        found[count++] = head | PlacementEnumerator.VERTICAL;
+                    }
+                }
+            }
+        }
+        int[] placements = Arrays.copyOf(found, count);
+        Arrays.sort(placements);
+        return placements;
+    }
+
+    /**
+     * Checks that every ship of a large fleet has the same legal placements as the grid allows, on an empty grid and
+     * after part of the fleet is placed.
+     */
+    @Test
+    public void canMatchGridPlacements() {
+        Grid grid = new Grid(13, 2);
+        Fleet fleet = new LargeFleet();
+
+        for (int placed = 0; placed < 2; placed++) {
+            int[][] legal = PlacementEnumerator.legalPlacements(fleet, grid);
+            for (int i = 0; i < fleet.getSize(); i++) {
+                int[] placements = legal[i].clone();
+                Arrays.sort(placements);
+                assertArrayEquals(bruteForcePlacements(grid, fleet.getShipByIndex(i)), placements);
+            }
+
+            // Place a battleship and a submarine, and check again
+            grid.placeShip(fleet.getShipByIndex(4), Coordinate.pack(1, 6, 3), Coordinate.pack(1, 6, 6));
+            grid.placeShip(fleet.getShipByIndex(5), Coordinate.pack(0, 2, 2), Coordinate.pack(0, 5, 2));
+        }
+    }
+
+    /**
+     * Checks that placements can be read back, and that the occupancy bitmask decides which ones are legal.
+     */
+    @Test
+    public void canTestCandidatesAgainstOccupancy() {
+        Fleet fleet = new LargeFleet();
+        Ship submarine = fleet.getShipByIndex(5);
+        PlacementEnumerator enumerator = PlacementEnumerator.forShip(submarine, 13, 2);
+        assertSame(enumerator, PlacementEnumerator.forShip(fleet.getShipByIndex(6), 13, 2));
+        assertEquals(5, enumerator.getCellsPerPlacement());
+
+        // A horizontal submarine in the top row has no room for its top side, so the first candidate is vertical
+        int placement = enumerator.getCandidate(0);
+        assertTrue(PlacementEnumerator.isVertical(placement));
+        assertEquals(Coordinate.pack(0, 0, 0), PlacementEnumerator.headOf(placement));
+        assertEquals(Coordinate.pack(0, 3, 0), enumerator.tailOf(placement));
+
+        long[] occupancy = PlacementEnumerator.emptyOccupancy(13, 2);
+        assertTrue(enumerator.isLegal(0, occupancy));
+        enumerator.occupy(0, occupancy);
+        assertFalse(enumerator.isLegal(0, occupancy));
+        enumerator.vacate(0, occupancy);
+        assertTrue(enumerator.isLegal(0, occupancy));
+    }
+
+    /**
+     * Checks that the lazy iterator, the sequential stream, and the parallel stream give the same placements.
+     */
+    @Test
+    public void canEnumerateLazilyAndInParallel() {
+        Grid grid = new Grid(13, 2);
+        Fleet fleet = new LargeFleet();
+        grid.placeShip(fleet.getShipByIndex(2), Coordinate.pack(1, 0, 0), Coordinate.pack(1, 0, 2));
+        PlacementEnumerator enumerator = PlacementEnumerator.forShip(fleet.getShipByIndex(4), grid);
+        long[] occupancy = PlacementEnumerator.occupancyOf(grid);
+
+        int[] sequential = enumerator.stream(occupancy, false).toArray();
+        assertArrayEquals(sequential, enumerator.stream(occupancy, true).toArray());
+
+        PrimitiveIterator.OfInt iterator = enumerator.iterator(occupancy);
+        for (int placement : sequential) assertEquals(placement, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Checks that a grid with too many layers for the vertical bit is refused, and that the deepest allowed grid keeps
+     * vertical placements apart from the coordinates of its last layer.
+     */
+    @Test
+    public void canRefuseTooManyLayers() {
+        Ship ship = new LargeFleet().getShipByIndex(0);
+        assertThrows(IllegalArgumentException.class,
+                () -> PlacementEnumerator.forShip(ship, 10, PlacementEnumerator.MAX_LAYERS + 1));
+
+        int head = Coordinate.pack(PlacementEnumerator.MAX_LAYERS - 1, 9, 9);
+        assertFalse(PlacementEnumerator.isVertical(head));
+        assertEquals(head, PlacementEnumerator.headOf(head | PlacementEnumerator.VERTICAL));
+    }
+}
@@ -0,0 +1,95 @@
+package edu.colorado.objectgrind.ships;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.ships.fleet.Fleet;
+import edu.colorado.objectgrind.ships.fleet.LargeFleet;
+import edu.colorado.objectgrind.ships.fleet.MediumFleet;
+import edu.colorado.objectgrind.ships.fleet.SmallFleet;
+import edu.colorado.objectgrind.ships.placement.PlacementEnumerator;
+import edu.colorado.objectgrind.ships.placement.RandomFleetPlacer;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the RandomFleetPlacer class.
+ *
+ * @see RandomFleetPlacer
+ */
+public class RandomFleetPlacerTest {
+
+    /**
+     * Checks that every kind of fleet is fully placed on its grid, with submarines on both layers over many fleets.
+     */
+    @Test
+    public void canPlaceEveryFleet() {
+        Fleet[] fleets = { new SmallFleet(), new MediumFleet(), new LargeFleet() };
+        int[] sizes = { 7, 10, 13 };
+
+        for (int f = 0; f < fleets.length; f++) {
+            RandomFleetPlacer placer = new RandomFleetPlacer(fleets[f], sizes[f], 2, new SplittableRandom(f));
+            Grid grid = new Grid(sizes[f], 2);
+            placer.placeFleet(fleets[f], grid);
+            assertTrue(fleets[f].allShipsPlaced());
+        }
+
+        // The submarine of a medium fleet goes on both layers
+        Fleet fleet = new MediumFleet();
+        RandomFleetPlacer placer = new RandomFleetPlacer(fleet, 10, 2, new SplittableRandom(7));
+        boolean[] layers_seen = new boolean[2];
+        for (int i = 0; i < 200; i++) {
+            int head = PlacementEnumerator.headOf(placer.nextPlacements()[3]);
+            layers_seen[Coordinate.layerOf(head)] = true;
+        }
+        assertTrue(layers_seen[0] & layers_seen[1]);
+    }
+
+    /**
+     * Checks that the placements of a fleet never overlap, and that the same seed gives the same placements.
+     */
+    @Test
+    public void canSampleLegalFleets() {
+        Fleet fleet = new LargeFleet();
+        RandomFleetPlacer placer = new RandomFleetPlacer(fleet, 13, 2, new SplittableRandom(42));
+        RandomFleetPlacer same = new RandomFleetPlacer(fleet, 13, 2, new SplittableRandom(42));
+
+        for (int n = 0; n < 1000; n++) {
+            int[] placements = placer.nextPlacements();
+            assertArrayEquals(placements, same.nextPlacements());
+
+            long[] occupancy = PlacementEnumerator.emptyOccupancy(13, 2);
+            for (int i = 0; i < placements.length; i++) {
+                PlacementEnumerator enumerator = placer.getEnumerator(i);
+                int index = indexOf(enumerator, placements[i]);
+                assertTrue(enumerator.isLegal(index, occupancy));
+                enumerator.occupy(index, occupancy);
+            }
+        }
+    }
+
+    /**
+     * Checks that a fleet that cannot fit on the grid is reported rather than retried forever.
+     */
+    @Test
+    public void cannotPlaceFleetThatDoesNotFit() {
+        RandomFleetPlacer placer = new RandomFleetPlacer(new LargeFleet(), 3, 2, new SplittableRandom(1));
+        assertThrows(IllegalStateException.class, placer::nextPlacements);
+    }
+
+    /**
+     * Returns the index of the candidate that is the given placement.
+     *
+     * @param enumerator the enumerator of the ship
+     * @param placement the placement
+     * @return the index of the candidate
+     */
+    private static int indexOf(PlacementEnumerator enumerator, int placement) {
+        for (int i = 0; i < enumerator.getNumCandidates(); i++) {
+            if (enumerator.getCandidate(i) == placement) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,151 @@
+package edu.colorado.objectgrind.weapons;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.weapons.attack_patterns.CellAttack;
+import edu.colorado.objectgrind.weapons.attack_patterns.DiamondPattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.HorizontalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.SingleLocationPattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.VerticalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
+
+import java.lang.reflect.Method;
+
+/**
+ * This class times attacking through the CellAttack interface against the reflective dispatch it replaced.
+ * <p>
+ *     The reflective path looks up attackLocation with getMethod and calls Method.invoke for every cell, the way
+ *     Weapon.useWeapon and WeaponAttackPattern.callAttackMethod used to. Both paths walk the same patterns, so the
+ *     difference in time is the cost of the dispatch alone. Timings depend on the machine, so this is run by hand
+ *     rather than as part of the tests.
+ * </p>
+ *
+ * @see CellAttack
+ * @see WeaponAttackPattern
+ */
+public class AttackDispatchBenchmark {
+
+    /**
+     * An attack that counts the cells it is called on, and adds up their packed coordinates.
+     */
+    private static class CountingAttack implements CellAttack {
+
+        /**
+         * The number of cells attacked.
+         */
+        long num_cells = 0;
+
+        /**
+         * The sum of the packed coordinates of the cells attacked.
+         */
+        long coord_sum = 0;
+
+        @Override
+        public void attackLocation(Grid attacked_grid, int layer, int row, int col) {
+            this.num_cells++;
+            this.coord_sum += Coordinate.pack(layer, row, col);
+        }
+    }
+
+    /**
+     * An attack that calls the attackLocation of another attack through reflection, like the old dispatch did.
+     */
+    private static class ReflectiveAttack implements CellAttack {
+
+        /**
+         * The attack that is called through reflection.
+         */
+        private final CellAttack target;
+
+        /**
+         * The attackLocation method of the target.
+         */
+        private final Method attack_method;
+
+        ReflectiveAttack(CellAttack target) throws ReflectiveOperationException {
+            this.target = target;
+            this.attack_method = CellAttack.class.getMethod("attackLocation", Grid.class, int.class, int.class,
+                    int.class);
+        }
+
+        @Override
+        public void attackLocation(Grid attacked_grid, int layer, int row, int col) {
+            try {
+                this.attack_method.invoke(this.target, attacked_grid, layer, row, col);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Attacks every cell of the grid with every pattern.
+     *
+     * @param attack the attack that is used on every cell of the patterns
+     * @param grid the grid that is attacked
+     * @param patterns the patterns to attack with
+     */
+    private static void attackEveryCell(CellAttack attack, Grid grid, WeaponAttackPattern[] patterns) {
+        int size = grid.getSize();
+        for ( WeaponAttackPattern pattern : patterns ) {
+            for (int layer=0; layer<grid.getNumLayers(); layer++) {
+                for (int row=0; row<size; row++) {
+                    for (int col=0; col<size; col++) {
+                        pattern.attackWithPattern(attack, grid, Coordinate.pack(layer, row, col));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Times the given attack over the given number of rounds of attacking every cell with every pattern.
+     *
+     * @param attack the attack to time
+     * @param grid the grid that is attacked
+     * @param patterns the patterns to attack with
+     * @param rounds the number of rounds
+     * @return the number of nanoseconds that the rounds took
+     */
+    private static long time(CellAttack attack, Grid grid, WeaponAttackPattern[] patterns, int rounds) {
+        long start = System.nanoTime();
+        for (int i=0; i<rounds; i++) attackEveryCell(attack, grid, patterns);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Prints the cost of one attacked cell through each dispatch.
+     *
+     * @param args the number of rounds to time, and the size of the grid, each optional
+     * @throws ReflectiveOperationException if attackLocation cannot be looked up
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Grid grid = new Grid(size, 2);
+        WeaponAttackPattern[] patterns = new WeaponAttackPattern[] {
+                new SingleLocationPattern(),
+                new HorizontalLinePattern(5),
+                new VerticalLinePattern(5),
+                new DiamondPattern()
+        };
+        CountingAttack direct = new CountingAttack();
+        CountingAttack reflected_counter = new CountingAttack();
+        CellAttack reflected = new ReflectiveAttack(reflected_counter);
+
+        // Warm up both paths, so that they are compiled before they are timed
+        time(direct, grid, patterns, rounds / 4);
+        time(reflected, grid, patterns, rounds / 4);
+        long cells_per_round = direct.num_cells / (rounds / 4);
+
+        double direct_ns = (double) time(direct, grid, patterns, rounds) / (rounds * cells_per_round);
+        double reflected_ns = (double) time(reflected, grid, patterns, rounds) / (rounds * cells_per_round);
+        if ( direct.coord_sum != reflected_counter.coord_sum ) {
+            throw new IllegalStateException("The dispatches attacked different cells");
+        }
+
+        System.out.printf("%d cells per round, %d rounds%n", cells_per_round, rounds);
+        System.out.printf("CellAttack: %.2f ns/cell, Method.invoke: %.2f ns/cell%n", direct_ns, reflected_ns);
+    }
+}
@@ -0,0 +1,173 @@
+package edu.colorado.objectgrind.weapons;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.CoordinateParser;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.weapons.attack_patterns.CellAttack;
+import edu.colorado.objectgrind.weapons.attack_patterns.DiamondPattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.HorizontalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.SingleLocationPattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.VerticalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class checks that every pattern attacks the same cells, in the same order, as the reflective dispatch that
+ * CellAttack replaced.
+ * <p>
+ *     The expected cells come from the loops of the patterns as they were before, with the bounds check of
+ *     WeaponAttackPattern.callAttackMethod, copied here so that they do not share any code with the patterns.
+ * </p>
+ *
+ * @see CellAttack
+ * @see WeaponAttackPattern
+ * @see AttackDispatchBenchmark
+ */
+public class AttackDispatchTest {
+
+    /**
+     * An attack that keeps the packed coordinate of every cell it is called on, in order.
+     */
+    private static class RecordingAttack implements CellAttack {
+
+        /**
+         * The packed coordinates of the cells attacked.
+         */
+        final List<Integer> cells = new ArrayList<>();
+
+        @Override
+        public void attackLocation(Grid attacked_grid, int layer, int row, int col) {
+            this.cells.add(Coordinate.pack(layer, row, col));
+        }
+    }
+
+    /**
+     * Adds a cell to the expected cells if it is in bounds, as callAttackMethod did before the attack.
+     *
+     * @param grid the grid that is attacked
+     * @param cells the expected cells
+     * @param layer the layer of the cell
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    private static void callAttackMethod(Grid grid, List<Integer> cells, int layer, int row, int col) {
+        if ( grid.isCoordinateInBounds(layer, row, col) ) cells.add(Coordinate.pack(layer, row, col));
+    }
+
+    /**
+     * Returns the cells that LinePattern attacked before it was ported.
+     *
+     * @param grid the grid that is attacked
+     * @param coord_of_attack the packed coordinate of the attack
+     * @param row_offset the number of rows on each side of the attack
+     * @param col_offset the number of columns on each side of the attack
+     * @return the packed coordinates of the cells, in order
+     */
+    private static List<Integer> lineCells(Grid grid, int coord_of_attack, int row_offset, int col_offset) {
+        List<Integer> cells = new ArrayList<>();
+        int row = Coordinate.rowOf(coord_of_attack);
+        int col = Coordinate.columnOf(coord_of_attack);
+        int layer = Coordinate.layerOf(coord_of_attack);
+        for( int i=row-row_offset; i<row+row_offset+1; i++ ) {
+            for( int j=col-col_offset; j<col+col_offset+1; j++ ) {
+                callAttackMethod(grid, cells, layer, i, j);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the cells that DiamondPattern attacked before it was ported.
+     *
+     * @param grid the grid that is attacked
+     * @param coord_of_attack the packed coordinate of the attack
+     * @return the packed coordinates of the cells, in order
+     */
+    private static List<Integer> diamondCells(Grid grid, int coord_of_attack) {
+        List<Integer> cells = new ArrayList<>();
+        int row = Coordinate.rowOf(coord_of_attack);
+        int col = Coordinate.columnOf(coord_of_attack);
+        int layer = Coordinate.layerOf(coord_of_attack);
+        for (int i=row-2; i<row+2+1; i++) {
+            int offset = -1;
+            if ( (i == row-2) | (i == row+2) ) offset = 0;
+            else if ( (i == row-1) | (i == row+1) ) offset = 1;
+            else if ( i == row ) offset = 2;
+
+            for (int j=col-offset; j<col+offset+1; j++) {
+                callAttackMethod(grid, cells, layer, i, j);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the cells that a pattern attacks at the given coordinate.
+     *
+     * @param pattern the pattern
+     * @param grid the grid that is attacked
+     * @param coord_of_attack the packed coordinate of the attack
+     * @return the packed coordinates of the cells, in order
+     */
+    private static List<Integer> attackedCells(WeaponAttackPattern pattern, Grid grid, int coord_of_attack) {
+        RecordingAttack attack = new RecordingAttack();
+        pattern.attackWithPattern(attack, grid, coord_of_attack);
+        return attack.cells;
+    }
+
+    /**
+     * Checks that every pattern attacks the cells it did before it was ported, at every coordinate of grids of every
+     * size, including the edges and corners where some of its cells are out of bounds.
+     */
+    @Test
+    public void canAttackSameCellsAsBeforePort() {
+        WeaponAttackPattern single = new SingleLocationPattern();
+        WeaponAttackPattern horizontal = new HorizontalLinePattern(5);
+        WeaponAttackPattern vertical = new VerticalLinePattern(2);
+        WeaponAttackPattern diamond = new DiamondPattern();
+
+        for ( int size : new int[] {7, 10, 13} ) {
+            Grid grid = new Grid(size, 2);
+            for (int layer=0; layer<2; layer++) {
+                for (int row=0; row<size; row++) {
+                    for (int col=0; col<size; col++) {
+                        int coord = Coordinate.pack(layer, row, col);
+                        String where = size + " " + CoordinateParser.format(coord);
+                        assertEquals(lineCells(grid, coord, 0, 0), attackedCells(single, grid, coord), where);
+                        assertEquals(lineCells(grid, coord, 0, 5), attackedCells(horizontal, grid, coord), where);
+                        assertEquals(lineCells(grid, coord, 2, 0), attackedCells(vertical, grid, coord), where);
+                        assertEquals(diamondCells(grid, coord), attackedCells(diamond, grid, coord), where);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the cells of patterns against coordinates written out by hand, in the corner and middle of the grid.
+     */
+    @Test
+    public void canAttackCellsWrittenOut() {
+        Grid grid = new Grid(10, 2);
+
+        // A diamond in the corner of the grid only covers the 6 cells that are in bounds
+        assertEquals(List.of(Coordinate.pack(0, 0, 0), Coordinate.pack(0, 0, 1), Coordinate.pack(0, 0, 2),
+                        Coordinate.pack(0, 1, 0), Coordinate.pack(0, 1, 1), Coordinate.pack(0, 2, 0)),
+                attackedCells(new DiamondPattern(), grid, Coordinate.pack(0, 0, 0)));
+
+        // A full diamond covers 13 cells
+        assertEquals(13, attackedCells(new DiamondPattern(), grid, Coordinate.pack(1, 5, 5)).size());
+
+        // A vertical line near the bottom edge loses the cells past it
+        assertEquals(List.of(Coordinate.pack(1, 7, 3), Coordinate.pack(1, 8, 3), Coordinate.pack(1, 9, 3)),
+                attackedCells(new VerticalLinePattern(2), grid, Coordinate.pack(1, 9, 3)));
+
+        assertEquals(List.of(Coordinate.pack(1, 4, 6)),
+                attackedCells(new SingleLocationPattern(), grid, Coordinate.pack(1, 4, 6)));
+    }
+}
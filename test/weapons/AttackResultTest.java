@@ -0,0 +1,133 @@
+package edu.colorado.objectgrind.weapons;
+
+import edu.colorado.objectgrind.enums.AttackOutcome;
+import edu.colorado.objectgrind.game.Player;
+import edu.colorado.objectgrind.game.factories.MediumGamePartsFactory;
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.ships.ship_types.Ship;
+import edu.colorado.objectgrind.weapons.factories.MediumWeaponFactory;
+import edu.colorado.objectgrind.weapons.factories.WeaponFactory;
+import edu.colorado.objectgrind.weapons.results.AttackListener;
+import edu.colorado.objectgrind.weapons.results.AttackResult;
+import edu.colorado.objectgrind.weapons.results.ConsoleAttackListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the results that weapons return and send to an AttackListener.
+ *
+ * @see AttackResult
+ * @see AttackListener
+ * @see ConsoleAttackListener
+ */
+public class AttackResultTest {
+
+    /**
+     * The factory that creates the weapons used throughout these tests.
+     */
+    private WeaponFactory factory;
+
+    /**
+     * The player that will be attacked.
+     */
+    private Player attacked_player;
+
+    /**
+     * The battleship of the attacked player, placed from 12A to 12D with its captain's quarters at 12C.
+     */
+    private Ship battleship;
+
+    /**
+     * Initializes the factory and player, and places the battleship, before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        factory = new MediumWeaponFactory();
+        attacked_player = new Player(new MediumGamePartsFactory());
+        attacked_player.playerPlaceShip(0, "12A", "12D");
+        battleship = attacked_player.getShipAtIndex(0);
+    }
+
+    /**
+     * Checks that a bomb returns a HIT or a MISS for the cell it attacks.
+     */
+    @Test
+    public void canReturnHitAndMiss() {
+        Weapon bomb = factory.createWeapon("Bomb");
+
+        List<AttackResult> results = bomb.useWeapon(attacked_player, Coordinate.pack(1, 1, 0));
+        assertEquals(1, results.size());
+        assertEquals(AttackOutcome.HIT, results.get(0).getOutcome());
+        assertEquals(battleship, results.get(0).getShip());
+        assertEquals(1, results.get(0).getRow());
+
+        results = bomb.useWeapon(attacked_player, Coordinate.pack(1, 5, 5));
+        assertEquals(AttackOutcome.MISS, results.get(0).getOutcome());
+        assertNull(results.get(0).getShip());
+    }
+
+    /**
+     * Checks that hitting the captain's quarters until they are destroyed results in a sunk ship, and that sinking
+     * the last ship results in a surrender.
+     */
+    @Test
+    public void canReturnSunkAndSurrendered() {
+        Weapon bomb = factory.createWeapon("Bomb");
+        for (int i=1; i<4; i++) attacked_player.getShipAtIndex(i).sink();
+
+        List<AttackResult> results = bomb.useWeapon(attacked_player, Coordinate.pack(1, 1, 2));
+        assertEquals(1, results.size());
+        assertEquals(AttackOutcome.CAPTAINS_QUARTERS_HIT, results.get(0).getOutcome());
+
+        results = bomb.useWeapon(attacked_player, Coordinate.pack(1, 1, 2));
+        assertEquals(3, results.size());
+        assertEquals(AttackOutcome.CAPTAINS_QUARTERS_DESTROYED, results.get(0).getOutcome());
+        assertEquals(AttackOutcome.SUNK, results.get(1).getOutcome());
+        assertEquals(battleship, results.get(1).getShip());
+        assertEquals(AttackOutcome.SURRENDERED, results.get(2).getOutcome());
+    }
+
+    /**
+     * Checks that a sonar pulse returns FREE or OCCUPIED for every cell it reveals.
+     */
+    @Test
+    public void canReturnFreeAndOccupied() {
+        List<AttackResult> results = factory.createWeapon("SonarPulse").useWeapon(attacked_player, Coordinate.pack(1, 1, 1));
+        assertEquals(11, results.size());
+
+        int num_occupied = 0;
+        for ( AttackResult result : results ) {
+            if ( result.getOutcome() == AttackOutcome.OCCUPIED ) num_occupied++;
+            else assertEquals(AttackOutcome.FREE, result.getOutcome());
+        }
+        assertEquals(4, num_occupied);
+    }
+
+    /**
+     * Checks that a player sends the results of its turns to its listener, and that the console listener prints them.
+     */
+    @Test
+    public void canSendResultsToListener() {
+        Player attacker = new Player(new MediumGamePartsFactory());
+        List<AttackResult> heard = new ArrayList<>();
+        attacker.setAttackListener(heard::add);
+
+        List<AttackResult> results = attacker.takeTurn(attacked_player, 0, "12A");
+        assertEquals(results, heard);
+        assertTrue(attacker.takeTurn(attacked_player, 0, "1Z").isEmpty());
+        assertEquals(1, heard.size());
+
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        attacker.setAttackListener(new ConsoleAttackListener(new PrintStream(printed)));
+        attacker.takeTurn(attacked_player, 0, "15E");
+        assertEquals("Using Bomb" + System.lineSeparator() + "Attacking layer 1" + System.lineSeparator() + "MISS"
+                + System.lineSeparator(), printed.toString());
+    }
+}
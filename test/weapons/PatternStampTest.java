@@ -0,0 +1,76 @@
+package edu.colorado.objectgrind.weapons;
+
+import edu.colorado.objectgrind.grid.Coordinate;
+import edu.colorado.objectgrind.grid.Grid;
+import edu.colorado.objectgrind.weapons.attack_patterns.DiamondPattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.HorizontalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.PatternStamp;
+import edu.colorado.objectgrind.weapons.attack_patterns.VerticalLinePattern;
+import edu.colorado.objectgrind.weapons.attack_patterns.WeaponAttackPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class defines the tests for the PatternStamp class.
+ *
+ * @see PatternStamp
+ * @see WeaponAttackPattern
+ */
+public class PatternStampTest {
+
+    /**
+     * Checks that a stamp is built once for each grid size, and kept.
+     */
+    @Test
+    public void canReuseStampForGridSize() {
+        WeaponAttackPattern diamond = new DiamondPattern();
+        PatternStamp stamp = diamond.getStamp(10);
+        assertEquals(10, stamp.getSize());
+        assertSame(stamp, diamond.getStamp(10));
+        assertNotSame(stamp, diamond.getStamp(7));
+        assertSame(stamp, diamond.getStamp(10));
+    }
+
+    /**
+     * Checks that the cells off the edges of the grid are removed from the stamp.
+     */
+    @Test
+    public void canClipStampAtEdges() {
+        PatternStamp diamond = new DiamondPattern().getStamp(10);
+        assertEquals(13, diamond.getNumCells(5, 5));
+        assertEquals(6, diamond.getNumCells(0, 0));
+        assertEquals(9, diamond.getNumCells(0, 5));
+        assertEquals(0, diamond.getNumCells(10, 5));
+
+        PatternStamp line = new HorizontalLinePattern(5).getStamp(10);
+        assertEquals(6, line.getNumCells(3, 0));
+        assertEquals(10, line.getNumCells(3, 5));
+        assertArrayEquals(new int[] {Coordinate.pack(1, 3, 0), Coordinate.pack(1, 3, 1), Coordinate.pack(1, 3, 2)},
+                new HorizontalLinePattern(2).getStamp(10).getCells(1, 3, 0));
+    }
+
+    /**
+     * Checks that applying a stamp attacks every in-bounds cell, including for a center that is off the grid.
+     */
+    @Test
+    public void canApplyStamp() {
+        Grid grid = new Grid(7, 2);
+        List<Integer> attacked = new ArrayList<>();
+        PatternStamp line = new VerticalLinePattern(2).getStamp(7);
+
+        line.apply((g, layer, row, col) -> attacked.add(Coordinate.pack(layer, row, col)), grid, 1, 6, 4);
+        assertEquals(List.of(Coordinate.pack(1, 4, 4), Coordinate.pack(1, 5, 4), Coordinate.pack(1, 6, 4)), attacked);
+
+        attacked.clear();
+        line.apply((g, layer, row, col) -> attacked.add(Coordinate.pack(layer, row, col)), grid, 0, 8, 4);
+        assertEquals(List.of(Coordinate.pack(0, 6, 4)), attacked);
+
+        attacked.clear();
+        line.apply((g, layer, row, col) -> attacked.add(Coordinate.pack(layer, row, col)), grid, 2, 3, 3);
+        assertTrue(attacked.isEmpty());
+    }
+}
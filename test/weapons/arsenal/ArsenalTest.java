@@ -54,6 +54,64 @@ public class ArsenalTest {
         assertTrue( arsenal.getWeaponAtIndex(2) instanceof HorizontalAirStrike);
     }
 
+    /**
+     * Checks that weapons are only added at the number of sinks that unlocks them.
+     */
+    @Test
+    public void canOnlyAddWeaponsWhenUnlocked() {
+        arsenal.addNewWeapons(0);
+        arsenal.addNewWeapons(2);
+        arsenal.addNewWeapons(-1);
+        assertEquals(1, arsenal.getNumberOfWeapons());
+
+        arsenal.addNewWeapons(1);
+        assertEquals(3, arsenal.getNumberOfWeapons());
+        assertTrue( arsenal.getWeaponAtIndex(1) instanceof SonarPulse);
+        assertTrue( arsenal.getWeaponAtIndex(2) instanceof HorizontalAirStrike);
+    }
+
+    /**
+     * Checks that weapons that run out at the same time are all removed, and that the others keep their ids.
+     */
+    @Test
+    public void canRemoveWeaponsThatRunOutTogether() {
+        arsenal.upgradeBombToSpaceLaser();
+        arsenal.addNewWeapons(1);
+        Weapon air_strike = arsenal.getWeaponAtIndex(2);
+        assertEquals(2, arsenal.getWeaponIdAtIndex(2));
+
+        // The SpaceLaser and the SonarPulse run out on the same turn
+        decreaseAllUses(arsenal.getWeaponAtIndex(0));
+        decreaseAllUses(arsenal.getWeaponAtIndex(1));
+        arsenal.removeWeapons();
+
+        assertEquals(1, arsenal.getNumberOfWeapons());
+        assertSame(air_strike, arsenal.getWeaponAtIndex(0));
+        assertEquals(2, arsenal.getWeaponIdAtIndex(0));
+        assertEquals(0, arsenal.getIndexOfWeaponId(2));
+        assertEquals(-1, arsenal.getIndexOfWeaponId(Arsenal.MAIN_WEAPON_ID));
+        assertEquals(-1, arsenal.getIndexOfWeaponId(1));
+        assertEquals(-1, arsenal.getIndexOfWeaponId(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> arsenal.getWeaponAtIndex(1));
+    }
+
+    /**
+     * Checks that the upgrade happens in the slot of the main weapon, even when the Bomb is not the first weapon.
+     */
+    @Test
+    public void canUpgradeMainWeaponById() {
+        arsenal.addNewWeapons(1);
+        decreaseAllUses(arsenal.getWeaponAtIndex(0));
+        arsenal.removeWeapons();
+        assertTrue( arsenal.getWeaponAtIndex(0) instanceof SonarPulse);
+
+        arsenal.upgradeBombToSpaceLaser();
+        assertEquals(3, arsenal.getNumberOfWeapons());
+        assertTrue( arsenal.getWeaponAtIndex(0) instanceof SpaceLaser);
+        assertTrue( arsenal.getWeaponAtIndex(1) instanceof SonarPulse);
+        assertEquals(0, arsenal.getIndexOfWeaponId(Arsenal.MAIN_WEAPON_ID));
+    }
+
     /**
      * Decreases all uses of the given weapon.
      *